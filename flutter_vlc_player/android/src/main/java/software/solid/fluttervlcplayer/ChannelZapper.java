@@ -0,0 +1,154 @@
+package software.solid.fluttervlcplayer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Zaps a player through a list of channels, keeping the {@code neighbours} channels before and
+ * after the current one open in live preloads of the {@link MediaPreloader}.
+ *
+ * <p>Switching to a neighbour promotes its preload: the stream is already open and buffering,
+ * only the video decoder is enabled and the player texture attached. Other channels are opened
+ * from scratch. The channel list wraps around.
+ *
+ * <p>The zap latency is the time from {@link #zapTo} to the first decoded frame of the channel.
+ * A zap is abandoned when the next zap (or {@link #dispose}) comes before its first frame; the
+ * average latency only counts completed zaps.
+ *
+ * <p>Zaps run on the lane of the player; the latency is recorded on the main thread.
+ */
+final class ChannelZapper {
+    private final FlutterVlcPlayer player;
+    private final MediaPreloader preloader;
+    private final List<String> channels;
+    private final int neighbours;
+    private final long hwAcc;
+    private int current = -1;
+    // urls of the neighbour channels preloaded by this zapper
+    private final Set<String> preloaded = new HashSet<>();
+
+    // guarded by this
+    private long zapCount;
+    private long completedZapCount;
+    private long abandonedZapCount;
+    private long prebufferedZapCount;
+    // the zap waiting for its first frame, 0 if none
+    private long pendingZap;
+    private long totalLatencyMillis;
+    private long lastLatencyMillis;
+    private long maxLatencyMillis;
+
+    ChannelZapper(FlutterVlcPlayer player, MediaPreloader preloader, List<String> channels, int neighbours, long hwAcc) {
+        this.player = player;
+        this.preloader = preloader;
+        this.channels = new ArrayList<>(channels);
+        this.neighbours = Math.max(0, Math.min(neighbours, (channels.size() - 1) / 2));
+        this.hwAcc = hwAcc;
+    }
+
+    /**
+     * Switches the player to the channel at {@code index} and preloads its neighbours.
+     */
+    void zapTo(int index) {
+        if (index < 0 || index >= channels.size()) {
+            throw new Messages.FlutterError("invalid_channel", "No channel at index " + index, null);
+        }
+        final String url = channels.get(index);
+        final long zap = startZap();
+        final long start = System.nanoTime();
+        player.awaitFirstFrame(() -> recordLatency(zap, (System.nanoTime() - start) / 1_000_000L));
+
+        MediaPreloader.Preload preload = preloader.take(url, false, getOptions(), hwAcc);
+        preloaded.remove(url);
+        if (preload != null) {
+            synchronized (this) {
+                prebufferedZapCount++;
+            }
+            player.promote(preload, true);
+        } else {
+            player.setStreamUrl(url, false, true, hwAcc);
+        }
+        current = index;
+        preloadNeighbours();
+    }
+
+    /**
+     * Releases the neighbour preloads.
+     */
+    void dispose() {
+        player.awaitFirstFrame(null);
+        synchronized (this) {
+            abandonPendingZap();
+        }
+        for (String url : preloaded) {
+            preloader.cancel(url);
+        }
+        preloaded.clear();
+    }
+
+    synchronized Messages.ZapMetricsMessage getMetrics() {
+        return new Messages.ZapMetricsMessage.Builder()
+                .setZapCount(zapCount)
+                .setCompletedZapCount(completedZapCount)
+                .setAbandonedZapCount(abandonedZapCount)
+                .setPrebufferedZapCount(prebufferedZapCount)
+                .setLastLatencyMillis(lastLatencyMillis)
+                .setAverageLatencyMillis(completedZapCount > 0 ? totalLatencyMillis / completedZapCount : 0L)
+                .setMaxLatencyMillis(maxLatencyMillis)
+                .build();
+    }
+
+    private synchronized long startZap() {
+        abandonPendingZap();
+        pendingZap = ++zapCount;
+        return pendingZap;
+    }
+
+    // guarded by this
+    private void abandonPendingZap() {
+        if (pendingZap != 0) {
+            abandonedZapCount++;
+            pendingZap = 0;
+        }
+    }
+
+    private synchronized void recordLatency(long zap, long millis) {
+        if (zap != pendingZap) {
+            // already counted as abandoned
+            return;
+        }
+        pendingZap = 0;
+        completedZapCount++;
+        totalLatencyMillis += millis;
+        lastLatencyMillis = millis;
+        maxLatencyMillis = Math.max(maxLatencyMillis, millis);
+    }
+
+    private void preloadNeighbours() {
+        Set<String> wanted = new HashSet<>();
+        for (int i = 1; i <= neighbours; i++) {
+            wanted.add(channels.get((current + i) % channels.size()));
+            wanted.add(channels.get((current - i + channels.size()) % channels.size()));
+        }
+        wanted.remove(channels.get(current));
+
+        for (String url : new ArrayList<>(preloaded)) {
+            if (!wanted.contains(url)) {
+                preloader.cancel(url);
+                preloaded.remove(url);
+            }
+        }
+        for (String url : wanted) {
+            if (!preloaded.contains(url) && preloader.preload(url, false, getOptions(), hwAcc, 0, true)) {
+                preloaded.add(url);
+            }
+        }
+    }
+
+    private List<String> getOptions() {
+        List<String> options = player.getOptions();
+        return options != null ? options : new ArrayList<>();
+    }
+}
@@ -0,0 +1,59 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * The last clock anchor sent to Dart: a media time, the playback rate and playing flag it advances
+ * with, and the monotonic time ({@link System#nanoTime()}) it was taken at.
+ *
+ * <p>Dart extrapolates the position from the anchor, so a new one is only needed when the timeline
+ * is discontinuous: seek, rate change, pause/resume, or when the reported media time drifts away
+ * from the extrapolated one by more than {@link #DRIFT_THRESHOLD_MILLIS}.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class ClockAnchor {
+    static final long DRIFT_THRESHOLD_MILLIS = 250;
+
+    private boolean valid = false;
+    private long time;
+    private float rate;
+    private boolean playing;
+    private long nanos;
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Returns the media time extrapolated from the anchor at {@code nowNanos}.
+     */
+    long predict(long nowNanos) {
+        if (!playing) return time;
+        return time + (long) ((nowNanos - nanos) / 1_000_000L * (double) rate);
+    }
+
+    /**
+     * Returns whether the observed state can no longer be extrapolated from the anchor.
+     */
+    boolean isDiscontinuous(long time, float rate, boolean playing, long nowNanos) {
+        return !valid
+                || this.rate != rate
+                || this.playing != playing
+                || Math.abs(time - predict(nowNanos)) > DRIFT_THRESHOLD_MILLIS;
+    }
+
+    /**
+     * Takes a new anchor and fills it into {@code record}.
+     */
+    void set(long time, float rate, boolean playing, long nowNanos, MediaEventRecord record) {
+        this.time = time;
+        this.rate = rate;
+        this.playing = playing;
+        this.nanos = nowNanos;
+        valid = true;
+        record.reset(MediaEventRecord.CLOCK_ANCHOR);
+        record.position = time;
+        record.speed = rate;
+        record.isPlaying = playing;
+        record.timestamp = nowNanos / 1000L;
+    }
+}
@@ -0,0 +1,6 @@
+package software.solid.fluttervlcplayer.Enums;
+
+public enum FrameBackpressure {
+    DROP_NEWEST,
+    KEEP_LATEST
+}
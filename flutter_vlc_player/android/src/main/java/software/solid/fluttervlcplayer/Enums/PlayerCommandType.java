@@ -0,0 +1,19 @@
+package software.solid.fluttervlcplayer.Enums;
+
+public enum PlayerCommandType {
+    SET_MEDIA,
+    PLAY,
+    PAUSE,
+    STOP,
+    SEEK_TO,
+    SET_VOLUME,
+    SET_PLAYBACK_SPEED,
+    SET_LOOPING,
+    SET_AUDIO_TRACK,
+    SET_AUDIO_DELAY,
+    SET_SPU_TRACK,
+    SET_SPU_DELAY,
+    SET_VIDEO_TRACK,
+    SET_VIDEO_SCALE,
+    SET_VIDEO_ASPECT_RATIO
+}
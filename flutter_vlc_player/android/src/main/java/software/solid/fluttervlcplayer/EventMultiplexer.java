@@ -0,0 +1,193 @@
+package software.solid.fluttervlcplayer;
+
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.StandardMethodCodec;
+
+/**
+ * Publishes the media and renderer events of all players into a single event channel.
+ *
+ * <p>Players register their {@link QueuingEventSink}s instead of opening two event channels each.
+ * While Dart listens, every sink delivers into a shared batch, which is sent once per Choreographer
+ * frame as a flat list of {@code [playerId, kind, event, playerId, kind, event, ...]}. Kind is
+ * {@link #MEDIA}, {@link #RENDERER} or {@link #ERROR}; errors carry {@code [code, message,
+ * details]} as event. While nobody listens the player sinks queue their events as usual.
+ *
+ * <p>Dart filters the batches per player, so a player's events are only published once its Dart
+ * stream is subscribed, announced with {@link #setSubscribed}: a player created while the channel
+ * is already listened to keeps queuing its first events until then, instead of having them sent
+ * before anyone picks them up.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class EventMultiplexer implements Choreographer.FrameCallback {
+    static final String CHANNEL_NAME = "flutter_video_plugin/getEvents";
+
+    static final int MEDIA = 0;
+    static final int RENDERER = 1;
+    static final int ERROR = 2;
+
+    private final EventChannel eventChannel;
+    private final ArrayList<Registration> registrations = new ArrayList<>();
+    // the player and kind pairs whose Dart stream is subscribed, see key()
+    private final HashSet<Long> subscriptions = new HashSet<>();
+    private final ArrayList<Object> batch = new ArrayList<>();
+    // copies of the reusable media event records, recycled once the batch is sent
+    private final ArrayList<MediaEventRecord> records = new ArrayList<>();
+    private int recordsInUse = 0;
+    private EventChannel.EventSink sink;
+    private boolean frameScheduled = false;
+
+    EventMultiplexer(BinaryMessenger binaryMessenger) {
+        eventChannel = new EventChannel(binaryMessenger, CHANNEL_NAME, new StandardMethodCodec(MediaEventCodec.INSTANCE));
+        eventChannel.setStreamHandler(
+                new EventChannel.StreamHandler() {
+                    @Override
+                    public void onListen(Object o, EventChannel.EventSink sink) {
+                        EventMultiplexer.this.sink = sink;
+                        for (Registration registration : registrations) {
+                            registration.attachIfSubscribed();
+                        }
+                    }
+
+                    @Override
+                    public void onCancel(Object o) {
+                        EventMultiplexer.this.sink = null;
+                        for (Registration registration : registrations) {
+                            registration.detach();
+                        }
+                    }
+                });
+    }
+
+    void register(long playerId, int kind, QueuingEventSink eventSink) {
+        Registration registration = new Registration(playerId, kind, eventSink);
+        registrations.add(registration);
+        registration.attachIfSubscribed();
+    }
+
+    /**
+     * Records whether Dart listens to the {@code kind} events of {@code playerId}, which may be
+     * announced before the player registers. Its queued events are published once it does.
+     */
+    void setSubscribed(long playerId, int kind, boolean subscribed) {
+        if (subscribed) {
+            subscriptions.add(key(playerId, kind));
+        } else {
+            subscriptions.remove(key(playerId, kind));
+        }
+        for (Registration registration : registrations) {
+            if (registration.playerId != playerId || registration.kind != kind) continue;
+
+            if (subscribed) {
+                registration.attachIfSubscribed();
+            } else {
+                registration.detach();
+            }
+        }
+    }
+
+    void unregister(long playerId) {
+        for (int i = registrations.size() - 1; i >= 0; i--) {
+            Registration registration = registrations.get(i);
+            if (registration.playerId == playerId) {
+                registration.detach();
+                registrations.remove(i);
+            }
+        }
+        subscriptions.remove(key(playerId, MEDIA));
+        subscriptions.remove(key(playerId, RENDERER));
+    }
+
+    void dispose() {
+        Choreographer.getInstance().removeFrameCallback(this);
+        frameScheduled = false;
+        for (Registration registration : registrations) {
+            registration.detach();
+        }
+        registrations.clear();
+        subscriptions.clear();
+        batch.clear();
+        eventChannel.setStreamHandler(null);
+        sink = null;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+        if (sink == null || batch.isEmpty()) {
+            return;
+        }
+        // The batch is encoded synchronously, so it and its records can be reused afterwards.
+        sink.success(batch);
+        batch.clear();
+        recordsInUse = 0;
+    }
+
+    private void add(long playerId, int kind, Object event) {
+        if (event instanceof MediaEventRecord) {
+            event = obtainRecord((MediaEventRecord) event);
+        }
+        batch.add(playerId);
+        batch.add(kind);
+        batch.add(event);
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private static long key(long playerId, int kind) {
+        return playerId * 2 + kind;
+    }
+
+    private MediaEventRecord obtainRecord(MediaEventRecord source) {
+        if (recordsInUse == records.size()) {
+            records.add(new MediaEventRecord());
+        }
+        return records.get(recordsInUse++).set(source);
+    }
+
+    private final class Registration implements EventChannel.EventSink {
+        final long playerId;
+        final int kind;
+        final QueuingEventSink eventSink;
+
+        Registration(long playerId, int kind, QueuingEventSink eventSink) {
+            this.playerId = playerId;
+            this.kind = kind;
+            this.eventSink = eventSink;
+        }
+
+        void attachIfSubscribed() {
+            if (sink != null && subscriptions.contains(key(playerId, kind))) {
+                eventSink.setDelegate(this);
+            }
+        }
+
+        void detach() {
+            eventSink.setDelegate(null);
+        }
+
+        @Override
+        public void success(Object event) {
+            add(playerId, kind, event);
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+            add(playerId, ERROR, new ArrayList<>(Arrays.asList(code, message, details)));
+        }
+
+        @Override
+        public void endOfStream() {
+            // the shared stream outlives single players
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package software.solid.fluttervlcplayer;
 
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.net.Uri;
 import android.util.Base64;
 import android.util.Log;
@@ -15,7 +14,6 @@ import org.videolan.libvlc.MediaPlayer;
 import org.videolan.libvlc.RendererDiscoverer;
 import org.videolan.libvlc.RendererItem;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -23,12 +21,22 @@ import java.util.List;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.StandardMethodCodec;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.view.TextureRegistry;
+import software.solid.fluttervlcplayer.Enums.FrameBackpressure;
+import software.solid.fluttervlcplayer.Enums.FrameChroma;
 import software.solid.fluttervlcplayer.Enums.HwAcc;
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
 
 final class FlutterVlcPlayer implements PlatformView {
 
+    private static final long RENDERER_ATTACHED = 0;
+    private static final long RENDERER_DETACHED = 1;
+    // the input is repeated by libVLC without reopening it, as many times as the option allows
+    private static final String INPUT_REPEAT = ":input-repeat=65535";
+    private static final String NO_INPUT_REPEAT = ":input-repeat=0";
+
     private final String TAG = this.getClass().getSimpleName();
     private final boolean debug = false;
     //
@@ -42,12 +50,56 @@ final class FlutterVlcPlayer implements PlatformView {
     private final QueuingEventSink rendererEventSink = new QueuingEventSink();
     private final EventChannel rendererEventChannel;
     //
-    private LibVLC libVLC;
-    private MediaPlayer mediaPlayer;
-    private List<String> options;
+    // low-rate previews, never multiplexed as they are binary and large
+    private final PreviewStream previewStream;
+    private final EventChannel previewEventChannel;
+    //
+    // decoded frames for Java listeners, and for Dart once it started the tap
+    private final FrameTap frameTap;
+    private final FrameTap.DartSender frameTapDartSender;
+    //
+    private final long viewId;
+    private final EventMultiplexer eventMultiplexer;
+    //
+    // Commands may run on a background lane; events, views and the fields below marked as main
+    // thread only are handled on the main thread.
+    private volatile LibVLC libVLC;
+    private volatile MediaPlayer mediaPlayer;
+    private volatile List<String> options;
+    // main thread only
     private List<RendererDiscoverer> rendererDiscoverers = new ArrayList<>();
     private List<RendererItem> rendererItems = new ArrayList<>();
-    private boolean isDisposed = false;
+    private volatile boolean isDisposed = false;
+    //
+    // main thread only
+    private final StateUpdateCoalescer stateUpdateCoalescer = new StateUpdateCoalescer(this::sendStateUpdate, 0);
+    private float pendingBuffering = 0;
+    private final MediaEventRecord mediaEvent = new MediaEventRecord();
+    private final MediaStateCache mediaState = new MediaStateCache();
+    private final MediaEventRecord playbackState = new MediaEventRecord();
+    private final ClockAnchor clockAnchor = new ClockAnchor();
+    private boolean clockAnchors = false;
+    private Runnable firstFrameListener;
+    private final SeekCoalescer seekCoalescer = new SeekCoalescer(this::executeSeek);
+    private final TrickPlay trickPlay = new TrickPlay(seekCoalescer);
+    private final FrameStepper frameStepper = new FrameStepper(seekCoalescer);
+    //
+    private volatile boolean looping = false;
+    // whether the current media was opened with INPUT_REPEAT
+    private volatile boolean mediaRepeats = false;
+    // the current media, to open it again
+    private volatile String mediaUrl;
+    private volatile boolean mediaIsAssetUrl;
+    private volatile long mediaHwAcc;
+    // plays its items one after the other, looping the whole list instead of the media
+    private volatile Playlist playlist;
+    //
+    private boolean inBatch = false;
+    private boolean batchPlay = false;
+    // media set by the running batch, not started yet
+    private volatile Media batchMedia;
+    // guarded by itself, filled by the batch and run on the main thread
+    private final ArrayList<Runnable> pendingUntilPlaying = new ArrayList<>();
 
     // Platform view
     @Override
@@ -59,62 +111,97 @@ final class FlutterVlcPlayer implements PlatformView {
     public void dispose() {
         if (isDisposed)
             return;
+        isDisposed = true;
         //
-        textureView.dispose();
-        textureEntry.release();
-        mediaEventChannel.setStreamHandler(null);
-        rendererEventChannel.setStreamHandler(null);
-        if (mediaPlayer != null) {
-            mediaPlayer.stop();
-            mediaPlayer.setEventListener(null);
-            mediaPlayer.getVLCVout().detachViews();
-            mediaPlayer.release();
+        final MediaPlayer player = mediaPlayer;
+        final LibVLC vlc = libVLC;
+        // views and channels are detached right away, the native teardown blocks and is left to
+        // the reaper
+        MainThread.run(() -> {
+            stateUpdateCoalescer.cancel();
+            trickPlay.cancel();
+            frameStepper.clear();
+            seekCoalescer.cancel();
+            previewStream.stop();
+            previewEventChannel.setStreamHandler(null);
+            frameTap.stop();
+            log("media events: enqueued=" + mediaEventSink.getEnqueuedCount()
+                    + " delivered=" + mediaEventSink.getDeliveredCount()
+                    + " compacted=" + mediaEventSink.getCompactedCount()
+                    + " dropped=" + mediaEventSink.getDroppedCount());
+            if (eventMultiplexer != null) {
+                eventMultiplexer.unregister(viewId);
+            } else {
+                mediaEventChannel.setStreamHandler(null);
+                rendererEventChannel.setStreamHandler(null);
+            }
+            if (player != null) {
+                player.setEventListener(null);
+                player.getVLCVout().detachViews();
+            }
+            textureView.dispose();
+            textureEntry.release();
             mediaPlayer = null;
-        }
-        if (libVLC != null) {
-            libVLC.release();
             libVLC = null;
-        }
-        isDisposed = true;
+        });
+        PlayerReaper.INSTANCE.reap(player, vlc);
     }
 
     // VLC Player
-    FlutterVlcPlayer(int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry) {
+    FlutterVlcPlayer(int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry, @Nullable EventMultiplexer eventMultiplexer) {
         this.context = context;
-        // event for media
-        mediaEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getVideoEvents_" + viewId);
-        mediaEventChannel.setStreamHandler(
-                new EventChannel.StreamHandler() {
-                    @Override
-                    public void onListen(Object o, EventChannel.EventSink sink) {
-                        mediaEventSink.setDelegate(sink);
-                    }
+        this.viewId = viewId;
+        this.eventMultiplexer = eventMultiplexer;
+        if (eventMultiplexer != null) {
+            // events are published into the shared channel
+            MainThread.run(() -> {
+                eventMultiplexer.register(viewId, EventMultiplexer.MEDIA, mediaEventSink);
+                eventMultiplexer.register(viewId, EventMultiplexer.RENDERER, rendererEventSink);
+            });
+            mediaEventChannel = null;
+            rendererEventChannel = null;
+        } else {
+            // event for media
+            mediaEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getVideoEvents_" + viewId, new StandardMethodCodec(MediaEventCodec.INSTANCE));
+            mediaEventChannel.setStreamHandler(
+                    new EventChannel.StreamHandler() {
+                        @Override
+                        public void onListen(Object o, EventChannel.EventSink sink) {
+                            mediaEventSink.setDelegate(sink);
+                        }
 
-                    @Override
-                    public void onCancel(Object o) {
-                        mediaEventSink.setDelegate(null);
-                    }
-                });
-        // event for renderer
-        rendererEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getRendererEvents_" + viewId);
-        rendererEventChannel.setStreamHandler(
-                new EventChannel.StreamHandler() {
-                    @Override
-                    public void onListen(Object o, EventChannel.EventSink sink) {
-                        rendererEventSink.setDelegate(sink);
-                    }
+                        @Override
+                        public void onCancel(Object o) {
+                            mediaEventSink.setDelegate(null);
+                        }
+                    });
+            // event for renderer
+            rendererEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getRendererEvents_" + viewId, new StandardMethodCodec(MediaEventCodec.INSTANCE));
+            rendererEventChannel.setStreamHandler(
+                    new EventChannel.StreamHandler() {
+                        @Override
+                        public void onListen(Object o, EventChannel.EventSink sink) {
+                            rendererEventSink.setDelegate(sink);
+                        }
 
-                    @Override
-                    public void onCancel(Object o) {
-                        rendererEventSink.setDelegate(null);
-                    }
-                });
+                        @Override
+                        public void onCancel(Object o) {
+                            rendererEventSink.setDelegate(null);
+                        }
+                    });
+        }
         //
         textureEntry = textureRegistry.createSurfaceTexture();
         textureView = new VLCTextureView(context);
         textureView.setSurfaceTexture(textureEntry.surfaceTexture());
         textureView.forceLayout();
         textureView.setFitsSystemWindows(true);
+        //
+        previewStream = new PreviewStream(this, textureView);
+        previewEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getPreviewFrames_" + viewId);
+        previewEventChannel.setStreamHandler(previewStream);
+        frameTap = new FrameTap(this, textureView, viewId);
+        frameTapDartSender = new FrameTap.DartSender(binaryMessenger, "flutter_video_plugin/getFrames_" + viewId);
     }
 
     // private Uri getStreamUri(String streamPath, boolean isLocal) {
@@ -123,9 +210,9 @@ final class FlutterVlcPlayer implements PlatformView {
 
     public void initialize(List<String> options) {
         this.options = options;
-        libVLC = new LibVLC(context, options);
-        mediaPlayer = new MediaPlayer(libVLC);
-        setupVlcMediaPlayer();
+        libVLC = LibVLCPool.INSTANCE.acquire(context, options);
+        mediaPlayer = MediaPlayerPool.INSTANCE.obtain(libVLC);
+        MainThread.run(this::setupVlcMediaPlayer);
     }
 
     private void setupVlcMediaPlayer() {
@@ -141,92 +228,128 @@ final class FlutterVlcPlayer implements PlatformView {
                 new MediaPlayer.EventListener() {
                     @Override
                     public void onEvent(MediaPlayer.Event event) {
-                        HashMap<String, Object> eventObject = new HashMap<>();
-                        //
-                        // Current video track is only available when the media is playing
-                        int height = 0;
-                        int width = 0;
-                        Media.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
-                        if (currentVideoTrack != null) {
-                            height = currentVideoTrack.height;
-                            width = currentVideoTrack.width;
+                        // position updates are coalesced and sent once per frame
+                        if (event.type == MediaPlayer.Event.TimeChanged) {
+                            mediaState.setTime(event.getTimeChanged());
+                            seekCoalescer.onTimeChanged(event.getTimeChanged());
+                            frameStepper.onTimeChanged(event.getTimeChanged());
+                            pendingBuffering = event.getBuffering();
+                            final Playlist currentPlaylist = playlist;
+                            if (currentPlaylist != null) {
+                                currentPlaylist.onTimeChanged(event.getTimeChanged(), mediaState.getLength(mediaPlayer));
+                            }
+                            if (clockAnchors) {
+                                // Dart extrapolates the position, only discontinuities are sent
+                                if (clockAnchor.isDiscontinuous(event.getTimeChanged(), mediaState.getRate(mediaPlayer), mediaState.isPlaying(), System.nanoTime())) {
+                                    stateUpdateCoalescer.flush();
+                                    sendClockAnchor();
+                                }
+                                return;
+                            }
+                            stateUpdateCoalescer.schedule();
+                            return;
+                        }
+                        if (event.type == MediaPlayer.Event.Buffering) {
+                            pendingBuffering = event.getBuffering();
+                            stateUpdateCoalescer.schedule();
+                            return;
                         }
                         //
                         switch (event.type) {
 
                             case MediaPlayer.Event.Opening:
-                                eventObject.put("event", "opening");
-                                mediaEventSink.success(eventObject);
+                                frameStepper.clear();
+                                stateUpdateCoalescer.flush();
+                                mediaState.invalidateAll();
+                                mediaEventSink.success(mediaEvent.reset(MediaEventRecord.OPENING));
                                 break;
 
                             case MediaPlayer.Event.Paused:
-                                eventObject.put("event", "paused");
-                                mediaEventSink.success(eventObject);
+                                stateUpdateCoalescer.flush();
+                                mediaState.setPlaying(false);
+                                mediaEventSink.success(mediaEvent.reset(MediaEventRecord.PAUSED));
+                                sendClockAnchor();
                                 break;
 
                             case MediaPlayer.Event.Stopped:
-                                eventObject.put("event", "stopped");
-                                mediaEventSink.success(eventObject);
+                                trickPlay.stop(false);
+                                stateUpdateCoalescer.flush();
+                                mediaState.setPlaying(false);
+                                mediaState.invalidateTime();
+                                mediaEventSink.success(mediaEvent.reset(MediaEventRecord.STOPPED));
+                                sendClockAnchor();
                                 break;
 
                             case MediaPlayer.Event.Playing:
-                                eventObject.put("event", "playing");
-                                eventObject.put("height", height);
-                                eventObject.put("width", width);
-                                eventObject.put("speed", mediaPlayer.getRate());
-                                eventObject.put("duration", mediaPlayer.getLength());
-                                eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                                eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                                eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                                eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                                mediaEventSink.success(eventObject.clone());
+                                frameStepper.onPlaying(mediaPlayer, textureView);
+                                stateUpdateCoalescer.flush();
+                                mediaState.setPlaying(true);
+                                mediaState.invalidateVideoSize();
+                                mediaEvent.reset(MediaEventRecord.PLAYING);
+                                mediaState.fill(mediaPlayer, mediaEvent);
+                                mediaEventSink.success(mediaEvent);
+                                sendClockAnchor();
+                                runPendingUntilPlaying();
                                 break;
 
                             case MediaPlayer.Event.Vout:
+                                mediaState.invalidateVideoSize();
+                                if (event.getVoutCount() > 0 && firstFrameListener != null) {
+                                    Runnable listener = firstFrameListener;
+                                    firstFrameListener = null;
+                                    listener.run();
+                                }
 //                                mediaPlayer.getVLCVout().setWindowSize(textureView.getWidth(), textureView.getHeight());
                                 break;
 
                             case MediaPlayer.Event.EndReached:
-                                eventObject.put("event", "ended");
-                                eventObject.put("position", mediaPlayer.getTime());
-                                mediaEventSink.success(eventObject);
-                                break;
-
-                            case MediaPlayer.Event.Buffering:
-                            case MediaPlayer.Event.TimeChanged:
-                                eventObject.put("event", "timeChanged");
-                                eventObject.put("height", height);
-                                eventObject.put("width", width);
-                                eventObject.put("speed", mediaPlayer.getRate());
-                                eventObject.put("position", mediaPlayer.getTime());
-                                eventObject.put("duration", mediaPlayer.getLength());
-                                eventObject.put("buffer", event.getBuffering());
-                                eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                                eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                                eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                                eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                                eventObject.put("isPlaying", mediaPlayer.isPlaying());
-                                mediaEventSink.success(eventObject);
+                                final Playlist endedPlaylist = playlist;
+                                if (endedPlaylist != null && endedPlaylist.onEndReached()) {
+                                    break;
+                                }
+                                if (repeatsMedia() && mediaUrl != null) {
+                                    // the media was not repeating, or repeated as many times as it could
+                                    openMedia(0, true);
+                                    break;
+                                }
+                                stateUpdateCoalescer.flush();
+                                mediaState.setPlaying(false);
+                                mediaEvent.reset(MediaEventRecord.ENDED);
+                                mediaEvent.position = mediaPlayer.getTime();
+                                mediaEventSink.success(mediaEvent);
+                                sendClockAnchor();
                                 break;
 
                             case MediaPlayer.Event.EncounteredError:
+                                stateUpdateCoalescer.flush();
+                                mediaState.setPlaying(false);
                                 //mediaEventSink.error("500", "Player State got an error.", null);
-                                eventObject.put("event", "error");
-                                mediaEventSink.success(eventObject);
+                                mediaEventSink.success(mediaEvent.reset(MediaEventRecord.ERROR));
+                                sendClockAnchor();
                                 break;
 
                             case MediaPlayer.Event.RecordChanged:
-                                eventObject.put("event", "recording");
-                                eventObject.put("isRecording", event.getRecording());
-                                eventObject.put("recordPath", event.getRecordPath());
-                                mediaEventSink.success(eventObject);
+                                stateUpdateCoalescer.flush();
+                                mediaEvent.reset(MediaEventRecord.RECORDING);
+                                mediaEvent.isRecording = event.getRecording();
+                                mediaEvent.recordPath = event.getRecordPath();
+                                mediaEventSink.success(mediaEvent);
                                 break;
 
                             case MediaPlayer.Event.LengthChanged:
+                                mediaState.setLength(event.getLengthChanged());
+                                break;
+
                             case MediaPlayer.Event.MediaChanged:
+                                mediaState.invalidateAll();
+                                break;
+
                             case MediaPlayer.Event.ESAdded:
                             case MediaPlayer.Event.ESDeleted:
                             case MediaPlayer.Event.ESSelected:
+                                mediaState.invalidateTracks();
+                                break;
+
                             case MediaPlayer.Event.PausableChanged:
                             case MediaPlayer.Event.SeekableChanged:
                             case MediaPlayer.Event.PositionChanged:
@@ -238,138 +361,545 @@ final class FlutterVlcPlayer implements PlatformView {
         );
     }
 
+    /**
+     * Sends the latest coalesced position/buffering state as a single "timeChanged" event.
+     */
+    private void sendStateUpdate() {
+        if (mediaPlayer == null) return;
+
+        mediaEvent.reset(MediaEventRecord.TIME_CHANGED);
+        mediaState.fill(mediaPlayer, mediaEvent);
+        mediaEvent.position = mediaState.getTime(mediaPlayer);
+        mediaEvent.buffer = pendingBuffering;
+        mediaEvent.isPlaying = mediaState.isPlaying();
+        mediaEventSink.success(mediaEvent);
+    }
+
+    /**
+     * Sends the current time, rate and playing state as a new "clockAnchor" event, if enabled.
+     */
+    private void sendClockAnchor() {
+        if (!clockAnchors || mediaPlayer == null) return;
+
+        clockAnchor.set(Math.max(0, mediaState.getTime(mediaPlayer)), mediaState.getRate(mediaPlayer), mediaState.isPlaying(), System.nanoTime(), mediaEvent);
+        mediaEventSink.success(mediaEvent);
+    }
+
+    /**
+     * Enables "clockAnchor" events. While enabled, periodic "timeChanged" events are replaced by an
+     * anchor on every discontinuity of the playback clock, and Dart extrapolates the position.
+     */
+    void setClockAnchors(boolean enabled) {
+        MainThread.post(() -> {
+            clockAnchors = enabled;
+            clockAnchor.invalidate();
+            if (enabled) {
+                sendClockAnchor();
+            }
+        });
+    }
+
+    /**
+     * Sets the minimum interval between two "timeChanged" events. Zero (default) sends at most
+     * one update per display frame.
+     */
+    void setStateUpdateInterval(long intervalMillis) {
+        MainThread.run(() -> stateUpdateCoalescer.setMinInterval(intervalMillis));
+    }
+
+    /**
+     * Starts applying a batch of commands. Until {@link #endBatch()}, media set by the batch is
+     * not started: seeks become its start time, and track and delay changes are applied once it
+     * plays, so the media is opened only once.
+     */
+    void beginBatch() {
+        inBatch = true;
+    }
+
+    void endBatch() {
+        final MediaPlayer player = mediaPlayer;
+        inBatch = false;
+        if (batchMedia == null) return;
+
+        batchMedia.release();
+        batchMedia = null;
+        if (batchPlay && player != null) {
+            player.play();
+        }
+        batchPlay = false;
+    }
+
+    private boolean deferUntilPlaying(Runnable command) {
+        if (batchMedia == null) return false;
+
+        synchronized (pendingUntilPlaying) {
+            pendingUntilPlaying.add(command);
+        }
+        return true;
+    }
+
+    private void runPendingUntilPlaying() {
+        Runnable[] commands;
+        synchronized (pendingUntilPlaying) {
+            commands = pendingUntilPlaying.toArray(new Runnable[0]);
+            pendingUntilPlaying.clear();
+        }
+        for (Runnable command : commands) {
+            command.run();
+        }
+    }
+
     void play() {
-        if (mediaPlayer != null && !mediaPlayer.isPlaying()) {
-            mediaPlayer.play();
+        final MediaPlayer player = mediaPlayer;
+        if (batchMedia != null) {
+            batchPlay = true;
+            return;
+        }
+        MainThread.run(() -> trickPlay.stop(false));
+        if (player != null && !player.isPlaying()) {
+            player.play();
         }
     }
 
     void pause() {
-        if (mediaPlayer != null && mediaPlayer.isPlaying()) {
-            mediaPlayer.pause();
+        final MediaPlayer player = mediaPlayer;
+        if (batchMedia != null) {
+            batchPlay = false;
+            return;
+        }
+        MainThread.run(() -> trickPlay.stop(false));
+        if (player != null && player.isPlaying()) {
+            player.pause();
         }
     }
 
     void stop() {
-        if (mediaPlayer != null) {
-            mediaPlayer.stop();
+        final MediaPlayer player = mediaPlayer;
+        if (batchMedia != null) {
+            batchPlay = false;
+            return;
+        }
+        if (player != null) {
+            player.stop();
         }
     }
 
     boolean isPlaying() {
-        if (mediaPlayer == null) return false;
-        return mediaPlayer.isPlaying();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return false;
+        return player.isPlaying();
     }
 
     boolean isSeekable() {
-        if (mediaPlayer == null) return false;
-        return mediaPlayer.isSeekable();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return false;
+        return player.isSeekable();
     }
 
     void setStreamUrl(String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
         try {
-            if (mediaPlayer.isPlaying()) {
-                mediaPlayer.stop();
+            synchronized (pendingUntilPlaying) {
+                pendingUntilPlaying.clear();
             }
-            //
-            Media media;
-            if (isAssetUrl)
-                media = new Media(libVLC, context.getAssets().openFd(url));
-            else if (url.startsWith("content://"))
-                media = new Media(libVLC, context.getContentResolver().openFileDescriptor(Uri.parse(url), "r").getFileDescriptor());
-            else
-                media = new Media(libVLC, Uri.parse(url));
-            final HwAcc hwAccValue = HwAcc.values()[(int) hwAcc];
-            switch (hwAccValue) {
-                case DISABLED:
-                    media.setHWDecoderEnabled(false, false);
-                    break;
-                case DECODING:
-                case FULL:
-                    media.setHWDecoderEnabled(true, true);
-                    break;
+            if (player.isPlaying()) {
+                player.stop();
             }
-            if (hwAccValue == HwAcc.DECODING) {
-                media.addOption(":no-mediacodec-dr");
-                media.addOption(":no-omxil-dr");
+            //
+            Media media = createMedia(context, libVLC, url, isAssetUrl, hwAcc, options);
+            if (repeatsMedia()) {
+                media.addOption(INPUT_REPEAT);
             }
-            if (options != null) {
-                for (String option : options)
-                    media.addOption(option);
+            mediaRepeats = repeatsMedia();
+            mediaUrl = url;
+            mediaIsAssetUrl = isAssetUrl;
+            mediaHwAcc = hwAcc;
+            player.setMedia(media);
+            if (inBatch) {
+                if (batchMedia != null) {
+                    batchMedia.release();
+                }
+                batchMedia = media;
+                batchPlay = autoPlay;
+                return;
             }
-            mediaPlayer.setMedia(media);
             media.release();
             //
             if (autoPlay) {
-                mediaPlayer.play();
+                player.play();
             }
         } catch (IOException e) {
             log(e.getMessage());
         }
     }
 
-    void setLooping(boolean value) {
-        if (mediaPlayer != null) {
-            if (mediaPlayer.getMedia() != null)
-                mediaPlayer.getMedia().addOption(value ? "--loop" : "--no-loop");
+    static Media createMedia(Context context, LibVLC libVLC, String url, boolean isAssetUrl, long hwAcc, @Nullable List<String> options) throws IOException {
+        Media media;
+        if (isAssetUrl)
+            media = new Media(libVLC, context.getAssets().openFd(url));
+        else if (url.startsWith("content://"))
+            media = new Media(libVLC, context.getContentResolver().openFileDescriptor(Uri.parse(url), "r").getFileDescriptor());
+        else
+            media = new Media(libVLC, Uri.parse(url));
+        final HwAcc hwAccValue = HwAcc.values()[(int) hwAcc];
+        switch (hwAccValue) {
+            case DISABLED:
+                media.setHWDecoderEnabled(false, false);
+                break;
+            case DECODING:
+            case FULL:
+                media.setHWDecoderEnabled(true, true);
+                break;
+        }
+        if (hwAccValue == HwAcc.DECODING) {
+            media.addOption(":no-mediacodec-dr");
+            media.addOption(":no-omxil-dr");
+        }
+        if (options != null) {
+            for (String option : options)
+                media.addOption(option);
+        }
+        return media;
+    }
+
+    /**
+     * Takes over the player of {@code preload}, which already opened the media, instead of
+     * opening it again. The current player, if any, is handed to the reaper.
+     */
+    void promote(MediaPreloader.Preload preload, boolean autoPlay) {
+        synchronized (pendingUntilPlaying) {
+            pendingUntilPlaying.clear();
+        }
+        final MediaPlayer oldPlayer = mediaPlayer;
+        final LibVLC oldVlc = libVLC;
+        MainThread.run(() -> {
+            if (oldPlayer != null) {
+                oldPlayer.setEventListener(null);
+                textureView.setMediaPlayer(null);
+            }
+            trickPlay.cancel();
+            frameStepper.clear();
+            preload.detach();
+            options = preload.options;
+            mediaUrl = preload.url;
+            mediaIsAssetUrl = preload.isAssetUrl;
+            mediaHwAcc = preload.hwAcc;
+            mediaRepeats = false;
+            libVLC = preload.libVLC;
+            mediaPlayer = preload.mediaPlayer;
+            mediaState.invalidateAll();
+            clockAnchor.invalidate();
+            setupVlcMediaPlayer();
+        });
+        if (oldPlayer != null) {
+            PlayerReaper.INSTANCE.reap(oldPlayer, oldVlc);
+        }
+        if (autoPlay) {
+            mediaPlayer.play();
+        } else {
+            mediaPlayer.pause();
+        }
+    }
+
+    /**
+     * Runs {@code listener} on the main thread once the next video output starts, i.e. the first
+     * frame of the next media is decoded.
+     */
+    void awaitFirstFrame(@Nullable Runnable listener) {
+        MainThread.run(() -> firstFrameListener = listener);
+    }
+
+    List<String> getOptions() {
+        return options;
+    }
+
+    long getHwAcc() {
+        return mediaHwAcc;
+    }
+
+    void setLooping(boolean looping) {
+        this.looping = looping;
+        final boolean value = repeatsMedia();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null || mediaUrl == null || mediaRepeats == value) return;
+
+        switch (player.getPlayerState()) {
+            case Media.State.Opening:
+            case Media.State.Playing:
+            case Media.State.Paused:
+                if (!value) {
+                    // the repeat of an open input can't be turned off, it is opened again where
+                    // it is
+                    final boolean wasPlaying = player.isPlaying();
+                    final long time = player.getTime();
+                    player.stop();
+                    openMedia(time, wasPlaying);
+                }
+                // otherwise the media is opened again with the repeat when it ends
+                break;
+            default:
+                // the options apply when the input is opened
+                final Media media = batchMedia != null ? batchMedia : (Media) player.getMedia();
+                if (media == null) return;
+
+                media.addOption(value ? INPUT_REPEAT : NO_INPUT_REPEAT);
+                mediaRepeats = value;
+                if (media != batchMedia) {
+                    media.release();
+                }
+                break;
+        }
+    }
+
+    boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Whether the media itself is repeated; with a playlist, the list is looped instead.
+     */
+    private boolean repeatsMedia() {
+        return looping && playlist == null;
+    }
+
+    @Nullable
+    Playlist getPlaylist() {
+        return playlist;
+    }
+
+    /**
+     * Sets the playlist of the player, looping it instead of the media from now on.
+     */
+    void setPlaylist(@Nullable Playlist playlist) {
+        this.playlist = playlist;
+    }
+
+    /**
+     * Sends a "playlistItemChanged" event for the item at {@code index}.
+     */
+    void sendPlaylistItemChanged(int index) {
+        MainThread.run(() -> {
+            if (isDisposed) return;
+
+            stateUpdateCoalescer.flush();
+            mediaEvent.reset(MediaEventRecord.PLAYLIST_ITEM_CHANGED);
+            mediaEvent.playlistIndex = index;
+            mediaEventSink.success(mediaEvent);
+        });
+    }
+
+    /**
+     * Opens the current media again from {@code startMillis}, repeating it if looping.
+     */
+    private void openMedia(long startMillis, boolean play) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+
+        try {
+            Media media = createMedia(context, libVLC, mediaUrl, mediaIsAssetUrl, mediaHwAcc, options);
+            if (repeatsMedia()) {
+                media.addOption(INPUT_REPEAT);
+            }
+            if (startMillis > 0) {
+                media.addOption(":start-time=" + (startMillis / 1000.0));
+            }
+            mediaRepeats = repeatsMedia();
+            player.setMedia(media);
+            media.release();
+            if (play) {
+                player.play();
+            }
+        } catch (IOException e) {
+            log(e.getMessage());
         }
     }
 
     void setVolume(long value) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
         long bracketedValue = Math.max(0, Math.min(100, value));
-        mediaPlayer.setVolume((int) bracketedValue);
+        player.setVolume((int) bracketedValue);
     }
 
     int getVolume() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getVolume();
+        return player.getVolume();
     }
 
     void setPlaybackSpeed(double value) {
-        if (mediaPlayer == null) return;
-
-        mediaPlayer.setRate((float) value);
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+
+        player.setRate((float) value);
+        MainThread.post(() -> {
+            mediaState.invalidateRate();
+            sendClockAnchor();
+        });
     }
 
     float getPlaybackSpeed() {
-        if (mediaPlayer == null) return -1.0f;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1.0f;
 
-        return mediaPlayer.getRate();
+        return player.getRate();
     }
 
     void seekTo(long location) {
         if (mediaPlayer == null) return;
+        if (batchMedia != null) {
+            batchMedia.addOption(":start-time=" + (location / 1000.0));
+            return;
+        }
+
+        MainThread.post(() -> {
+            frameStepper.reset();
+            seekCoalescer.request(location);
+        });
+    }
+
+    /**
+     * Pauses the player, steps one frame {@code forward} or backward and hands the frame moved to
+     * over to {@code result}. Backward steps to the recently shown frames return their image
+     * instead of seeking.
+     */
+    void stepFrame(boolean forward, Messages.Result<Messages.FrameStepMessage> result) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) {
+            result.success(new Messages.FrameStepMessage.Builder().setPosition(-1L).build());
+            return;
+        }
+
+        MainThread.post(() -> {
+            trickPlay.stop(false);
+            frameStepper.step(player, textureView, forward, result);
+        });
+    }
+
+    /**
+     * Turns scrubbing on while a seek bar is dragged: seeks are fast, and the last one is done
+     * again precisely when scrubbing is turned off.
+     */
+    void setScrubbing(boolean scrubbing) {
+        MainThread.post(() -> seekCoalescer.setScrubbing(scrubbing));
+    }
+
+    /**
+     * Scans the media at {@code rate} (e.g. 8x to 64x, negative to rewind) by stepping from
+     * keyframe to keyframe while paused and muted. A rate of 0 ends it, resuming playback.
+     */
+    void setTrickPlay(double rate) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setTime(location);
+        MainThread.run(() -> trickPlay.start(player, (float) rate));
+    }
+
+    private void executeSeek(long time, boolean fast) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+
+        player.setTime(time, fast);
+        mediaState.invalidateTime();
+        clockAnchor.invalidate();
     }
 
     long getPosition() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
+
+        return player.getTime();
+    }
+
+    /**
+     * Reads the whole player state in one pass. Duration, rate and track counts come from the
+     * media state cache, everything else is read from the player.
+     */
+    Messages.PlaybackStateMessage getPlaybackState() {
+        return MainThread.call(this::readPlaybackState);
+    }
+
+    /**
+     * Returns the counters of the media and renderer event sinks, summed.
+     */
+    Messages.EventSinkMetricsMessage getEventSinkMetrics() {
+        return MainThread.call(() -> new Messages.EventSinkMetricsMessage.Builder()
+                .setEnqueued(mediaEventSink.getEnqueuedCount() + rendererEventSink.getEnqueuedCount())
+                .setDelivered(mediaEventSink.getDeliveredCount() + rendererEventSink.getDeliveredCount())
+                .setCompacted(mediaEventSink.getCompactedCount() + rendererEventSink.getCompactedCount())
+                .setDropped(mediaEventSink.getDroppedCount() + rendererEventSink.getDroppedCount())
+                .setQueued((long) mediaEventSink.getQueuedCount() + rendererEventSink.getQueuedCount())
+                .build());
+    }
 
-        return mediaPlayer.getTime();
+    private Messages.PlaybackStateMessage readPlaybackState() {
+        final MediaPlayer player = mediaPlayer;
+        Messages.PlaybackStateMessage.Builder builder = new Messages.PlaybackStateMessage.Builder();
+        if (player == null) {
+            return builder
+                    .setPosition(-1L)
+                    .setDuration(-1L)
+                    .setIsPlaying(false)
+                    .setIsSeekable(false)
+                    .setVolume(-1L)
+                    .setPlaybackSpeed(-1.0)
+                    .setAudioTrack(-1L)
+                    .setAudioTracksCount(-1L)
+                    .setAudioDelay(-1L)
+                    .setSpuTrack(-1L)
+                    .setSpuTracksCount(-1L)
+                    .setSpuDelay(-1L)
+                    .setVideoTrack(-1L)
+                    .setVideoTracksCount(-1L)
+                    .setVideoScale(-1.0)
+                    .setAspectRatio("")
+                    .build();
+        }
+
+        mediaState.fill(player, playbackState);
+        return builder
+                .setPosition(player.getTime())
+                .setDuration(playbackState.duration)
+                .setIsPlaying(player.isPlaying())
+                .setIsSeekable(player.isSeekable())
+                .setVolume((long) player.getVolume())
+                .setPlaybackSpeed((double) playbackState.speed)
+                .setAudioTrack((long) playbackState.activeAudioTrack)
+                .setAudioTracksCount((long) playbackState.audioTracksCount)
+                .setAudioDelay(player.getAudioDelay())
+                .setSpuTrack((long) playbackState.activeSpuTrack)
+                .setSpuTracksCount((long) playbackState.spuTracksCount)
+                .setSpuDelay(player.getSpuDelay())
+                .setVideoTrack((long) player.getVideoTrack())
+                .setVideoTracksCount((long) player.getVideoTracksCount())
+                .setVideoScale((double) player.getScale())
+                .setAspectRatio(player.getAspectRatio())
+                .build();
     }
 
     long getDuration() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getLength();
+        return player.getLength();
     }
 
     int getSpuTracksCount() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getSpuTracksCount();
+        return player.getSpuTracksCount();
     }
 
     HashMap<Integer, String> getSpuTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return new HashMap<Integer, String>();
 
-        MediaPlayer.TrackDescription[] spuTracks = mediaPlayer.getSpuTracks();
+        MediaPlayer.TrackDescription[] spuTracks = player.getSpuTracks();
         HashMap<Integer, String> subtitles = new HashMap<>();
         if (spuTracks != null)
             for (MediaPlayer.TrackDescription trackDescription : spuTracks) {
@@ -380,45 +910,54 @@ final class FlutterVlcPlayer implements PlatformView {
     }
 
     void setSpuTrack(int index) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+        if (deferUntilPlaying(() -> setSpuTrack(index))) return;
 
-        mediaPlayer.setSpuTrack(index);
+        player.setSpuTrack(index);
     }
 
     int getSpuTrack() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getSpuTrack();
+        return player.getSpuTrack();
     }
 
     void setSpuDelay(long delay) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+        if (deferUntilPlaying(() -> setSpuDelay(delay))) return;
 
-        mediaPlayer.setSpuDelay(delay);
+        player.setSpuDelay(delay);
     }
 
     long getSpuDelay() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getSpuDelay();
+        return player.getSpuDelay();
     }
 
     void addSubtitleTrack(String url, boolean isSelected) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected);
+        player.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected);
     }
 
     int getAudioTracksCount() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getAudioTracksCount();
+        return player.getAudioTracksCount();
     }
 
     HashMap<Integer, String> getAudioTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return new HashMap<Integer, String>();
 
-        MediaPlayer.TrackDescription[] audioTracks = mediaPlayer.getAudioTracks();
+        MediaPlayer.TrackDescription[] audioTracks = player.getAudioTracks();
         HashMap<Integer, String> audios = new HashMap<>();
         if (audioTracks != null)
             for (MediaPlayer.TrackDescription trackDescription : audioTracks) {
@@ -429,45 +968,54 @@ final class FlutterVlcPlayer implements PlatformView {
     }
 
     void setAudioTrack(int index) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+        if (deferUntilPlaying(() -> setAudioTrack(index))) return;
 
-        mediaPlayer.setAudioTrack(index);
+        player.setAudioTrack(index);
     }
 
     int getAudioTrack() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getAudioTrack();
+        return player.getAudioTrack();
     }
 
     void setAudioDelay(long delay) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+        if (deferUntilPlaying(() -> setAudioDelay(delay))) return;
 
-        mediaPlayer.setAudioDelay(delay);
+        player.setAudioDelay(delay);
     }
 
     long getAudioDelay() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getAudioDelay();
+        return player.getAudioDelay();
     }
 
     void addAudioTrack(String url, boolean isSelected) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected);
+        player.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected);
     }
 
     int getVideoTracksCount() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getVideoTracksCount();
+        return player.getVideoTracksCount();
     }
 
     HashMap<Integer, String> getVideoTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return new HashMap<Integer, String>();
 
-        MediaPlayer.TrackDescription[] videoTracks = mediaPlayer.getVideoTracks();
+        MediaPlayer.TrackDescription[] videoTracks = player.getVideoTracks();
         HashMap<Integer, String> videos = new HashMap<>();
         if (videoTracks != null)
             for (MediaPlayer.TrackDescription trackDescription : videoTracks) {
@@ -478,44 +1026,57 @@ final class FlutterVlcPlayer implements PlatformView {
     }
 
     void setVideoTrack(int index) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+        if (deferUntilPlaying(() -> setVideoTrack(index))) return;
 
-        mediaPlayer.setVideoTrack(index);
+        player.setVideoTrack(index);
     }
 
     int getVideoTrack() {
-        if (mediaPlayer == null) return -1;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1;
 
-        return mediaPlayer.getVideoTrack();
+        return player.getVideoTrack();
     }
 
     void setVideoScale(float scale) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setScale(scale);
+        player.setScale(scale);
     }
 
     float getVideoScale() {
-        if (mediaPlayer == null) return -1.0f;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return -1.0f;
 
-        return mediaPlayer.getScale();
+        return player.getScale();
     }
 
     void setVideoAspectRatio(String aspectRatio) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setAspectRatio(aspectRatio);
+        player.setAspectRatio(aspectRatio);
     }
 
     String getVideoAspectRatio() {
-        if (mediaPlayer == null) return "";
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return "";
 
-        return mediaPlayer.getAspectRatio();
+        return player.getAspectRatio();
     }
 
     void startRendererScanning(String rendererService) {
         if (libVLC == null) return;
 
+        MainThread.run(() -> startRendererDiscoverers(rendererService));
+    }
+
+    private void startRendererDiscoverers(String rendererService) {
+        if (libVLC == null) return;
+
         //
         //  android -> chromecast -> "microdns"
         //  ios -> chromecast -> "Bonjour_renderer"
@@ -531,23 +1092,16 @@ final class FlutterVlcPlayer implements PlatformView {
                 rendererDiscoverer.setEventListener(new RendererDiscoverer.EventListener() {
                     @Override
                     public void onEvent(RendererDiscoverer.Event event) {
-                        HashMap<String, Object> eventObject = new HashMap<>();
                         RendererItem item = event.getItem();
                         switch (event.type) {
                             case RendererDiscoverer.Event.ItemAdded:
                                 rendererItems.add(item);
-                                eventObject.put("event", "attached");
-                                eventObject.put("id", item.name);
-                                eventObject.put("name", item.displayName);
-                                rendererEventSink.success(eventObject);
+                                rendererEventSink.success(rendererEvent(RENDERER_ATTACHED, item));
                                 break;
 
                             case RendererDiscoverer.Event.ItemDeleted:
                                 rendererItems.remove(item);
-                                eventObject.put("event", "detached");
-                                eventObject.put("id", item.name);
-                                eventObject.put("name", item.displayName);
-                                rendererEventSink.success(eventObject);
+                                rendererEventSink.success(rendererEvent(RENDERER_DETACHED, item));
                                 break;
 
                             default:
@@ -566,24 +1120,25 @@ final class FlutterVlcPlayer implements PlatformView {
     }
 
     void stopRendererScanning() {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
         if (isDisposed)
             return;
         //
-        for (RendererDiscoverer rendererDiscoverer : rendererDiscoverers) {
-            rendererDiscoverer.stop();
-            rendererDiscoverer.setEventListener(null);
-        }
-        rendererDiscoverers.clear();
-        rendererItems.clear();
+        MainThread.run(() -> {
+            for (RendererDiscoverer rendererDiscoverer : rendererDiscoverers) {
+                rendererDiscoverer.stop();
+                rendererDiscoverer.setEventListener(null);
+            }
+            rendererDiscoverers.clear();
+            rendererItems.clear();
+        });
         //
         // return back to default output
-        if (mediaPlayer != null) {
-            mediaPlayer.pause();
-            mediaPlayer.setRenderer(null);
-            mediaPlayer.play();
-        }
+        player.pause();
+        player.setRenderer(null);
+        player.play();
     }
 
     ArrayList<String> getAvailableRendererServices() {
@@ -597,57 +1152,129 @@ final class FlutterVlcPlayer implements PlatformView {
         return availableRendererServices;
     }
 
+    private static Messages.RendererEventMessage rendererEvent(long type, RendererItem item) {
+        return new Messages.RendererEventMessage.Builder()
+                .setType(type)
+                .setId(item.name)
+                .setName(item.displayName)
+                .build();
+    }
+
     HashMap<String, String> getRendererDevices() {
-        HashMap<String, String> renderers = new HashMap<>();
-        if (rendererItems != null)
-            for (RendererItem rendererItem : rendererItems) {
-                renderers.put(rendererItem.name, rendererItem.displayName);
-            }
-        return renderers;
+        return MainThread.call(() -> {
+            HashMap<String, String> renderers = new HashMap<>();
+            if (rendererItems != null)
+                for (RendererItem rendererItem : rendererItems) {
+                    renderers.put(rendererItem.name, rendererItem.displayName);
+                }
+            return renderers;
+        });
     }
 
     void castToRenderer(String rendererDevice) {
-        if (mediaPlayer == null) return;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
         if (isDisposed) {
             return;
         }
-        if (mediaPlayer.isPlaying())
-            mediaPlayer.pause();
+        if (player.isPlaying())
+            player.pause();
 
         // if you set it to null, it will start to render normally (i.e. locally) again
-        RendererItem rendererItem = null;
-        for (RendererItem item : rendererItems) {
-            if (item.name.equals(rendererDevice)) {
-                rendererItem = item;
-                break;
+        RendererItem rendererItem = MainThread.call(() -> {
+            for (RendererItem item : rendererItems) {
+                if (item.name.equals(rendererDevice)) {
+                    return item;
+                }
             }
-        }
-        mediaPlayer.setRenderer(rendererItem);
+            return null;
+        });
+        player.setRenderer(rendererItem);
 
         // start the playback
-        mediaPlayer.play();
+        player.play();
     }
 
     @Nullable
     String getSnapshot() {
         if (textureView == null) return null;
 
-        Bitmap bitmap = textureView.getBitmap();
-        if (bitmap == null) return null;
+        Messages.SnapshotMessage snapshot = SnapshotEncoder.INSTANCE.take(textureView, null, null, SnapshotFormat.JPEG, 100, null);
+        if (snapshot == null) return null;
+
+        return Base64.encodeToString(snapshot.getBytes(), Base64.NO_WRAP);
+    }
+
+    /**
+     * Starts sending decoded frames to Dart as set in {@code options}.
+     */
+    void startFrameTap(Messages.FrameTapMessage options) {
+        FrameChroma chroma = FrameChroma.values()[options.getChroma().intValue()];
+        FrameBackpressure backpressure = FrameBackpressure.values()[options.getBackpressure().intValue()];
+        addVideoFrameListener(frameTapDartSender, chroma, options.getMaxWidth(), options.getMaxHeight(),
+                options.getIntervalMillis(), backpressure);
+    }
+
+    /**
+     * Stops sending frames to Dart.
+     */
+    void stopFrameTap() {
+        removeVideoFrameListener(frameTapDartSender);
+    }
+
+    /**
+     * Adds a listener of the decoded frames and starts tapping them with the given settings, which
+     * replace those of the running tap if any.
+     */
+    void addVideoFrameListener(VideoFrameListener listener, FrameChroma chroma, @Nullable Long maxWidth,
+                               @Nullable Long maxHeight, long intervalMillis, FrameBackpressure backpressure) {
+        MainThread.run(() -> {
+            frameTap.addListener(listener);
+            frameTap.start(chroma, maxWidth, maxHeight, intervalMillis, backpressure);
+        });
+    }
+
+    /**
+     * Removes a listener of the decoded frames, stopping the tap if none is left.
+     */
+    void removeVideoFrameListener(VideoFrameListener listener) {
+        MainThread.run(() -> {
+            frameTap.removeListener(listener);
+            if (!frameTap.hasListeners()) {
+                log("frame tap: dropped=" + frameTap.getDroppedCount());
+                frameTap.stop();
+            }
+        });
+    }
+
+    /**
+     * Takes a snapshot scaled and encoded as set in {@code options}, and hands it to
+     * {@code result} once encoded. Only the copy of the frame needs the main thread, it is encoded
+     * by the {@link SnapshotEncoder} in the background.
+     */
+    void takeScaledSnapshot(Messages.SnapshotOptionsMessage options,
+                            Messages.NullableResult<Messages.SnapshotMessage> result) {
+        if (textureView == null) {
+            result.success(null);
+            return;
+        }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        bitmap.compress(Bitmap.CompressFormat.JPEG, 100, outputStream);
-        return Base64.encodeToString(outputStream.toByteArray(), Base64.NO_WRAP);
+        SnapshotFormat format = SnapshotFormat.values()[options.getFormat().intValue()];
+        SnapshotEncoder.INSTANCE.take(textureView, options.getMaxWidth(), options.getMaxHeight(),
+                format, options.getQuality().intValue(), options.getPath(), result);
     }
 
     Boolean startRecording(String directory) {
-        return mediaPlayer.record(directory);
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return false;
+        return player.record(directory);
     }
 
     Boolean stopRecording() {
-        if (mediaPlayer == null) return true;
-        return mediaPlayer.record(null);
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return true;
+        return player.record(null);
     }
 
     private void log(String message) {
@@ -14,45 +14,97 @@ import java.util.Map;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.view.TextureRegistry;
 import software.solid.fluttervlcplayer.Enums.DataSourceType;
+import software.solid.fluttervlcplayer.Enums.FrameBackpressure;
+import software.solid.fluttervlcplayer.Enums.FrameChroma;
 import software.solid.fluttervlcplayer.Enums.HwAcc;
+import software.solid.fluttervlcplayer.Enums.PlayerCommandType;
 
 public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
 
+    // guarded by itself, players are built on the main thread but may be used from lanes
     private final LongSparseArray<FlutterVlcPlayer> vlcPlayers = new LongSparseArray<>();
-    private FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset;
-    private FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName;
+    private volatile FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset;
+    private volatile FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName;
+    //
+    private volatile BinaryMessenger binaryMessenger;
+    private volatile boolean multiplexEvents = false;
+    private EventMultiplexer eventMultiplexer;
+    private PlayerTaskQueueMessenger taskQueueMessenger;
+    private final MediaPreloader mediaPreloader;
+    // guarded by vlcPlayers
+    private final LongSparseArray<ChannelZapper> channelZappers = new LongSparseArray<>();
+
+    FlutterVlcPlayerBuilder(Context applicationContext, TextureRegistry textureRegistry, FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset, FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName) {
+        this.keyForAsset = keyForAsset;
+        this.keyForAssetAndPackageName = keyForAssetAndPackageName;
+        this.mediaPreloader = new MediaPreloader(applicationContext, textureRegistry);
+    }
 
     void startListening(BinaryMessenger messenger) {
+        binaryMessenger = messenger;
         Messages.VlcPlayerApi.setUp(messenger, this);
     }
 
     void stopListening(BinaryMessenger messenger) {
 //        disposeAllPlayers();
         Messages.VlcPlayerApi.setUp(messenger, null);
+        mediaPreloader.dispose();
+        if (taskQueueMessenger != null) {
+            taskQueueMessenger.dispose();
+            taskQueueMessenger = null;
+        }
+        if (eventMultiplexer != null) {
+            eventMultiplexer.dispose();
+            eventMultiplexer = null;
+        }
+        binaryMessenger = null;
     }
 
     FlutterVlcPlayer build(int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry, FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset, FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName) {
         this.keyForAsset = keyForAsset;
         this.keyForAssetAndPackageName = keyForAssetAndPackageName;
         // only create view for player and attach channel events
-        FlutterVlcPlayer vlcPlayer = new FlutterVlcPlayer(viewId, context, binaryMessenger, textureRegistry);
-        vlcPlayers.append(viewId, vlcPlayer);
+        FlutterVlcPlayer vlcPlayer = new FlutterVlcPlayer(viewId, context, binaryMessenger, textureRegistry, multiplexEvents ? getEventMultiplexer(binaryMessenger) : null);
+        synchronized (vlcPlayers) {
+            vlcPlayers.append(viewId, vlcPlayer);
+        }
         return vlcPlayer;
     }
 
     private void disposeAllPlayers() {
-        for (int i = 0; i < vlcPlayers.size(); i++) {
-            vlcPlayers.valueAt(i).dispose();
+        synchronized (vlcPlayers) {
+            for (int i = 0; i < vlcPlayers.size(); i++) {
+                vlcPlayers.valueAt(i).dispose();
+            }
+            vlcPlayers.clear();
         }
-        vlcPlayers.clear();
+    }
+
+    private synchronized EventMultiplexer getEventMultiplexer(BinaryMessenger binaryMessenger) {
+        if (eventMultiplexer == null) {
+            eventMultiplexer = new EventMultiplexer(binaryMessenger);
+        }
+        return eventMultiplexer;
     }
 
     private FlutterVlcPlayer getPlayer(@NonNull Long playerId) {
-        if (vlcPlayers.get(playerId) == null) {
-            throw new Messages.FlutterError("player_not_found", "Player with id " + playerId + " not found", null);
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) {
+            throw playerNotFound(playerId);
         }
 
-        return vlcPlayers.get(playerId);
+        return player;
+    }
+
+    private static Messages.FlutterError playerNotFound(long playerId) {
+        return new Messages.FlutterError("player_not_found", "Player with id " + playerId + " not found", null);
+    }
+
+    @Nullable
+    private FlutterVlcPlayer findPlayer(long playerId) {
+        synchronized (vlcPlayers) {
+            return vlcPlayers.get(playerId);
+        }
     }
 
     @Override
@@ -67,6 +119,14 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         ArrayList<String> options = new ArrayList<>();
         if (!arg.getOptions().isEmpty())
             options.addAll(arg.getOptions());
+        long hwAcc = arg.getHwAcc() != null ? arg.getHwAcc() : HwAcc.AUTOMATIC.ordinal();
+        String mediaUrl = getMediaUrl(arg.getUri(), arg.getType(), arg.getPackageName());
+        boolean isAssetUrl = arg.getType() == DataSourceType.ASSET.ordinal();
+        MediaPreloader.Preload preload = mediaPreloader.take(mediaUrl, isAssetUrl, options, hwAcc);
+        if (preload != null) {
+            player.promote(preload, arg.getAutoPlay());
+            return;
+        }
         player.initialize(options);
 
         var mediaMessage = new Messages.SetMediaMessage();
@@ -83,36 +143,54 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @Override
     public void dispose(@NonNull Long playerId) {
         FlutterVlcPlayer player = getPlayer(playerId);
+        ChannelZapper zapper;
+        synchronized (vlcPlayers) {
+            zapper = channelZappers.get(playerId);
+            channelZappers.remove(playerId);
+        }
+        if (zapper != null) {
+            zapper.dispose();
+        }
+        Playlist playlist = player.getPlaylist();
+        if (playlist != null) {
+            player.setPlaylist(null);
+            playlist.dispose();
+        }
         player.dispose();
-        vlcPlayers.remove(playerId);
+        synchronized (vlcPlayers) {
+            vlcPlayers.remove(playerId);
+        }
     }
 
     @Override
     public void setStreamUrl(@NonNull Messages.SetMediaMessage arg) {
         var player = getPlayer(arg.getPlayerId());
 
-        String mediaUrl;
-        boolean isAssetUrl;
-        if (arg.getType() == DataSourceType.ASSET.ordinal()) {
-            String assetLookupKey;
-            if (arg.getPackageName() != null)
-                assetLookupKey = keyForAssetAndPackageName.get(arg.getUri(), arg.getPackageName());
-            else
-                assetLookupKey = keyForAsset.get(arg.getUri());
-            mediaUrl = assetLookupKey;
-            isAssetUrl = true;
-        } else {
-            mediaUrl = arg.getUri();
-            isAssetUrl = false;
-        }
+        String mediaUrl = getMediaUrl(arg.getUri(), arg.getType(), arg.getPackageName());
+        boolean isAssetUrl = arg.getType() == DataSourceType.ASSET.ordinal();
 
         if (arg.getHwAcc() == null) {
             arg.setHwAcc((long) HwAcc.AUTOMATIC.ordinal());
         }
 
+        if (player.getOptions() != null) {
+            MediaPreloader.Preload preload = mediaPreloader.take(mediaUrl, isAssetUrl, player.getOptions(), arg.getHwAcc());
+            if (preload != null) {
+                player.promote(preload, arg.getAutoPlay());
+                return;
+            }
+        }
         player.setStreamUrl(mediaUrl, isAssetUrl, arg.getAutoPlay(), arg.getHwAcc());
     }
 
+    private String getMediaUrl(String uri, long type, @Nullable String packageName) {
+        if (type != DataSourceType.ASSET.ordinal()) return uri;
+
+        if (packageName != null)
+            return keyForAssetAndPackageName.get(uri, packageName);
+        return keyForAsset.get(uri);
+    }
+
     @Override
     public void play(@NonNull Long playerId) {
         var player = getPlayer(playerId);
@@ -409,4 +487,405 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         var player = getPlayer(playerId);
         return player.stopRecording();
     }
+
+    // Events
+
+    @NonNull
+    @Override
+    public Boolean setEventMultiplexing(@NonNull Boolean enabled) {
+        // Only players created afterwards are affected, the ones already publishing into the
+        // shared channel keep doing so until they are disposed.
+        multiplexEvents = enabled;
+        if (enabled && binaryMessenger != null) {
+            getEventMultiplexer(binaryMessenger);
+        }
+        return multiplexEvents;
+    }
+
+    @Override
+    public void setEventsSubscribed(@NonNull Long playerId, @NonNull Long kind, @NonNull Boolean subscribed) {
+        final EventMultiplexer multiplexer;
+        synchronized (this) {
+            multiplexer = eventMultiplexer;
+        }
+        if (multiplexer == null) return;
+
+        MainThread.post(() -> multiplexer.setSubscribed(playerId, kind.intValue(), subscribed));
+    }
+
+    @Override
+    public void setClockAnchors(@NonNull Long playerId, @NonNull Boolean enabled) {
+        var player = getPlayer(playerId);
+        player.setClockAnchors(enabled);
+    }
+
+    @Override
+    public void setStateUpdateInterval(@NonNull Long playerId, @NonNull Long intervalMillis) {
+        var player = getPlayer(playerId);
+        player.setStateUpdateInterval(intervalMillis);
+    }
+
+    // State
+
+    @NonNull
+    @Override
+    public Messages.PlaybackStateMessage getPlaybackState(@NonNull Long playerId) {
+        return getPlayer(playerId).getPlaybackState();
+    }
+
+    @NonNull
+    @Override
+    public Messages.EventSinkMetricsMessage getEventSinkMetrics(@NonNull Long playerId) {
+        return getPlayer(playerId).getEventSinkMetrics();
+    }
+
+    // Batch
+
+    @NonNull
+    @Override
+    public List<String> executeBatch(@NonNull Long playerId, @NonNull List<Messages.PlayerCommandMessage> commands) {
+        return executeBatch(getPlayer(playerId), playerId, commands);
+    }
+
+    @NonNull
+    @Override
+    public Map<Long, String> executeBulk(@Nullable List<Long> playerIds, @NonNull List<Messages.PlayerCommandMessage> commands) {
+        if (playerIds == null) {
+            synchronized (vlcPlayers) {
+                playerIds = new ArrayList<>(vlcPlayers.size());
+                for (int i = 0; i < vlcPlayers.size(); i++) {
+                    playerIds.add(vlcPlayers.keyAt(i));
+                }
+            }
+        }
+
+        Map<Long, String> results = new HashMap<>();
+        for (Long playerId : playerIds) {
+            FlutterVlcPlayer player = findPlayer(playerId);
+            if (player == null) {
+                results.put(playerId, "Player with id " + playerId + " not found");
+                continue;
+            }
+            // one result per player, the errors of its failed commands
+            String error = null;
+            for (String result : executeBatch(player, playerId, commands)) {
+                if (result != null) {
+                    error = error == null ? result : error + "; " + result;
+                }
+            }
+            results.put(playerId, error);
+        }
+        return results;
+    }
+
+    private List<String> executeBatch(@NonNull FlutterVlcPlayer player, @NonNull Long playerId, @NonNull List<Messages.PlayerCommandMessage> commands) {
+        List<String> results = new ArrayList<>(commands.size());
+        player.beginBatch();
+        try {
+            for (Messages.PlayerCommandMessage command : commands) {
+                try {
+                    executeCommand(playerId, command);
+                    results.add(null);
+                } catch (RuntimeException e) {
+                    results.add(e.getMessage() != null ? e.getMessage() : e.toString());
+                }
+            }
+        } finally {
+            player.endBatch();
+        }
+        return results;
+    }
+
+    private void executeCommand(@NonNull Long playerId, @NonNull Messages.PlayerCommandMessage command) {
+        int type = command.getType().intValue();
+        if (type < 0 || type >= PlayerCommandType.values().length) {
+            throw new Messages.FlutterError("unknown_command", "Unknown command type " + type, null);
+        }
+        switch (PlayerCommandType.values()[type]) {
+            case SET_MEDIA:
+                var media = requireValue(command.getMedia(), "media");
+                media.setPlayerId(playerId);
+                setStreamUrl(media);
+                break;
+            case PLAY:
+                play(playerId);
+                break;
+            case PAUSE:
+                pause(playerId);
+                break;
+            case STOP:
+                stop(playerId);
+                break;
+            case SEEK_TO:
+                seekTo(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_VOLUME:
+                setVolume(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_PLAYBACK_SPEED:
+                setPlaybackSpeed(playerId, requireValue(command.getDoubleValue(), "doubleValue"));
+                break;
+            case SET_LOOPING:
+                setLooping(playerId, requireValue(command.getBoolValue(), "boolValue"));
+                break;
+            case SET_AUDIO_TRACK:
+                setAudioTrack(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_AUDIO_DELAY:
+                setAudioDelay(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_SPU_TRACK:
+                setSpuTrack(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_SPU_DELAY:
+                setSpuDelay(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_VIDEO_TRACK:
+                setVideoTrack(playerId, requireValue(command.getIntValue(), "intValue"));
+                break;
+            case SET_VIDEO_SCALE:
+                setVideoScale(playerId, requireValue(command.getDoubleValue(), "doubleValue"));
+                break;
+            case SET_VIDEO_ASPECT_RATIO:
+                setVideoAspectRatio(playerId, requireValue(command.getStringValue(), "stringValue"));
+                break;
+        }
+    }
+
+    @NonNull
+    private static <T> T requireValue(@Nullable T value, String name) {
+        if (value == null) {
+            throw new Messages.FlutterError("missing_argument", "Command needs " + name, null);
+        }
+        return value;
+    }
+
+    // Execution
+
+    @NonNull
+    @Override
+    public Boolean setBackgroundExecution(@NonNull Boolean enabled) {
+        if (binaryMessenger == null) return false;
+
+        if (enabled) {
+            if (taskQueueMessenger == null) {
+                taskQueueMessenger = new PlayerTaskQueueMessenger(binaryMessenger);
+            }
+            Messages.VlcPlayerApi.setUp(taskQueueMessenger, this);
+        } else {
+            Messages.VlcPlayerApi.setUp(binaryMessenger, this);
+        }
+        return enabled;
+    }
+
+    // Disposal
+
+    @NonNull
+    @Override
+    public Messages.DisposalMetricsMessage getDisposalMetrics() {
+        return PlayerReaper.INSTANCE.getMetrics();
+    }
+
+    // LibVLC pool
+
+    @NonNull
+    @Override
+    public Messages.LibVLCPoolMetricsMessage getLibVLCPoolMetrics() {
+        return LibVLCPool.INSTANCE.getMetrics();
+    }
+
+    // Recycling
+
+    @Override
+    public void setPlayerRecycling(@NonNull Long maxSize, @NonNull Long idleTimeoutMillis) {
+        MediaPlayerPool.INSTANCE.configure(maxSize.intValue(), idleTimeoutMillis);
+    }
+
+    // Preload
+
+    @NonNull
+    @Override
+    public Boolean preload(@NonNull Messages.PreloadMessage msg) {
+        String mediaUrl = getMediaUrl(msg.getUri(), msg.getType(), msg.getPackageName());
+        boolean isAssetUrl = msg.getType() == DataSourceType.ASSET.ordinal();
+        long hwAcc = msg.getHwAcc() != null ? msg.getHwAcc() : HwAcc.AUTOMATIC.ordinal();
+
+        return mediaPreloader.preload(mediaUrl, isAssetUrl, msg.getOptions(), hwAcc, msg.getBufferMillis(), false);
+    }
+
+    @NonNull
+    @Override
+    public Boolean cancelPreload(@NonNull String uri, @NonNull Long type, @Nullable String packageName) {
+        return mediaPreloader.cancel(getMediaUrl(uri, type, packageName));
+    }
+
+    @Override
+    public void setPreloadBudget(@NonNull Long maxPreloads, @NonNull Long maxBufferMillis) {
+        mediaPreloader.setBudget(maxPreloads.intValue(), maxBufferMillis);
+    }
+
+    // Zapping
+
+    @Override
+    public void setZapChannels(@NonNull Long playerId, @NonNull List<String> uris, @NonNull Long neighbours, @Nullable Long hwAcc) {
+        FlutterVlcPlayer player = getPlayer(playerId);
+        ChannelZapper zapper = null;
+        if (!uris.isEmpty()) {
+            zapper = new ChannelZapper(player, mediaPreloader, uris, neighbours.intValue(), hwAcc != null ? hwAcc : HwAcc.AUTOMATIC.ordinal());
+        }
+        ChannelZapper previous;
+        synchronized (vlcPlayers) {
+            previous = channelZappers.get(playerId);
+            if (zapper != null) {
+                channelZappers.put(playerId, zapper);
+            } else {
+                channelZappers.remove(playerId);
+            }
+        }
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    @Override
+    public void zapTo(@NonNull Long playerId, @NonNull Long index) {
+        getChannelZapper(playerId).zapTo(index.intValue());
+    }
+
+    @NonNull
+    @Override
+    public Messages.ZapMetricsMessage getZapMetrics(@NonNull Long playerId) {
+        return getChannelZapper(playerId).getMetrics();
+    }
+
+    private ChannelZapper getChannelZapper(long playerId) {
+        getPlayer(playerId);
+        synchronized (vlcPlayers) {
+            ChannelZapper zapper = channelZappers.get(playerId);
+            if (zapper == null) {
+                throw new Messages.FlutterError("zapping_disabled", "Player with id " + playerId + " has no zap channels", null);
+            }
+            return zapper;
+        }
+    }
+
+    @Override
+    public void playlistAdd(@NonNull Long playerId, @NonNull List<Messages.PlaylistItemMessage> items, @Nullable Long index) {
+        FlutterVlcPlayer player = getPlayer(playerId);
+        List<Playlist.Item> added = new ArrayList<>();
+        for (Messages.PlaylistItemMessage item : items) {
+            String mediaUrl = getMediaUrl(item.getUri(), item.getType(), item.getPackageName());
+            added.add(new Playlist.Item(mediaUrl, item.getType() == DataSourceType.ASSET.ordinal()));
+        }
+        Playlist playlist;
+        synchronized (vlcPlayers) {
+            playlist = player.getPlaylist();
+            if (playlist == null) {
+                playlist = new Playlist(player, mediaPreloader);
+                player.setPlaylist(playlist);
+            }
+        }
+        playlist.add(added, index);
+    }
+
+    @Override
+    public void playlistRemove(@NonNull Long playerId, @NonNull Long index) {
+        getPlaylist(playerId).remove(index.intValue());
+    }
+
+    @Override
+    public void playlistPlay(@NonNull Long playerId, @NonNull Long index) {
+        getPlaylist(playerId).play(index.intValue());
+    }
+
+    @Override
+    public void playlistClear(@NonNull Long playerId) {
+        FlutterVlcPlayer player = getPlayer(playerId);
+        Playlist playlist;
+        synchronized (vlcPlayers) {
+            playlist = player.getPlaylist();
+            player.setPlaylist(null);
+        }
+        if (playlist != null) {
+            playlist.dispose();
+        }
+    }
+
+    private Playlist getPlaylist(long playerId) {
+        Playlist playlist = getPlayer(playerId).getPlaylist();
+        if (playlist == null) {
+            throw new Messages.FlutterError("empty_playlist", "Player with id " + playerId + " has no playlist", null);
+        }
+        return playlist;
+    }
+
+    @Override
+    public void setScrubbing(@NonNull Long playerId, @NonNull Boolean scrubbing) {
+        getPlayer(playerId).setScrubbing(scrubbing);
+    }
+
+    @Override
+    public void setTrickPlay(@NonNull Long playerId, @NonNull Double rate) {
+        getPlayer(playerId).setTrickPlay(rate);
+    }
+
+    @Override
+    public void nextFrame(@NonNull Long playerId, @NonNull Messages.Result<Messages.FrameStepMessage> result) {
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) {
+            result.error(playerNotFound(playerId));
+            return;
+        }
+
+        player.stepFrame(true, result);
+    }
+
+    @Override
+    public void previousFrame(@NonNull Long playerId, @NonNull Messages.Result<Messages.FrameStepMessage> result) {
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) {
+            result.error(playerNotFound(playerId));
+            return;
+        }
+
+        player.stepFrame(false, result);
+    }
+
+    @Override
+    public void takeScaledSnapshot(@NonNull Long playerId, @NonNull Messages.SnapshotOptionsMessage options,
+                                   @NonNull Messages.NullableResult<Messages.SnapshotMessage> result) {
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) {
+            result.error(playerNotFound(playerId));
+            return;
+        }
+
+        player.takeScaledSnapshot(options, result);
+    }
+
+    @Override
+    public void startFrameTap(@NonNull Long playerId, @NonNull Messages.FrameTapMessage options) {
+        getPlayer(playerId).startFrameTap(options);
+    }
+
+    @Override
+    public void stopFrameTap(@NonNull Long playerId) {
+        getPlayer(playerId).stopFrameTap();
+    }
+
+    boolean addVideoFrameListener(long playerId, VideoFrameListener listener, FrameChroma chroma, @Nullable Long maxWidth,
+                                  @Nullable Long maxHeight, long intervalMillis, FrameBackpressure backpressure) {
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) return false;
+
+        player.addVideoFrameListener(listener, chroma, maxWidth, maxHeight, intervalMillis, backpressure);
+        return true;
+    }
+
+    void removeVideoFrameListener(long playerId, VideoFrameListener listener) {
+        FlutterVlcPlayer player = findPlayer(playerId);
+        if (player == null) return;
+
+        player.removeVideoFrameListener(listener);
+    }
 }
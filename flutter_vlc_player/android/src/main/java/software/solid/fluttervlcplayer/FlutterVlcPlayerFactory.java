@@ -27,14 +27,14 @@ public class FlutterVlcPlayerFactory extends PlatformViewFactory {
     //
     private final FlutterVlcPlayerBuilder flutterVlcPlayerBuilder;
 
-    public FlutterVlcPlayerFactory(BinaryMessenger messenger, TextureRegistry textureRegistry, KeyForAssetFn keyForAsset, KeyForAssetAndPackageName keyForAssetAndPackageName) {
+    public FlutterVlcPlayerFactory(Context applicationContext, BinaryMessenger messenger, TextureRegistry textureRegistry, KeyForAssetFn keyForAsset, KeyForAssetAndPackageName keyForAssetAndPackageName) {
         super(StandardMessageCodec.INSTANCE);
         this.messenger = messenger;
         this.textureRegistry = textureRegistry;
         this.keyForAsset = keyForAsset;
         this.keyForAssetAndPackageName = keyForAssetAndPackageName;
         //
-        flutterVlcPlayerBuilder = new FlutterVlcPlayerBuilder();
+        flutterVlcPlayerBuilder = new FlutterVlcPlayerBuilder(applicationContext, textureRegistry, keyForAsset, keyForAssetAndPackageName);
     }
 
     @NonNull
@@ -51,4 +51,8 @@ public class FlutterVlcPlayerFactory extends PlatformViewFactory {
     public void stopListening() {
         flutterVlcPlayerBuilder.stopListening(messenger);
     }
+
+    FlutterVlcPlayerBuilder getBuilder() {
+        return flutterVlcPlayerBuilder;
+    }
 }
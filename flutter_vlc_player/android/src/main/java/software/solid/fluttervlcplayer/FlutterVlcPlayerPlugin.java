@@ -1,8 +1,14 @@
 package software.solid.fluttervlcplayer;
 
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.Bundle;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 
 import io.flutter.FlutterInjector;
@@ -10,12 +16,22 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import software.solid.fluttervlcplayer.Enums.FrameBackpressure;
+import software.solid.fluttervlcplayer.Enums.FrameChroma;
+
 public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
 
     private static FlutterVlcPlayerFactory flutterVlcPlayerFactory;
     private FlutterPluginBinding flutterPluginBinding;
 
     private static final String VIEW_TYPE = "flutter_video_plugin/getVideoView";
+    // <meta-data android:name="software.solid.fluttervlcplayer.PREWARM_LIBVLC" android:value="true" />
+    // pre-warms LibVLC without options, android:resource="@array/..." with the given options.
+    private static final String PREWARM_LIBVLC = "software.solid.fluttervlcplayer.PREWARM_LIBVLC";
 
     public FlutterVlcPlayerPlugin() {
     }
@@ -30,6 +46,7 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
             //
             flutterVlcPlayerFactory =
                     new FlutterVlcPlayerFactory(
+                            flutterPluginBinding.getApplicationContext(),
                             flutterPluginBinding.getBinaryMessenger(),
                             flutterPluginBinding.getTextureRegistry(),
                             injector.flutterLoader()::getLookupKeyForAsset,
@@ -42,6 +59,7 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
                             flutterVlcPlayerFactory
                     );
             //
+            prewarmLibVLC(binding.getApplicationContext());
         }
         startListening();
     }
@@ -72,6 +90,41 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
     public void onDetachedFromActivity() {
     }
 
+    // frame tap
+
+    /**
+     * Adds a listener of the decoded frames of the player {@code playerId}, the view id of its
+     * VlcPlayer widget, and starts tapping them: every {@code intervalMillis} a frame fitting in
+     * {@code maxWidth} x {@code maxHeight}, each unbounded if null, in {@code chroma}. The settings
+     * are shared with the other listeners of the player, Dart's included, and replace theirs.
+     *
+     * <p>The listener is called on the background thread of the player's tap, never on the main
+     * thread; see {@link VideoFrameListener}. Can be called from any thread.
+     *
+     * @return false if there is no such player.
+     */
+    public static boolean addVideoFrameListener(long playerId, @NonNull VideoFrameListener listener,
+                                                @NonNull FrameChroma chroma, @Nullable Long maxWidth,
+                                                @Nullable Long maxHeight, long intervalMillis,
+                                                @NonNull FrameBackpressure backpressure) {
+        FlutterVlcPlayerFactory factory = flutterVlcPlayerFactory;
+        if (factory == null) return false;
+
+        return factory.getBuilder().addVideoFrameListener(playerId, listener, chroma, maxWidth, maxHeight,
+                intervalMillis, backpressure);
+    }
+
+    /**
+     * Removes a listener added with {@link #addVideoFrameListener}, stopping the tap of the player
+     * if no listener is left. Can be called from any thread.
+     */
+    public static void removeVideoFrameListener(long playerId, @NonNull VideoFrameListener listener) {
+        FlutterVlcPlayerFactory factory = flutterVlcPlayerFactory;
+        if (factory == null) return;
+
+        factory.getBuilder().removeVideoFrameListener(playerId, listener);
+    }
+
     // extra methods
 
     private static void startListening() {
@@ -83,6 +136,37 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
         if (flutterVlcPlayerFactory != null) {
             flutterVlcPlayerFactory.stopListening();
             flutterVlcPlayerFactory = null;
+            LibVLCPool.INSTANCE.releasePrewarmed();
+        }
+    }
+
+    /**
+     * Creates the LibVLC instance of the option set configured in the application manifest in the
+     * background, if any, for the first player created with these options.
+     */
+    private static void prewarmLibVLC(Context context) {
+        Bundle metaData;
+        try {
+            ApplicationInfo info = context.getPackageManager().getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+            metaData = info.metaData;
+        } catch (PackageManager.NameNotFoundException e) {
+            return;
+        }
+        if (metaData == null || !metaData.containsKey(PREWARM_LIBVLC)) return;
+
+        List<String> options = new ArrayList<>();
+        Object value = metaData.get(PREWARM_LIBVLC);
+        if (value instanceof Integer) {
+            // android:resource is read as the id of a string array
+            try {
+                options.addAll(Arrays.asList(context.getResources().getStringArray((Integer) value)));
+            } catch (Exception e) {
+                Log.w("FlutterVlcPlayerPlugin", "Invalid " + PREWARM_LIBVLC + " options", e);
+                return;
+            }
+        } else if (!Boolean.TRUE.equals(value)) {
+            return;
         }
+        LibVLCPool.INSTANCE.prewarm(context, options);
     }
 }
@@ -0,0 +1,327 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.TextureView;
+
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.MediaPlayer;
+import org.videolan.libvlc.interfaces.IMedia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Steps a paused player frame by frame, forward and backward.
+ *
+ * <p>libVLC can't step backward: it has to seek to the previous keyframe and decode up to the
+ * frame. libvlc-android exposes no video callbacks either, so the frames are taken from the texture
+ * the player renders into: they are copied, downscaled to {@link #MAX_FRAME_SIZE}, on the main
+ * thread by the {@link SnapshotEncoder}, and JPEG-encoded on a background thread into a ring of the
+ * last {@link #MAX_FRAMES} contiguous frames. A step to a frame in the ring is served from it
+ * instantly, the image being shown over the video while the player stays where it is. Other steps
+ * are precise seeks by one frame duration through the {@link SeekCoalescer}, and the frames they
+ * land on fill the ring, in either direction.
+ *
+ * <p>Once a player has been stepped, the ring is also filled while it plays at the normal rate, a
+ * frame being copied every frame duration at the position extrapolated from the last reported time,
+ * so that stepping back right after pausing is served from the ring. Players that are never stepped
+ * don't pay for the copies. Frames are skipped, and the ring started over, while the encoder falls
+ * behind.
+ *
+ * <p>The result of a step is handed over on the main thread, or on the encoder thread once its
+ * image is encoded, so neither thread ever waits for an encoding.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class FrameStepper implements Runnable {
+    static final int MAX_FRAMES = 60;
+    static final long MAX_FRAME_SIZE = 640;
+    // 25 fps, when the frame rate of the video track is unknown
+    static final long DEFAULT_FRAME_MILLIS = 40;
+
+    private static final String TAG = "FrameStepper";
+    private static final int JPEG_QUALITY = 85;
+    // frames waiting for the encoder beyond which playback frames are skipped
+    private static final int MAX_PENDING_FRAMES = 3;
+    // encodes the captured frames, shared by all players
+    private static final ThreadPoolExecutor encoder = new ThreadPoolExecutor(1, 1,
+            PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "VlcFrameEncoder"));
+
+    static {
+        encoder.allowCoreThreadTimeOut(true);
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final SeekCoalescer seekCoalescer;
+    // contiguous frames in time order
+    private final List<Frame> frames = new ArrayList<>();
+    // the frame shown, -1 while a seek is pending or the player plays
+    private int cursor = -1;
+    // the frame the player displays itself
+    private int liveIndex = -1;
+    // the target of the pending seek, -1 if none
+    private long seekTime = -1;
+    // whether the player has been stepped, which turns the recording of playback frames on
+    private boolean armed = false;
+    @Nullable
+    private MediaPlayer recordedPlayer;
+    @Nullable
+    private TextureView recordedView;
+    // the last reported time and when it was reported, to extrapolate the position of the frames
+    private long anchorTime = -1;
+    private long anchorNanos;
+
+    FrameStepper(SeekCoalescer seekCoalescer) {
+        this.seekCoalescer = seekCoalescer;
+    }
+
+    /**
+     * Pauses the player, steps one frame {@code forward} or backward and hands the frame moved to
+     * over to {@code result}.
+     */
+    void step(MediaPlayer mediaPlayer, TextureView view, boolean forward,
+              Messages.Result<Messages.FrameStepMessage> result) {
+        armed = true;
+        stopRecording();
+        if (mediaPlayer.isPlaying()) {
+            mediaPlayer.pause();
+        }
+        if (cursor < 0) {
+            cursor = capture(mediaPlayer, view, mediaPlayer.getTime());
+        }
+        if (cursor >= 0) {
+            int index = cursor + (forward ? 1 : -1);
+            if (index >= 0 && index < frames.size()) {
+                cursor = index;
+                Frame frame = frames.get(index);
+                reply(new Step(frame.time, index == liveIndex ? null : frame.image), result);
+                return;
+            }
+        }
+
+        long time = cursor >= 0 ? frames.get(cursor).time
+                : seekTime >= 0 ? seekTime : Math.max(0, mediaPlayer.getTime());
+        long frameMillis = getFrameMillis(mediaPlayer);
+        seekTime = Math.max(0, forward ? time + frameMillis : time - frameMillis);
+        cursor = -1;
+        liveIndex = -1;
+        seekCoalescer.request(seekTime);
+        reply(new Step(seekTime, null), result);
+    }
+
+    /**
+     * Records the time the player reported, to extrapolate the position of the playback frames.
+     */
+    void onTimeChanged(long time) {
+        anchorTime = time;
+        anchorNanos = System.nanoTime();
+    }
+
+    /**
+     * Forgets the frame shown when the player starts playing, and records the frames it plays if
+     * it has been stepped.
+     */
+    void onPlaying(MediaPlayer mediaPlayer, TextureView view) {
+        reset();
+        if (!armed) return;
+
+        recordedPlayer = mediaPlayer;
+        recordedView = view;
+        handler.removeCallbacks(this);
+        handler.post(this);
+    }
+
+    /**
+     * Forgets the frame shown, e.g. when the player seeks. The ring is kept, and reused if the
+     * player stops next to it.
+     */
+    void reset() {
+        cursor = -1;
+        liveIndex = -1;
+        seekTime = -1;
+    }
+
+    /**
+     * Drops the ring and stops recording, e.g. when the media changes.
+     */
+    void clear() {
+        reset();
+        stopRecording();
+        anchorTime = -1;
+        for (Frame frame : frames) {
+            frame.image.cancel(false);
+        }
+        frames.clear();
+    }
+
+    /**
+     * Records the frame shown while the player plays, once per frame duration.
+     */
+    @Override
+    public void run() {
+        MediaPlayer mediaPlayer = recordedPlayer;
+        TextureView view = recordedView;
+        if (mediaPlayer == null || view == null) return;
+        if (!mediaPlayer.isPlaying()) {
+            stopRecording();
+            return;
+        }
+
+        long frameMillis = getFrameMillis(mediaPlayer);
+        handler.postDelayed(this, frameMillis);
+        if (anchorTime < 0 || mediaPlayer.getRate() != 1f || encoder.getQueue().size() >= MAX_PENDING_FRAMES) {
+            return;
+        }
+
+        capture(mediaPlayer, view, anchorTime + (System.nanoTime() - anchorNanos) / 1000000);
+        // the player moves on, the frame it shows is looked up again when it pauses
+        liveIndex = -1;
+    }
+
+    private void stopRecording() {
+        handler.removeCallbacks(this);
+        recordedPlayer = null;
+        recordedView = null;
+    }
+
+    /**
+     * Adds the frame the player displays at {@code time} to the ring and returns its index, or -1
+     * if it is not displayed yet.
+     */
+    private int capture(MediaPlayer mediaPlayer, TextureView view, long time) {
+        // the texture still shows the frame before the pending seek
+        if (seekCoalescer.isSeeking()) return -1;
+        if (time < 0) return -1;
+
+        long frameMillis = getFrameMillis(mediaPlayer);
+        for (int i = 0; i < frames.size(); i++) {
+            if (Math.abs(frames.get(i).time - time) < frameMillis / 2) {
+                return setLive(i);
+            }
+        }
+
+        final Bitmap bitmap = SnapshotEncoder.INSTANCE.capture(view, MAX_FRAME_SIZE, MAX_FRAME_SIZE);
+        if (bitmap == null) return -1;
+
+        Frame frame = new Frame(time, encoder.submit(() -> encode(bitmap)));
+        long maxGap = frameMillis * 3 / 2;
+        if (!frames.isEmpty() && time > last().time && time - last().time <= maxGap) {
+            frames.add(frame);
+            if (frames.size() > MAX_FRAMES) {
+                frames.remove(0).image.cancel(false);
+            }
+            return setLive(frames.size() - 1);
+        }
+        if (!frames.isEmpty() && time < frames.get(0).time && frames.get(0).time - time <= maxGap) {
+            frames.add(0, frame);
+            if (frames.size() > MAX_FRAMES) {
+                frames.remove(frames.size() - 1).image.cancel(false);
+            }
+            return setLive(0);
+        }
+        // not next to the ring, which is started over
+        for (Frame dropped : frames) {
+            dropped.image.cancel(false);
+        }
+        frames.clear();
+        frames.add(frame);
+        return setLive(0);
+    }
+
+    private int setLive(int index) {
+        liveIndex = index;
+        seekTime = -1;
+        return index;
+    }
+
+    private Frame last() {
+        return frames.get(frames.size() - 1);
+    }
+
+    private static long getFrameMillis(MediaPlayer mediaPlayer) {
+        IMedia.VideoTrack track = mediaPlayer.getCurrentVideoTrack();
+        if (track == null || track.frameRateNum <= 0 || track.frameRateDen <= 0) {
+            return DEFAULT_FRAME_MILLIS;
+        }
+        return Math.max(1, 1000L * track.frameRateDen / track.frameRateNum);
+    }
+
+    private static byte[] encode(Bitmap bitmap) {
+        try {
+            return SnapshotEncoder.INSTANCE.encode(bitmap, SnapshotFormat.JPEG, JPEG_QUALITY);
+        } finally {
+            SnapshotEncoder.INSTANCE.recycle(bitmap);
+        }
+    }
+
+    /**
+     * Hands {@code step} over right away if it has no image, or after its image is encoded:
+     * the encoder runs its tasks in order, so the image is done by the time the reply runs.
+     */
+    private static void reply(Step step, Messages.Result<Messages.FrameStepMessage> result) {
+        if (step.image == null) {
+            result.success(step.toMessage());
+            return;
+        }
+        encoder.execute(() -> result.success(step.toMessage()));
+    }
+
+    private static final class Frame {
+        final long time;
+        final Future<byte[]> image;
+
+        Frame(long time, Future<byte[]> image) {
+            this.time = time;
+            this.image = image;
+        }
+    }
+
+    /**
+     * The frame a step moved to, and its image if it is served from the ring.
+     */
+    static final class Step {
+        final long position;
+        @Nullable
+        final Future<byte[]> image;
+
+        Step(long position, @Nullable Future<byte[]> image) {
+            this.position = position;
+            this.image = image;
+        }
+
+        /**
+         * Builds the reply, once the image is encoded.
+         */
+        Messages.FrameStepMessage toMessage() {
+            byte[] bytes = null;
+            if (image != null) {
+                try {
+                    bytes = image.get();
+                } catch (ExecutionException e) {
+                    Log.w(TAG, "Encoding a frame failed", e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (CancellationException e) {
+                    // the ring was dropped meanwhile
+                }
+            }
+            return new Messages.FrameStepMessage.Builder()
+                    .setPosition(position)
+                    .setFrame(bytes)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.TextureView;
+
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import software.solid.fluttervlcplayer.Enums.FrameBackpressure;
+import software.solid.fluttervlcplayer.Enums.FrameChroma;
+
+/**
+ * Taps the decoded video of a player for on-device analytics, e.g. motion detection: every
+ * interval a frame, downscaled and in RGBA or I420, is handed to the {@link VideoFrameListener}s.
+ *
+ * <p>libvlc-android exposes no video callbacks, so the frames are taken from the texture the player
+ * renders into: it is copied, scaled, on the main thread by the {@link SnapshotEncoder}, and
+ * converted into a direct {@link ByteBuffer} from a pool of {@link #MAX_BUFFERS} on a background
+ * thread of the tap, where the listeners are called. Each tap has its own thread, so a slow listener
+ * only holds back the frames of its player. A buffer starts with a {@link VideoFrame#HEADER_SIZE}
+ * bytes header (little-endian width, height and chroma as int32, 4 reserved bytes and the position
+ * in milliseconds as int64), followed by the pixels: RGBA rows, or the Y, U and V planes, the
+ * chroma planes being half the size rounded up.
+ *
+ * <p>At most one captured frame waits for the background thread. With
+ * {@link FrameBackpressure#DROP_NEWEST}, no frame is captured while one waits; with
+ * {@link FrameBackpressure#KEEP_LATEST}, the new frame replaces the waiting one.
+ *
+ * <p>{@link #start} and {@link #stop} must be called on the main thread, listeners may be added and
+ * removed from any thread. The settings are shared by all the listeners, the latest ones apply.
+ */
+final class FrameTap implements Runnable {
+    static final int HEADER_SIZE = VideoFrame.HEADER_SIZE;
+    static final int MAX_BUFFERS = 3;
+    static final long MIN_INTERVAL_MILLIS = 33;
+
+    private static final String TAG = "FrameTap";
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final FlutterVlcPlayer player;
+    private final TextureView view;
+    private final List<VideoFrameListener> listeners = new CopyOnWriteArrayList<>();
+    // converts and delivers the frames of this tap only, its thread stopping while idle
+    private final ThreadPoolExecutor executor;
+    // main thread only
+    private boolean active = false;
+    private FrameChroma chroma = FrameChroma.RGBA;
+    @Nullable
+    private Long maxWidth;
+    @Nullable
+    private Long maxHeight;
+    private long intervalMillis;
+    private FrameBackpressure backpressure = FrameBackpressure.DROP_NEWEST;
+    // guarded by this
+    private Capture pending;
+    private boolean draining = false;
+    private final ArrayDeque<ByteBuffer> buffers = new ArrayDeque<>();
+    private long droppedCount = 0;
+    // background thread only
+    private int[] pixels = new int[0];
+
+    FrameTap(FlutterVlcPlayer player, TextureView view, long playerId) {
+        this.player = player;
+        this.view = view;
+        executor = new ThreadPoolExecutor(1, 1, PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "VlcFrameTap-" + playerId));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    void addListener(VideoFrameListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(VideoFrameListener listener) {
+        listeners.remove(listener);
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Starts tapping a frame every {@code intervalMillis}, fitting in {@code maxWidth} x
+     * {@code maxHeight}, each unbounded if null, or changes the settings of the running tap.
+     */
+    void start(FrameChroma chroma, @Nullable Long maxWidth, @Nullable Long maxHeight, long intervalMillis,
+               FrameBackpressure backpressure) {
+        this.chroma = chroma;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.intervalMillis = Math.max(MIN_INTERVAL_MILLIS, intervalMillis);
+        this.backpressure = backpressure;
+        handler.removeCallbacks(this);
+        active = true;
+        handler.post(this);
+    }
+
+    void stop() {
+        active = false;
+        handler.removeCallbacks(this);
+        Capture dropped;
+        synchronized (this) {
+            dropped = pending;
+            pending = null;
+        }
+        if (dropped != null) {
+            SnapshotEncoder.INSTANCE.recycle(dropped.bitmap);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (!active) return;
+
+        handler.postDelayed(this, intervalMillis);
+        if (backpressure == FrameBackpressure.DROP_NEWEST) {
+            synchronized (this) {
+                if (pending != null) {
+                    droppedCount++;
+                    return;
+                }
+            }
+        }
+
+        long position = player.getPosition();
+        Bitmap bitmap = SnapshotEncoder.INSTANCE.capture(view, maxWidth, maxHeight);
+        if (bitmap == null) return;
+
+        offer(new Capture(bitmap, chroma, position));
+    }
+
+    private void offer(Capture capture) {
+        Capture replaced;
+        synchronized (this) {
+            replaced = pending;
+            pending = capture;
+            if (replaced != null) {
+                droppedCount++;
+            }
+            if (!draining) {
+                draining = true;
+                executor.execute(this::drain);
+            }
+        }
+        if (replaced != null) {
+            SnapshotEncoder.INSTANCE.recycle(replaced.bitmap);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Capture capture;
+            synchronized (this) {
+                capture = pending;
+                pending = null;
+                if (capture == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                deliver(capture);
+            } catch (RuntimeException e) {
+                Log.w(TAG, "Tapping a frame failed", e);
+            }
+        }
+    }
+
+    private void deliver(Capture capture) {
+        Bitmap bitmap = capture.bitmap;
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        ByteBuffer buffer;
+        try {
+            buffer = obtainBuffer(HEADER_SIZE + getPixelsSize(capture.chroma, width, height));
+            buffer.putInt(0, width);
+            buffer.putInt(4, height);
+            buffer.putInt(8, capture.chroma.ordinal());
+            buffer.putInt(12, 0);
+            buffer.putLong(16, capture.position);
+            buffer.position(HEADER_SIZE);
+            if (capture.chroma == FrameChroma.I420) {
+                writeI420(bitmap, buffer);
+            } else {
+                bitmap.copyPixelsToBuffer(buffer);
+            }
+            buffer.position(0);
+        } finally {
+            SnapshotEncoder.INSTANCE.recycle(bitmap);
+        }
+
+        VideoFrame frame = new VideoFrame(width, height, capture.chroma, capture.position, buffer);
+        for (VideoFrameListener listener : listeners) {
+            try {
+                listener.onFrame(frame);
+            } catch (RuntimeException e) {
+                Log.w(TAG, "A frame listener failed", e);
+            }
+        }
+        recycle(buffer);
+    }
+
+    private static int getPixelsSize(FrameChroma chroma, int width, int height) {
+        if (chroma == FrameChroma.I420) {
+            return width * height + 2 * ((width + 1) / 2) * ((height + 1) / 2);
+        }
+        return width * height * 4;
+    }
+
+    /**
+     * Converts {@code bitmap} to I420 with the BT.601 limited range coefficients, each chroma
+     * sample averaging its 2x2 block. Called on the background thread only.
+     */
+    private void writeI420(Bitmap bitmap, ByteBuffer buffer) {
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        if (pixels.length < width * height) {
+            pixels = new int[width * height];
+        }
+        bitmap.getPixels(pixels, 0, width, 0, 0, width, height);
+
+        int chromaWidth = (width + 1) / 2;
+        int chromaHeight = (height + 1) / 2;
+        int yOffset = HEADER_SIZE;
+        int uOffset = yOffset + width * height;
+        int vOffset = uOffset + chromaWidth * chromaHeight;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int color = pixels[y * width + x];
+                int luma = (66 * Color.red(color) + 129 * Color.green(color) + 25 * Color.blue(color) + 128) >> 8;
+                buffer.put(yOffset + y * width + x, (byte) (luma + 16));
+            }
+        }
+        for (int cy = 0; cy < chromaHeight; cy++) {
+            for (int cx = 0; cx < chromaWidth; cx++) {
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                int count = 0;
+                for (int y = cy * 2; y < Math.min(cy * 2 + 2, height); y++) {
+                    for (int x = cx * 2; x < Math.min(cx * 2 + 2, width); x++) {
+                        int color = pixels[y * width + x];
+                        r += Color.red(color);
+                        g += Color.green(color);
+                        b += Color.blue(color);
+                        count++;
+                    }
+                }
+                r /= count;
+                g /= count;
+                b /= count;
+                int u = ((-38 * r - 74 * g + 112 * b + 128) >> 8) + 128;
+                int v = ((112 * r - 94 * g - 18 * b + 128) >> 8) + 128;
+                buffer.put(uOffset + cy * chromaWidth + cx, (byte) u);
+                buffer.put(vOffset + cy * chromaWidth + cx, (byte) v);
+            }
+        }
+    }
+
+    private synchronized ByteBuffer obtainBuffer(int size) {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.capacity() == size) {
+                buffers.remove(buffer);
+                buffer.clear();
+                return buffer;
+            }
+        }
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private synchronized void recycle(ByteBuffer buffer) {
+        buffers.addLast(buffer);
+        if (buffers.size() > MAX_BUFFERS) {
+            buffers.pollFirst();
+        }
+    }
+
+    private static final class Capture {
+        final Bitmap bitmap;
+        final FrameChroma chroma;
+        final long position;
+
+        Capture(Bitmap bitmap, FrameChroma chroma, long position) {
+            this.bitmap = bitmap;
+            this.chroma = chroma;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Sends the frames to Dart on a binary message channel, one at a time: frames tapped while Dart
+     * has not replied to the previous one are dropped.
+     */
+    static final class DartSender implements VideoFrameListener {
+        private final BinaryMessenger messenger;
+        private final String channel;
+        private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+        DartSender(BinaryMessenger messenger, String channel) {
+            this.messenger = messenger;
+            this.channel = channel;
+        }
+
+        @Override
+        public void onFrame(VideoFrame frame) {
+            if (!inFlight.compareAndSet(false, true)) return;
+
+            ByteBuffer buffer = frame.getWritableBuffer();
+            // the messenger copies the buffer up to its position before returning, so it can be
+            // reused right after
+            MainThread.run(() -> {
+                buffer.position(buffer.capacity());
+                messenger.send(channel, buffer, reply -> inFlight.set(false));
+                buffer.position(0);
+            });
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.LibVLC;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shares one {@link LibVLC} instance among all players created with an identical option list.
+ *
+ * <p>Creating a LibVLC instance loads the modules and allocates a full libVLC instance, which
+ * costs tens of MB and ~100 ms per player. Instances are reference counted: {@link #acquire}
+ * creates the instance for an option list only if none is alive, and {@link #release} releases it
+ * once the last player using it is gone. The option list is compared as is, including its order.
+ *
+ * <p>An instance can be pre-warmed with {@link #prewarm}: it is created on a background thread and
+ * handed over to the first player that acquires it with the same options.
+ *
+ * <p>Instances are created outside of the lock, so creating one does not hold back the players
+ * acquiring or releasing other ones. Players acquiring an instance that is being created wait for
+ * it instead of creating a second one.
+ *
+ * <p>The time and native heap it took to create each instance are measured, and every player that
+ * gets a shared instance adds the startup time and native memory it saved to the totals reported
+ * by {@link #getMetrics}; with debug logging on each of them is logged as well.
+ *
+ * <p>This class is thread-safe.
+ */
+final class LibVLCPool {
+    static final LibVLCPool INSTANCE = new LibVLCPool();
+
+    private static final String TAG = "LibVLCPool";
+
+    private final boolean debug = false;
+    // guarded by this
+    private final Map<List<String>, Entry> entries = new HashMap<>();
+    // the option lists whose instance is being created
+    private final Set<List<String>> creating = new HashSet<>();
+    private long sharedAcquisitions;
+    private long startupMillisSaved;
+    private long nativeBytesSaved;
+
+    private LibVLCPool() {
+    }
+
+    /**
+     * Creates the LibVLC instance for {@code options} on a background thread, so that the first
+     * player created with these options does not pay for loading the native libraries and
+     * initializing the modules. The pool keeps the instance until that player acquires it, or
+     * until {@link #releasePrewarmed} is called.
+     */
+    void prewarm(Context context, List<String> options) {
+        final Context appContext = context.getApplicationContext();
+        new Thread(() -> {
+            synchronized (this) {
+                if (entries.containsKey(options) || creating.contains(options)) return;
+            }
+
+            LibVLC libVLC = acquire(appContext, options);
+            synchronized (this) {
+                Entry entry = findEntry(libVLC);
+                if (!entry.prewarmed) {
+                    entry.prewarmed = true;
+                    return;
+                }
+            }
+            // pre-warmed twice, the pool keeps a single reference
+            release(libVLC);
+        }, "VlcPrewarm").start();
+    }
+
+    /**
+     * Drops the reference the pool holds to pre-warmed instances that no player acquired.
+     */
+    void releasePrewarmed() {
+        List<LibVLC> released = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : new ArrayList<>(entries.values())) {
+                if (!entry.prewarmed) continue;
+
+                entry.prewarmed = false;
+                if (--entry.references == 0) {
+                    entries.remove(entry.options);
+                    released.add(entry.libVLC);
+                }
+            }
+        }
+        for (LibVLC libVLC : released) {
+            libVLC.release();
+        }
+    }
+
+    /**
+     * Returns the LibVLC instance for {@code options}, creating it if no player uses it yet. Every
+     * call must be balanced by a call to {@link #release}.
+     */
+    @NonNull
+    LibVLC acquire(Context context, List<String> options) {
+        List<String> key = new ArrayList<>(options);
+        synchronized (this) {
+            boolean interrupted = false;
+            while (creating.contains(key)) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            LibVLC shared = acquireExisting(key);
+            if (shared != null) return shared;
+
+            creating.add(key);
+        }
+
+        // loading the modules takes ~100 ms, the instance is only published under the lock
+        Entry entry = null;
+        try {
+            long nativeBefore = Debug.getNativeHeapAllocatedSize();
+            long start = SystemClock.elapsedRealtime();
+            LibVLC libVLC = new LibVLC(context.getApplicationContext(), key);
+            entry = new Entry(libVLC, key);
+            entry.createMillis = SystemClock.elapsedRealtime() - start;
+            entry.nativeBytes = Math.max(0, Debug.getNativeHeapAllocatedSize() - nativeBefore);
+            log("Created LibVLC in " + entry.createMillis + " ms, " + entry.nativeBytes / 1024 + " KB");
+            return libVLC;
+        } finally {
+            synchronized (this) {
+                if (entry != null) {
+                    entries.put(key, entry);
+                }
+                creating.remove(key);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the instance for {@code key} with a new reference to it, or null if there is none.
+     */
+    @Nullable
+    private LibVLC acquireExisting(List<String> key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.prewarmed) {
+            // the reference of the pool is handed over to the player
+            entry.prewarmed = false;
+            log("Handed over pre-warmed LibVLC, created in " + entry.createMillis + " ms");
+            return entry.libVLC;
+        }
+        entry.references++;
+        sharedAcquisitions++;
+        startupMillisSaved += entry.createMillis;
+        nativeBytesSaved += entry.nativeBytes;
+        log("Shared LibVLC (" + entry.references + " players), saved " + entry.createMillis
+                + " ms and " + entry.nativeBytes / 1024 + " KB; total " + sharedAcquisitions
+                + " players, " + startupMillisSaved + " ms, " + nativeBytesSaved / 1024 + " KB");
+        return entry.libVLC;
+    }
+
+    /**
+     * Drops a reference to {@code libVLC} and releases it when it was the last one.
+     */
+    void release(@Nullable LibVLC libVLC) {
+        if (libVLC == null) return;
+
+        synchronized (this) {
+            Entry entry = findEntry(libVLC);
+            if (entry == null) {
+                Log.w(TAG, "Released a LibVLC that is not in the pool");
+                return;
+            }
+            if (--entry.references > 0) return;
+
+            entries.remove(entry.options);
+        }
+        // releasing blocks while libVLC unloads, outside of the lock
+        libVLC.release();
+    }
+
+    @Nullable
+    private Entry findEntry(LibVLC libVLC) {
+        for (Entry entry : entries.values()) {
+            if (entry.libVLC == libVLC) return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of instances alive with the time and native heap it took to create them,
+     * and the totals saved by the players that shared an instance.
+     */
+    synchronized Messages.LibVLCPoolMetricsMessage getMetrics() {
+        long createMillis = 0;
+        long nativeBytes = 0;
+        for (Entry entry : entries.values()) {
+            createMillis += entry.createMillis;
+            nativeBytes += entry.nativeBytes;
+        }
+        return new Messages.LibVLCPoolMetricsMessage.Builder()
+                .setInstances((long) entries.size())
+                .setCreateMillis(createMillis)
+                .setNativeBytes(nativeBytes)
+                .setSharedAcquisitions(sharedAcquisitions)
+                .setStartupMillisSaved(startupMillisSaved)
+                .setNativeBytesSaved(nativeBytesSaved)
+                .build();
+    }
+
+    private void log(String message) {
+        if (debug) {
+            Log.d(TAG, message);
+        }
+    }
+
+    private static final class Entry {
+        final LibVLC libVLC;
+        final List<String> options;
+        int references = 1;
+        // whether one of the references is held by the pool until a player acquires it
+        boolean prewarmed;
+        long createMillis;
+        long nativeBytes;
+
+        Entry(LibVLC libVLC, List<String> options) {
+            this.libVLC = libVLC;
+            this.options = options;
+        }
+    }
+}
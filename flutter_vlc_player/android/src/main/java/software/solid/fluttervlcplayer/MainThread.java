@@ -0,0 +1,72 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs the parts of player commands that need the main thread (views, event sinks, Choreographer
+ * and the main thread only state caches) when the commands themselves run on a background thread.
+ *
+ * <p>On the main thread everything runs inline, so the same code works in both execution modes.
+ */
+final class MainThread {
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+
+    private MainThread() {
+    }
+
+    static boolean isCurrent() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Runs {@code runnable} on the main thread, without waiting for it when called from another
+     * thread.
+     */
+    static void post(Runnable runnable) {
+        if (isCurrent()) {
+            runnable.run();
+        } else {
+            handler.post(runnable);
+        }
+    }
+
+    /**
+     * Runs {@code runnable} on the main thread and waits for it.
+     */
+    static void run(Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code callable} on the main thread, waits for it and returns its result. Runtime
+     * exceptions are rethrown on the calling thread.
+     */
+    static <T> T call(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<>(callable);
+        if (isCurrent()) {
+            task.run();
+        } else {
+            handler.post(task);
+        }
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
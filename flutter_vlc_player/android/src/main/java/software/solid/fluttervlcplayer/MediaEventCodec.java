@@ -0,0 +1,128 @@
+package software.solid.fluttervlcplayer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+/**
+ * A {@link StandardMessageCodec} for the media and renderer event channels.
+ *
+ * <p>Events are written in the format of the Pigeon generated codec of {@link Messages}, so the
+ * Dart side decodes them as {@code MediaEventMessage} and {@code RendererEventMessage}: the
+ * custom type tag followed by the positional list of fields. {@link MediaEventRecord}s are
+ * written straight from their primitive fields, without building a
+ * {@link Messages.MediaEventMessage} and boxing its values first. Fields that are not part of the
+ * event type are written as null, exactly as the event maps used to omit them.
+ */
+final class MediaEventCodec extends StandardMessageCodec {
+    static final MediaEventCodec INSTANCE = new MediaEventCodec();
+
+    // Custom type tags of Messages.PigeonCodec, must match the generated code.
+    private static final int MEDIA_EVENT_MESSAGE = 134;
+    private static final int RENDERER_EVENT_MESSAGE = 135;
+    private static final int MEDIA_EVENT_FIELDS = 16;
+
+    // Value types of the standard message codec.
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 6;
+    private static final byte STRING = 7;
+    private static final byte LIST = 12;
+
+    private MediaEventCodec() {
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+        if (value instanceof MediaEventRecord) {
+            writeRecord(stream, (MediaEventRecord) value);
+        } else if (value instanceof Messages.MediaEventMessage) {
+            stream.write(MEDIA_EVENT_MESSAGE);
+            writeValue(stream, ((Messages.MediaEventMessage) value).toList());
+        } else if (value instanceof Messages.RendererEventMessage) {
+            stream.write(RENDERER_EVENT_MESSAGE);
+            writeValue(stream, ((Messages.RendererEventMessage) value).toList());
+        } else {
+            super.writeValue(stream, value);
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream stream, MediaEventRecord record) {
+        final boolean playing = record.type == MediaEventRecord.PLAYING;
+        final boolean timeChanged = record.type == MediaEventRecord.TIME_CHANGED;
+        final boolean withState = playing || timeChanged;
+        final boolean clockAnchor = record.type == MediaEventRecord.CLOCK_ANCHOR;
+        final boolean withPosition = timeChanged || clockAnchor || record.type == MediaEventRecord.ENDED;
+        final boolean recording = record.type == MediaEventRecord.RECORDING;
+        final boolean playlistItemChanged = record.type == MediaEventRecord.PLAYLIST_ITEM_CHANGED;
+
+        stream.write(MEDIA_EVENT_MESSAGE);
+        stream.write(LIST);
+        writeSize(stream, MEDIA_EVENT_FIELDS);
+        writeInt(stream, record.type, true);
+        // width, height, speed
+        writeInt(stream, record.width, withState);
+        writeInt(stream, record.height, withState);
+        writeDouble(stream, record.speed, withState || clockAnchor);
+        // position, duration, buffer
+        writeLong(stream, record.position, withPosition);
+        writeLong(stream, record.duration, withState);
+        writeDouble(stream, record.buffer, timeChanged);
+        // audioTracksCount, activeAudioTrack, spuTracksCount, activeSpuTrack
+        writeInt(stream, record.audioTracksCount, withState);
+        writeInt(stream, record.activeAudioTrack, withState);
+        writeInt(stream, record.spuTracksCount, withState);
+        writeInt(stream, record.activeSpuTrack, withState);
+        // isPlaying, isRecording, recordPath, timestamp, playlistIndex
+        writeBoolean(stream, record.isPlaying, timeChanged || clockAnchor);
+        writeBoolean(stream, record.isRecording, recording);
+        if (recording && record.recordPath != null) {
+            stream.write(STRING);
+            writeBytes(stream, record.recordPath.getBytes(StandardCharsets.UTF_8));
+        } else {
+            stream.write(NULL);
+        }
+        writeLong(stream, record.timestamp, clockAnchor);
+        writeInt(stream, record.playlistIndex, playlistItemChanged);
+    }
+
+    private static void writeInt(ByteArrayOutputStream stream, int value, boolean present) {
+        if (present) {
+            stream.write(INT);
+            StandardMessageCodec.writeInt(stream, value);
+        } else {
+            stream.write(NULL);
+        }
+    }
+
+    private static void writeLong(ByteArrayOutputStream stream, long value, boolean present) {
+        if (present) {
+            stream.write(LONG);
+            StandardMessageCodec.writeLong(stream, value);
+        } else {
+            stream.write(NULL);
+        }
+    }
+
+    private static void writeDouble(ByteArrayOutputStream stream, double value, boolean present) {
+        if (present) {
+            stream.write(DOUBLE);
+            writeAlignment(stream, 8);
+            StandardMessageCodec.writeDouble(stream, value);
+        } else {
+            stream.write(NULL);
+        }
+    }
+
+    private static void writeBoolean(ByteArrayOutputStream stream, boolean value, boolean present) {
+        if (present) {
+            stream.write(value ? TRUE : FALSE);
+        } else {
+            stream.write(NULL);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * A reusable, primitive-backed media event.
+ *
+ * <p>A player owns a single instance which is refilled for every outgoing event, so that once warm
+ * filling and encoding an event does not allocate: no map and boxed values are built per libVLC
+ * event (see MediaEventCodecTest). The channel still allocates the buffer of every message it
+ * sends. The record is serialized by {@link MediaEventCodec} while it is being sent; when it has to
+ * be kept for later (e.g. queued because no listener is attached yet) a {@link #copy()} must be
+ * taken.
+ */
+final class MediaEventRecord {
+    static final int OPENING = 0;
+    static final int PAUSED = 1;
+    static final int STOPPED = 2;
+    static final int PLAYING = 3;
+    static final int ENDED = 4;
+    static final int TIME_CHANGED = 5;
+    static final int ERROR = 6;
+    static final int RECORDING = 7;
+    static final int CLOCK_ANCHOR = 8;
+    static final int PLAYLIST_ITEM_CHANGED = 9;
+
+    int type;
+    int width;
+    int height;
+    float speed;
+    long position;
+    long duration;
+    float buffer;
+    int audioTracksCount;
+    int activeAudioTrack;
+    int spuTracksCount;
+    int activeSpuTrack;
+    boolean isPlaying;
+    boolean isRecording;
+    String recordPath;
+    long timestamp;
+    int playlistIndex;
+
+    MediaEventRecord reset(int type) {
+        this.type = type;
+        width = 0;
+        height = 0;
+        speed = 1.0f;
+        position = 0;
+        duration = 0;
+        buffer = 0;
+        audioTracksCount = 0;
+        activeAudioTrack = -1;
+        spuTracksCount = 0;
+        activeSpuTrack = -1;
+        isPlaying = false;
+        isRecording = false;
+        recordPath = null;
+        timestamp = 0;
+        playlistIndex = 0;
+        return this;
+    }
+
+    MediaEventRecord copy() {
+        return new MediaEventRecord().set(this);
+    }
+
+    MediaEventRecord set(MediaEventRecord other) {
+        type = other.type;
+        width = other.width;
+        height = other.height;
+        speed = other.speed;
+        position = other.position;
+        duration = other.duration;
+        buffer = other.buffer;
+        audioTracksCount = other.audioTracksCount;
+        activeAudioTrack = other.activeAudioTrack;
+        spuTracksCount = other.spuTracksCount;
+        activeSpuTrack = other.activeSpuTrack;
+        isPlaying = other.isPlaying;
+        isRecording = other.isRecording;
+        recordPath = other.recordPath;
+        timestamp = other.timestamp;
+        playlistIndex = other.playlistIndex;
+        return this;
+    }
+}
@@ -0,0 +1,164 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.MediaPlayer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link MediaPlayer}s of disposed players for reuse by the next players created with
+ * the same {@link LibVLC} instance, e.g. in a feed where players are created and disposed
+ * constantly.
+ *
+ * <p>Recycled players are stopped, detached from their views and without event listener or media.
+ * The pool holds at most {@code maxSize} of them, and releases those that were not reused within
+ * {@code idleTimeoutMillis}. A pooled player keeps its reference to the {@link LibVLCPool} instance,
+ * which is dropped when the player is reused or evicted.
+ *
+ * <p>Recycling is disabled (size 0) until {@link #configure} is called. This class is thread-safe.
+ */
+final class MediaPlayerPool {
+    static final MediaPlayerPool INSTANCE = new MediaPlayerPool();
+
+    private static final String TAG = "MediaPlayerPool";
+
+    private final ScheduledThreadPoolExecutor evictor;
+    // guarded by this, the least recently recycled first
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private int maxSize = 0;
+    private long idleTimeoutMillis = 0;
+
+    private MediaPlayerPool() {
+        evictor = new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, "VlcPlayerEvictor"));
+        evictor.setKeepAliveTime(PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        evictor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the maximum number of pooled players and how long they are kept unused, evicting the
+     * players over the new size right away.
+     */
+    void configure(int maxSize, long idleTimeoutMillis) {
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            this.maxSize = Math.max(0, maxSize);
+            this.idleTimeoutMillis = Math.max(0, idleTimeoutMillis);
+            while (entries.size() > this.maxSize) {
+                evicted.add(entries.pollFirst());
+            }
+        }
+        release(evicted);
+    }
+
+    /**
+     * Returns a pooled player of {@code libVLC}, or a new one if there is none. A pooled player
+     * hands its reference to {@code libVLC} back to the {@link LibVLCPool}, as the caller holds its
+     * own.
+     */
+    @NonNull
+    MediaPlayer obtain(LibVLC libVLC) {
+        Entry reused = null;
+        synchronized (this) {
+            // the most recently recycled player first, its native buffers are the likeliest to be warm
+            Iterator<Entry> iterator = entries.descendingIterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.libVLC == libVLC) {
+                    iterator.remove();
+                    reused = entry;
+                    break;
+                }
+            }
+        }
+        if (reused == null) {
+            return new MediaPlayer(libVLC);
+        }
+        LibVLCPool.INSTANCE.release(reused.libVLC);
+        return reused.mediaPlayer;
+    }
+
+    /**
+     * Resets the stopped and detached {@code mediaPlayer} and puts it in the pool, together with
+     * the reference to {@code libVLC} its player held. Returns false if the pool is full, the
+     * caller then releases both.
+     */
+    boolean recycle(MediaPlayer mediaPlayer, @Nullable LibVLC libVLC) {
+        if (libVLC == null) return false;
+        synchronized (this) {
+            if (maxSize == 0) return false;
+        }
+
+        // reset what survives stop() and is not reapplied by the next player
+        mediaPlayer.setMedia(null);
+        mediaPlayer.setRenderer(null);
+        mediaPlayer.setVolume(100);
+        mediaPlayer.setRate(1.0f);
+        mediaPlayer.setScale(0);
+        mediaPlayer.setAspectRatio(null);
+        mediaPlayer.setAudioDelay(0);
+        mediaPlayer.setSpuDelay(0);
+
+        final Entry entry = new Entry(mediaPlayer, libVLC);
+        Entry evicted = null;
+        long timeout;
+        synchronized (this) {
+            if (maxSize == 0) return false;
+
+            entries.addLast(entry);
+            if (entries.size() > maxSize) {
+                evicted = entries.pollFirst();
+            }
+            timeout = idleTimeoutMillis;
+        }
+        if (evicted != null) {
+            release(evicted);
+        }
+        if (timeout > 0) {
+            evictor.schedule(() -> {
+                boolean idle;
+                synchronized (this) {
+                    idle = entries.remove(entry);
+                }
+                if (idle) {
+                    release(entry);
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    private static void release(List<Entry> entries) {
+        for (Entry entry : entries) {
+            release(entry);
+        }
+    }
+
+    private static void release(Entry entry) {
+        try {
+            entry.mediaPlayer.release();
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Releasing a pooled player failed", e);
+        }
+        LibVLCPool.INSTANCE.release(entry.libVLC);
+    }
+
+    private static final class Entry {
+        final MediaPlayer mediaPlayer;
+        final LibVLC libVLC;
+
+        Entry(MediaPlayer mediaPlayer, LibVLC libVLC) {
+            this.mediaPlayer = mediaPlayer;
+            this.libVLC = libVLC;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.Media;
+import org.videolan.libvlc.MediaPlayer;
+import org.videolan.libvlc.interfaces.IMedia;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.view.TextureRegistry;
+
+/**
+ * Opens upcoming media in hidden players, so that a player created or set up with the same media
+ * later on starts without waiting for the stream to open and buffer.
+ *
+ * <p>A preloaded player renders into an offscreen texture: it plays muted until its first frame
+ * is decoded (or, for audio only media, until it plays), then pauses with the input buffered by
+ * the requested amount. {@link #take} hands it over to a visible player, which attaches it to its
+ * own texture.
+ *
+ * <p>Live preloads (the neighbour channels of a {@link ChannelZapper}) keep playing muted with
+ * video decoding disabled instead, so that they stay at the live edge; the player that takes one
+ * over only enables the video track.
+ *
+ * <p>Preloads share a budget: at most {@code maxPreloads} open streams (connections), buffering
+ * at most {@code maxBufferMillis} in total, as the buffered duration is what their memory use grows
+ * with. Preloads over the budget are refused. A preload takes its slot as soon as it is accepted,
+ * while its LibVLC, player and media are created on a background thread, so that neither the
+ * caller waits for them nor concurrent preloads overrun the budget. A preload taken before it is
+ * opened is dropped, the player then opens the media itself.
+ *
+ * <p>This class is thread-safe.
+ */
+final class MediaPreloader {
+    static final int DEFAULT_MAX_PRELOADS = 3;
+    static final long DEFAULT_MAX_BUFFER_MILLIS = 30_000;
+
+    private static final String TAG = "MediaPreloader";
+    // urls may carry credentials, they are only logged with debug logging on
+    private final boolean debug = false;
+    // window size of the offscreen texture, the player sets its own when promoted
+    private static final int WINDOW_WIDTH = 1280;
+    private static final int WINDOW_HEIGHT = 720;
+    // creates the players of the preloads, shared by all preloaders
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+            PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "VlcPreloader"));
+
+    static {
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    private final Context context;
+    private final TextureRegistry textureRegistry;
+    // guarded by this, keyed by url
+    private final Map<String, Preload> preloads = new LinkedHashMap<>();
+    private int maxPreloads = DEFAULT_MAX_PRELOADS;
+    private long maxBufferMillis = DEFAULT_MAX_BUFFER_MILLIS;
+
+    MediaPreloader(Context context, TextureRegistry textureRegistry) {
+        this.context = context;
+        this.textureRegistry = textureRegistry;
+    }
+
+    /**
+     * Sets the budget shared by all preloads. Preloads already over it are kept.
+     */
+    synchronized void setBudget(int maxPreloads, long maxBufferMillis) {
+        this.maxPreloads = Math.max(0, maxPreloads);
+        this.maxBufferMillis = Math.max(0, maxBufferMillis);
+    }
+
+    /**
+     * Starts preloading {@code url}, buffering {@code bufferMillis} of it. Returns false if the
+     * preload does not fit in the budget; preloading a url again returns true. The media is opened
+     * in the background, and the preload dropped if it can't be. A {@code live} preload keeps
+     * playing without decoding video.
+     */
+    boolean preload(String url, boolean isAssetUrl, List<String> options, long hwAcc, long bufferMillis, boolean live) {
+        final Preload preload;
+        synchronized (this) {
+            if (preloads.containsKey(url)) return true;
+
+            long bufferedMillis = 0;
+            for (Preload other : preloads.values()) {
+                bufferedMillis += other.bufferMillis;
+            }
+            if (preloads.size() >= maxPreloads || bufferedMillis + bufferMillis > maxBufferMillis) {
+                log("Preload of " + url + " is over the budget");
+                return false;
+            }
+            // the slot is reserved until the preload is opened, taken or cancelled
+            preload = new Preload(url, isAssetUrl, options, hwAcc, bufferMillis, live);
+            preloads.put(url, preload);
+        }
+        executor.execute(() -> open(preload));
+        return true;
+    }
+
+    /**
+     * Creates the player of {@code preload} and starts it, unless the preload was taken or
+     * cancelled meanwhile. Called on the executor.
+     */
+    private void open(Preload preload) {
+        final LibVLC libVLC = LibVLCPool.INSTANCE.acquire(context, preload.options);
+        final MediaPlayer mediaPlayer = MediaPlayerPool.INSTANCE.obtain(libVLC);
+        final Media media;
+        try {
+            media = FlutterVlcPlayer.createMedia(context, libVLC, preload.url, preload.isAssetUrl, preload.hwAcc, preload.options);
+        } catch (IOException e) {
+            Log.w(TAG, "Cannot open a preload", e);
+            log("Cannot preload " + preload.url);
+            synchronized (this) {
+                if (preloads.get(preload.url) == preload) {
+                    preloads.remove(preload.url);
+                }
+            }
+            PlayerReaper.INSTANCE.reap(mediaPlayer, libVLC);
+            return;
+        }
+        if (preload.bufferMillis > 0) {
+            media.addOption(":network-caching=" + preload.bufferMillis);
+        }
+        // started on the main thread before anyone can take it over, as the player takes it over
+        // on the main thread too
+        boolean started = MainThread.call(() -> {
+            synchronized (this) {
+                if (preloads.get(preload.url) != preload) return false;
+
+                preload.libVLC = libVLC;
+                preload.mediaPlayer = mediaPlayer;
+                preload.opened = true;
+            }
+            preload.start(media);
+            return true;
+        });
+        media.release();
+        if (!started) {
+            PlayerReaper.INSTANCE.reap(mediaPlayer, libVLC);
+        }
+    }
+
+    /**
+     * Removes and returns the preload of {@code url}, if it was opened with the same options; the
+     * caller takes over its player and LibVLC reference and must {@link Preload#detach} it. A
+     * preload that is not opened yet is dropped and null returned.
+     */
+    @Nullable
+    Preload take(String url, boolean isAssetUrl, List<String> options, long hwAcc) {
+        synchronized (this) {
+            Preload preload = preloads.get(url);
+            if (preload == null
+                    || preload.isAssetUrl != isAssetUrl
+                    || preload.hwAcc != hwAcc
+                    || !preload.options.equals(options)) {
+                return null;
+            }
+            preloads.remove(url);
+            // still being opened, its player is released once created
+            return preload.opened ? preload : null;
+        }
+    }
+
+    /**
+     * Stops and releases the preload of {@code url}. Returns whether there was one.
+     */
+    boolean cancel(String url) {
+        Preload preload;
+        synchronized (this) {
+            preload = preloads.remove(url);
+            if (preload == null) return false;
+            if (!preload.opened) return true;
+        }
+        release(preload);
+        return true;
+    }
+
+    /**
+     * Stops and releases all preloads.
+     */
+    void dispose() {
+        List<Preload> released = new ArrayList<>();
+        synchronized (this) {
+            for (Preload preload : preloads.values()) {
+                if (preload.opened) {
+                    released.add(preload);
+                }
+            }
+            preloads.clear();
+        }
+        for (Preload preload : released) {
+            release(preload);
+        }
+    }
+
+    private void remove(Preload preload) {
+        synchronized (this) {
+            if (preloads.get(preload.url) != preload) return;
+
+            preloads.remove(preload.url);
+        }
+        release(preload);
+    }
+
+    private void log(String message) {
+        if (debug) {
+            Log.d(TAG, message);
+        }
+    }
+
+    private static void release(Preload preload) {
+        MainThread.run(preload::detach);
+        PlayerReaper.INSTANCE.reap(preload.mediaPlayer, preload.libVLC);
+    }
+
+    /**
+     * A hidden player that opened a media, or is about to. All methods are called on the main
+     * thread.
+     */
+    final class Preload {
+        final String url;
+        final boolean isAssetUrl;
+        final List<String> options;
+        final long hwAcc;
+        final long bufferMillis;
+        final boolean live;
+        // set once opened, guarded by the preloader until then
+        LibVLC libVLC;
+        MediaPlayer mediaPlayer;
+        boolean opened = false;
+        private TextureRegistry.SurfaceTextureEntry textureEntry;
+
+        Preload(String url, boolean isAssetUrl, List<String> options, long hwAcc, long bufferMillis, boolean live) {
+            this.url = url;
+            this.isAssetUrl = isAssetUrl;
+            this.options = new ArrayList<>(options);
+            this.hwAcc = hwAcc;
+            this.bufferMillis = bufferMillis;
+            this.live = live;
+        }
+
+        private void start(Media media) {
+            textureEntry = textureRegistry.createSurfaceTexture();
+            textureEntry.surfaceTexture().setDefaultBufferSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+            mediaPlayer.getVLCVout().setVideoSurface(textureEntry.surfaceTexture());
+            mediaPlayer.getVLCVout().setWindowSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+            mediaPlayer.getVLCVout().attachViews();
+            mediaPlayer.setEventListener(event -> {
+                switch (event.type) {
+                    case MediaPlayer.Event.ESSelected:
+                        // live preloads don't decode video until they are taken over
+                        if (live && event.getEsChangedType() == IMedia.Track.Type.Video && event.getEsChangedID() >= 0) {
+                            mediaPlayer.setVideoTrackEnabled(false);
+                        }
+                        break;
+
+                    case MediaPlayer.Event.Vout:
+                        // the first frame is decoded
+                        if (!live && event.getVoutCount() > 0) {
+                            mediaPlayer.pause();
+                        }
+                        break;
+
+                    case MediaPlayer.Event.Playing:
+                        if (!live && mediaPlayer.getVideoTracksCount() == 0) {
+                            mediaPlayer.pause();
+                        }
+                        break;
+
+                    case MediaPlayer.Event.EncounteredError:
+                        Log.w(TAG, "A preload failed");
+                        log("Preload of " + url + " failed");
+                        remove(this);
+                        break;
+
+                    default:
+                        break;
+                }
+            });
+            mediaPlayer.setVolume(0);
+            mediaPlayer.setMedia(media);
+            mediaPlayer.play();
+        }
+
+        /**
+         * Detaches the player from the offscreen texture and releases it. Called on the main thread.
+         */
+        void detach() {
+            mediaPlayer.setEventListener(null);
+            mediaPlayer.getVLCVout().detachViews();
+            mediaPlayer.setVolume(100);
+            if (textureEntry != null) {
+                textureEntry.release();
+                textureEntry = null;
+            }
+        }
+    }
+}
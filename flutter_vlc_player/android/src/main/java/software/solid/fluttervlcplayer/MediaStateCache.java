@@ -0,0 +1,139 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.MediaPlayer;
+import org.videolan.libvlc.interfaces.IMedia;
+
+/**
+ * Caches the media state values that are sent with every playback event.
+ *
+ * <p>Reading them from {@link MediaPlayer} is a JNI call each, but they only change on a few
+ * libVLC events (ESAdded, ESDeleted, ESSelected, LengthChanged, Vout) or on rate changes made
+ * through the plugin. Those events invalidate the affected group, which is then read again once,
+ * lazily, the next time an event is built. Time and playing state are taken from the events
+ * themselves.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the thread that delivers libVLC
+ * events (the main thread).
+ */
+final class MediaStateCache {
+    private boolean videoSizeValid = false;
+    private boolean tracksValid = false;
+    private boolean lengthValid = false;
+    private boolean rateValid = false;
+    private boolean timeValid = false;
+    //
+    private int width = 0;
+    private int height = 0;
+    private int audioTracksCount = 0;
+    private int activeAudioTrack = -1;
+    private int spuTracksCount = 0;
+    private int activeSpuTrack = -1;
+    private long length = 0;
+    private float rate = 1.0f;
+    private long time = 0;
+    private boolean isPlaying = false;
+
+    void invalidateAll() {
+        videoSizeValid = false;
+        tracksValid = false;
+        lengthValid = false;
+        rateValid = false;
+        timeValid = false;
+        isPlaying = false;
+    }
+
+    void invalidateVideoSize() {
+        videoSizeValid = false;
+    }
+
+    void invalidateTracks() {
+        tracksValid = false;
+        videoSizeValid = false;
+    }
+
+    void invalidateRate() {
+        rateValid = false;
+    }
+
+    void invalidateTime() {
+        timeValid = false;
+    }
+
+    void setLength(long length) {
+        this.length = length;
+        lengthValid = true;
+    }
+
+    void setTime(long time) {
+        this.time = time;
+        timeValid = true;
+    }
+
+    void setPlaying(boolean isPlaying) {
+        this.isPlaying = isPlaying;
+    }
+
+    boolean isPlaying() {
+        return isPlaying;
+    }
+
+    long getTime(MediaPlayer mediaPlayer) {
+        if (!timeValid) {
+            time = mediaPlayer.getTime();
+            timeValid = true;
+        }
+        return time;
+    }
+
+    long getLength(MediaPlayer mediaPlayer) {
+        if (!lengthValid) {
+            length = mediaPlayer.getLength();
+            lengthValid = true;
+        }
+        return length;
+    }
+
+    float getRate(MediaPlayer mediaPlayer) {
+        if (!rateValid) {
+            rate = mediaPlayer.getRate();
+            rateValid = true;
+        }
+        return rate;
+    }
+
+    /**
+     * Copies the cached state into {@code record}, refreshing invalidated values first.
+     */
+    void fill(MediaPlayer mediaPlayer, MediaEventRecord record) {
+        if (!videoSizeValid) {
+            // Current video track is only available when the media is playing
+            IMedia.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
+            width = currentVideoTrack != null ? currentVideoTrack.width : 0;
+            height = currentVideoTrack != null ? currentVideoTrack.height : 0;
+            videoSizeValid = currentVideoTrack != null;
+        }
+        if (!tracksValid) {
+            audioTracksCount = mediaPlayer.getAudioTracksCount();
+            activeAudioTrack = mediaPlayer.getAudioTrack();
+            spuTracksCount = mediaPlayer.getSpuTracksCount();
+            activeSpuTrack = mediaPlayer.getSpuTrack();
+            tracksValid = true;
+        }
+        if (!lengthValid) {
+            length = mediaPlayer.getLength();
+            lengthValid = true;
+        }
+        if (!rateValid) {
+            rate = mediaPlayer.getRate();
+            rateValid = true;
+        }
+        record.width = width;
+        record.height = height;
+        record.speed = rate;
+        record.duration = length;
+        record.audioTracksCount = audioTracksCount;
+        record.activeAudioTrack = activeAudioTrack;
+        record.spuTracksCount = spuTracksCount;
+        record.activeSpuTrack = activeSpuTrack;
+    }
+}
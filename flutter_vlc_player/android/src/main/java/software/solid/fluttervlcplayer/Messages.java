@@ -63,6 +63,11 @@ public class Messages {
     return errorList;
   }
 
+  @NonNull
+  protected static FlutterError createConnectionError(@NonNull String channelName) {
+    return new FlutterError("channel-error",  "Unable to establish connection on channel: " + channelName + ".", "");
+  }
+
   @Target(METHOD)
   @Retention(CLASS)
   @interface CanIgnoreReturnValue {}
@@ -820,194 +825,3750 @@ public class Messages {
     }
   }
 
-  private static class PigeonCodec extends StandardMessageCodec {
-    public static final PigeonCodec INSTANCE = new PigeonCodec();
+  /**
+   * A media event sent over a player's media event channel.
+   *
+   * [type] is one of: 0 opening, 1 paused, 2 stopped, 3 playing, 4 ended,
+   * 5 timeChanged, 6 error, 7 recording, 8 clockAnchor, 9 playlistItemChanged.
+   * Fields that are not part of the event type are left null.
+   * [timestamp] is the monotonic clock time of a clockAnchor, in microseconds.
+   * [playlistIndex] is the playlist item a playlistItemChanged switched to.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class MediaEventMessage {
+    private @NonNull Long type;
 
-    private PigeonCodec() {}
+    public @NonNull Long getType() {
+      return type;
+    }
 
-    @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 129:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 130:
-          return SetMediaMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 131:
-          return SpuTracksMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 132:
-          return AddSubtitleMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 133:
-          return AddAudioMessage.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
       }
+      this.type = setterArg;
     }
 
-    @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
-        stream.write(129);
-        writeValue(stream, ((CreateMessage) value).toList());
-      } else if (value instanceof SetMediaMessage) {
-        stream.write(130);
-        writeValue(stream, ((SetMediaMessage) value).toList());
-      } else if (value instanceof SpuTracksMessage) {
-        stream.write(131);
-        writeValue(stream, ((SpuTracksMessage) value).toList());
-      } else if (value instanceof AddSubtitleMessage) {
-        stream.write(132);
-        writeValue(stream, ((AddSubtitleMessage) value).toList());
-      } else if (value instanceof AddAudioMessage) {
-        stream.write(133);
-        writeValue(stream, ((AddAudioMessage) value).toList());
-      } else {
-        super.writeValue(stream, value);
-      }
+    private @Nullable Long width;
+
+    public @Nullable Long getWidth() {
+      return width;
     }
-  }
 
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface VlcPlayerApi {
+    public void setWidth(@Nullable Long setterArg) {
+      this.width = setterArg;
+    }
 
-    void initialize();
+    private @Nullable Long height;
 
-    void create(@NonNull CreateMessage msg);
+    public @Nullable Long getHeight() {
+      return height;
+    }
 
-    void dispose(@NonNull Long playerId);
+    public void setHeight(@Nullable Long setterArg) {
+      this.height = setterArg;
+    }
 
-    void setStreamUrl(@NonNull SetMediaMessage msg);
+    private @Nullable Double speed;
 
-    void play(@NonNull Long playerId);
+    public @Nullable Double getSpeed() {
+      return speed;
+    }
 
-    void pause(@NonNull Long playerId);
+    public void setSpeed(@Nullable Double setterArg) {
+      this.speed = setterArg;
+    }
 
-    void stop(@NonNull Long playerId);
+    private @Nullable Long position;
 
-    @NonNull 
-    Boolean isPlaying(@NonNull Long playerId);
+    public @Nullable Long getPosition() {
+      return position;
+    }
 
-    @NonNull 
-    Boolean isSeekable(@NonNull Long playerId);
+    public void setPosition(@Nullable Long setterArg) {
+      this.position = setterArg;
+    }
 
-    void setLooping(@NonNull Long playerId, @NonNull Boolean isLooping);
+    private @Nullable Long duration;
 
-    void seekTo(@NonNull Long playerId, @NonNull Long position);
+    public @Nullable Long getDuration() {
+      return duration;
+    }
 
-    @NonNull 
-    Long position(@NonNull Long playerId);
+    public void setDuration(@Nullable Long setterArg) {
+      this.duration = setterArg;
+    }
 
-    @NonNull 
-    Long duration(@NonNull Long playerId);
+    private @Nullable Double buffer;
 
-    void setVolume(@NonNull Long playerId, @NonNull Long volume);
+    public @Nullable Double getBuffer() {
+      return buffer;
+    }
 
-    @NonNull 
-    Long getVolume(@NonNull Long playerId);
+    public void setBuffer(@Nullable Double setterArg) {
+      this.buffer = setterArg;
+    }
 
-    void setPlaybackSpeed(@NonNull Long playerId, @NonNull Double speed);
+    private @Nullable Long audioTracksCount;
 
-    @NonNull 
-    Double getPlaybackSpeed(@NonNull Long playerId);
+    public @Nullable Long getAudioTracksCount() {
+      return audioTracksCount;
+    }
 
-    @Nullable 
-    String takeSnapshot(@NonNull Long playerId);
+    public void setAudioTracksCount(@Nullable Long setterArg) {
+      this.audioTracksCount = setterArg;
+    }
 
-    @NonNull 
-    Long getSpuTracksCount(@NonNull Long playerId);
+    private @Nullable Long activeAudioTrack;
 
-    @NonNull 
-    Map<Long, String> getSpuTracks(@NonNull Long playerId);
+    public @Nullable Long getActiveAudioTrack() {
+      return activeAudioTrack;
+    }
 
-    void setSpuTrack(@NonNull Long playerId, @NonNull Long spuTrackNumber);
+    public void setActiveAudioTrack(@Nullable Long setterArg) {
+      this.activeAudioTrack = setterArg;
+    }
 
-    @NonNull 
-    Long getSpuTrack(@NonNull Long playerId);
+    private @Nullable Long spuTracksCount;
 
-    void setSpuDelay(@NonNull Long playerId, @NonNull Long delay);
+    public @Nullable Long getSpuTracksCount() {
+      return spuTracksCount;
+    }
 
-    @NonNull 
-    Long getSpuDelay(@NonNull Long playerId);
+    public void setSpuTracksCount(@Nullable Long setterArg) {
+      this.spuTracksCount = setterArg;
+    }
 
-    void addSubtitleTrack(@NonNull AddSubtitleMessage msg);
+    private @Nullable Long activeSpuTrack;
 
-    @NonNull 
-    Long getAudioTracksCount(@NonNull Long playerId);
+    public @Nullable Long getActiveSpuTrack() {
+      return activeSpuTrack;
+    }
 
-    @NonNull 
-    Map<Long, String> getAudioTracks(@NonNull Long playerId);
+    public void setActiveSpuTrack(@Nullable Long setterArg) {
+      this.activeSpuTrack = setterArg;
+    }
 
-    void setAudioTrack(@NonNull Long playerId, @NonNull Long audioTrackNumber);
+    private @Nullable Boolean isPlaying;
 
-    @NonNull 
-    Long getAudioTrack(@NonNull Long playerId);
+    public @Nullable Boolean getIsPlaying() {
+      return isPlaying;
+    }
 
-    void setAudioDelay(@NonNull Long playerId, @NonNull Long delay);
+    public void setIsPlaying(@Nullable Boolean setterArg) {
+      this.isPlaying = setterArg;
+    }
 
-    @NonNull 
-    Long getAudioDelay(@NonNull Long playerId);
+    private @Nullable Boolean isRecording;
 
-    void addAudioTrack(@NonNull AddAudioMessage msg);
+    public @Nullable Boolean getIsRecording() {
+      return isRecording;
+    }
 
-    @NonNull 
-    Long getVideoTracksCount(@NonNull Long playerId);
+    public void setIsRecording(@Nullable Boolean setterArg) {
+      this.isRecording = setterArg;
+    }
 
-    @NonNull 
-    Map<Long, String> getVideoTracks(@NonNull Long playerId);
+    private @Nullable String recordPath;
 
-    void setVideoTrack(@NonNull Long playerId, @NonNull Long videoTrackNumber);
+    public @Nullable String getRecordPath() {
+      return recordPath;
+    }
 
-    @NonNull 
-    Long getVideoTrack(@NonNull Long playerId);
+    public void setRecordPath(@Nullable String setterArg) {
+      this.recordPath = setterArg;
+    }
 
-    void setVideoScale(@NonNull Long playerId, @NonNull Double scale);
+    private @Nullable Long timestamp;
 
-    @NonNull 
-    Double getVideoScale(@NonNull Long playerId);
+    public @Nullable Long getTimestamp() {
+      return timestamp;
+    }
 
-    void setVideoAspectRatio(@NonNull Long playerId, @NonNull String aspectRatio);
+    public void setTimestamp(@Nullable Long setterArg) {
+      this.timestamp = setterArg;
+    }
 
-    @NonNull 
-    String getVideoAspectRatio(@NonNull Long playerId);
+    private @Nullable Long playlistIndex;
 
-    @NonNull 
-    List<String> getAvailableRendererServices(@NonNull Long playerId);
+    public @Nullable Long getPlaylistIndex() {
+      return playlistIndex;
+    }
 
-    void startRendererScanning(@NonNull Long playerId, @NonNull String rendererService);
+    public void setPlaylistIndex(@Nullable Long setterArg) {
+      this.playlistIndex = setterArg;
+    }
 
-    void stopRendererScanning(@NonNull Long playerId);
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MediaEventMessage() {}
 
-    @NonNull 
-    Map<String, String> getRendererDevices(@NonNull Long playerId);
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      MediaEventMessage that = (MediaEventMessage) o;
+      return type.equals(that.type) && Objects.equals(width, that.width) && Objects.equals(height, that.height) && Objects.equals(speed, that.speed) && Objects.equals(position, that.position) && Objects.equals(duration, that.duration) && Objects.equals(buffer, that.buffer) && Objects.equals(audioTracksCount, that.audioTracksCount) && Objects.equals(activeAudioTrack, that.activeAudioTrack) && Objects.equals(spuTracksCount, that.spuTracksCount) && Objects.equals(activeSpuTrack, that.activeSpuTrack) && Objects.equals(isPlaying, that.isPlaying) && Objects.equals(isRecording, that.isRecording) && Objects.equals(recordPath, that.recordPath) && Objects.equals(timestamp, that.timestamp) && Objects.equals(playlistIndex, that.playlistIndex);
+    }
 
-    void castToRenderer(@NonNull Long playerId, @NonNull String rendererId);
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, width, height, speed, position, duration, buffer, audioTracksCount, activeAudioTrack, spuTracksCount, activeSpuTrack, isPlaying, isRecording, recordPath, timestamp, playlistIndex);
+    }
 
-    @NonNull 
-    Boolean startRecording(@NonNull Long playerId, @NonNull String saveDirectory);
+    public static final class Builder {
 
-    @NonNull 
-    Boolean stopRecording(@NonNull Long playerId);
+      private @Nullable Long type;
 
-    /** The codec used by VlcPlayerApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
-    }
-    /**Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable VlcPlayerApi api) {
-      setUp(binaryMessenger, "", api);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@Nullable Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@Nullable Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Double speed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpeed(@Nullable Double setterArg) {
+        this.speed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@Nullable Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Long duration;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDuration(@Nullable Long setterArg) {
+        this.duration = setterArg;
+        return this;
+      }
+
+      private @Nullable Double buffer;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBuffer(@Nullable Double setterArg) {
+        this.buffer = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioTracksCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioTracksCount(@Nullable Long setterArg) {
+        this.audioTracksCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long activeAudioTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setActiveAudioTrack(@Nullable Long setterArg) {
+        this.activeAudioTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuTracksCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuTracksCount(@Nullable Long setterArg) {
+        this.spuTracksCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long activeSpuTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setActiveSpuTrack(@Nullable Long setterArg) {
+        this.activeSpuTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isPlaying;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsPlaying(@Nullable Boolean setterArg) {
+        this.isPlaying = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isRecording;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsRecording(@Nullable Boolean setterArg) {
+        this.isRecording = setterArg;
+        return this;
+      }
+
+      private @Nullable String recordPath;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setRecordPath(@Nullable String setterArg) {
+        this.recordPath = setterArg;
+        return this;
+      }
+
+      private @Nullable Long timestamp;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTimestamp(@Nullable Long setterArg) {
+        this.timestamp = setterArg;
+        return this;
+      }
+
+      private @Nullable Long playlistIndex;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlaylistIndex(@Nullable Long setterArg) {
+        this.playlistIndex = setterArg;
+        return this;
+      }
+
+      public @NonNull MediaEventMessage build() {
+        MediaEventMessage pigeonReturn = new MediaEventMessage();
+        pigeonReturn.setType(type);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setSpeed(speed);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setDuration(duration);
+        pigeonReturn.setBuffer(buffer);
+        pigeonReturn.setAudioTracksCount(audioTracksCount);
+        pigeonReturn.setActiveAudioTrack(activeAudioTrack);
+        pigeonReturn.setSpuTracksCount(spuTracksCount);
+        pigeonReturn.setActiveSpuTrack(activeSpuTrack);
+        pigeonReturn.setIsPlaying(isPlaying);
+        pigeonReturn.setIsRecording(isRecording);
+        pigeonReturn.setRecordPath(recordPath);
+        pigeonReturn.setTimestamp(timestamp);
+        pigeonReturn.setPlaylistIndex(playlistIndex);
+        return pigeonReturn;
+      }
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable VlcPlayerApi api) {
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(16);
+      toListResult.add(type);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(speed);
+      toListResult.add(position);
+      toListResult.add(duration);
+      toListResult.add(buffer);
+      toListResult.add(audioTracksCount);
+      toListResult.add(activeAudioTrack);
+      toListResult.add(spuTracksCount);
+      toListResult.add(activeSpuTrack);
+      toListResult.add(isPlaying);
+      toListResult.add(isRecording);
+      toListResult.add(recordPath);
+      toListResult.add(timestamp);
+      toListResult.add(playlistIndex);
+      return toListResult;
+    }
+
+    static @NonNull MediaEventMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      MediaEventMessage pigeonResult = new MediaEventMessage();
+      Object type = pigeonVar_list.get(0);
+      pigeonResult.setType((Long) type);
+      Object width = pigeonVar_list.get(1);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(2);
+      pigeonResult.setHeight((Long) height);
+      Object speed = pigeonVar_list.get(3);
+      pigeonResult.setSpeed((Double) speed);
+      Object position = pigeonVar_list.get(4);
+      pigeonResult.setPosition((Long) position);
+      Object duration = pigeonVar_list.get(5);
+      pigeonResult.setDuration((Long) duration);
+      Object buffer = pigeonVar_list.get(6);
+      pigeonResult.setBuffer((Double) buffer);
+      Object audioTracksCount = pigeonVar_list.get(7);
+      pigeonResult.setAudioTracksCount((Long) audioTracksCount);
+      Object activeAudioTrack = pigeonVar_list.get(8);
+      pigeonResult.setActiveAudioTrack((Long) activeAudioTrack);
+      Object spuTracksCount = pigeonVar_list.get(9);
+      pigeonResult.setSpuTracksCount((Long) spuTracksCount);
+      Object activeSpuTrack = pigeonVar_list.get(10);
+      pigeonResult.setActiveSpuTrack((Long) activeSpuTrack);
+      Object isPlaying = pigeonVar_list.get(11);
+      pigeonResult.setIsPlaying((Boolean) isPlaying);
+      Object isRecording = pigeonVar_list.get(12);
+      pigeonResult.setIsRecording((Boolean) isRecording);
+      Object recordPath = pigeonVar_list.get(13);
+      pigeonResult.setRecordPath((String) recordPath);
+      Object timestamp = pigeonVar_list.get(14);
+      pigeonResult.setTimestamp((Long) timestamp);
+      Object playlistIndex = pigeonVar_list.get(15);
+      pigeonResult.setPlaylistIndex((Long) playlistIndex);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A renderer event sent over a player's renderer event channel.
+   *
+   * [type] is one of: 0 attached, 1 detached.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class RendererEventMessage {
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @NonNull String id;
+
+    public @NonNull String getId() {
+      return id;
+    }
+
+    public void setId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"id\" is null.");
+      }
+      this.id = setterArg;
+    }
+
+    private @NonNull String name;
+
+    public @NonNull String getName() {
+      return name;
+    }
+
+    public void setName(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"name\" is null.");
+      }
+      this.name = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    RendererEventMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      RendererEventMessage that = (RendererEventMessage) o;
+      return type.equals(that.type) && id.equals(that.id) && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, id, name);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long type;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable String id;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setId(@NonNull String setterArg) {
+        this.id = setterArg;
+        return this;
+      }
+
+      private @Nullable String name;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setName(@NonNull String setterArg) {
+        this.name = setterArg;
+        return this;
+      }
+
+      public @NonNull RendererEventMessage build() {
+        RendererEventMessage pigeonReturn = new RendererEventMessage();
+        pigeonReturn.setType(type);
+        pigeonReturn.setId(id);
+        pigeonReturn.setName(name);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(type);
+      toListResult.add(id);
+      toListResult.add(name);
+      return toListResult;
+    }
+
+    static @NonNull RendererEventMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      RendererEventMessage pigeonResult = new RendererEventMessage();
+      Object type = pigeonVar_list.get(0);
+      pigeonResult.setType((Long) type);
+      Object id = pigeonVar_list.get(1);
+      pigeonResult.setId((String) id);
+      Object name = pigeonVar_list.get(2);
+      pigeonResult.setName((String) name);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A snapshot of the player state, read in a single call.
+   *
+   * Times and delays are in milliseconds.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlaybackStateMessage {
+    private @NonNull Long position;
+
+    public @NonNull Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    private @NonNull Long duration;
+
+    public @NonNull Long getDuration() {
+      return duration;
+    }
+
+    public void setDuration(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"duration\" is null.");
+      }
+      this.duration = setterArg;
+    }
+
+    private @NonNull Boolean isPlaying;
+
+    public @NonNull Boolean getIsPlaying() {
+      return isPlaying;
+    }
+
+    public void setIsPlaying(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isPlaying\" is null.");
+      }
+      this.isPlaying = setterArg;
+    }
+
+    private @NonNull Boolean isSeekable;
+
+    public @NonNull Boolean getIsSeekable() {
+      return isSeekable;
+    }
+
+    public void setIsSeekable(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isSeekable\" is null.");
+      }
+      this.isSeekable = setterArg;
+    }
+
+    private @NonNull Long volume;
+
+    public @NonNull Long getVolume() {
+      return volume;
+    }
+
+    public void setVolume(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"volume\" is null.");
+      }
+      this.volume = setterArg;
+    }
+
+    private @NonNull Double playbackSpeed;
+
+    public @NonNull Double getPlaybackSpeed() {
+      return playbackSpeed;
+    }
+
+    public void setPlaybackSpeed(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playbackSpeed\" is null.");
+      }
+      this.playbackSpeed = setterArg;
+    }
+
+    private @NonNull Long audioTrack;
+
+    public @NonNull Long getAudioTrack() {
+      return audioTrack;
+    }
+
+    public void setAudioTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioTrack\" is null.");
+      }
+      this.audioTrack = setterArg;
+    }
+
+    private @NonNull Long audioTracksCount;
+
+    public @NonNull Long getAudioTracksCount() {
+      return audioTracksCount;
+    }
+
+    public void setAudioTracksCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioTracksCount\" is null.");
+      }
+      this.audioTracksCount = setterArg;
+    }
+
+    private @NonNull Long audioDelay;
+
+    public @NonNull Long getAudioDelay() {
+      return audioDelay;
+    }
+
+    public void setAudioDelay(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioDelay\" is null.");
+      }
+      this.audioDelay = setterArg;
+    }
+
+    private @NonNull Long spuTrack;
+
+    public @NonNull Long getSpuTrack() {
+      return spuTrack;
+    }
+
+    public void setSpuTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"spuTrack\" is null.");
+      }
+      this.spuTrack = setterArg;
+    }
+
+    private @NonNull Long spuTracksCount;
+
+    public @NonNull Long getSpuTracksCount() {
+      return spuTracksCount;
+    }
+
+    public void setSpuTracksCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"spuTracksCount\" is null.");
+      }
+      this.spuTracksCount = setterArg;
+    }
+
+    private @NonNull Long spuDelay;
+
+    public @NonNull Long getSpuDelay() {
+      return spuDelay;
+    }
+
+    public void setSpuDelay(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"spuDelay\" is null.");
+      }
+      this.spuDelay = setterArg;
+    }
+
+    private @NonNull Long videoTrack;
+
+    public @NonNull Long getVideoTrack() {
+      return videoTrack;
+    }
+
+    public void setVideoTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoTrack\" is null.");
+      }
+      this.videoTrack = setterArg;
+    }
+
+    private @NonNull Long videoTracksCount;
+
+    public @NonNull Long getVideoTracksCount() {
+      return videoTracksCount;
+    }
+
+    public void setVideoTracksCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoTracksCount\" is null.");
+      }
+      this.videoTracksCount = setterArg;
+    }
+
+    private @NonNull Double videoScale;
+
+    public @NonNull Double getVideoScale() {
+      return videoScale;
+    }
+
+    public void setVideoScale(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoScale\" is null.");
+      }
+      this.videoScale = setterArg;
+    }
+
+    private @Nullable String aspectRatio;
+
+    public @Nullable String getAspectRatio() {
+      return aspectRatio;
+    }
+
+    public void setAspectRatio(@Nullable String setterArg) {
+      this.aspectRatio = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaybackStateMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlaybackStateMessage that = (PlaybackStateMessage) o;
+      return position.equals(that.position) && duration.equals(that.duration) && isPlaying.equals(that.isPlaying) && isSeekable.equals(that.isSeekable) && volume.equals(that.volume) && playbackSpeed.equals(that.playbackSpeed) && audioTrack.equals(that.audioTrack) && audioTracksCount.equals(that.audioTracksCount) && audioDelay.equals(that.audioDelay) && spuTrack.equals(that.spuTrack) && spuTracksCount.equals(that.spuTracksCount) && spuDelay.equals(that.spuDelay) && videoTrack.equals(that.videoTrack) && videoTracksCount.equals(that.videoTracksCount) && videoScale.equals(that.videoScale) && Objects.equals(aspectRatio, that.aspectRatio);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(position, duration, isPlaying, isSeekable, volume, playbackSpeed, audioTrack, audioTracksCount, audioDelay, spuTrack, spuTracksCount, spuDelay, videoTrack, videoTracksCount, videoScale, aspectRatio);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@NonNull Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Long duration;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDuration(@NonNull Long setterArg) {
+        this.duration = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isPlaying;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsPlaying(@NonNull Boolean setterArg) {
+        this.isPlaying = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isSeekable;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsSeekable(@NonNull Boolean setterArg) {
+        this.isSeekable = setterArg;
+        return this;
+      }
+
+      private @Nullable Long volume;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVolume(@NonNull Long setterArg) {
+        this.volume = setterArg;
+        return this;
+      }
+
+      private @Nullable Double playbackSpeed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlaybackSpeed(@NonNull Double setterArg) {
+        this.playbackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioTrack(@NonNull Long setterArg) {
+        this.audioTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioTracksCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioTracksCount(@NonNull Long setterArg) {
+        this.audioTracksCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioDelay;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioDelay(@NonNull Long setterArg) {
+        this.audioDelay = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuTrack(@NonNull Long setterArg) {
+        this.spuTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuTracksCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuTracksCount(@NonNull Long setterArg) {
+        this.spuTracksCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuDelay;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuDelay(@NonNull Long setterArg) {
+        this.spuDelay = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoTrack(@NonNull Long setterArg) {
+        this.videoTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoTracksCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoTracksCount(@NonNull Long setterArg) {
+        this.videoTracksCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Double videoScale;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoScale(@NonNull Double setterArg) {
+        this.videoScale = setterArg;
+        return this;
+      }
+
+      private @Nullable String aspectRatio;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAspectRatio(@Nullable String setterArg) {
+        this.aspectRatio = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaybackStateMessage build() {
+        PlaybackStateMessage pigeonReturn = new PlaybackStateMessage();
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setDuration(duration);
+        pigeonReturn.setIsPlaying(isPlaying);
+        pigeonReturn.setIsSeekable(isSeekable);
+        pigeonReturn.setVolume(volume);
+        pigeonReturn.setPlaybackSpeed(playbackSpeed);
+        pigeonReturn.setAudioTrack(audioTrack);
+        pigeonReturn.setAudioTracksCount(audioTracksCount);
+        pigeonReturn.setAudioDelay(audioDelay);
+        pigeonReturn.setSpuTrack(spuTrack);
+        pigeonReturn.setSpuTracksCount(spuTracksCount);
+        pigeonReturn.setSpuDelay(spuDelay);
+        pigeonReturn.setVideoTrack(videoTrack);
+        pigeonReturn.setVideoTracksCount(videoTracksCount);
+        pigeonReturn.setVideoScale(videoScale);
+        pigeonReturn.setAspectRatio(aspectRatio);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(16);
+      toListResult.add(position);
+      toListResult.add(duration);
+      toListResult.add(isPlaying);
+      toListResult.add(isSeekable);
+      toListResult.add(volume);
+      toListResult.add(playbackSpeed);
+      toListResult.add(audioTrack);
+      toListResult.add(audioTracksCount);
+      toListResult.add(audioDelay);
+      toListResult.add(spuTrack);
+      toListResult.add(spuTracksCount);
+      toListResult.add(spuDelay);
+      toListResult.add(videoTrack);
+      toListResult.add(videoTracksCount);
+      toListResult.add(videoScale);
+      toListResult.add(aspectRatio);
+      return toListResult;
+    }
+
+    static @NonNull PlaybackStateMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlaybackStateMessage pigeonResult = new PlaybackStateMessage();
+      Object position = pigeonVar_list.get(0);
+      pigeonResult.setPosition((Long) position);
+      Object duration = pigeonVar_list.get(1);
+      pigeonResult.setDuration((Long) duration);
+      Object isPlaying = pigeonVar_list.get(2);
+      pigeonResult.setIsPlaying((Boolean) isPlaying);
+      Object isSeekable = pigeonVar_list.get(3);
+      pigeonResult.setIsSeekable((Boolean) isSeekable);
+      Object volume = pigeonVar_list.get(4);
+      pigeonResult.setVolume((Long) volume);
+      Object playbackSpeed = pigeonVar_list.get(5);
+      pigeonResult.setPlaybackSpeed((Double) playbackSpeed);
+      Object audioTrack = pigeonVar_list.get(6);
+      pigeonResult.setAudioTrack((Long) audioTrack);
+      Object audioTracksCount = pigeonVar_list.get(7);
+      pigeonResult.setAudioTracksCount((Long) audioTracksCount);
+      Object audioDelay = pigeonVar_list.get(8);
+      pigeonResult.setAudioDelay((Long) audioDelay);
+      Object spuTrack = pigeonVar_list.get(9);
+      pigeonResult.setSpuTrack((Long) spuTrack);
+      Object spuTracksCount = pigeonVar_list.get(10);
+      pigeonResult.setSpuTracksCount((Long) spuTracksCount);
+      Object spuDelay = pigeonVar_list.get(11);
+      pigeonResult.setSpuDelay((Long) spuDelay);
+      Object videoTrack = pigeonVar_list.get(12);
+      pigeonResult.setVideoTrack((Long) videoTrack);
+      Object videoTracksCount = pigeonVar_list.get(13);
+      pigeonResult.setVideoTracksCount((Long) videoTracksCount);
+      Object videoScale = pigeonVar_list.get(14);
+      pigeonResult.setVideoScale((Double) videoScale);
+      Object aspectRatio = pigeonVar_list.get(15);
+      pigeonResult.setAspectRatio((String) aspectRatio);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A command of a batch, see executeBatch.
+   *
+   * [type] is the index of a VlcPlayerCommandType. Only the value fields the
+   * command takes are set, [media] for setMedia.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlayerCommandMessage {
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @Nullable Long intValue;
+
+    public @Nullable Long getIntValue() {
+      return intValue;
+    }
+
+    public void setIntValue(@Nullable Long setterArg) {
+      this.intValue = setterArg;
+    }
+
+    private @Nullable Double doubleValue;
+
+    public @Nullable Double getDoubleValue() {
+      return doubleValue;
+    }
+
+    public void setDoubleValue(@Nullable Double setterArg) {
+      this.doubleValue = setterArg;
+    }
+
+    private @Nullable Boolean boolValue;
+
+    public @Nullable Boolean getBoolValue() {
+      return boolValue;
+    }
+
+    public void setBoolValue(@Nullable Boolean setterArg) {
+      this.boolValue = setterArg;
+    }
+
+    private @Nullable String stringValue;
+
+    public @Nullable String getStringValue() {
+      return stringValue;
+    }
+
+    public void setStringValue(@Nullable String setterArg) {
+      this.stringValue = setterArg;
+    }
+
+    private @Nullable SetMediaMessage media;
+
+    public @Nullable SetMediaMessage getMedia() {
+      return media;
+    }
+
+    public void setMedia(@Nullable SetMediaMessage setterArg) {
+      this.media = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerCommandMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlayerCommandMessage that = (PlayerCommandMessage) o;
+      return type.equals(that.type) && Objects.equals(intValue, that.intValue) && Objects.equals(doubleValue, that.doubleValue) && Objects.equals(boolValue, that.boolValue) && Objects.equals(stringValue, that.stringValue) && Objects.equals(media, that.media);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, intValue, doubleValue, boolValue, stringValue, media);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long type;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intValue;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIntValue(@Nullable Long setterArg) {
+        this.intValue = setterArg;
+        return this;
+      }
+
+      private @Nullable Double doubleValue;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDoubleValue(@Nullable Double setterArg) {
+        this.doubleValue = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean boolValue;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBoolValue(@Nullable Boolean setterArg) {
+        this.boolValue = setterArg;
+        return this;
+      }
+
+      private @Nullable String stringValue;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setStringValue(@Nullable String setterArg) {
+        this.stringValue = setterArg;
+        return this;
+      }
+
+      private @Nullable SetMediaMessage media;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMedia(@Nullable SetMediaMessage setterArg) {
+        this.media = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerCommandMessage build() {
+        PlayerCommandMessage pigeonReturn = new PlayerCommandMessage();
+        pigeonReturn.setType(type);
+        pigeonReturn.setIntValue(intValue);
+        pigeonReturn.setDoubleValue(doubleValue);
+        pigeonReturn.setBoolValue(boolValue);
+        pigeonReturn.setStringValue(stringValue);
+        pigeonReturn.setMedia(media);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(6);
+      toListResult.add(type);
+      toListResult.add(intValue);
+      toListResult.add(doubleValue);
+      toListResult.add(boolValue);
+      toListResult.add(stringValue);
+      toListResult.add(media);
+      return toListResult;
+    }
+
+    static @NonNull PlayerCommandMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlayerCommandMessage pigeonResult = new PlayerCommandMessage();
+      Object type = pigeonVar_list.get(0);
+      pigeonResult.setType((Long) type);
+      Object intValue = pigeonVar_list.get(1);
+      pigeonResult.setIntValue((Long) intValue);
+      Object doubleValue = pigeonVar_list.get(2);
+      pigeonResult.setDoubleValue((Double) doubleValue);
+      Object boolValue = pigeonVar_list.get(3);
+      pigeonResult.setBoolValue((Boolean) boolValue);
+      Object stringValue = pigeonVar_list.get(4);
+      pigeonResult.setStringValue((String) stringValue);
+      Object media = pigeonVar_list.get(5);
+      pigeonResult.setMedia((SetMediaMessage) media);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Counters of the native player teardowns run after dispose.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class DisposalMetricsMessage {
+    private @NonNull Long pending;
+
+    public @NonNull Long getPending() {
+      return pending;
+    }
+
+    public void setPending(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"pending\" is null.");
+      }
+      this.pending = setterArg;
+    }
+
+    private @NonNull Long completed;
+
+    public @NonNull Long getCompleted() {
+      return completed;
+    }
+
+    public void setCompleted(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"completed\" is null.");
+      }
+      this.completed = setterArg;
+    }
+
+    private @NonNull Long failed;
+
+    public @NonNull Long getFailed() {
+      return failed;
+    }
+
+    public void setFailed(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"failed\" is null.");
+      }
+      this.failed = setterArg;
+    }
+
+    private @NonNull Long averageTeardownMillis;
+
+    public @NonNull Long getAverageTeardownMillis() {
+      return averageTeardownMillis;
+    }
+
+    public void setAverageTeardownMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageTeardownMillis\" is null.");
+      }
+      this.averageTeardownMillis = setterArg;
+    }
+
+    private @NonNull Long maxTeardownMillis;
+
+    public @NonNull Long getMaxTeardownMillis() {
+      return maxTeardownMillis;
+    }
+
+    public void setMaxTeardownMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxTeardownMillis\" is null.");
+      }
+      this.maxTeardownMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DisposalMetricsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DisposalMetricsMessage that = (DisposalMetricsMessage) o;
+      return pending.equals(that.pending) && completed.equals(that.completed) && failed.equals(that.failed) && averageTeardownMillis.equals(that.averageTeardownMillis) && maxTeardownMillis.equals(that.maxTeardownMillis);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(pending, completed, failed, averageTeardownMillis, maxTeardownMillis);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long pending;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPending(@NonNull Long setterArg) {
+        this.pending = setterArg;
+        return this;
+      }
+
+      private @Nullable Long completed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCompleted(@NonNull Long setterArg) {
+        this.completed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long failed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFailed(@NonNull Long setterArg) {
+        this.failed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageTeardownMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageTeardownMillis(@NonNull Long setterArg) {
+        this.averageTeardownMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxTeardownMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxTeardownMillis(@NonNull Long setterArg) {
+        this.maxTeardownMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull DisposalMetricsMessage build() {
+        DisposalMetricsMessage pigeonReturn = new DisposalMetricsMessage();
+        pigeonReturn.setPending(pending);
+        pigeonReturn.setCompleted(completed);
+        pigeonReturn.setFailed(failed);
+        pigeonReturn.setAverageTeardownMillis(averageTeardownMillis);
+        pigeonReturn.setMaxTeardownMillis(maxTeardownMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(pending);
+      toListResult.add(completed);
+      toListResult.add(failed);
+      toListResult.add(averageTeardownMillis);
+      toListResult.add(maxTeardownMillis);
+      return toListResult;
+    }
+
+    static @NonNull DisposalMetricsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DisposalMetricsMessage pigeonResult = new DisposalMetricsMessage();
+      Object pending = pigeonVar_list.get(0);
+      pigeonResult.setPending((Long) pending);
+      Object completed = pigeonVar_list.get(1);
+      pigeonResult.setCompleted((Long) completed);
+      Object failed = pigeonVar_list.get(2);
+      pigeonResult.setFailed((Long) failed);
+      Object averageTeardownMillis = pigeonVar_list.get(3);
+      pigeonResult.setAverageTeardownMillis((Long) averageTeardownMillis);
+      Object maxTeardownMillis = pigeonVar_list.get(4);
+      pigeonResult.setMaxTeardownMillis((Long) maxTeardownMillis);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A media to open in a hidden player ahead of playback.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PreloadMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @Nullable String packageName;
+
+    public @Nullable String getPackageName() {
+      return packageName;
+    }
+
+    public void setPackageName(@Nullable String setterArg) {
+      this.packageName = setterArg;
+    }
+
+    private @Nullable Long hwAcc;
+
+    public @Nullable Long getHwAcc() {
+      return hwAcc;
+    }
+
+    public void setHwAcc(@Nullable Long setterArg) {
+      this.hwAcc = setterArg;
+    }
+
+    private @NonNull List<String> options;
+
+    public @NonNull List<String> getOptions() {
+      return options;
+    }
+
+    public void setOptions(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"options\" is null.");
+      }
+      this.options = setterArg;
+    }
+
+    private @NonNull Long bufferMillis;
+
+    public @NonNull Long getBufferMillis() {
+      return bufferMillis;
+    }
+
+    public void setBufferMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferMillis\" is null.");
+      }
+      this.bufferMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PreloadMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PreloadMessage that = (PreloadMessage) o;
+      return uri.equals(that.uri) && type.equals(that.type) && Objects.equals(packageName, that.packageName) && Objects.equals(hwAcc, that.hwAcc) && options.equals(that.options) && bufferMillis.equals(that.bufferMillis);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(uri, type, packageName, hwAcc, options, bufferMillis);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long type;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable String packageName;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPackageName(@Nullable String setterArg) {
+        this.packageName = setterArg;
+        return this;
+      }
+
+      private @Nullable Long hwAcc;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHwAcc(@Nullable Long setterArg) {
+        this.hwAcc = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> options;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setOptions(@NonNull List<String> setterArg) {
+        this.options = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBufferMillis(@NonNull Long setterArg) {
+        this.bufferMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull PreloadMessage build() {
+        PreloadMessage pigeonReturn = new PreloadMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setType(type);
+        pigeonReturn.setPackageName(packageName);
+        pigeonReturn.setHwAcc(hwAcc);
+        pigeonReturn.setOptions(options);
+        pigeonReturn.setBufferMillis(bufferMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(6);
+      toListResult.add(uri);
+      toListResult.add(type);
+      toListResult.add(packageName);
+      toListResult.add(hwAcc);
+      toListResult.add(options);
+      toListResult.add(bufferMillis);
+      return toListResult;
+    }
+
+    static @NonNull PreloadMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PreloadMessage pigeonResult = new PreloadMessage();
+      Object uri = pigeonVar_list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object type = pigeonVar_list.get(1);
+      pigeonResult.setType((Long) type);
+      Object packageName = pigeonVar_list.get(2);
+      pigeonResult.setPackageName((String) packageName);
+      Object hwAcc = pigeonVar_list.get(3);
+      pigeonResult.setHwAcc((Long) hwAcc);
+      Object options = pigeonVar_list.get(4);
+      pigeonResult.setOptions((List<String>) options);
+      Object bufferMillis = pigeonVar_list.get(5);
+      pigeonResult.setBufferMillis((Long) bufferMillis);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Channel switches of a player and their latency to the first frame.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class ZapMetricsMessage {
+    private @NonNull Long zapCount;
+
+    public @NonNull Long getZapCount() {
+      return zapCount;
+    }
+
+    public void setZapCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"zapCount\" is null.");
+      }
+      this.zapCount = setterArg;
+    }
+
+    private @NonNull Long completedZapCount;
+
+    public @NonNull Long getCompletedZapCount() {
+      return completedZapCount;
+    }
+
+    public void setCompletedZapCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"completedZapCount\" is null.");
+      }
+      this.completedZapCount = setterArg;
+    }
+
+    private @NonNull Long abandonedZapCount;
+
+    public @NonNull Long getAbandonedZapCount() {
+      return abandonedZapCount;
+    }
+
+    public void setAbandonedZapCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"abandonedZapCount\" is null.");
+      }
+      this.abandonedZapCount = setterArg;
+    }
+
+    private @NonNull Long prebufferedZapCount;
+
+    public @NonNull Long getPrebufferedZapCount() {
+      return prebufferedZapCount;
+    }
+
+    public void setPrebufferedZapCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"prebufferedZapCount\" is null.");
+      }
+      this.prebufferedZapCount = setterArg;
+    }
+
+    private @NonNull Long lastLatencyMillis;
+
+    public @NonNull Long getLastLatencyMillis() {
+      return lastLatencyMillis;
+    }
+
+    public void setLastLatencyMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastLatencyMillis\" is null.");
+      }
+      this.lastLatencyMillis = setterArg;
+    }
+
+    private @NonNull Long averageLatencyMillis;
+
+    public @NonNull Long getAverageLatencyMillis() {
+      return averageLatencyMillis;
+    }
+
+    public void setAverageLatencyMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageLatencyMillis\" is null.");
+      }
+      this.averageLatencyMillis = setterArg;
+    }
+
+    private @NonNull Long maxLatencyMillis;
+
+    public @NonNull Long getMaxLatencyMillis() {
+      return maxLatencyMillis;
+    }
+
+    public void setMaxLatencyMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxLatencyMillis\" is null.");
+      }
+      this.maxLatencyMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ZapMetricsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      ZapMetricsMessage that = (ZapMetricsMessage) o;
+      return zapCount.equals(that.zapCount) && completedZapCount.equals(that.completedZapCount) && abandonedZapCount.equals(that.abandonedZapCount) && prebufferedZapCount.equals(that.prebufferedZapCount) && lastLatencyMillis.equals(that.lastLatencyMillis) && averageLatencyMillis.equals(that.averageLatencyMillis) && maxLatencyMillis.equals(that.maxLatencyMillis);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(zapCount, completedZapCount, abandonedZapCount, prebufferedZapCount, lastLatencyMillis, averageLatencyMillis, maxLatencyMillis);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long zapCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setZapCount(@NonNull Long setterArg) {
+        this.zapCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long completedZapCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCompletedZapCount(@NonNull Long setterArg) {
+        this.completedZapCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long abandonedZapCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAbandonedZapCount(@NonNull Long setterArg) {
+        this.abandonedZapCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long prebufferedZapCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPrebufferedZapCount(@NonNull Long setterArg) {
+        this.prebufferedZapCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastLatencyMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLastLatencyMillis(@NonNull Long setterArg) {
+        this.lastLatencyMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageLatencyMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageLatencyMillis(@NonNull Long setterArg) {
+        this.averageLatencyMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxLatencyMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxLatencyMillis(@NonNull Long setterArg) {
+        this.maxLatencyMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull ZapMetricsMessage build() {
+        ZapMetricsMessage pigeonReturn = new ZapMetricsMessage();
+        pigeonReturn.setZapCount(zapCount);
+        pigeonReturn.setCompletedZapCount(completedZapCount);
+        pigeonReturn.setAbandonedZapCount(abandonedZapCount);
+        pigeonReturn.setPrebufferedZapCount(prebufferedZapCount);
+        pigeonReturn.setLastLatencyMillis(lastLatencyMillis);
+        pigeonReturn.setAverageLatencyMillis(averageLatencyMillis);
+        pigeonReturn.setMaxLatencyMillis(maxLatencyMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(zapCount);
+      toListResult.add(completedZapCount);
+      toListResult.add(abandonedZapCount);
+      toListResult.add(prebufferedZapCount);
+      toListResult.add(lastLatencyMillis);
+      toListResult.add(averageLatencyMillis);
+      toListResult.add(maxLatencyMillis);
+      return toListResult;
+    }
+
+    static @NonNull ZapMetricsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      ZapMetricsMessage pigeonResult = new ZapMetricsMessage();
+      Object zapCount = pigeonVar_list.get(0);
+      pigeonResult.setZapCount((Long) zapCount);
+      Object completedZapCount = pigeonVar_list.get(1);
+      pigeonResult.setCompletedZapCount((Long) completedZapCount);
+      Object abandonedZapCount = pigeonVar_list.get(2);
+      pigeonResult.setAbandonedZapCount((Long) abandonedZapCount);
+      Object prebufferedZapCount = pigeonVar_list.get(3);
+      pigeonResult.setPrebufferedZapCount((Long) prebufferedZapCount);
+      Object lastLatencyMillis = pigeonVar_list.get(4);
+      pigeonResult.setLastLatencyMillis((Long) lastLatencyMillis);
+      Object averageLatencyMillis = pigeonVar_list.get(5);
+      pigeonResult.setAverageLatencyMillis((Long) averageLatencyMillis);
+      Object maxLatencyMillis = pigeonVar_list.get(6);
+      pigeonResult.setMaxLatencyMillis((Long) maxLatencyMillis);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * An item of a player's playlist.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlaylistItemMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @Nullable String packageName;
+
+    public @Nullable String getPackageName() {
+      return packageName;
+    }
+
+    public void setPackageName(@Nullable String setterArg) {
+      this.packageName = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaylistItemMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlaylistItemMessage that = (PlaylistItemMessage) o;
+      return uri.equals(that.uri) && type.equals(that.type) && Objects.equals(packageName, that.packageName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(uri, type, packageName);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long type;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable String packageName;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPackageName(@Nullable String setterArg) {
+        this.packageName = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaylistItemMessage build() {
+        PlaylistItemMessage pigeonReturn = new PlaylistItemMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setType(type);
+        pigeonReturn.setPackageName(packageName);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(uri);
+      toListResult.add(type);
+      toListResult.add(packageName);
+      return toListResult;
+    }
+
+    static @NonNull PlaylistItemMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlaylistItemMessage pigeonResult = new PlaylistItemMessage();
+      Object uri = pigeonVar_list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object type = pigeonVar_list.get(1);
+      pigeonResult.setType((Long) type);
+      Object packageName = pigeonVar_list.get(2);
+      pigeonResult.setPackageName((String) packageName);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The frame a step moved to. [frame] is the image to show over the video
+   * when the step was served from the ring of recent frames, and null when
+   * the player displays the frame itself.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class FrameStepMessage {
+    private @NonNull Long position;
+
+    public @NonNull Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    private @Nullable byte[] frame;
+
+    public @Nullable byte[] getFrame() {
+      return frame;
+    }
+
+    public void setFrame(@Nullable byte[] setterArg) {
+      this.frame = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    FrameStepMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      FrameStepMessage that = (FrameStepMessage) o;
+      return position.equals(that.position) && Arrays.equals(frame, that.frame);
+    }
+
+    @Override
+    public int hashCode() {
+      int pigeonVar_result = Objects.hash(position);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(frame);
+      return pigeonVar_result;
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@NonNull Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable byte[] frame;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFrame(@Nullable byte[] setterArg) {
+        this.frame = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameStepMessage build() {
+        FrameStepMessage pigeonReturn = new FrameStepMessage();
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setFrame(frame);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(position);
+      toListResult.add(frame);
+      return toListResult;
+    }
+
+    static @NonNull FrameStepMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      FrameStepMessage pigeonResult = new FrameStepMessage();
+      Object position = pigeonVar_list.get(0);
+      pigeonResult.setPosition((Long) position);
+      Object frame = pigeonVar_list.get(1);
+      pigeonResult.setFrame((byte[]) frame);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * How a snapshot is scaled and encoded. The snapshot keeps the aspect ratio
+   * of the video and fits in [maxWidth] x [maxHeight], each unbounded if null.
+   * [format] is the index of the format (JPEG, PNG, WEBP). The snapshot is
+   * written to [path], or returned as bytes if null.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class SnapshotOptionsMessage {
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long quality;
+
+    public @NonNull Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"quality\" is null.");
+      }
+      this.quality = setterArg;
+    }
+
+    private @Nullable String path;
+
+    public @Nullable String getPath() {
+      return path;
+    }
+
+    public void setPath(@Nullable String setterArg) {
+      this.path = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SnapshotOptionsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      SnapshotOptionsMessage that = (SnapshotOptionsMessage) o;
+      return Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight) && format.equals(that.format) && quality.equals(that.quality) && Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(maxWidth, maxHeight, format, quality, path);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long maxWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long quality;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQuality(@NonNull Long setterArg) {
+        this.quality = setterArg;
+        return this;
+      }
+
+      private @Nullable String path;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPath(@Nullable String setterArg) {
+        this.path = setterArg;
+        return this;
+      }
+
+      public @NonNull SnapshotOptionsMessage build() {
+        SnapshotOptionsMessage pigeonReturn = new SnapshotOptionsMessage();
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setQuality(quality);
+        pigeonReturn.setPath(path);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      toListResult.add(format);
+      toListResult.add(quality);
+      toListResult.add(path);
+      return toListResult;
+    }
+
+    static @NonNull SnapshotOptionsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      SnapshotOptionsMessage pigeonResult = new SnapshotOptionsMessage();
+      Object maxWidth = pigeonVar_list.get(0);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(1);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      Object format = pigeonVar_list.get(2);
+      pigeonResult.setFormat((Long) format);
+      Object quality = pigeonVar_list.get(3);
+      pigeonResult.setQuality((Long) quality);
+      Object path = pigeonVar_list.get(4);
+      pigeonResult.setPath((String) path);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A snapshot, as [bytes] or written to the file at [path].
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class SnapshotMessage {
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    private @Nullable String path;
+
+    public @Nullable String getPath() {
+      return path;
+    }
+
+    public void setPath(@Nullable String setterArg) {
+      this.path = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SnapshotMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      SnapshotMessage that = (SnapshotMessage) o;
+      return width.equals(that.width) && height.equals(that.height) && Arrays.equals(bytes, that.bytes) && Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      int pigeonVar_result = Objects.hash(width, height, path);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(bytes);
+      return pigeonVar_result;
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable byte[] bytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable String path;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPath(@Nullable String setterArg) {
+        this.path = setterArg;
+        return this;
+      }
+
+      public @NonNull SnapshotMessage build() {
+        SnapshotMessage pigeonReturn = new SnapshotMessage();
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setPath(path);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(bytes);
+      toListResult.add(path);
+      return toListResult;
+    }
+
+    static @NonNull SnapshotMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      SnapshotMessage pigeonResult = new SnapshotMessage();
+      Object width = pigeonVar_list.get(0);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(1);
+      pigeonResult.setHeight((Long) height);
+      Object bytes = pigeonVar_list.get(2);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object path = pigeonVar_list.get(3);
+      pigeonResult.setPath((String) path);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * How frames are tapped: [chroma] is the index of the chroma (RGBA, I420),
+   * frames fit in [maxWidth] x [maxHeight], each unbounded if null, and
+   * [backpressure] is the index of the policy (drop newest, keep latest).
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class FrameTapMessage {
+    private @NonNull Long chroma;
+
+    public @NonNull Long getChroma() {
+      return chroma;
+    }
+
+    public void setChroma(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"chroma\" is null.");
+      }
+      this.chroma = setterArg;
+    }
+
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private @NonNull Long intervalMillis;
+
+    public @NonNull Long getIntervalMillis() {
+      return intervalMillis;
+    }
+
+    public void setIntervalMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMillis\" is null.");
+      }
+      this.intervalMillis = setterArg;
+    }
+
+    private @NonNull Long backpressure;
+
+    public @NonNull Long getBackpressure() {
+      return backpressure;
+    }
+
+    public void setBackpressure(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"backpressure\" is null.");
+      }
+      this.backpressure = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    FrameTapMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      FrameTapMessage that = (FrameTapMessage) o;
+      return chroma.equals(that.chroma) && Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight) && intervalMillis.equals(that.intervalMillis) && backpressure.equals(that.backpressure);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(chroma, maxWidth, maxHeight, intervalMillis, backpressure);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long chroma;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setChroma(@NonNull Long setterArg) {
+        this.chroma = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intervalMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIntervalMillis(@NonNull Long setterArg) {
+        this.intervalMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backpressure;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBackpressure(@NonNull Long setterArg) {
+        this.backpressure = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameTapMessage build() {
+        FrameTapMessage pigeonReturn = new FrameTapMessage();
+        pigeonReturn.setChroma(chroma);
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        pigeonReturn.setIntervalMillis(intervalMillis);
+        pigeonReturn.setBackpressure(backpressure);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(chroma);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      toListResult.add(intervalMillis);
+      toListResult.add(backpressure);
+      return toListResult;
+    }
+
+    static @NonNull FrameTapMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      FrameTapMessage pigeonResult = new FrameTapMessage();
+      Object chroma = pigeonVar_list.get(0);
+      pigeonResult.setChroma((Long) chroma);
+      Object maxWidth = pigeonVar_list.get(1);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(2);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      Object intervalMillis = pigeonVar_list.get(3);
+      pigeonResult.setIntervalMillis((Long) intervalMillis);
+      Object backpressure = pigeonVar_list.get(4);
+      pigeonResult.setBackpressure((Long) backpressure);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Counters of the LibVLC instances shared among players.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class LibVLCPoolMetricsMessage {
+    private @NonNull Long instances;
+
+    public @NonNull Long getInstances() {
+      return instances;
+    }
+
+    public void setInstances(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"instances\" is null.");
+      }
+      this.instances = setterArg;
+    }
+
+    private @NonNull Long createMillis;
+
+    public @NonNull Long getCreateMillis() {
+      return createMillis;
+    }
+
+    public void setCreateMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"createMillis\" is null.");
+      }
+      this.createMillis = setterArg;
+    }
+
+    private @NonNull Long nativeBytes;
+
+    public @NonNull Long getNativeBytes() {
+      return nativeBytes;
+    }
+
+    public void setNativeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"nativeBytes\" is null.");
+      }
+      this.nativeBytes = setterArg;
+    }
+
+    private @NonNull Long sharedAcquisitions;
+
+    public @NonNull Long getSharedAcquisitions() {
+      return sharedAcquisitions;
+    }
+
+    public void setSharedAcquisitions(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sharedAcquisitions\" is null.");
+      }
+      this.sharedAcquisitions = setterArg;
+    }
+
+    private @NonNull Long startupMillisSaved;
+
+    public @NonNull Long getStartupMillisSaved() {
+      return startupMillisSaved;
+    }
+
+    public void setStartupMillisSaved(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"startupMillisSaved\" is null.");
+      }
+      this.startupMillisSaved = setterArg;
+    }
+
+    private @NonNull Long nativeBytesSaved;
+
+    public @NonNull Long getNativeBytesSaved() {
+      return nativeBytesSaved;
+    }
+
+    public void setNativeBytesSaved(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"nativeBytesSaved\" is null.");
+      }
+      this.nativeBytesSaved = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    LibVLCPoolMetricsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      LibVLCPoolMetricsMessage that = (LibVLCPoolMetricsMessage) o;
+      return instances.equals(that.instances) && createMillis.equals(that.createMillis) && nativeBytes.equals(that.nativeBytes) && sharedAcquisitions.equals(that.sharedAcquisitions) && startupMillisSaved.equals(that.startupMillisSaved) && nativeBytesSaved.equals(that.nativeBytesSaved);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(instances, createMillis, nativeBytes, sharedAcquisitions, startupMillisSaved, nativeBytesSaved);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long instances;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setInstances(@NonNull Long setterArg) {
+        this.instances = setterArg;
+        return this;
+      }
+
+      private @Nullable Long createMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCreateMillis(@NonNull Long setterArg) {
+        this.createMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long nativeBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNativeBytes(@NonNull Long setterArg) {
+        this.nativeBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long sharedAcquisitions;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSharedAcquisitions(@NonNull Long setterArg) {
+        this.sharedAcquisitions = setterArg;
+        return this;
+      }
+
+      private @Nullable Long startupMillisSaved;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setStartupMillisSaved(@NonNull Long setterArg) {
+        this.startupMillisSaved = setterArg;
+        return this;
+      }
+
+      private @Nullable Long nativeBytesSaved;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNativeBytesSaved(@NonNull Long setterArg) {
+        this.nativeBytesSaved = setterArg;
+        return this;
+      }
+
+      public @NonNull LibVLCPoolMetricsMessage build() {
+        LibVLCPoolMetricsMessage pigeonReturn = new LibVLCPoolMetricsMessage();
+        pigeonReturn.setInstances(instances);
+        pigeonReturn.setCreateMillis(createMillis);
+        pigeonReturn.setNativeBytes(nativeBytes);
+        pigeonReturn.setSharedAcquisitions(sharedAcquisitions);
+        pigeonReturn.setStartupMillisSaved(startupMillisSaved);
+        pigeonReturn.setNativeBytesSaved(nativeBytesSaved);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(6);
+      toListResult.add(instances);
+      toListResult.add(createMillis);
+      toListResult.add(nativeBytes);
+      toListResult.add(sharedAcquisitions);
+      toListResult.add(startupMillisSaved);
+      toListResult.add(nativeBytesSaved);
+      return toListResult;
+    }
+
+    static @NonNull LibVLCPoolMetricsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      LibVLCPoolMetricsMessage pigeonResult = new LibVLCPoolMetricsMessage();
+      Object instances = pigeonVar_list.get(0);
+      pigeonResult.setInstances((Long) instances);
+      Object createMillis = pigeonVar_list.get(1);
+      pigeonResult.setCreateMillis((Long) createMillis);
+      Object nativeBytes = pigeonVar_list.get(2);
+      pigeonResult.setNativeBytes((Long) nativeBytes);
+      Object sharedAcquisitions = pigeonVar_list.get(3);
+      pigeonResult.setSharedAcquisitions((Long) sharedAcquisitions);
+      Object startupMillisSaved = pigeonVar_list.get(4);
+      pigeonResult.setStartupMillisSaved((Long) startupMillisSaved);
+      Object nativeBytesSaved = pigeonVar_list.get(5);
+      pigeonResult.setNativeBytesSaved((Long) nativeBytesSaved);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Counters of the events a player sent to Dart.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class EventSinkMetricsMessage {
+    private @NonNull Long enqueued;
+
+    public @NonNull Long getEnqueued() {
+      return enqueued;
+    }
+
+    public void setEnqueued(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"enqueued\" is null.");
+      }
+      this.enqueued = setterArg;
+    }
+
+    private @NonNull Long delivered;
+
+    public @NonNull Long getDelivered() {
+      return delivered;
+    }
+
+    public void setDelivered(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"delivered\" is null.");
+      }
+      this.delivered = setterArg;
+    }
+
+    private @NonNull Long compacted;
+
+    public @NonNull Long getCompacted() {
+      return compacted;
+    }
+
+    public void setCompacted(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"compacted\" is null.");
+      }
+      this.compacted = setterArg;
+    }
+
+    private @NonNull Long dropped;
+
+    public @NonNull Long getDropped() {
+      return dropped;
+    }
+
+    public void setDropped(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"dropped\" is null.");
+      }
+      this.dropped = setterArg;
+    }
+
+    private @NonNull Long queued;
+
+    public @NonNull Long getQueued() {
+      return queued;
+    }
+
+    public void setQueued(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queued\" is null.");
+      }
+      this.queued = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    EventSinkMetricsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      EventSinkMetricsMessage that = (EventSinkMetricsMessage) o;
+      return enqueued.equals(that.enqueued) && delivered.equals(that.delivered) && compacted.equals(that.compacted) && dropped.equals(that.dropped) && queued.equals(that.queued);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(enqueued, delivered, compacted, dropped, queued);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long enqueued;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEnqueued(@NonNull Long setterArg) {
+        this.enqueued = setterArg;
+        return this;
+      }
+
+      private @Nullable Long delivered;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDelivered(@NonNull Long setterArg) {
+        this.delivered = setterArg;
+        return this;
+      }
+
+      private @Nullable Long compacted;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCompacted(@NonNull Long setterArg) {
+        this.compacted = setterArg;
+        return this;
+      }
+
+      private @Nullable Long dropped;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDropped(@NonNull Long setterArg) {
+        this.dropped = setterArg;
+        return this;
+      }
+
+      private @Nullable Long queued;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQueued(@NonNull Long setterArg) {
+        this.queued = setterArg;
+        return this;
+      }
+
+      public @NonNull EventSinkMetricsMessage build() {
+        EventSinkMetricsMessage pigeonReturn = new EventSinkMetricsMessage();
+        pigeonReturn.setEnqueued(enqueued);
+        pigeonReturn.setDelivered(delivered);
+        pigeonReturn.setCompacted(compacted);
+        pigeonReturn.setDropped(dropped);
+        pigeonReturn.setQueued(queued);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(enqueued);
+      toListResult.add(delivered);
+      toListResult.add(compacted);
+      toListResult.add(dropped);
+      toListResult.add(queued);
+      return toListResult;
+    }
+
+    static @NonNull EventSinkMetricsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      EventSinkMetricsMessage pigeonResult = new EventSinkMetricsMessage();
+      Object enqueued = pigeonVar_list.get(0);
+      pigeonResult.setEnqueued((Long) enqueued);
+      Object delivered = pigeonVar_list.get(1);
+      pigeonResult.setDelivered((Long) delivered);
+      Object compacted = pigeonVar_list.get(2);
+      pigeonResult.setCompacted((Long) compacted);
+      Object dropped = pigeonVar_list.get(3);
+      pigeonResult.setDropped((Long) dropped);
+      Object queued = pigeonVar_list.get(4);
+      pigeonResult.setQueued((Long) queued);
+      return pigeonResult;
+    }
+  }
+
+  private static class PigeonCodec extends StandardMessageCodec {
+    public static final PigeonCodec INSTANCE = new PigeonCodec();
+
+    private PigeonCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 129:
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return SetMediaMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 131:
+          return SpuTracksMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return AddSubtitleMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 133:
+          return AddAudioMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 134:
+          return MediaEventMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return RendererEventMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return PlaybackStateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return PlayerCommandMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return DisposalMetricsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return PreloadMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return ZapMetricsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlaylistItemMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return FrameStepMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return SnapshotOptionsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return SnapshotMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return FrameTapMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return LibVLCPoolMetricsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return EventSinkMetricsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CreateMessage) {
+        stream.write(129);
+        writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof SetMediaMessage) {
+        stream.write(130);
+        writeValue(stream, ((SetMediaMessage) value).toList());
+      } else if (value instanceof SpuTracksMessage) {
+        stream.write(131);
+        writeValue(stream, ((SpuTracksMessage) value).toList());
+      } else if (value instanceof AddSubtitleMessage) {
+        stream.write(132);
+        writeValue(stream, ((AddSubtitleMessage) value).toList());
+      } else if (value instanceof AddAudioMessage) {
+        stream.write(133);
+        writeValue(stream, ((AddAudioMessage) value).toList());
+      } else if (value instanceof MediaEventMessage) {
+        stream.write(134);
+        writeValue(stream, ((MediaEventMessage) value).toList());
+      } else if (value instanceof RendererEventMessage) {
+        stream.write(135);
+        writeValue(stream, ((RendererEventMessage) value).toList());
+      } else if (value instanceof PlaybackStateMessage) {
+        stream.write(136);
+        writeValue(stream, ((PlaybackStateMessage) value).toList());
+      } else if (value instanceof PlayerCommandMessage) {
+        stream.write(137);
+        writeValue(stream, ((PlayerCommandMessage) value).toList());
+      } else if (value instanceof DisposalMetricsMessage) {
+        stream.write(138);
+        writeValue(stream, ((DisposalMetricsMessage) value).toList());
+      } else if (value instanceof PreloadMessage) {
+        stream.write(139);
+        writeValue(stream, ((PreloadMessage) value).toList());
+      } else if (value instanceof ZapMetricsMessage) {
+        stream.write(140);
+        writeValue(stream, ((ZapMetricsMessage) value).toList());
+      } else if (value instanceof PlaylistItemMessage) {
+        stream.write(141);
+        writeValue(stream, ((PlaylistItemMessage) value).toList());
+      } else if (value instanceof FrameStepMessage) {
+        stream.write(142);
+        writeValue(stream, ((FrameStepMessage) value).toList());
+      } else if (value instanceof SnapshotOptionsMessage) {
+        stream.write(143);
+        writeValue(stream, ((SnapshotOptionsMessage) value).toList());
+      } else if (value instanceof SnapshotMessage) {
+        stream.write(144);
+        writeValue(stream, ((SnapshotMessage) value).toList());
+      } else if (value instanceof FrameTapMessage) {
+        stream.write(145);
+        writeValue(stream, ((FrameTapMessage) value).toList());
+      } else if (value instanceof LibVLCPoolMetricsMessage) {
+        stream.write(146);
+        writeValue(stream, ((LibVLCPoolMetricsMessage) value).toList());
+      } else if (value instanceof EventSinkMetricsMessage) {
+        stream.write(147);
+        writeValue(stream, ((EventSinkMetricsMessage) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+
+  /** Asynchronous error handling return type for non-nullable API method returns. */
+  public interface Result<T> {
+    /** Success case callback method for handling returns. */
+    void success(@NonNull T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for nullable API method returns. */
+  public interface NullableResult<T> {
+    /** Success case callback method for handling returns. */
+    void success(@Nullable T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for void API method returns. */
+  public interface VoidResult {
+    /** Success case callback method for handling returns. */
+    void success();
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface VlcPlayerApi {
+
+    void initialize();
+
+    void create(@NonNull CreateMessage msg);
+
+    void dispose(@NonNull Long playerId);
+
+    void setStreamUrl(@NonNull SetMediaMessage msg);
+
+    void play(@NonNull Long playerId);
+
+    void pause(@NonNull Long playerId);
+
+    void stop(@NonNull Long playerId);
+
+    @NonNull 
+    Boolean isPlaying(@NonNull Long playerId);
+
+    @NonNull 
+    Boolean isSeekable(@NonNull Long playerId);
+
+    void setLooping(@NonNull Long playerId, @NonNull Boolean isLooping);
+
+    void seekTo(@NonNull Long playerId, @NonNull Long position);
+
+    @NonNull 
+    Long position(@NonNull Long playerId);
+
+    @NonNull 
+    Long duration(@NonNull Long playerId);
+
+    void setVolume(@NonNull Long playerId, @NonNull Long volume);
+
+    @NonNull 
+    Long getVolume(@NonNull Long playerId);
+
+    void setPlaybackSpeed(@NonNull Long playerId, @NonNull Double speed);
+
+    @NonNull 
+    Double getPlaybackSpeed(@NonNull Long playerId);
+
+    @Nullable 
+    String takeSnapshot(@NonNull Long playerId);
+
+    @NonNull 
+    Long getSpuTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getSpuTracks(@NonNull Long playerId);
+
+    void setSpuTrack(@NonNull Long playerId, @NonNull Long spuTrackNumber);
+
+    @NonNull 
+    Long getSpuTrack(@NonNull Long playerId);
+
+    void setSpuDelay(@NonNull Long playerId, @NonNull Long delay);
+
+    @NonNull 
+    Long getSpuDelay(@NonNull Long playerId);
+
+    void addSubtitleTrack(@NonNull AddSubtitleMessage msg);
+
+    @NonNull 
+    Long getAudioTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getAudioTracks(@NonNull Long playerId);
+
+    void setAudioTrack(@NonNull Long playerId, @NonNull Long audioTrackNumber);
+
+    @NonNull 
+    Long getAudioTrack(@NonNull Long playerId);
+
+    void setAudioDelay(@NonNull Long playerId, @NonNull Long delay);
+
+    @NonNull 
+    Long getAudioDelay(@NonNull Long playerId);
+
+    void addAudioTrack(@NonNull AddAudioMessage msg);
+
+    @NonNull 
+    Long getVideoTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getVideoTracks(@NonNull Long playerId);
+
+    void setVideoTrack(@NonNull Long playerId, @NonNull Long videoTrackNumber);
+
+    @NonNull 
+    Long getVideoTrack(@NonNull Long playerId);
+
+    void setVideoScale(@NonNull Long playerId, @NonNull Double scale);
+
+    @NonNull 
+    Double getVideoScale(@NonNull Long playerId);
+
+    void setVideoAspectRatio(@NonNull Long playerId, @NonNull String aspectRatio);
+
+    @NonNull 
+    String getVideoAspectRatio(@NonNull Long playerId);
+
+    @NonNull 
+    List<String> getAvailableRendererServices(@NonNull Long playerId);
+
+    void startRendererScanning(@NonNull Long playerId, @NonNull String rendererService);
+
+    void stopRendererScanning(@NonNull Long playerId);
+
+    @NonNull 
+    Map<String, String> getRendererDevices(@NonNull Long playerId);
+
+    void castToRenderer(@NonNull Long playerId, @NonNull String rendererId);
+
+    @NonNull 
+    Boolean startRecording(@NonNull Long playerId, @NonNull String saveDirectory);
+
+    @NonNull 
+    Boolean stopRecording(@NonNull Long playerId);
+
+    @NonNull 
+    Boolean setEventMultiplexing(@NonNull Boolean enabled);
+
+    void setClockAnchors(@NonNull Long playerId, @NonNull Boolean enabled);
+
+    @NonNull 
+    PlaybackStateMessage getPlaybackState(@NonNull Long playerId);
+
+    @NonNull 
+    List<String> executeBatch(@NonNull Long playerId, @NonNull List<PlayerCommandMessage> commands);
+
+    @NonNull 
+    Map<Long, String> executeBulk(@Nullable List<Long> playerIds, @NonNull List<PlayerCommandMessage> commands);
+
+    @NonNull 
+    Boolean setBackgroundExecution(@NonNull Boolean enabled);
+
+    @NonNull 
+    DisposalMetricsMessage getDisposalMetrics();
+
+    void setPlayerRecycling(@NonNull Long maxSize, @NonNull Long idleTimeoutMillis);
+
+    @NonNull 
+    Boolean preload(@NonNull PreloadMessage msg);
+
+    @NonNull 
+    Boolean cancelPreload(@NonNull String uri, @NonNull Long type, @Nullable String packageName);
+
+    void setPreloadBudget(@NonNull Long maxPreloads, @NonNull Long maxBufferMillis);
+
+    void setZapChannels(@NonNull Long playerId, @NonNull List<String> uris, @NonNull Long neighbours, @Nullable Long hwAcc);
+
+    void zapTo(@NonNull Long playerId, @NonNull Long index);
+
+    @NonNull 
+    ZapMetricsMessage getZapMetrics(@NonNull Long playerId);
+
+    void playlistAdd(@NonNull Long playerId, @NonNull List<PlaylistItemMessage> items, @Nullable Long index);
+
+    void playlistRemove(@NonNull Long playerId, @NonNull Long index);
+
+    void playlistPlay(@NonNull Long playerId, @NonNull Long index);
+
+    void playlistClear(@NonNull Long playerId);
+
+    void setScrubbing(@NonNull Long playerId, @NonNull Boolean scrubbing);
+
+    void setTrickPlay(@NonNull Long playerId, @NonNull Double rate);
+
+    void nextFrame(@NonNull Long playerId, @NonNull Result<FrameStepMessage> result);
+
+    void previousFrame(@NonNull Long playerId, @NonNull Result<FrameStepMessage> result);
+
+    void takeScaledSnapshot(@NonNull Long playerId, @NonNull SnapshotOptionsMessage options, @NonNull NullableResult<SnapshotMessage> result);
+
+    void startFrameTap(@NonNull Long playerId, @NonNull FrameTapMessage options);
+
+    void stopFrameTap(@NonNull Long playerId);
+
+    void setEventsSubscribed(@NonNull Long playerId, @NonNull Long kind, @NonNull Boolean subscribed);
+
+    @NonNull 
+    LibVLCPoolMetricsMessage getLibVLCPoolMetrics();
+
+    @NonNull 
+    EventSinkMetricsMessage getEventSinkMetrics(@NonNull Long playerId);
+
+    void setStateUpdateInterval(@NonNull Long playerId, @NonNull Long intervalMillis);
+
+    /** The codec used by VlcPlayerApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable VlcPlayerApi api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable VlcPlayerApi api) {
       messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.initialize();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CreateMessage msgArg = (CreateMessage) args.get(0);
+                try {
+                  api.create(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.dispose(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                try {
+                  api.setStreamUrl(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.play(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.pause(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.stop(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Boolean output = api.isPlaying(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Boolean output = api.isSeekable(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Boolean isLoopingArg = (Boolean) args.get(1);
+                try {
+                  api.setLooping(playerIdArg, isLoopingArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long positionArg = (Long) args.get(1);
+                try {
+                  api.seekTo(playerIdArg, positionArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.position(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.duration(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long volumeArg = (Long) args.get(1);
+                try {
+                  api.setVolume(playerIdArg, volumeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getVolume(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Double speedArg = (Double) args.get(1);
+                try {
+                  api.setPlaybackSpeed(playerIdArg, speedArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Double output = api.getPlaybackSpeed(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  String output = api.takeSnapshot(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getSpuTracksCount(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Map<Long, String> output = api.getSpuTracks(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long spuTrackNumberArg = (Long) args.get(1);
+                try {
+                  api.setSpuTrack(playerIdArg, spuTrackNumberArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getSpuTrack(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long delayArg = (Long) args.get(1);
+                try {
+                  api.setSpuDelay(playerIdArg, delayArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getSpuDelay(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                AddSubtitleMessage msgArg = (AddSubtitleMessage) args.get(0);
+                try {
+                  api.addSubtitleTrack(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getAudioTracksCount(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Map<Long, String> output = api.getAudioTracks(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long audioTrackNumberArg = (Long) args.get(1);
+                try {
+                  api.setAudioTrack(playerIdArg, audioTrackNumberArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.initialize();
-                  wrapped.add(0, null);
+                  Long output = api.getAudioTrack(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1021,15 +4582,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                CreateMessage msgArg = (CreateMessage) args.get(0);
+                Long playerIdArg = (Long) args.get(0);
+                Long delayArg = (Long) args.get(1);
                 try {
-                  api.create(msgArg);
+                  api.setAudioDelay(playerIdArg, delayArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1044,7 +4606,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1052,8 +4614,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.dispose(playerIdArg);
-                  wrapped.add(0, null);
+                  Long output = api.getAudioDelay(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1067,15 +4629,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                AddAudioMessage msgArg = (AddAudioMessage) args.get(0);
                 try {
-                  api.setStreamUrl(msgArg);
+                  api.addAudioTrack(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1090,7 +4652,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1098,8 +4660,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.play(playerIdArg);
-                  wrapped.add(0, null);
+                  Long output = api.getVideoTracksCount(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1113,7 +4675,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1121,8 +4683,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.pause(playerIdArg);
-                  wrapped.add(0, null);
+                  Map<Long, String> output = api.getVideoTracks(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1136,15 +4698,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long videoTrackNumberArg = (Long) args.get(1);
                 try {
-                  api.stop(playerIdArg);
+                  api.setVideoTrack(playerIdArg, videoTrackNumberArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1159,7 +4722,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1167,7 +4730,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Boolean output = api.isPlaying(playerIdArg);
+                  Long output = api.getVideoTrack(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1182,16 +4745,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Double scaleArg = (Double) args.get(1);
                 try {
-                  Boolean output = api.isSeekable(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setVideoScale(playerIdArg, scaleArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1205,17 +4769,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Boolean isLoopingArg = (Boolean) args.get(1);
                 try {
-                  api.setLooping(playerIdArg, isLoopingArg);
-                  wrapped.add(0, null);
+                  Double output = api.getVideoScale(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1229,16 +4792,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long positionArg = (Long) args.get(1);
+                String aspectRatioArg = (String) args.get(1);
                 try {
-                  api.seekTo(playerIdArg, positionArg);
+                  api.setVideoAspectRatio(playerIdArg, aspectRatioArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1253,7 +4816,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1261,7 +4824,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.position(playerIdArg);
+                  String output = api.getVideoAspectRatio(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1276,7 +4839,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1284,7 +4847,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.duration(playerIdArg);
+                  List<String> output = api.getAvailableRendererServices(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1299,16 +4862,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long volumeArg = (Long) args.get(1);
+                String rendererServiceArg = (String) args.get(1);
                 try {
-                  api.setVolume(playerIdArg, volumeArg);
+                  api.startRendererScanning(playerIdArg, rendererServiceArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1323,7 +4886,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1331,8 +4894,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getVolume(playerIdArg);
-                  wrapped.add(0, output);
+                  api.stopRendererScanning(playerIdArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1346,17 +4909,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Double speedArg = (Double) args.get(1);
                 try {
-                  api.setPlaybackSpeed(playerIdArg, speedArg);
-                  wrapped.add(0, null);
+                  Map<String, String> output = api.getRendererDevices(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1370,16 +4932,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                String rendererIdArg = (String) args.get(1);
                 try {
-                  Double output = api.getPlaybackSpeed(playerIdArg);
-                  wrapped.add(0, output);
+                  api.castToRenderer(playerIdArg, rendererIdArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1393,15 +4956,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                String saveDirectoryArg = (String) args.get(1);
                 try {
-                  String output = api.takeSnapshot(playerIdArg);
+                  Boolean output = api.startRecording(playerIdArg, saveDirectoryArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1416,7 +4980,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1424,7 +4988,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getSpuTracksCount(playerIdArg);
+                  Boolean output = api.stopRecording(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1439,15 +5003,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventMultiplexing" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(0);
                 try {
-                  Map<Long, String> output = api.getSpuTracks(playerIdArg);
+                  Boolean output = api.setEventMultiplexing(enabledArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1462,16 +5026,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setClockAnchors" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long spuTrackNumberArg = (Long) args.get(1);
+                Boolean enabledArg = (Boolean) args.get(1);
                 try {
-                  api.setSpuTrack(playerIdArg, spuTrackNumberArg);
+                  api.setClockAnchors(playerIdArg, enabledArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1486,7 +5050,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackState" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1494,7 +5058,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getSpuTrack(playerIdArg);
+                  PlaybackStateMessage output = api.getPlaybackState(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1509,17 +5073,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long delayArg = (Long) args.get(1);
+                List<PlayerCommandMessage> commandsArg = (List<PlayerCommandMessage>) args.get(1);
                 try {
-                  api.setSpuDelay(playerIdArg, delayArg);
-                  wrapped.add(0, null);
+                  List<String> output = api.executeBatch(playerIdArg, commandsArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1533,15 +5097,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBulk" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                List<Long> playerIdsArg = (List<Long>) args.get(0);
+                List<PlayerCommandMessage> commandsArg = (List<PlayerCommandMessage>) args.get(1);
                 try {
-                  Long output = api.getSpuDelay(playerIdArg);
+                  Map<Long, String> output = api.executeBulk(playerIdsArg, commandsArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1556,16 +5121,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setBackgroundExecution" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                AddSubtitleMessage msgArg = (AddSubtitleMessage) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(0);
                 try {
-                  api.addSubtitleTrack(msgArg);
-                  wrapped.add(0, null);
+                  Boolean output = api.setBackgroundExecution(enabledArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1579,15 +5144,13 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getDisposalMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getAudioTracksCount(playerIdArg);
+                  DisposalMetricsMessage output = api.getDisposalMetrics();
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1602,16 +5165,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlayerRecycling" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                Long maxSizeArg = (Long) args.get(0);
+                Long idleTimeoutMillisArg = (Long) args.get(1);
                 try {
-                  Map<Long, String> output = api.getAudioTracks(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setPlayerRecycling(maxSizeArg, idleTimeoutMillisArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1625,17 +5189,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.preload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                Long audioTrackNumberArg = (Long) args.get(1);
+                PreloadMessage msgArg = (PreloadMessage) args.get(0);
                 try {
-                  api.setAudioTrack(playerIdArg, audioTrackNumberArg);
-                  wrapped.add(0, null);
+                  Boolean output = api.preload(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1649,15 +5212,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelPreload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                String uriArg = (String) args.get(0);
+                Long typeArg = (Long) args.get(1);
+                String packageNameArg = (String) args.get(2);
                 try {
-                  Long output = api.getAudioTrack(playerIdArg);
+                  Boolean output = api.cancelPreload(uriArg, typeArg, packageNameArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1672,16 +5237,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPreloadBudget" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                Long delayArg = (Long) args.get(1);
+                Long maxPreloadsArg = (Long) args.get(0);
+                Long maxBufferMillisArg = (Long) args.get(1);
                 try {
-                  api.setAudioDelay(playerIdArg, delayArg);
+                  api.setPreloadBudget(maxPreloadsArg, maxBufferMillisArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1696,16 +5261,19 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setZapChannels" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                List<String> urisArg = (List<String>) args.get(1);
+                Long neighboursArg = (Long) args.get(2);
+                Long hwAccArg = (Long) args.get(3);
                 try {
-                  Long output = api.getAudioDelay(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setZapChannels(playerIdArg, urisArg, neighboursArg, hwAccArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1719,15 +5287,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.zapTo" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                AddAudioMessage msgArg = (AddAudioMessage) args.get(0);
+                Long playerIdArg = (Long) args.get(0);
+                Long indexArg = (Long) args.get(1);
                 try {
-                  api.addAudioTrack(msgArg);
+                  api.zapTo(playerIdArg, indexArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1742,7 +5311,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getZapMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1750,7 +5319,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getVideoTracksCount(playerIdArg);
+                  ZapMetricsMessage output = api.getZapMetrics(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1765,16 +5334,18 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistAdd" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                List<PlaylistItemMessage> itemsArg = (List<PlaylistItemMessage>) args.get(1);
+                Long indexArg = (Long) args.get(2);
                 try {
-                  Map<Long, String> output = api.getVideoTracks(playerIdArg);
-                  wrapped.add(0, output);
+                  api.playlistAdd(playerIdArg, itemsArg, indexArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1788,16 +5359,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistRemove" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long videoTrackNumberArg = (Long) args.get(1);
+                Long indexArg = (Long) args.get(1);
                 try {
-                  api.setVideoTrack(playerIdArg, videoTrackNumberArg);
+                  api.playlistRemove(playerIdArg, indexArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1812,16 +5383,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistPlay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long indexArg = (Long) args.get(1);
                 try {
-                  Long output = api.getVideoTrack(playerIdArg);
-                  wrapped.add(0, output);
+                  api.playlistPlay(playerIdArg, indexArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1835,16 +5407,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistClear" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Double scaleArg = (Double) args.get(1);
                 try {
-                  api.setVideoScale(playerIdArg, scaleArg);
+                  api.playlistClear(playerIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1859,16 +5430,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setScrubbing" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Boolean scrubbingArg = (Boolean) args.get(1);
                 try {
-                  Double output = api.getVideoScale(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setScrubbing(playerIdArg, scrubbingArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1882,16 +5454,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setTrickPlay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                String aspectRatioArg = (String) args.get(1);
+                Double rateArg = (Double) args.get(1);
                 try {
-                  api.setVideoAspectRatio(playerIdArg, aspectRatioArg);
+                  api.setTrickPlay(playerIdArg, rateArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1906,21 +5478,27 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.nextFrame" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                try {
-                  String output = api.getVideoAspectRatio(playerIdArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                Result<FrameStepMessage> resultCallback =
+                    new Result<FrameStepMessage>() {
+                      public void success(FrameStepMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.nextFrame(playerIdArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -1929,21 +5507,27 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.previousFrame" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                try {
-                  List<String> output = api.getAvailableRendererServices(playerIdArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                Result<FrameStepMessage> resultCallback =
+                    new Result<FrameStepMessage>() {
+                      public void success(FrameStepMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.previousFrame(playerIdArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -1952,16 +5536,46 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeScaledSnapshot" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                String rendererServiceArg = (String) args.get(1);
+                SnapshotOptionsMessage optionsArg = (SnapshotOptionsMessage) args.get(1);
+                NullableResult<SnapshotMessage> resultCallback =
+                    new NullableResult<SnapshotMessage>() {
+                      public void success(SnapshotMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.takeScaledSnapshot(playerIdArg, optionsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startFrameTap" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                FrameTapMessage optionsArg = (FrameTapMessage) args.get(1);
                 try {
-                  api.startRendererScanning(playerIdArg, rendererServiceArg);
+                  api.startFrameTap(playerIdArg, optionsArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1976,7 +5590,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopFrameTap" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1984,7 +5598,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.stopRendererScanning(playerIdArg);
+                  api.stopFrameTap(playerIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1999,16 +5613,18 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventsSubscribed" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long kindArg = (Long) args.get(1);
+                Boolean subscribedArg = (Boolean) args.get(2);
                 try {
-                  Map<String, String> output = api.getRendererDevices(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setEventsSubscribed(playerIdArg, kindArg, subscribedArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -2022,17 +5638,14 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getLibVLCPoolMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                String rendererIdArg = (String) args.get(1);
                 try {
-                  api.castToRenderer(playerIdArg, rendererIdArg);
-                  wrapped.add(0, null);
+                  LibVLCPoolMetricsMessage output = api.getLibVLCPoolMetrics();
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -2046,16 +5659,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getEventSinkMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                String saveDirectoryArg = (String) args.get(1);
                 try {
-                  Boolean output = api.startRecording(playerIdArg, saveDirectoryArg);
+                  EventSinkMetricsMessage output = api.getEventSinkMetrics(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -2070,16 +5682,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStateUpdateInterval" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long intervalMillisArg = (Long) args.get(1);
                 try {
-                  Boolean output = api.stopRecording(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setStateUpdateInterval(playerIdArg, intervalMillisArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -2092,4 +5705,63 @@ public class Messages {
       }
     }
   }
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class VlcPlayerEventApi {
+    private final @NonNull BinaryMessenger binaryMessenger;
+    private final String messageChannelSuffix;
+
+    public VlcPlayerEventApi(@NonNull BinaryMessenger argBinaryMessenger) {
+      this(argBinaryMessenger, "");
+    }
+    public VlcPlayerEventApi(@NonNull BinaryMessenger argBinaryMessenger, @NonNull String messageChannelSuffix) {
+      this.binaryMessenger = argBinaryMessenger;
+      this.messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+    }
+
+    /** Public interface for sending reply. */ 
+    /** The codec used by VlcPlayerEventApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    public void mediaEvent(@NonNull MediaEventMessage eventArg, @NonNull VoidResult result) {
+      final String channelName = "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.mediaEvent" + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Collections.singletonList(eventArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(new FlutterError((String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            }  else {
+              result.error(createConnectionError(channelName));
+            } 
+          });
+    }
+    public void rendererEvent(@NonNull RendererEventMessage eventArg, @NonNull VoidResult result) {
+      final String channelName = "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.rendererEvent" + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Collections.singletonList(eventArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(new FlutterError((String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            }  else {
+              result.error(createConnectionError(channelName));
+            } 
+          });
+    }
+  }
 }
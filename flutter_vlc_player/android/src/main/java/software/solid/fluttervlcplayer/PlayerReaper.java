@@ -0,0 +1,108 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.MediaPlayer;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finishes the native teardown of disposed players on dedicated reaper threads.
+ *
+ * <p>Stopping a network stream and releasing its player and LibVLC instance can block for seconds
+ * while libVLC closes the inputs. Players detach their views and channels right away and hand the
+ * rest over to the reaper, which runs at most {@link #MAX_CONCURRENT_TEARDOWNS} of them at a time;
+ * further teardowns wait in a queue. Idle reaper threads exit after {@link #KEEP_ALIVE_SECONDS}.
+ *
+ * <p>This class is thread-safe.
+ */
+final class PlayerReaper {
+    static final PlayerReaper INSTANCE = new PlayerReaper();
+
+    static final int MAX_CONCURRENT_TEARDOWNS = 2;
+    static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final String TAG = "PlayerReaper";
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalTeardownMillis = new AtomicLong();
+    private final AtomicLong maxTeardownMillis = new AtomicLong();
+
+    private PlayerReaper() {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "VlcPlayerReaper-" + threadCount.incrementAndGet());
+            }
+        };
+        executor = new ThreadPoolExecutor(MAX_CONCURRENT_TEARDOWNS, MAX_CONCURRENT_TEARDOWNS,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Stops {@code mediaPlayer} and puts it in the {@link MediaPlayerPool}, or releases it and
+     * returns {@code libVLC} to the {@link LibVLCPool} when the pool is full, on a reaper thread.
+     * The views of the player must be detached already.
+     */
+    void reap(@Nullable MediaPlayer mediaPlayer, @Nullable LibVLC libVLC) {
+        if (mediaPlayer == null && libVLC == null) return;
+
+        pendingCount.incrementAndGet();
+        executor.execute(() -> {
+            long start = SystemClock.elapsedRealtime();
+            try {
+                boolean recycled = false;
+                if (mediaPlayer != null) {
+                    mediaPlayer.stop();
+                    recycled = MediaPlayerPool.INSTANCE.recycle(mediaPlayer, libVLC);
+                    if (!recycled) {
+                        mediaPlayer.release();
+                    }
+                }
+                if (!recycled) {
+                    LibVLCPool.INSTANCE.release(libVLC);
+                }
+                completedCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                Log.e(TAG, "Player teardown failed", e);
+            } finally {
+                long millis = SystemClock.elapsedRealtime() - start;
+                totalTeardownMillis.addAndGet(millis);
+                long max;
+                do {
+                    max = maxTeardownMillis.get();
+                } while (millis > max && !maxTeardownMillis.compareAndSet(max, millis));
+                pendingCount.decrementAndGet();
+            }
+        });
+    }
+
+    Messages.DisposalMetricsMessage getMetrics() {
+        long completed = completedCount.get();
+        long failed = failedCount.get();
+        long finished = completed + failed;
+        return new Messages.DisposalMetricsMessage.Builder()
+                .setPending((long) pendingCount.get())
+                .setCompleted(completed)
+                .setFailed(failed)
+                .setAverageTeardownMillis(finished > 0 ? totalTeardownMillis.get() / finished : 0L)
+                .setMaxTeardownMillis(maxTeardownMillis.get())
+                .build();
+    }
+}
@@ -0,0 +1,304 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.Log;
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * A {@link BinaryMessenger} that runs the message handlers registered through it off the main
+ * thread, serialized per player.
+ *
+ * <p>Handlers are registered on a serial background task queue of the wrapped messenger, which
+ * keeps the order of the incoming messages. There each message is dispatched by the player id it
+ * is addressed to: messages of the same player run one after the other on that player's lane,
+ * while lanes of different players run in parallel, so a player blocked in a native call (e.g.
+ * stopping a slow RTSP stream) does not hold back the others. Messages that are not addressed to
+ * a single player wait until all lanes are idle, and then run on the task queue itself.
+ *
+ * <p>Whether a message is addressed to a single player is decided by its channel, from the
+ * explicit lists of {@link #PLAYER_ID_METHODS} and {@link #PLAYER_MESSAGE_METHODS}. The player id
+ * is read straight from the head of the encoded message, which is only decoded by its handler.
+ *
+ * <p>Lanes only exist while they have pending messages.
+ */
+final class PlayerTaskQueueMessenger implements BinaryMessenger {
+    private static final String TAG = "PlayerTaskQueue";
+    private static final String CHANNEL_PREFIX = "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.";
+
+    /**
+     * The methods whose first argument is the id of the player they are addressed to.
+     */
+    private static final Set<String> PLAYER_ID_METHODS = new HashSet<>(Arrays.asList(
+            "dispose", "play", "pause", "stop", "isPlaying", "isSeekable", "setLooping", "seekTo",
+            "position", "duration", "setVolume", "getVolume", "setPlaybackSpeed", "getPlaybackSpeed",
+            "takeSnapshot", "getSpuTracksCount", "getSpuTracks", "setSpuTrack", "getSpuTrack",
+            "setSpuDelay", "getSpuDelay", "getAudioTracksCount", "getAudioTracks", "setAudioTrack",
+            "getAudioTrack", "setAudioDelay", "getAudioDelay", "getVideoTracksCount", "getVideoTracks",
+            "setVideoTrack", "getVideoTrack", "setVideoScale", "getVideoScale", "setVideoAspectRatio",
+            "getVideoAspectRatio", "getAvailableRendererServices", "startRendererScanning",
+            "stopRendererScanning", "getRendererDevices", "castToRenderer", "startRecording",
+            "stopRecording", "setClockAnchors", "getPlaybackState", "executeBatch", "setZapChannels",
+            "zapTo", "getZapMetrics", "playlistAdd", "playlistRemove", "playlistPlay", "playlistClear",
+            "setScrubbing", "setTrickPlay", "nextFrame", "previousFrame", "takeScaledSnapshot",
+            "startFrameTap", "stopFrameTap", "setEventsSubscribed",
+            "getEventSinkMetrics", "setStateUpdateInterval"));
+
+    /**
+     * The methods whose only argument is a message starting with the id of the player it is
+     * addressed to.
+     */
+    private static final Set<String> PLAYER_MESSAGE_METHODS = new HashSet<>(Arrays.asList(
+            "create", "setStreamUrl", "addSubtitleTrack", "addAudioTrack"));
+
+    // the type bytes of the StandardMessageCodec
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte LIST = 12;
+
+    private final BinaryMessenger messenger;
+    private final TaskQueue taskQueue;
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            runnable -> new Thread(runnable, "VlcPlayerLane"));
+    // guarded by itself
+    private final LongSparseArray<Lane> lanes = new LongSparseArray<>();
+
+    PlayerTaskQueueMessenger(BinaryMessenger messenger) {
+        this.messenger = messenger;
+        this.taskQueue = messenger.makeBackgroundTaskQueue();
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+        if (handler == null) {
+            messenger.setMessageHandler(channel, null);
+            return;
+        }
+        String method = getMethod(channel);
+        boolean inMessage = PLAYER_MESSAGE_METHODS.contains(method);
+        if (!inMessage && !PLAYER_ID_METHODS.contains(method)) {
+            messenger.setMessageHandler(channel, (message, reply) -> {
+                awaitIdleLanes();
+                handler.onMessage(message, reply);
+            }, taskQueue);
+            return;
+        }
+        messenger.setMessageHandler(channel, (message, reply) -> dispatch(handler, message, reply, inMessage), taskQueue);
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler, @Nullable TaskQueue taskQueue) {
+        setMessageHandler(channel, handler);
+    }
+
+    @NonNull
+    @Override
+    public TaskQueue makeBackgroundTaskQueue(@NonNull TaskQueueOptions options) {
+        return messenger.makeBackgroundTaskQueue(options);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+        messenger.send(channel, message);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+        messenger.send(channel, message, callback);
+    }
+
+    @Override
+    public void enableBufferingIncomingMessages() {
+        messenger.enableBufferingIncomingMessages();
+    }
+
+    @Override
+    public void disableBufferingIncomingMessages() {
+        messenger.disableBufferingIncomingMessages();
+    }
+
+    /**
+     * Stops the lane threads once their pending messages are done. Messages of idle players that
+     * arrive later are answered with a null reply.
+     */
+    void dispose() {
+        executor.shutdown();
+    }
+
+    private void dispatch(BinaryMessageHandler handler, @Nullable ByteBuffer message, BinaryReply reply,
+                          boolean inMessage) {
+        Long playerId = readPlayerId(message, inMessage);
+        if (playerId == null) {
+            awaitIdleLanes();
+            handler.onMessage(message, reply);
+            return;
+        }
+        // The message buffer is only valid while this call lasts.
+        ByteBuffer copy = ByteBuffer.allocateDirect(message.remaining());
+        copy.put(message);
+        copy.flip();
+        synchronized (lanes) {
+            Lane lane = lanes.get(playerId);
+            if (lane == null) {
+                lane = new Lane(playerId);
+                lanes.put(playerId, lane);
+            }
+            if (lane.enqueue(() -> handler.onMessage(copy, reply))) return;
+        }
+        Log.w(TAG, "Dropped a message of player " + playerId + " after dispose");
+        reply.reply(null);
+    }
+
+    private void awaitIdleLanes() {
+        synchronized (lanes) {
+            while (lanes.size() > 0) {
+                try {
+                    lanes.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pigeon method a channel is for, without the prefix and the channel suffix.
+     */
+    private static String getMethod(String channel) {
+        if (!channel.startsWith(CHANNEL_PREFIX)) return channel;
+
+        String method = channel.substring(CHANNEL_PREFIX.length());
+        int suffix = method.indexOf('.');
+        return suffix >= 0 ? method.substring(0, suffix) : method;
+    }
+
+    /**
+     * Reads the id of the player a message is addressed to from the head of the encoded
+     * arguments list: the first argument, or the first field of the message object passed as first
+     * argument if {@code inMessage}. Returns null if the message does not start with an id.
+     */
+    @Nullable
+    private static Long readPlayerId(@Nullable ByteBuffer message, boolean inMessage) {
+        if (message == null) return null;
+
+        ByteBuffer buffer = message.duplicate().order(ByteOrder.nativeOrder());
+        try {
+            if (buffer.get() != LIST || readSize(buffer) == 0) return null;
+            if (inMessage) {
+                // the type byte of the message class, then its fields as a list
+                buffer.get();
+                if (buffer.get() != LIST || readSize(buffer) == 0) return null;
+            }
+            switch (buffer.get()) {
+                case INT:
+                    return (long) buffer.getInt();
+                case LONG:
+                    return buffer.getLong();
+                default:
+                    return null;
+            }
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    private static int readSize(ByteBuffer buffer) {
+        int value = buffer.get() & 0xff;
+        if (value < 254) {
+            return value;
+        } else if (value == 254) {
+            return buffer.getChar();
+        }
+        return buffer.getInt();
+    }
+
+    /**
+     * Runs the messages of one player in order, on the executor.
+     */
+    private final class Lane implements Runnable {
+        private final long playerId;
+        // guarded by lanes
+        private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+
+        Lane(long playerId) {
+            this.playerId = playerId;
+        }
+
+        /**
+         * Adds a task, starting the lane if it was idle. Returns false if the executor is shut
+         * down, the lane is then dropped. Called with the lanes lock held.
+         */
+        boolean enqueue(Runnable task) {
+            pending.add(task);
+            return pending.size() > 1 || start();
+        }
+
+        @Override
+        public void run() {
+            boolean idle = false;
+            while (!idle) {
+                Runnable task;
+                synchronized (lanes) {
+                    task = pending.peek();
+                }
+                boolean failed = true;
+                try {
+                    task.run();
+                    failed = false;
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Message of player " + playerId + " failed", e);
+                    failed = false;
+                } finally {
+                    idle = finish(failed);
+                }
+            }
+        }
+
+        /**
+         * Drops the task that ran and returns whether the lane is idle. If the task threw an Error,
+         * which ends this thread, the remaining tasks go on on another one.
+         */
+        private boolean finish(boolean failed) {
+            synchronized (lanes) {
+                pending.poll();
+                if (pending.isEmpty()) {
+                    lanes.remove(playerId);
+                    lanes.notifyAll();
+                    return true;
+                }
+                if (failed && !start()) {
+                    Log.w(TAG, "Dropped the messages of player " + playerId + " after dispose");
+                }
+                return false;
+            }
+        }
+
+        // guarded by lanes
+        private boolean start() {
+            try {
+                executor.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                pending.clear();
+                lanes.remove(playerId);
+                lanes.notifyAll();
+                return false;
+            }
+        }
+    }
+}
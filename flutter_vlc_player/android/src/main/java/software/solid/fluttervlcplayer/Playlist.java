@@ -0,0 +1,219 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A list of media a player plays one after the other.
+ *
+ * <p>libvlc-android has no {@code MediaListPlayer}, so the list is kept here: when the current item
+ * is {@link #PREOPEN_MILLIS} from its end, the next one is opened in a preload of the
+ * {@link MediaPreloader}, and at the end the player takes the preload over, which only swaps the
+ * player behind its texture. If the preload was refused by the budget, the next item is opened as
+ * usual. While looping, the list starts over after its last item. Items are opened with the
+ * hardware acceleration of the media the player was given.
+ *
+ * <p>The preload is started right from the events on the main thread: the preloader only reserves
+ * it there and creates its player and media on its own background thread.
+ *
+ * <p>This class is thread-safe: the list is edited from the player's commands, and advanced from
+ * its events on the main thread.
+ */
+final class Playlist {
+    static final long PREOPEN_MILLIS = 3000;
+
+    private final FlutterVlcPlayer player;
+    private final MediaPreloader preloader;
+    // guarded by this
+    private final List<Item> items = new ArrayList<>();
+    private int current = -1;
+    private Item preopened;
+
+    Playlist(FlutterVlcPlayer player, MediaPreloader preloader) {
+        this.player = player;
+        this.preloader = preloader;
+    }
+
+    /**
+     * Inserts {@code added} at {@code index}, or appends them if it is null.
+     */
+    void add(List<Item> added, @Nullable Long index) {
+        synchronized (this) {
+            int at = index != null ? Math.max(0, Math.min(index.intValue(), items.size())) : items.size();
+            items.addAll(at, added);
+            if (current >= at) {
+                current += added.size();
+            }
+        }
+        cancelPreopenIfNotNext();
+    }
+
+    /**
+     * Removes the item at {@code index}; removing the current item plays the next one.
+     */
+    void remove(int index) {
+        boolean removedCurrent;
+        boolean hasNext;
+        synchronized (this) {
+            checkIndex(index);
+            items.remove(index);
+            removedCurrent = index == current;
+            hasNext = index < items.size();
+            if (index < current) {
+                current--;
+            } else if (removedCurrent && !hasNext) {
+                current = -1;
+            }
+        }
+        cancelPreopenIfNotNext();
+        if (!removedCurrent) return;
+
+        if (hasNext) {
+            play(index);
+        } else {
+            player.stop();
+        }
+    }
+
+    /**
+     * Plays the item at {@code index}.
+     */
+    void play(int index) {
+        Item item;
+        synchronized (this) {
+            checkIndex(index);
+            item = items.get(index);
+            current = index;
+        }
+        MediaPreloader.Preload preload = takePreopened(item);
+        if (preload != null) {
+            player.promote(preload, true);
+        } else {
+            player.setStreamUrl(item.url, item.isAssetUrl, true, player.getHwAcc());
+        }
+        player.sendPlaylistItemChanged(index);
+    }
+
+    /**
+     * Releases the preopened item.
+     */
+    void dispose() {
+        Item item;
+        synchronized (this) {
+            item = preopened;
+            preopened = null;
+        }
+        if (item != null) {
+            preloader.cancel(item.url);
+        }
+    }
+
+    /**
+     * Opens the next item in the background once the current one is close to its end. Called on
+     * the main thread.
+     */
+    void onTimeChanged(long time, long length) {
+        if (length <= 0 || length - time > PREOPEN_MILLIS) return;
+
+        Item next;
+        synchronized (this) {
+            int index = getNextIndex();
+            if (index < 0 || preopened != null) return;
+
+            next = items.get(index);
+            preopened = next;
+        }
+        preopen(next);
+    }
+
+    /**
+     * Plays the next item when the current one ends. Returns false at the end of the list. Called
+     * on the main thread.
+     */
+    boolean onEndReached() {
+        int next;
+        synchronized (this) {
+            next = getNextIndex();
+        }
+        if (next < 0) return false;
+
+        play(next);
+        return true;
+    }
+
+    private void preopen(Item next) {
+        boolean opened = preloader.preload(next.url, next.isAssetUrl, getOptions(), player.getHwAcc(), 0, false);
+        boolean stale;
+        synchronized (this) {
+            stale = preopened != next;
+            if (!opened && !stale) {
+                // opened as usual at the end
+                preopened = null;
+            }
+        }
+        if (opened && stale) {
+            // taken over, or cancelled by an edit of the list meanwhile
+            preloader.cancel(next.url);
+        }
+    }
+
+    // guarded by this
+    private int getNextIndex() {
+        if (items.isEmpty()) return -1;
+        if (current + 1 < items.size()) return current + 1;
+        return player.isLooping() ? 0 : -1;
+    }
+
+    @Nullable
+    private MediaPreloader.Preload takePreopened(Item item) {
+        Item opened;
+        synchronized (this) {
+            opened = preopened;
+            preopened = null;
+        }
+        if (opened == null) return null;
+        if (opened != item) {
+            preloader.cancel(opened.url);
+            return null;
+        }
+        return preloader.take(item.url, item.isAssetUrl, getOptions(), player.getHwAcc());
+    }
+
+    private void cancelPreopenIfNotNext() {
+        Item cancelled = null;
+        synchronized (this) {
+            int next = getNextIndex();
+            if (preopened != null && (next < 0 || items.get(next) != preopened)) {
+                cancelled = preopened;
+                preopened = null;
+            }
+        }
+        if (cancelled != null) {
+            preloader.cancel(cancelled.url);
+        }
+    }
+
+    // guarded by this
+    private void checkIndex(int index) {
+        if (index < 0 || index >= items.size()) {
+            throw new Messages.FlutterError("invalid_playlist_index", "No playlist item at index " + index, null);
+        }
+    }
+
+    private List<String> getOptions() {
+        List<String> options = player.getOptions();
+        return options != null ? options : new ArrayList<>();
+    }
+
+    static final class Item {
+        final String url;
+        final boolean isAssetUrl;
+
+        Item(String url, boolean isAssetUrl) {
+            this.url = url;
+            this.isAssetUrl = isAssetUrl;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.TextureView;
+
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.EventChannel;
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Streams low-rate JPEG previews of what a player shows, e.g. to monitoring dashboards, over an
+ * event channel of its own.
+ *
+ * <p>The stream starts when Dart listens, with the interval, maximum size and quality as the listen
+ * arguments, and stops when it cancels. Every interval the texture is copied, scaled, on the main
+ * thread by the {@link SnapshotEncoder}, and encoded on a background thread shared by all players.
+ * Only one frame per player is in flight: a capture is skipped while the previous frame is not sent
+ * yet, so frames are dropped instead of queued when encoding or the consumer falls behind. Frames
+ * are also skipped while the position of the player does not move, e.g. while it is paused, since
+ * the previous frame still shows.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class PreviewStream implements EventChannel.StreamHandler, Runnable {
+    static final long DEFAULT_INTERVAL_MILLIS = 1000;
+    static final long MIN_INTERVAL_MILLIS = 100;
+    static final long DEFAULT_MAX_WIDTH = 320;
+    static final int DEFAULT_QUALITY = 70;
+
+    private static final String TAG = "PreviewStream";
+    // encodes the previews, shared by all players
+    private static final ThreadPoolExecutor encoder = new ThreadPoolExecutor(1, 1,
+            PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "VlcPreviewEncoder"));
+
+    static {
+        encoder.allowCoreThreadTimeOut(true);
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final FlutterVlcPlayer player;
+    private final TextureView view;
+    private EventChannel.EventSink sink;
+    private long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+    private Long maxWidth = DEFAULT_MAX_WIDTH;
+    private Long maxHeight = null;
+    private int quality = DEFAULT_QUALITY;
+    private boolean inFlight = false;
+    // the position of the last frame sent, -1 if none
+    private long lastPosition = -1;
+
+    PreviewStream(FlutterVlcPlayer player, TextureView view) {
+        this.player = player;
+        this.view = view;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink sink) {
+        intervalMillis = DEFAULT_INTERVAL_MILLIS;
+        maxWidth = DEFAULT_MAX_WIDTH;
+        maxHeight = null;
+        quality = DEFAULT_QUALITY;
+        if (arguments instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) arguments;
+            Number interval = (Number) map.get("intervalMillis");
+            if (interval != null) {
+                intervalMillis = Math.max(MIN_INTERVAL_MILLIS, interval.longValue());
+            }
+            Number width = (Number) map.get("maxWidth");
+            maxWidth = width != null ? width.longValue() : null;
+            Number height = (Number) map.get("maxHeight");
+            maxHeight = height != null ? height.longValue() : null;
+            Number q = (Number) map.get("quality");
+            if (q != null) {
+                quality = q.intValue();
+            }
+        }
+        this.sink = sink;
+        lastPosition = -1;
+        handler.removeCallbacks(this);
+        handler.post(this);
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        stop();
+    }
+
+    void stop() {
+        sink = null;
+        handler.removeCallbacks(this);
+    }
+
+    @Override
+    public void run() {
+        if (sink == null) return;
+
+        handler.postDelayed(this, intervalMillis);
+        if (inFlight) return;
+
+        long position = player.getPosition();
+        if (position >= 0 && position == lastPosition) return;
+
+        final Bitmap bitmap = SnapshotEncoder.INSTANCE.capture(view, maxWidth, maxHeight);
+        if (bitmap == null) return;
+
+        inFlight = true;
+        final int quality = this.quality;
+        encoder.execute(() -> {
+            byte[] frame = null;
+            try {
+                frame = SnapshotEncoder.INSTANCE.encode(bitmap, SnapshotFormat.JPEG, quality);
+            } catch (RuntimeException e) {
+                Log.w(TAG, "Encoding a preview failed", e);
+            } finally {
+                SnapshotEncoder.INSTANCE.recycle(bitmap);
+            }
+            final byte[] encoded = frame;
+            handler.post(() -> {
+                inFlight = false;
+                // the stream may have been cancelled meanwhile
+                if (sink == null || encoded == null) return;
+
+                lastPosition = position;
+                sink.success(encoded);
+            });
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package software.solid.fluttervlcplayer;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 
 import io.flutter.plugin.common.EventChannel;
 
@@ -8,15 +9,38 @@ import io.flutter.plugin.common.EventChannel;
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
  *
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
- * the delegate event sink is set with setDelegate.
+ * the delegate event sink is set with setDelegate. Reusable {@link MediaEventRecord}s are copied
+ * when they have to be queued, since their owner refills them for the next event.
+ *
+ * <p>The queue is bounded. State events that supersede each other ("timeChanged") are compacted so
+ * that only the latest one is kept, at the position of the newest; lifecycle events (opening,
+ * ended, error, recording...) are all kept. When the queue is full the oldest event that is not a
+ * lifecycle event is dropped, the oldest lifecycle event only if the queue holds nothing else.
+ * Counters for enqueued, delivered, compacted and dropped events are available for diagnostics.
  *
  * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
  * externally.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+    static final int DEFAULT_CAPACITY = 256;
+
     private EventChannel.EventSink delegate;
-    private final ArrayList<Object> eventQueue = new ArrayList<>();
+    private final ArrayDeque<Object> eventQueue = new ArrayDeque<>();
+    private final int capacity;
+    private Object queuedStateEvent = null;
     private boolean done = false;
+    private long enqueuedCount = 0;
+    private long deliveredCount = 0;
+    private long compactedCount = 0;
+    private long droppedCount = 0;
+
+    QueuingEventSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    QueuingEventSink(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
 
     public void setDelegate(EventChannel.EventSink delegate) {
         this.delegate = delegate;
@@ -38,22 +62,69 @@ final class QueuingEventSink implements EventChannel.EventSink {
 
     @Override
     public void success(Object event) {
+        if (delegate != null && eventQueue.isEmpty()) {
+            if (!done) {
+                enqueuedCount++;
+                deliveredCount++;
+                delegate.success(event);
+            }
+            return;
+        }
+        if (event instanceof MediaEventRecord) {
+            event = ((MediaEventRecord) event).copy();
+        }
         enqueue(event);
         maybeFlush();
     }
 
+    long getEnqueuedCount() {
+        return enqueuedCount;
+    }
+
+    long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    long getCompactedCount() {
+        return compactedCount;
+    }
+
+    long getDroppedCount() {
+        return droppedCount;
+    }
+
+    int getQueuedCount() {
+        return eventQueue.size();
+    }
+
     private void enqueue(Object event) {
         if (done) {
             return;
         }
-        eventQueue.add(event);
+        enqueuedCount++;
+        if (isStateEvent(event)) {
+            if (queuedStateEvent != null && eventQueue.removeFirstOccurrence(queuedStateEvent)) {
+                compactedCount++;
+            }
+            queuedStateEvent = event;
+        }
+        if (eventQueue.size() >= capacity) {
+            Object dropped = dropOldest();
+            if (dropped == queuedStateEvent) {
+                queuedStateEvent = null;
+            }
+            droppedCount++;
+        }
+        eventQueue.addLast(event);
     }
 
     private void maybeFlush() {
         if (delegate == null) {
             return;
         }
-        for (Object event : eventQueue) {
+        Object event;
+        while ((event = eventQueue.pollFirst()) != null) {
+            deliveredCount++;
             if (event instanceof EndOfStreamEvent) {
                 delegate.endOfStream();
             } else if (event instanceof ErrorEvent) {
@@ -63,7 +134,40 @@ final class QueuingEventSink implements EventChannel.EventSink {
                 delegate.success(event);
             }
         }
-        eventQueue.clear();
+        queuedStateEvent = null;
+    }
+
+    /**
+     * Removes and returns the oldest queued event that is not a lifecycle event, or the oldest one
+     * if they all are.
+     */
+    private Object dropOldest() {
+        Iterator<Object> iterator = eventQueue.iterator();
+        while (iterator.hasNext()) {
+            Object event = iterator.next();
+            if (!isLifecycleEvent(event)) {
+                iterator.remove();
+                return event;
+            }
+        }
+        return eventQueue.pollFirst();
+    }
+
+    private static boolean isLifecycleEvent(Object event) {
+        if (event instanceof EndOfStreamEvent || event instanceof ErrorEvent) {
+            return true;
+        }
+        if (!(event instanceof MediaEventRecord)) {
+            return false;
+        }
+        // time updates and clock anchors are superseded by the next ones
+        int type = ((MediaEventRecord) event).type;
+        return type != MediaEventRecord.TIME_CHANGED && type != MediaEventRecord.CLOCK_ANCHOR;
+    }
+
+    private static boolean isStateEvent(Object event) {
+        return event instanceof MediaEventRecord
+                && ((MediaEventRecord) event).type == MediaEventRecord.TIME_CHANGED;
     }
 
     private static class EndOfStreamEvent {
@@ -80,4 +184,4 @@ final class QueuingEventSink implements EventChannel.EventSink {
             this.details = details;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Coalesces seeks, so that a seek bar being dragged does not queue a demuxer seek per drag event.
+ *
+ * <p>Only one seek is in flight at a time: seeks requested meanwhile replace each other, and the
+ * latest one is executed once the previous one completed, i.e. the player reported a time within
+ * {@link #SEEK_TOLERANCE_MILLIS} of its target. libVLC has no seek completion event, and times
+ * reported before the seek is applied are still the old ones, so a seek that reports no matching
+ * time (e.g. while paused, or a fast seek landing on a keyframe further away) is considered complete
+ * after {@link #SEEK_TIMEOUT_MILLIS}.
+ *
+ * <p>While scrubbing, seeks are fast (to the nearest keyframe). Ending the scrubbing seeks
+ * precisely to the last requested position.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class SeekCoalescer {
+    static final long SEEK_TIMEOUT_MILLIS = 250;
+    static final long SEEK_TOLERANCE_MILLIS = 500;
+
+    interface Seeker {
+        void seek(long time, boolean fast);
+    }
+
+    private final Seeker seeker;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable timeout = this::complete;
+    private boolean scrubbing = false;
+    private boolean inFlight = false;
+    private long inFlightTime = -1;
+    private long pendingTime = -1;
+    private boolean pendingFast = false;
+    // the last position requested while scrubbing, sought precisely when it ends
+    private long scrubTime = -1;
+
+    SeekCoalescer(Seeker seeker) {
+        this.seeker = seeker;
+    }
+
+    void setScrubbing(boolean scrubbing) {
+        if (this.scrubbing == scrubbing) return;
+
+        this.scrubbing = scrubbing;
+        if (!scrubbing && scrubTime >= 0) {
+            request(scrubTime);
+        }
+        scrubTime = -1;
+    }
+
+    boolean isSeeking() {
+        return inFlight;
+    }
+
+    void request(long time) {
+        if (scrubbing) {
+            scrubTime = time;
+        }
+        pendingTime = time;
+        pendingFast = scrubbing;
+        if (!inFlight) {
+            executePending();
+        }
+    }
+
+    /**
+     * Marks the seek in flight as completed if the player reported a {@code time} close enough to
+     * its target, executing the latest pending one.
+     */
+    void onTimeChanged(long time) {
+        if (!inFlight || Math.abs(time - inFlightTime) > SEEK_TOLERANCE_MILLIS) return;
+
+        complete();
+    }
+
+    private void complete() {
+        if (!inFlight) return;
+
+        inFlight = false;
+        inFlightTime = -1;
+        handler.removeCallbacks(timeout);
+        executePending();
+    }
+
+    void cancel() {
+        scrubbing = false;
+        inFlight = false;
+        inFlightTime = -1;
+        pendingTime = -1;
+        scrubTime = -1;
+        handler.removeCallbacks(timeout);
+    }
+
+    private void executePending() {
+        if (pendingTime < 0) return;
+
+        long time = pendingTime;
+        pendingTime = -1;
+        inFlight = true;
+        inFlightTime = time;
+        handler.postDelayed(timeout, SEEK_TIMEOUT_MILLIS);
+        seeker.seek(time, pendingFast);
+    }
+}
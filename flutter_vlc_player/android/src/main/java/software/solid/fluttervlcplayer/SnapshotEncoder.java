@@ -0,0 +1,232 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.view.TextureView;
+
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Takes scaled snapshots of player textures, e.g. of many cameras at once.
+ *
+ * <p>The texture is copied on the main thread straight into a bitmap of the snapshot size, so a
+ * downscaled snapshot of a 4K video never reads the full frame back. The bitmap is encoded off the
+ * main thread, into a file or an output buffer: on a background thread shared by all players for
+ * {@link #take(TextureView, Long, Long, SnapshotFormat, int, String, Messages.NullableResult)}, on
+ * the calling one otherwise, e.g. the encoder of a {@link PreviewStream}. Both bitmaps and buffers
+ * are pooled, at most {@link #MAX_POOLED} of each, and buffers over
+ * {@link #MAX_POOLED_BUFFER_SIZE} are not kept.
+ *
+ * <p>This class is thread-safe.
+ */
+final class SnapshotEncoder {
+    static final SnapshotEncoder INSTANCE = new SnapshotEncoder();
+
+    static final int MAX_POOLED = 4;
+    static final int MAX_POOLED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    // encodes the snapshots taken asynchronously, shared by all players
+    private static final ThreadPoolExecutor encoder = new ThreadPoolExecutor(1, 1,
+            PlayerReaper.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "VlcSnapshotEncoder"));
+
+    static {
+        encoder.allowCoreThreadTimeOut(true);
+    }
+
+    // guarded by this, the most recently released last
+    private final ArrayDeque<Bitmap> bitmaps = new ArrayDeque<>();
+    private final ArrayDeque<Buffer> buffers = new ArrayDeque<>();
+
+    private SnapshotEncoder() {
+    }
+
+    /**
+     * Takes a snapshot of {@code view}, fitting in {@code maxWidth} x {@code maxHeight} while
+     * keeping its aspect ratio, each unbounded if null. It is written to {@code path}, or returned as
+     * bytes if null. Returns null if the view shows nothing yet. The snapshot is encoded on the
+     * calling thread.
+     */
+    @Nullable
+    Messages.SnapshotMessage take(TextureView view, @Nullable Long maxWidth, @Nullable Long maxHeight,
+                                  SnapshotFormat format, int quality, @Nullable String path) {
+        Bitmap bitmap = MainThread.call(() -> capture(view, maxWidth, maxHeight));
+        if (bitmap == null) return null;
+
+        try {
+            return write(bitmap, format, quality, path);
+        } finally {
+            recycle(bitmap);
+        }
+    }
+
+    /**
+     * Takes a snapshot like {@link #take(TextureView, Long, Long, SnapshotFormat, int, String)}
+     * without blocking the calling thread: it is encoded on the background thread, and handed to
+     * {@code result} from there.
+     */
+    void take(TextureView view, @Nullable Long maxWidth, @Nullable Long maxHeight, SnapshotFormat format,
+              int quality, @Nullable String path, Messages.NullableResult<Messages.SnapshotMessage> result) {
+        MainThread.post(() -> {
+            Bitmap bitmap;
+            try {
+                bitmap = capture(view, maxWidth, maxHeight);
+            } catch (RuntimeException e) {
+                result.error(e);
+                return;
+            }
+            if (bitmap == null) {
+                result.success(null);
+                return;
+            }
+
+            encoder.execute(() -> {
+                Messages.SnapshotMessage snapshot;
+                try {
+                    snapshot = write(bitmap, format, quality, path);
+                } catch (RuntimeException e) {
+                    result.error(e);
+                    return;
+                } finally {
+                    recycle(bitmap);
+                }
+                result.success(snapshot);
+            });
+        });
+    }
+
+    private Messages.SnapshotMessage write(Bitmap bitmap, SnapshotFormat format, int quality, @Nullable String path) {
+        Messages.SnapshotMessage.Builder builder = new Messages.SnapshotMessage.Builder()
+                .setWidth((long) bitmap.getWidth())
+                .setHeight((long) bitmap.getHeight());
+        if (path != null) {
+            try (OutputStream outputStream = new FileOutputStream(path)) {
+                compress(bitmap, format, quality, outputStream);
+            } catch (IOException e) {
+                throw new Messages.FlutterError("snapshot_failed", "Writing the snapshot to " + path + " failed", e.getMessage());
+            }
+            return builder.setPath(path).build();
+        }
+        return builder.setBytes(encode(bitmap, format, quality)).build();
+    }
+
+    /**
+     * Copies the texture of {@code view} into a pooled bitmap, scaled to the snapshot size, or
+     * returns null if the view shows nothing yet. The bitmap must be given back with
+     * {@link #recycle(Bitmap)}. Called on the main thread.
+     */
+    @Nullable
+    Bitmap capture(TextureView view, @Nullable Long maxWidth, @Nullable Long maxHeight) {
+        int viewWidth = view.getWidth();
+        int viewHeight = view.getHeight();
+        if (!view.isAvailable() || viewWidth <= 0 || viewHeight <= 0) return null;
+
+        double scale = 1;
+        if (maxWidth != null && maxWidth > 0) {
+            scale = Math.min(scale, (double) maxWidth / viewWidth);
+        }
+        if (maxHeight != null && maxHeight > 0) {
+            scale = Math.min(scale, (double) maxHeight / viewHeight);
+        }
+        int width = Math.max(1, (int) Math.round(viewWidth * scale));
+        int height = Math.max(1, (int) Math.round(viewHeight * scale));
+
+        Bitmap bitmap = obtainBitmap(width, height);
+        view.getBitmap(bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Encodes {@code bitmap} through a pooled output buffer.
+     */
+    byte[] encode(Bitmap bitmap, SnapshotFormat format, int quality) {
+        Buffer buffer = obtainBuffer();
+        try {
+            compress(bitmap, format, quality, buffer);
+            return buffer.toByteArray();
+        } finally {
+            recycle(buffer);
+        }
+    }
+
+    private synchronized Bitmap obtainBitmap(int width, int height) {
+        Iterator<Bitmap> iterator = bitmaps.descendingIterator();
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+                iterator.remove();
+                return bitmap;
+            }
+        }
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    void recycle(Bitmap bitmap) {
+        Bitmap evicted = null;
+        synchronized (this) {
+            bitmaps.addLast(bitmap);
+            if (bitmaps.size() > MAX_POOLED) {
+                evicted = bitmaps.pollFirst();
+            }
+        }
+        if (evicted != null) {
+            evicted.recycle();
+        }
+    }
+
+    private synchronized Buffer obtainBuffer() {
+        Buffer buffer = buffers.pollLast();
+        return buffer != null ? buffer : new Buffer();
+    }
+
+    private synchronized void recycle(Buffer buffer) {
+        if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE || buffers.size() >= MAX_POOLED) return;
+
+        buffer.reset();
+        buffers.addLast(buffer);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void compress(Bitmap bitmap, SnapshotFormat format, int quality, OutputStream outputStream) {
+        Bitmap.CompressFormat compressFormat;
+        switch (format) {
+            case PNG:
+                compressFormat = Bitmap.CompressFormat.PNG;
+                break;
+            case WEBP:
+                compressFormat = Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                        ? Bitmap.CompressFormat.WEBP_LOSSY
+                        : Bitmap.CompressFormat.WEBP;
+                break;
+            default:
+                compressFormat = Bitmap.CompressFormat.JPEG;
+                break;
+        }
+        bitmap.compress(compressFormat, Math.max(0, Math.min(quality, 100)), outputStream);
+    }
+
+    /**
+     * An output buffer whose storage survives {@link #reset}.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(64 * 1024);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
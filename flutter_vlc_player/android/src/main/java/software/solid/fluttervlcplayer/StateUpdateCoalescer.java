@@ -0,0 +1,72 @@
+package software.solid.fluttervlcplayer;
+
+import android.view.Choreographer;
+
+/**
+ * Coalesces high frequency state updates (e.g. libVLC TimeChanged and Buffering events) into at
+ * most one emission per Choreographer frame, or per configured minimum interval.
+ *
+ * <p>Callers mark the state as dirty with {@link #schedule()}; the emitter runs once on the next
+ * frame and reads the latest values at that moment. {@link #flush()} emits a pending update
+ * immediately, which is used to keep ordering intact before lifecycle events are sent.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class StateUpdateCoalescer implements Choreographer.FrameCallback {
+    private final Runnable emitter;
+    private long minIntervalNanos;
+    private long lastEmitNanos = 0;
+    private boolean pending = false;
+    private boolean frameScheduled = false;
+
+    StateUpdateCoalescer(Runnable emitter, long minIntervalMillis) {
+        this.emitter = emitter;
+        setMinInterval(minIntervalMillis);
+    }
+
+    /**
+     * Sets the minimum time between two emissions. Zero means at most one emission per frame.
+     */
+    void setMinInterval(long minIntervalMillis) {
+        this.minIntervalNanos = Math.max(0, minIntervalMillis) * 1_000_000L;
+    }
+
+    void schedule() {
+        pending = true;
+        scheduleFrame();
+    }
+
+    void flush() {
+        if (!pending) return;
+        pending = false;
+        lastEmitNanos = System.nanoTime();
+        emitter.run();
+    }
+
+    void cancel() {
+        pending = false;
+        if (frameScheduled) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            frameScheduled = false;
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+        if (!pending) return;
+        if (minIntervalNanos > 0 && frameTimeNanos - lastEmitNanos < minIntervalNanos) {
+            scheduleFrame();
+            return;
+        }
+        pending = false;
+        lastEmitNanos = frameTimeNanos;
+        emitter.run();
+    }
+
+    private void scheduleFrame() {
+        if (frameScheduled) return;
+        frameScheduled = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+}
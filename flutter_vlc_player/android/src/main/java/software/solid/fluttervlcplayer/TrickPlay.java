@@ -0,0 +1,120 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.videolan.libvlc.MediaPlayer;
+
+/**
+ * Scans through the media at high rates or backwards, where playing with {@code setRate} makes
+ * the decoder fall behind and the audio glitch.
+ *
+ * <p>The player is paused and muted, and steps from keyframe to keyframe instead: every
+ * {@link #FRAME_INTERVAL_MILLIS} the target time moves by the elapsed time times the rate, and a
+ * fast seek is requested through the {@link SeekCoalescer}, so that only keyframes are decoded and
+ * a step is dropped while the previous seek is still running. The cadence of displayed frames is
+ * thereby bounded, whatever the rate.
+ *
+ * <p>Trick play ends at either end of the media, resuming playback at the start if the player was
+ * playing, or when {@link #stop} is called.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class TrickPlay implements Runnable {
+    static final long FRAME_INTERVAL_MILLIS = 100;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final SeekCoalescer seekCoalescer;
+    private MediaPlayer mediaPlayer;
+    // 0 when off
+    private float rate = 0;
+    private double time;
+    private long lastStepNanos;
+    private int volume;
+    private boolean wasPlaying;
+
+    TrickPlay(SeekCoalescer seekCoalescer) {
+        this.seekCoalescer = seekCoalescer;
+    }
+
+    boolean isActive() {
+        return rate != 0;
+    }
+
+    /**
+     * Starts scanning {@code mediaPlayer} at {@code rate}, negative to rewind, or changes the rate
+     * of the running trick play.
+     */
+    void start(MediaPlayer mediaPlayer, float rate) {
+        if (rate == 0) {
+            stop(true);
+            return;
+        }
+        if (!isActive()) {
+            this.mediaPlayer = mediaPlayer;
+            time = Math.max(0, mediaPlayer.getTime());
+            volume = mediaPlayer.getVolume();
+            wasPlaying = mediaPlayer.isPlaying();
+            mediaPlayer.setVolume(0);
+            if (wasPlaying) {
+                mediaPlayer.pause();
+            }
+            seekCoalescer.setScrubbing(true);
+            lastStepNanos = System.nanoTime();
+            handler.postDelayed(this, FRAME_INTERVAL_MILLIS);
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Ends trick play with a precise seek to where it is, unmuting the player and, if
+     * {@code resume}, playing again if it was playing.
+     */
+    void stop(boolean resume) {
+        if (!isActive()) return;
+
+        rate = 0;
+        handler.removeCallbacks(this);
+        seekCoalescer.setScrubbing(false);
+        mediaPlayer.setVolume(volume);
+        if (resume && wasPlaying) {
+            mediaPlayer.play();
+        }
+        mediaPlayer = null;
+    }
+
+    /**
+     * Ends trick play without touching the player, e.g. when it is disposed or replaced.
+     */
+    void cancel() {
+        if (!isActive()) return;
+
+        rate = 0;
+        mediaPlayer = null;
+        handler.removeCallbacks(this);
+        seekCoalescer.cancel();
+    }
+
+    @Override
+    public void run() {
+        if (!isActive()) return;
+
+        long now = System.nanoTime();
+        time += rate * (now - lastStepNanos) / 1_000_000.0;
+        lastStepNanos = now;
+
+        long length = mediaPlayer.getLength();
+        if (time <= 0) {
+            seekCoalescer.request(0);
+            stop(true);
+            return;
+        }
+        if (length > 0 && time >= length) {
+            seekCoalescer.request(length);
+            stop(false);
+            return;
+        }
+        seekCoalescer.request((long) time);
+        handler.postDelayed(this, FRAME_INTERVAL_MILLIS);
+    }
+}
@@ -0,0 +1,76 @@
+package software.solid.fluttervlcplayer;
+
+import java.nio.ByteBuffer;
+
+import software.solid.fluttervlcplayer.Enums.FrameChroma;
+
+/**
+ * A decoded video frame tapped from a player, as handed to a {@link VideoFrameListener}.
+ *
+ * <p>The frame and its buffer are only valid during the {@link VideoFrameListener#onFrame} call:
+ * the buffer is reused for later frames, so pixels needed afterwards must be copied.
+ */
+public final class VideoFrame {
+    /**
+     * The size of the header at the start of {@link #getBuffer()}: little-endian width, height
+     * and chroma as int32, 4 reserved bytes and the position in milliseconds as int64.
+     */
+    public static final int HEADER_SIZE = 24;
+
+    private final int width;
+    private final int height;
+    private final FrameChroma chroma;
+    private final long position;
+    private final ByteBuffer buffer;
+
+    VideoFrame(int width, int height, FrameChroma chroma, long position, ByteBuffer buffer) {
+        this.width = width;
+        this.height = height;
+        this.chroma = chroma;
+        this.position = position;
+        this.buffer = buffer;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the layout of the pixels: RGBA rows, or the Y, U and V planes for I420, the chroma
+     * planes being half the size rounded up.
+     */
+    public FrameChroma getChroma() {
+        return chroma;
+    }
+
+    /**
+     * Returns the position of the frame in the media, in milliseconds.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns a read-only view of the whole buffer, {@link #HEADER_SIZE} bytes of header included.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer().order(buffer.order());
+    }
+
+    /**
+     * Returns a read-only view of the pixels, after the header.
+     */
+    public ByteBuffer getPixels() {
+        ByteBuffer pixels = buffer.asReadOnlyBuffer();
+        pixels.position(HEADER_SIZE);
+        return pixels.slice();
+    }
+
+    ByteBuffer getWritableBuffer() {
+        return buffer;
+    }
+}
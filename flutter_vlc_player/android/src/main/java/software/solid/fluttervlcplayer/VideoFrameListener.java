@@ -0,0 +1,16 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * Receives the decoded frames tapped from a player, registered with
+ * {@link FlutterVlcPlayerPlugin#addVideoFrameListener}.
+ *
+ * <p>Listeners are called on the background thread of the player's tap, one frame at a time and
+ * never on the main thread. Each player has a thread of its own, so a slow listener only delays
+ * the frames of its player: frames tapped meanwhile are dropped as set by the backpressure policy.
+ */
+public interface VideoFrameListener {
+    /**
+     * Called with each frame tapped. The frame, and its buffer, are only valid during the call.
+     */
+    void onFrame(VideoFrame frame);
+}
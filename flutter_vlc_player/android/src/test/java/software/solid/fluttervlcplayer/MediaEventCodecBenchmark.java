@@ -0,0 +1,54 @@
+package software.solid.fluttervlcplayer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.Locale;
+
+import io.flutter.plugin.common.MethodCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugin.common.StandardMethodCodec;
+
+/**
+ * Measures the time it takes to encode a "timeChanged" event in a success envelope, as the map the
+ * player used to build, as a Pigeon {@link Messages.MediaEventMessage} and as a
+ * {@link MediaEventRecord} written by {@link MediaEventCodec}.
+ *
+ * <p>Benchmarks are excluded from the unit tests, they run with {@code gradle test -Pbenchmark}.
+ * The results are published to the test report. They are those of the desktop JVM running the
+ * tests, not of a device.
+ */
+@Tag("benchmark")
+class MediaEventCodecBenchmark {
+    private static final int WARM_UP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    // keeps the encoded envelopes in use, so that the encoding is not optimized away
+    private static volatile long sink;
+
+    @Test
+    void timeChangedEvent(TestReporter reporter) {
+        MediaEventRecord record = MediaEventCodecTest.timeChanged(new MediaEventRecord());
+
+        measure(reporter, "map", StandardMethodCodec.INSTANCE, MediaEventCodecTest.toMap(record));
+        measure(reporter, "MediaEventMessage",
+                new StandardMethodCodec((StandardMessageCodec) Messages.VlcPlayerApi.getCodec()),
+                MediaEventCodecTest.toMessage(record));
+        measure(reporter, "MediaEventRecord", new StandardMethodCodec(MediaEventCodec.INSTANCE), record);
+    }
+
+    private static void measure(TestReporter reporter, String name, MethodCodec codec, Object event) {
+        long checksum = 0;
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            checksum += codec.encodeSuccessEnvelope(event).capacity();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += codec.encodeSuccessEnvelope(event).capacity();
+        }
+        double nanosPerEvent = (double) (System.nanoTime() - start) / ITERATIONS;
+        sink = checksum;
+
+        reporter.publishEntry(name, String.format(Locale.ROOT, "%.1f ns/event", nanosPerEvent));
+    }
+}
@@ -0,0 +1,141 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+
+import io.flutter.plugin.common.EventChannel;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugin.common.StandardMethodCodec;
+
+/**
+ * Checks the size of a "timeChanged" event sent as the map the player used to build, as a Pigeon
+ * {@link Messages.MediaEventMessage} and as a {@link MediaEventRecord} written by
+ * {@link MediaEventCodec}, each in a success envelope as the event channel sends it, and that
+ * refilling and encoding the record does not allocate.
+ */
+class MediaEventCodecTest {
+    private static final int WARM_UP_ITERATIONS = 100_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    void encodedSizes() {
+        MediaEventRecord record = timeChanged(new MediaEventRecord());
+
+        int mapSize = StandardMethodCodec.INSTANCE.encodeSuccessEnvelope(toMap(record)).capacity();
+        int messageSize = new StandardMethodCodec((StandardMessageCodec) Messages.VlcPlayerApi.getCodec())
+                .encodeSuccessEnvelope(toMessage(record)).capacity();
+        int recordSize = new StandardMethodCodec(MediaEventCodec.INSTANCE).encodeSuccessEnvelope(record).capacity();
+
+        assertEquals(113, messageSize);
+        assertEquals(89, recordSize);
+        assertTrue(messageSize < mapSize, "the typed message is smaller than the map");
+    }
+
+    @Test
+    void timeChangedEventDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        MediaEventRecord record = new MediaEventRecord();
+        // the channel buffer, reused as the codec is handed the same stream every time
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(256);
+        QueuingEventSink eventSink = new QueuingEventSink();
+        eventSink.setDelegate(new EventChannel.EventSink() {
+            @Override
+            public void success(Object event) {
+                stream.reset();
+                MediaEventCodec.INSTANCE.writeValue(stream, event);
+            }
+
+            @Override
+            public void error(String errorCode, String errorMessage, Object errorDetails) {
+            }
+
+            @Override
+            public void endOfStream() {
+            }
+        });
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            eventSink.success(timeChanged(record));
+        }
+        // the overhead of reading the counter itself
+        long overhead = -threads.getThreadAllocatedBytes(threadId);
+        overhead += threads.getThreadAllocatedBytes(threadId);
+
+        long allocated = -threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            timeChanged(record).position = i * 40L;
+            eventSink.success(record);
+        }
+        allocated += threads.getThreadAllocatedBytes(threadId);
+
+        assertEquals(0, allocated - overhead, "bytes allocated by " + ITERATIONS + " events");
+    }
+
+    /**
+     * Fills {@code record} with a "timeChanged" event, as the player does.
+     */
+    static MediaEventRecord timeChanged(MediaEventRecord record) {
+        record.reset(MediaEventRecord.TIME_CHANGED);
+        record.width = 1920;
+        record.height = 1080;
+        record.speed = 1.0f;
+        record.position = 754_321;
+        record.duration = 5_400_000;
+        record.buffer = 100.0f;
+        record.audioTracksCount = 2;
+        record.activeAudioTrack = 1;
+        record.spuTracksCount = 3;
+        record.activeSpuTrack = -1;
+        record.isPlaying = true;
+        return record;
+    }
+
+    /**
+     * Builds the map the player used to send for a "timeChanged" event.
+     */
+    static HashMap<String, Object> toMap(MediaEventRecord record) {
+        HashMap<String, Object> map = new HashMap<>();
+        map.put("event", "timeChanged");
+        map.put("height", record.height);
+        map.put("width", record.width);
+        map.put("speed", record.speed);
+        map.put("position", record.position);
+        map.put("duration", record.duration);
+        map.put("buffer", record.buffer);
+        map.put("audioTracksCount", record.audioTracksCount);
+        map.put("activeAudioTrack", record.activeAudioTrack);
+        map.put("spuTracksCount", record.spuTracksCount);
+        map.put("activeSpuTrack", record.activeSpuTrack);
+        map.put("isPlaying", record.isPlaying);
+        return map;
+    }
+
+    /**
+     * Builds the Pigeon message with the fields {@link MediaEventCodec} writes for a "timeChanged"
+     * event.
+     */
+    static Messages.MediaEventMessage toMessage(MediaEventRecord record) {
+        return new Messages.MediaEventMessage.Builder()
+                .setType((long) record.type)
+                .setWidth((long) record.width)
+                .setHeight((long) record.height)
+                .setSpeed((double) record.speed)
+                .setPosition(record.position)
+                .setDuration(record.duration)
+                .setBuffer((double) record.buffer)
+                .setAudioTracksCount((long) record.audioTracksCount)
+                .setActiveAudioTrack((long) record.activeAudioTrack)
+                .setSpuTracksCount((long) record.spuTracksCount)
+                .setActiveSpuTrack((long) record.activeSpuTrack)
+                .setIsPlaying(record.isPlaying)
+                .build();
+    }
+}
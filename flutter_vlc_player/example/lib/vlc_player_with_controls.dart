@@ -352,6 +352,8 @@ class VlcPlayerWithControlsState extends State<VlcPlayerWithControls> {
                               : _controller.value.duration.inSeconds.toDouble(),
                           onChanged:
                               validPosition ? _onSliderPositionChanged : null,
+                          onChangeStart: (_) => _controller.setScrubbing(true),
+                          onChangeEnd: (_) => _controller.setScrubbing(false),
                         ),
                       ),
                       Text(
@@ -55,6 +55,10 @@ private func wrapError(_ error: Any) -> [Any?] {
   ]
 }
 
+private func createConnectionError(withChannelName channelName: String) -> PigeonError {
+  return PigeonError(code: "channel-error", message: "Unable to establish connection on channel: '\(channelName)'.", details: "")
+}
+
 private func isNullish(_ value: Any?) -> Bool {
   return value is NSNull || value == nil
 }
@@ -236,6 +240,634 @@ struct AddAudioMessage {
   }
 }
 
+/// A media event sent over a player's media event channel.
+///
+/// [type] is one of: 0 opening, 1 paused, 2 stopped, 3 playing, 4 ended,
+/// 5 timeChanged, 6 error, 7 recording, 8 clockAnchor, 9 playlistItemChanged.
+/// Fields that are not part of the event type are left null.
+/// [timestamp] is the monotonic clock time of a clockAnchor, in microseconds.
+/// [playlistIndex] is the playlist item a playlistItemChanged switched to.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct MediaEventMessage {
+  var type: Int64
+  var width: Int64? = nil
+  var height: Int64? = nil
+  var speed: Double? = nil
+  var position: Int64? = nil
+  var duration: Int64? = nil
+  var buffer: Double? = nil
+  var audioTracksCount: Int64? = nil
+  var activeAudioTrack: Int64? = nil
+  var spuTracksCount: Int64? = nil
+  var activeSpuTrack: Int64? = nil
+  var isPlaying: Bool? = nil
+  var isRecording: Bool? = nil
+  var recordPath: String? = nil
+  var timestamp: Int64? = nil
+  var playlistIndex: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> MediaEventMessage? {
+    let type = pigeonVar_list[0] as! Int64
+    let width: Int64? = nilOrValue(pigeonVar_list[1])
+    let height: Int64? = nilOrValue(pigeonVar_list[2])
+    let speed: Double? = nilOrValue(pigeonVar_list[3])
+    let position: Int64? = nilOrValue(pigeonVar_list[4])
+    let duration: Int64? = nilOrValue(pigeonVar_list[5])
+    let buffer: Double? = nilOrValue(pigeonVar_list[6])
+    let audioTracksCount: Int64? = nilOrValue(pigeonVar_list[7])
+    let activeAudioTrack: Int64? = nilOrValue(pigeonVar_list[8])
+    let spuTracksCount: Int64? = nilOrValue(pigeonVar_list[9])
+    let activeSpuTrack: Int64? = nilOrValue(pigeonVar_list[10])
+    let isPlaying: Bool? = nilOrValue(pigeonVar_list[11])
+    let isRecording: Bool? = nilOrValue(pigeonVar_list[12])
+    let recordPath: String? = nilOrValue(pigeonVar_list[13])
+    let timestamp: Int64? = nilOrValue(pigeonVar_list[14])
+    let playlistIndex: Int64? = nilOrValue(pigeonVar_list[15])
+
+    return MediaEventMessage(
+      type: type,
+      width: width,
+      height: height,
+      speed: speed,
+      position: position,
+      duration: duration,
+      buffer: buffer,
+      audioTracksCount: audioTracksCount,
+      activeAudioTrack: activeAudioTrack,
+      spuTracksCount: spuTracksCount,
+      activeSpuTrack: activeSpuTrack,
+      isPlaying: isPlaying,
+      isRecording: isRecording,
+      recordPath: recordPath,
+      timestamp: timestamp,
+      playlistIndex: playlistIndex
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      type,
+      width,
+      height,
+      speed,
+      position,
+      duration,
+      buffer,
+      audioTracksCount,
+      activeAudioTrack,
+      spuTracksCount,
+      activeSpuTrack,
+      isPlaying,
+      isRecording,
+      recordPath,
+      timestamp,
+      playlistIndex,
+    ]
+  }
+}
+
+/// A renderer event sent over a player's renderer event channel.
+///
+/// [type] is one of: 0 attached, 1 detached.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct RendererEventMessage {
+  var type: Int64
+  var id: String
+  var name: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> RendererEventMessage? {
+    let type = pigeonVar_list[0] as! Int64
+    let id = pigeonVar_list[1] as! String
+    let name = pigeonVar_list[2] as! String
+
+    return RendererEventMessage(
+      type: type,
+      id: id,
+      name: name
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      type,
+      id,
+      name,
+    ]
+  }
+}
+
+/// A snapshot of the player state, read in a single call.
+///
+/// Times and delays are in milliseconds.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlaybackStateMessage {
+  var position: Int64
+  var duration: Int64
+  var isPlaying: Bool
+  var isSeekable: Bool
+  var volume: Int64
+  var playbackSpeed: Double
+  var audioTrack: Int64
+  var audioTracksCount: Int64
+  var audioDelay: Int64
+  var spuTrack: Int64
+  var spuTracksCount: Int64
+  var spuDelay: Int64
+  var videoTrack: Int64
+  var videoTracksCount: Int64
+  var videoScale: Double
+  var aspectRatio: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlaybackStateMessage? {
+    let position = pigeonVar_list[0] as! Int64
+    let duration = pigeonVar_list[1] as! Int64
+    let isPlaying = pigeonVar_list[2] as! Bool
+    let isSeekable = pigeonVar_list[3] as! Bool
+    let volume = pigeonVar_list[4] as! Int64
+    let playbackSpeed = pigeonVar_list[5] as! Double
+    let audioTrack = pigeonVar_list[6] as! Int64
+    let audioTracksCount = pigeonVar_list[7] as! Int64
+    let audioDelay = pigeonVar_list[8] as! Int64
+    let spuTrack = pigeonVar_list[9] as! Int64
+    let spuTracksCount = pigeonVar_list[10] as! Int64
+    let spuDelay = pigeonVar_list[11] as! Int64
+    let videoTrack = pigeonVar_list[12] as! Int64
+    let videoTracksCount = pigeonVar_list[13] as! Int64
+    let videoScale = pigeonVar_list[14] as! Double
+    let aspectRatio: String? = nilOrValue(pigeonVar_list[15])
+
+    return PlaybackStateMessage(
+      position: position,
+      duration: duration,
+      isPlaying: isPlaying,
+      isSeekable: isSeekable,
+      volume: volume,
+      playbackSpeed: playbackSpeed,
+      audioTrack: audioTrack,
+      audioTracksCount: audioTracksCount,
+      audioDelay: audioDelay,
+      spuTrack: spuTrack,
+      spuTracksCount: spuTracksCount,
+      spuDelay: spuDelay,
+      videoTrack: videoTrack,
+      videoTracksCount: videoTracksCount,
+      videoScale: videoScale,
+      aspectRatio: aspectRatio
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      position,
+      duration,
+      isPlaying,
+      isSeekable,
+      volume,
+      playbackSpeed,
+      audioTrack,
+      audioTracksCount,
+      audioDelay,
+      spuTrack,
+      spuTracksCount,
+      spuDelay,
+      videoTrack,
+      videoTracksCount,
+      videoScale,
+      aspectRatio,
+    ]
+  }
+}
+
+/// A command of a batch, see executeBatch.
+///
+/// [type] is the index of a VlcPlayerCommandType. Only the value fields the
+/// command takes are set, [media] for setMedia.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlayerCommandMessage {
+  var type: Int64
+  var intValue: Int64? = nil
+  var doubleValue: Double? = nil
+  var boolValue: Bool? = nil
+  var stringValue: String? = nil
+  var media: SetMediaMessage? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlayerCommandMessage? {
+    let type = pigeonVar_list[0] as! Int64
+    let intValue: Int64? = nilOrValue(pigeonVar_list[1])
+    let doubleValue: Double? = nilOrValue(pigeonVar_list[2])
+    let boolValue: Bool? = nilOrValue(pigeonVar_list[3])
+    let stringValue: String? = nilOrValue(pigeonVar_list[4])
+    let media: SetMediaMessage? = nilOrValue(pigeonVar_list[5])
+
+    return PlayerCommandMessage(
+      type: type,
+      intValue: intValue,
+      doubleValue: doubleValue,
+      boolValue: boolValue,
+      stringValue: stringValue,
+      media: media
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      type,
+      intValue,
+      doubleValue,
+      boolValue,
+      stringValue,
+      media,
+    ]
+  }
+}
+
+/// Counters of the native player teardowns run after dispose.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DisposalMetricsMessage {
+  var pending: Int64
+  var completed: Int64
+  var failed: Int64
+  var averageTeardownMillis: Int64
+  var maxTeardownMillis: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DisposalMetricsMessage? {
+    let pending = pigeonVar_list[0] as! Int64
+    let completed = pigeonVar_list[1] as! Int64
+    let failed = pigeonVar_list[2] as! Int64
+    let averageTeardownMillis = pigeonVar_list[3] as! Int64
+    let maxTeardownMillis = pigeonVar_list[4] as! Int64
+
+    return DisposalMetricsMessage(
+      pending: pending,
+      completed: completed,
+      failed: failed,
+      averageTeardownMillis: averageTeardownMillis,
+      maxTeardownMillis: maxTeardownMillis
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pending,
+      completed,
+      failed,
+      averageTeardownMillis,
+      maxTeardownMillis,
+    ]
+  }
+}
+
+/// A media to open in a hidden player ahead of playback.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PreloadMessage {
+  var uri: String
+  var type: Int64
+  var packageName: String? = nil
+  var hwAcc: Int64? = nil
+  var options: [String]
+  var bufferMillis: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PreloadMessage? {
+    let uri = pigeonVar_list[0] as! String
+    let type = pigeonVar_list[1] as! Int64
+    let packageName: String? = nilOrValue(pigeonVar_list[2])
+    let hwAcc: Int64? = nilOrValue(pigeonVar_list[3])
+    let options = pigeonVar_list[4] as! [String]
+    let bufferMillis = pigeonVar_list[5] as! Int64
+
+    return PreloadMessage(
+      uri: uri,
+      type: type,
+      packageName: packageName,
+      hwAcc: hwAcc,
+      options: options,
+      bufferMillis: bufferMillis
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      uri,
+      type,
+      packageName,
+      hwAcc,
+      options,
+      bufferMillis,
+    ]
+  }
+}
+
+/// Channel switches of a player and their latency to the first frame.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct ZapMetricsMessage {
+  var zapCount: Int64
+  var completedZapCount: Int64
+  var abandonedZapCount: Int64
+  var prebufferedZapCount: Int64
+  var lastLatencyMillis: Int64
+  var averageLatencyMillis: Int64
+  var maxLatencyMillis: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> ZapMetricsMessage? {
+    let zapCount = pigeonVar_list[0] as! Int64
+    let completedZapCount = pigeonVar_list[1] as! Int64
+    let abandonedZapCount = pigeonVar_list[2] as! Int64
+    let prebufferedZapCount = pigeonVar_list[3] as! Int64
+    let lastLatencyMillis = pigeonVar_list[4] as! Int64
+    let averageLatencyMillis = pigeonVar_list[5] as! Int64
+    let maxLatencyMillis = pigeonVar_list[6] as! Int64
+
+    return ZapMetricsMessage(
+      zapCount: zapCount,
+      completedZapCount: completedZapCount,
+      abandonedZapCount: abandonedZapCount,
+      prebufferedZapCount: prebufferedZapCount,
+      lastLatencyMillis: lastLatencyMillis,
+      averageLatencyMillis: averageLatencyMillis,
+      maxLatencyMillis: maxLatencyMillis
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      zapCount,
+      completedZapCount,
+      abandonedZapCount,
+      prebufferedZapCount,
+      lastLatencyMillis,
+      averageLatencyMillis,
+      maxLatencyMillis,
+    ]
+  }
+}
+
+/// An item of a player's playlist.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlaylistItemMessage {
+  var uri: String
+  var type: Int64
+  var packageName: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlaylistItemMessage? {
+    let uri = pigeonVar_list[0] as! String
+    let type = pigeonVar_list[1] as! Int64
+    let packageName: String? = nilOrValue(pigeonVar_list[2])
+
+    return PlaylistItemMessage(
+      uri: uri,
+      type: type,
+      packageName: packageName
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      uri,
+      type,
+      packageName,
+    ]
+  }
+}
+
+/// The frame a step moved to. [frame] is the image to show over the video
+/// when the step was served from the ring of recent frames, and null when
+/// the player displays the frame itself.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FrameStepMessage {
+  var position: Int64
+  var frame: FlutterStandardTypedData? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FrameStepMessage? {
+    let position = pigeonVar_list[0] as! Int64
+    let frame: FlutterStandardTypedData? = nilOrValue(pigeonVar_list[1])
+
+    return FrameStepMessage(
+      position: position,
+      frame: frame
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      position,
+      frame,
+    ]
+  }
+}
+
+/// How a snapshot is scaled and encoded. The snapshot keeps the aspect ratio
+/// of the video and fits in [maxWidth] x [maxHeight], each unbounded if null.
+/// [format] is the index of the format (JPEG, PNG, WEBP). The snapshot is
+/// written to [path], or returned as bytes if null.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct SnapshotOptionsMessage {
+  var maxWidth: Int64? = nil
+  var maxHeight: Int64? = nil
+  var format: Int64
+  var quality: Int64
+  var path: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> SnapshotOptionsMessage? {
+    let maxWidth: Int64? = nilOrValue(pigeonVar_list[0])
+    let maxHeight: Int64? = nilOrValue(pigeonVar_list[1])
+    let format = pigeonVar_list[2] as! Int64
+    let quality = pigeonVar_list[3] as! Int64
+    let path: String? = nilOrValue(pigeonVar_list[4])
+
+    return SnapshotOptionsMessage(
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      format: format,
+      quality: quality,
+      path: path
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      maxWidth,
+      maxHeight,
+      format,
+      quality,
+      path,
+    ]
+  }
+}
+
+/// A snapshot, as [bytes] or written to the file at [path].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct SnapshotMessage {
+  var width: Int64
+  var height: Int64
+  var bytes: FlutterStandardTypedData? = nil
+  var path: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> SnapshotMessage? {
+    let width = pigeonVar_list[0] as! Int64
+    let height = pigeonVar_list[1] as! Int64
+    let bytes: FlutterStandardTypedData? = nilOrValue(pigeonVar_list[2])
+    let path: String? = nilOrValue(pigeonVar_list[3])
+
+    return SnapshotMessage(
+      width: width,
+      height: height,
+      bytes: bytes,
+      path: path
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      width,
+      height,
+      bytes,
+      path,
+    ]
+  }
+}
+
+/// How frames are tapped: [chroma] is the index of the chroma (RGBA, I420),
+/// frames fit in [maxWidth] x [maxHeight], each unbounded if null, and
+/// [backpressure] is the index of the policy (drop newest, keep latest).
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FrameTapMessage {
+  var chroma: Int64
+  var maxWidth: Int64? = nil
+  var maxHeight: Int64? = nil
+  var intervalMillis: Int64
+  var backpressure: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FrameTapMessage? {
+    let chroma = pigeonVar_list[0] as! Int64
+    let maxWidth: Int64? = nilOrValue(pigeonVar_list[1])
+    let maxHeight: Int64? = nilOrValue(pigeonVar_list[2])
+    let intervalMillis = pigeonVar_list[3] as! Int64
+    let backpressure = pigeonVar_list[4] as! Int64
+
+    return FrameTapMessage(
+      chroma: chroma,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      intervalMillis: intervalMillis,
+      backpressure: backpressure
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      chroma,
+      maxWidth,
+      maxHeight,
+      intervalMillis,
+      backpressure,
+    ]
+  }
+}
+
+/// Counters of the LibVLC instances shared among players.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct LibVLCPoolMetricsMessage {
+  var instances: Int64
+  var createMillis: Int64
+  var nativeBytes: Int64
+  var sharedAcquisitions: Int64
+  var startupMillisSaved: Int64
+  var nativeBytesSaved: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> LibVLCPoolMetricsMessage? {
+    let instances = pigeonVar_list[0] as! Int64
+    let createMillis = pigeonVar_list[1] as! Int64
+    let nativeBytes = pigeonVar_list[2] as! Int64
+    let sharedAcquisitions = pigeonVar_list[3] as! Int64
+    let startupMillisSaved = pigeonVar_list[4] as! Int64
+    let nativeBytesSaved = pigeonVar_list[5] as! Int64
+
+    return LibVLCPoolMetricsMessage(
+      instances: instances,
+      createMillis: createMillis,
+      nativeBytes: nativeBytes,
+      sharedAcquisitions: sharedAcquisitions,
+      startupMillisSaved: startupMillisSaved,
+      nativeBytesSaved: nativeBytesSaved
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      instances,
+      createMillis,
+      nativeBytes,
+      sharedAcquisitions,
+      startupMillisSaved,
+      nativeBytesSaved,
+    ]
+  }
+}
+
+/// Counters of the events a player sent to Dart.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct EventSinkMetricsMessage {
+  var enqueued: Int64
+  var delivered: Int64
+  var compacted: Int64
+  var dropped: Int64
+  var queued: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> EventSinkMetricsMessage? {
+    let enqueued = pigeonVar_list[0] as! Int64
+    let delivered = pigeonVar_list[1] as! Int64
+    let compacted = pigeonVar_list[2] as! Int64
+    let dropped = pigeonVar_list[3] as! Int64
+    let queued = pigeonVar_list[4] as! Int64
+
+    return EventSinkMetricsMessage(
+      enqueued: enqueued,
+      delivered: delivered,
+      compacted: compacted,
+      dropped: dropped,
+      queued: queued
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      enqueued,
+      delivered,
+      compacted,
+      dropped,
+      queued,
+    ]
+  }
+}
+
 private class MessagesPigeonCodecReader: FlutterStandardReader {
   override func readValue(ofType type: UInt8) -> Any? {
     switch type {
@@ -249,6 +881,34 @@ private class MessagesPigeonCodecReader: FlutterStandardReader {
       return AddSubtitleMessage.fromList(self.readValue() as! [Any?])
     case 133:
       return AddAudioMessage.fromList(self.readValue() as! [Any?])
+    case 134:
+      return MediaEventMessage.fromList(self.readValue() as! [Any?])
+    case 135:
+      return RendererEventMessage.fromList(self.readValue() as! [Any?])
+    case 136:
+      return PlaybackStateMessage.fromList(self.readValue() as! [Any?])
+    case 137:
+      return PlayerCommandMessage.fromList(self.readValue() as! [Any?])
+    case 138:
+      return DisposalMetricsMessage.fromList(self.readValue() as! [Any?])
+    case 139:
+      return PreloadMessage.fromList(self.readValue() as! [Any?])
+    case 140:
+      return ZapMetricsMessage.fromList(self.readValue() as! [Any?])
+    case 141:
+      return PlaylistItemMessage.fromList(self.readValue() as! [Any?])
+    case 142:
+      return FrameStepMessage.fromList(self.readValue() as! [Any?])
+    case 143:
+      return SnapshotOptionsMessage.fromList(self.readValue() as! [Any?])
+    case 144:
+      return SnapshotMessage.fromList(self.readValue() as! [Any?])
+    case 145:
+      return FrameTapMessage.fromList(self.readValue() as! [Any?])
+    case 146:
+      return LibVLCPoolMetricsMessage.fromList(self.readValue() as! [Any?])
+    case 147:
+      return EventSinkMetricsMessage.fromList(self.readValue() as! [Any?])
     default:
       return super.readValue(ofType: type)
     }
@@ -272,6 +932,48 @@ private class MessagesPigeonCodecWriter: FlutterStandardWriter {
     } else if let value = value as? AddAudioMessage {
       super.writeByte(133)
       super.writeValue(value.toList())
+    } else if let value = value as? MediaEventMessage {
+      super.writeByte(134)
+      super.writeValue(value.toList())
+    } else if let value = value as? RendererEventMessage {
+      super.writeByte(135)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlaybackStateMessage {
+      super.writeByte(136)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlayerCommandMessage {
+      super.writeByte(137)
+      super.writeValue(value.toList())
+    } else if let value = value as? DisposalMetricsMessage {
+      super.writeByte(138)
+      super.writeValue(value.toList())
+    } else if let value = value as? PreloadMessage {
+      super.writeByte(139)
+      super.writeValue(value.toList())
+    } else if let value = value as? ZapMetricsMessage {
+      super.writeByte(140)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlaylistItemMessage {
+      super.writeByte(141)
+      super.writeValue(value.toList())
+    } else if let value = value as? FrameStepMessage {
+      super.writeByte(142)
+      super.writeValue(value.toList())
+    } else if let value = value as? SnapshotOptionsMessage {
+      super.writeByte(143)
+      super.writeValue(value.toList())
+    } else if let value = value as? SnapshotMessage {
+      super.writeByte(144)
+      super.writeValue(value.toList())
+    } else if let value = value as? FrameTapMessage {
+      super.writeByte(145)
+      super.writeValue(value.toList())
+    } else if let value = value as? LibVLCPoolMetricsMessage {
+      super.writeByte(146)
+      super.writeValue(value.toList())
+    } else if let value = value as? EventSinkMetricsMessage {
+      super.writeByte(147)
+      super.writeValue(value.toList())
     } else {
       super.writeValue(value)
     }
@@ -341,6 +1043,35 @@ protocol VlcPlayerApi {
   func castToRenderer(playerId: Int64, rendererId: String) throws
   func startRecording(playerId: Int64, saveDirectory: String) throws -> Bool
   func stopRecording(playerId: Int64) throws -> Bool
+  func setEventMultiplexing(enabled: Bool) throws -> Bool
+  func setClockAnchors(playerId: Int64, enabled: Bool) throws
+  func getPlaybackState(playerId: Int64) throws -> PlaybackStateMessage
+  func executeBatch(playerId: Int64, commands: [PlayerCommandMessage]) throws -> [String?]
+  func executeBulk(playerIds: [Int64]?, commands: [PlayerCommandMessage]) throws -> [Int64: String?]
+  func setBackgroundExecution(enabled: Bool) throws -> Bool
+  func getDisposalMetrics() throws -> DisposalMetricsMessage
+  func setPlayerRecycling(maxSize: Int64, idleTimeoutMillis: Int64) throws
+  func preload(msg: PreloadMessage) throws -> Bool
+  func cancelPreload(uri: String, type: Int64, packageName: String?) throws -> Bool
+  func setPreloadBudget(maxPreloads: Int64, maxBufferMillis: Int64) throws
+  func setZapChannels(playerId: Int64, uris: [String], neighbours: Int64, hwAcc: Int64?) throws
+  func zapTo(playerId: Int64, index: Int64) throws
+  func getZapMetrics(playerId: Int64) throws -> ZapMetricsMessage
+  func playlistAdd(playerId: Int64, items: [PlaylistItemMessage], index: Int64?) throws
+  func playlistRemove(playerId: Int64, index: Int64) throws
+  func playlistPlay(playerId: Int64, index: Int64) throws
+  func playlistClear(playerId: Int64) throws
+  func setScrubbing(playerId: Int64, scrubbing: Bool) throws
+  func setTrickPlay(playerId: Int64, rate: Double) throws
+  func nextFrame(playerId: Int64, completion: @escaping (Result<FrameStepMessage, Error>) -> Void)
+  func previousFrame(playerId: Int64, completion: @escaping (Result<FrameStepMessage, Error>) -> Void)
+  func takeScaledSnapshot(playerId: Int64, options: SnapshotOptionsMessage, completion: @escaping (Result<SnapshotMessage?, Error>) -> Void)
+  func startFrameTap(playerId: Int64, options: FrameTapMessage) throws
+  func stopFrameTap(playerId: Int64) throws
+  func setEventsSubscribed(playerId: Int64, kind: Int64, subscribed: Bool) throws
+  func getLibVLCPoolMetrics() throws -> LibVLCPoolMetricsMessage
+  func getEventSinkMetrics(playerId: Int64) throws -> EventSinkMetricsMessage
+  func setStateUpdateInterval(playerId: Int64, intervalMillis: Int64) throws
 }
 
 /// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
@@ -1066,5 +1797,516 @@ class VlcPlayerApiSetup {
     } else {
       stopRecordingChannel.setMessageHandler(nil)
     }
+    let setEventMultiplexingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventMultiplexing\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setEventMultiplexingChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let enabledArg = args[0] as! Bool
+        do {
+          let result = try api.setEventMultiplexing(enabled: enabledArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setEventMultiplexingChannel.setMessageHandler(nil)
+    }
+    let setClockAnchorsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setClockAnchors\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setClockAnchorsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let enabledArg = args[1] as! Bool
+        do {
+          try api.setClockAnchors(playerId: playerIdArg, enabled: enabledArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setClockAnchorsChannel.setMessageHandler(nil)
+    }
+    let getPlaybackStateChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackState\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPlaybackStateChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          let result = try api.getPlaybackState(playerId: playerIdArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getPlaybackStateChannel.setMessageHandler(nil)
+    }
+    let executeBatchChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      executeBatchChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let commandsArg = args[1] as! [PlayerCommandMessage]
+        do {
+          let result = try api.executeBatch(playerId: playerIdArg, commands: commandsArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      executeBatchChannel.setMessageHandler(nil)
+    }
+    let executeBulkChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBulk\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      executeBulkChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdsArg: [Int64]? = nilOrValue(args[0])
+        let commandsArg = args[1] as! [PlayerCommandMessage]
+        do {
+          let result = try api.executeBulk(playerIds: playerIdsArg, commands: commandsArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      executeBulkChannel.setMessageHandler(nil)
+    }
+    let setBackgroundExecutionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setBackgroundExecution\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setBackgroundExecutionChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let enabledArg = args[0] as! Bool
+        do {
+          let result = try api.setBackgroundExecution(enabled: enabledArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setBackgroundExecutionChannel.setMessageHandler(nil)
+    }
+    let getDisposalMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getDisposalMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getDisposalMetricsChannel.setMessageHandler { _, reply in
+        do {
+          let result = try api.getDisposalMetrics()
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getDisposalMetricsChannel.setMessageHandler(nil)
+    }
+    let setPlayerRecyclingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlayerRecycling\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setPlayerRecyclingChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let maxSizeArg = args[0] as! Int64
+        let idleTimeoutMillisArg = args[1] as! Int64
+        do {
+          try api.setPlayerRecycling(maxSize: maxSizeArg, idleTimeoutMillis: idleTimeoutMillisArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setPlayerRecyclingChannel.setMessageHandler(nil)
+    }
+    let preloadChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.preload\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      preloadChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! PreloadMessage
+        do {
+          let result = try api.preload(msg: msgArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      preloadChannel.setMessageHandler(nil)
+    }
+    let cancelPreloadChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelPreload\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      cancelPreloadChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let uriArg = args[0] as! String
+        let typeArg = args[1] as! Int64
+        let packageNameArg: String? = nilOrValue(args[2])
+        do {
+          let result = try api.cancelPreload(uri: uriArg, type: typeArg, packageName: packageNameArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      cancelPreloadChannel.setMessageHandler(nil)
+    }
+    let setPreloadBudgetChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPreloadBudget\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setPreloadBudgetChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let maxPreloadsArg = args[0] as! Int64
+        let maxBufferMillisArg = args[1] as! Int64
+        do {
+          try api.setPreloadBudget(maxPreloads: maxPreloadsArg, maxBufferMillis: maxBufferMillisArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setPreloadBudgetChannel.setMessageHandler(nil)
+    }
+    let setZapChannelsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setZapChannels\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setZapChannelsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let urisArg = args[1] as! [String]
+        let neighboursArg = args[2] as! Int64
+        let hwAccArg: Int64? = nilOrValue(args[3])
+        do {
+          try api.setZapChannels(playerId: playerIdArg, uris: urisArg, neighbours: neighboursArg, hwAcc: hwAccArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setZapChannelsChannel.setMessageHandler(nil)
+    }
+    let zapToChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.zapTo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      zapToChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let indexArg = args[1] as! Int64
+        do {
+          try api.zapTo(playerId: playerIdArg, index: indexArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      zapToChannel.setMessageHandler(nil)
+    }
+    let getZapMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getZapMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getZapMetricsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          let result = try api.getZapMetrics(playerId: playerIdArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getZapMetricsChannel.setMessageHandler(nil)
+    }
+    let playlistAddChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistAdd\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      playlistAddChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let itemsArg = args[1] as! [PlaylistItemMessage]
+        let indexArg: Int64? = nilOrValue(args[2])
+        do {
+          try api.playlistAdd(playerId: playerIdArg, items: itemsArg, index: indexArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      playlistAddChannel.setMessageHandler(nil)
+    }
+    let playlistRemoveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistRemove\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      playlistRemoveChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let indexArg = args[1] as! Int64
+        do {
+          try api.playlistRemove(playerId: playerIdArg, index: indexArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      playlistRemoveChannel.setMessageHandler(nil)
+    }
+    let playlistPlayChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistPlay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      playlistPlayChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let indexArg = args[1] as! Int64
+        do {
+          try api.playlistPlay(playerId: playerIdArg, index: indexArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      playlistPlayChannel.setMessageHandler(nil)
+    }
+    let playlistClearChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistClear\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      playlistClearChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.playlistClear(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      playlistClearChannel.setMessageHandler(nil)
+    }
+    let setScrubbingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setScrubbing\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setScrubbingChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let scrubbingArg = args[1] as! Bool
+        do {
+          try api.setScrubbing(playerId: playerIdArg, scrubbing: scrubbingArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setScrubbingChannel.setMessageHandler(nil)
+    }
+    let setTrickPlayChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setTrickPlay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setTrickPlayChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let rateArg = args[1] as! Double
+        do {
+          try api.setTrickPlay(playerId: playerIdArg, rate: rateArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setTrickPlayChannel.setMessageHandler(nil)
+    }
+    let nextFrameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.nextFrame\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      nextFrameChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        api.nextFrame(playerId: playerIdArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      nextFrameChannel.setMessageHandler(nil)
+    }
+    let previousFrameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.previousFrame\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      previousFrameChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        api.previousFrame(playerId: playerIdArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      previousFrameChannel.setMessageHandler(nil)
+    }
+    let takeScaledSnapshotChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeScaledSnapshot\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      takeScaledSnapshotChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let optionsArg = args[1] as! SnapshotOptionsMessage
+        api.takeScaledSnapshot(playerId: playerIdArg, options: optionsArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      takeScaledSnapshotChannel.setMessageHandler(nil)
+    }
+    let startFrameTapChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startFrameTap\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      startFrameTapChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let optionsArg = args[1] as! FrameTapMessage
+        do {
+          try api.startFrameTap(playerId: playerIdArg, options: optionsArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      startFrameTapChannel.setMessageHandler(nil)
+    }
+    let stopFrameTapChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopFrameTap\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      stopFrameTapChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.stopFrameTap(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      stopFrameTapChannel.setMessageHandler(nil)
+    }
+    let setEventsSubscribedChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventsSubscribed\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setEventsSubscribedChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let kindArg = args[1] as! Int64
+        let subscribedArg = args[2] as! Bool
+        do {
+          try api.setEventsSubscribed(playerId: playerIdArg, kind: kindArg, subscribed: subscribedArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setEventsSubscribedChannel.setMessageHandler(nil)
+    }
+    let getLibVLCPoolMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getLibVLCPoolMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getLibVLCPoolMetricsChannel.setMessageHandler { _, reply in
+        do {
+          let result = try api.getLibVLCPoolMetrics()
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getLibVLCPoolMetricsChannel.setMessageHandler(nil)
+    }
+    let getEventSinkMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getEventSinkMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getEventSinkMetricsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          let result = try api.getEventSinkMetrics(playerId: playerIdArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getEventSinkMetricsChannel.setMessageHandler(nil)
+    }
+    let setStateUpdateIntervalChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStateUpdateInterval\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setStateUpdateIntervalChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        let intervalMillisArg = args[1] as! Int64
+        do {
+          try api.setStateUpdateInterval(playerId: playerIdArg, intervalMillis: intervalMillisArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setStateUpdateIntervalChannel.setMessageHandler(nil)
+    }
+  }
+}
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol VlcPlayerEventApiProtocol {
+  func mediaEvent(event eventArg: MediaEventMessage, completion: @escaping (Result<Void, PigeonError>) -> Void)
+  func rendererEvent(event eventArg: RendererEventMessage, completion: @escaping (Result<Void, PigeonError>) -> Void)
+}
+class VlcPlayerEventApi: VlcPlayerEventApiProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: MessagesPigeonCodec {
+    return MessagesPigeonCodec.shared
+  }
+  func mediaEvent(event eventArg: MediaEventMessage, completion: @escaping (Result<Void, PigeonError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.mediaEvent\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([eventArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(PigeonError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  func rendererEvent(event eventArg: RendererEventMessage, completion: @escaping (Result<Void, PigeonError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.rendererEvent\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([eventArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(PigeonError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
   }
 }
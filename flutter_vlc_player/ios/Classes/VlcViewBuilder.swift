@@ -6,6 +6,8 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
     private var registrar: FlutterPluginRegistrar
     private var messenger: FlutterBinaryMessenger
     private var options: [String]
+    private var zapChannels = [Int: (uris: [String], hwAcc: Int)]()
+    private var zapCounts = [Int: Int64]()
     
     init(registrar: FlutterPluginRegistrar) {
         self.registrar = registrar
@@ -70,6 +72,8 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
         
         player.dispose()
         players.removeValue(forKey: playerId.int)
+        zapChannels.removeValue(forKey: playerId.int)
+        zapCounts.removeValue(forKey: playerId.int)
     }
     
     func setStreamUrl(msg: SetMediaMessage) throws {
@@ -325,6 +329,348 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
         
         return player.stopRecording()
     }
+    
+    func setEventMultiplexing(enabled: Bool) throws -> Bool {
+        // Not supported, every player keeps its own event channels.
+        return false
+    }
+
+    func setEventsSubscribed(playerId: Int64, kind: Int64, subscribed: Bool) throws {
+        // Not supported, events are not multiplexed.
+    }
+
+    func setClockAnchors(playerId: Int64, enabled: Bool) throws {
+        // Not supported, the player keeps sending periodic "timeChanged" events.
+    }
+
+    func setStateUpdateInterval(playerId: Int64, intervalMillis: Int64) throws {
+        // Not supported, "timeChanged" events are sent as the player reports them.
+    }
+
+    func setBackgroundExecution(enabled: Bool) throws -> Bool {
+        // Not supported, commands keep running on the main thread.
+        return false
+    }
+
+    func getDisposalMetrics() throws -> DisposalMetricsMessage {
+        // Players are torn down synchronously on dispose, nothing is ever pending.
+        return DisposalMetricsMessage(
+            pending: 0,
+            completed: 0,
+            failed: 0,
+            averageTeardownMillis: 0,
+            maxTeardownMillis: 0
+        )
+    }
+
+    func getEventSinkMetrics(playerId: Int64) throws -> EventSinkMetricsMessage {
+        _ = try getPlayer(id: playerId)
+        
+        // Not supported, events are not queued.
+        return EventSinkMetricsMessage(
+            enqueued: 0,
+            delivered: 0,
+            compacted: 0,
+            dropped: 0,
+            queued: 0
+        )
+    }
+    
+    func getLibVLCPoolMetrics() throws -> LibVLCPoolMetricsMessage {
+        // Not supported, LibVLC instances are not pooled.
+        return LibVLCPoolMetricsMessage(
+            instances: 0,
+            createMillis: 0,
+            nativeBytes: 0,
+            sharedAcquisitions: 0,
+            startupMillisSaved: 0,
+            nativeBytesSaved: 0
+        )
+    }
+
+    func setPlayerRecycling(maxSize: Int64, idleTimeoutMillis: Int64) throws {
+        // Not supported, players are released on dispose.
+    }
+
+    func preload(msg: PreloadMessage) throws -> Bool {
+        // Not supported, media are opened by the player that plays them.
+        return false
+    }
+
+    func cancelPreload(uri: String, type: Int64, packageName: String?) throws -> Bool {
+        return false
+    }
+
+    func setPreloadBudget(maxPreloads: Int64, maxBufferMillis: Int64) throws {}
+
+    func setZapChannels(playerId: Int64, uris: [String], neighbours: Int64, hwAcc: Int64?) throws {
+        _ = try getPlayer(id: playerId)
+        // Neighbour channels are not pre-buffered, every zap opens the channel.
+        if uris.isEmpty {
+            zapChannels.removeValue(forKey: playerId.int)
+        } else {
+            zapChannels[playerId.int] = (
+                uris,
+                hwAcc?.int ?? HWAccellerationType.HW_ACCELERATION_AUTOMATIC.rawValue
+            )
+        }
+        zapCounts[playerId.int] = 0
+    }
+
+    func zapTo(playerId: Int64, index: Int64) throws {
+        let player = try getPlayer(id: playerId)
+        guard let channels = zapChannels[playerId.int] else {
+            throw PigeonError(
+                code: "zapping_disabled",
+                message: "Player with id \(playerId) has no zap channels",
+                details: nil
+            )
+        }
+        guard index >= 0, index.int < channels.uris.count else {
+            throw PigeonError(
+                code: "invalid_channel",
+                message: "No channel at index \(index)",
+                details: nil
+            )
+        }
+
+        player.setMediaPlayerUrl(
+            uri: channels.uris[index.int],
+            isAssetUrl: false,
+            autoPlay: true,
+            hwAcc: channels.hwAcc,
+            options: options
+        )
+        zapCounts[playerId.int, default: 0] += 1
+    }
+
+    func getZapMetrics(playerId: Int64) throws -> ZapMetricsMessage {
+        _ = try getPlayer(id: playerId)
+
+        // The latency to the first frame is not measured.
+        return ZapMetricsMessage(
+            zapCount: zapCounts[playerId.int] ?? 0,
+            completedZapCount: 0,
+            abandonedZapCount: 0,
+            prebufferedZapCount: 0,
+            lastLatencyMillis: 0,
+            averageLatencyMillis: 0,
+            maxLatencyMillis: 0
+        )
+    }
+
+    func getPlaybackState(playerId: Int64) throws -> PlaybackStateMessage {
+        let player = try getPlayer(id: playerId)
+
+        return PlaybackStateMessage(
+            position: player.position.int64,
+            duration: player.duration.int64,
+            isPlaying: player.isPlaying,
+            isSeekable: player.isSeekable,
+            volume: player.volume.int64,
+            playbackSpeed: player.playbackSpeed.double,
+            audioTrack: player.audioTrack.int64,
+            audioTracksCount: player.audioTracksCount.int64,
+            audioDelay: player.audioDelay.int64,
+            spuTrack: player.spuTrack.int64,
+            spuTracksCount: player.spuTracksCount.int64,
+            spuDelay: player.spuDelay.int64,
+            videoTrack: player.videoTrack.int64,
+            videoTracksCount: player.videoTracksCount.int64,
+            videoScale: player.videoScale.double,
+            aspectRatio: player.videoAspectRatio
+        )
+    }
+
+    func executeBatch(playerId: Int64, commands: [PlayerCommandMessage]) throws -> [String?] {
+        _ = try getPlayer(id: playerId)
+
+        // Commands are applied one by one, without deferring them until the media plays.
+        return commands.map { command in
+            do {
+                try executeCommand(playerId: playerId, command: command)
+                return nil
+            } catch let error as PigeonError {
+                return error.message ?? error.code
+            } catch {
+                return error.localizedDescription
+            }
+        }
+    }
+
+    func executeBulk(playerIds: [Int64]?, commands: [PlayerCommandMessage]) throws -> [Int64: String?] {
+        let ids = playerIds ?? players.keys.map { $0.int64 }
+
+        var results = [Int64: String?]()
+        for playerId in ids {
+            guard players[playerId.int] != nil else {
+                results[playerId] = .some("Player with id \(playerId) not found")
+                continue
+            }
+            // one result per player, the errors of its failed commands
+            let errors = try executeBatch(playerId: playerId, commands: commands).compactMap { $0 }
+            results[playerId] = .some(errors.isEmpty ? nil : errors.joined(separator: "; "))
+        }
+        return results
+    }
+
+    func playlistAdd(playerId: Int64, items: [PlaylistItemMessage], index: Int64?) throws {
+        let player = try getPlayer(id: playerId)
+        
+        player.addToPlaylist(
+            items: items.map { item in
+                if DataSourceType(rawValue: item.type.int) == DataSourceType.ASSET {
+                    let assetPath = item.packageName.map {
+                        registrar.lookupKey(forAsset: item.uri, fromPackage: $0)
+                    } ?? registrar.lookupKey(forAsset: item.uri)
+                    return (uri: assetPath, isAssetUrl: true)
+                }
+                return (uri: item.uri, isAssetUrl: false)
+            },
+            index: index?.int,
+            options: options
+        )
+    }
+    
+    func playlistRemove(playerId: Int64, index: Int64) throws {
+        let player = try getPlaylistPlayer(id: playerId, index: index)
+        
+        player.removeFromPlaylist(index: index.int)
+    }
+    
+    func playlistPlay(playerId: Int64, index: Int64) throws {
+        let player = try getPlaylistPlayer(id: playerId, index: index)
+        
+        player.playPlaylistItem(index: index.int)
+    }
+    
+    func playlistClear(playerId: Int64) throws {
+        let player = try getPlayer(id: playerId)
+        
+        player.clearPlaylist()
+    }
+    
+    private func getPlaylistPlayer(id: Int64, index: Int64) throws -> VLCViewController {
+        let player = try getPlayer(id: id)
+        guard index >= 0, index.int < player.playlistCount else {
+            throw PigeonError(
+                code: "invalid_playlist_index",
+                message: "No playlist item at index \(index)",
+                details: nil
+            )
+        }
+        return player
+    }
+    
+    func setScrubbing(playerId: Int64, scrubbing: Bool) throws {
+        _ = try getPlayer(id: playerId)
+        // VLCKit has no fast seeks, every seek is precise.
+    }
+    
+    func setTrickPlay(playerId: Int64, rate: Double) throws {
+        let player = try getPlayer(id: playerId)
+        
+        player.setTrickPlay(rate: rate)
+    }
+    
+    func nextFrame(playerId: Int64, completion: @escaping (Result<FrameStepMessage, Error>) -> Void) {
+        do {
+            let player = try getPlayer(id: playerId)
+            completion(.success(FrameStepMessage(position: player.nextFrame())))
+        } catch {
+            completion(.failure(error))
+        }
+    }
+    
+    func previousFrame(playerId: Int64, completion: @escaping (Result<FrameStepMessage, Error>) -> Void) {
+        do {
+            let player = try getPlayer(id: playerId)
+            // Recent frames are not kept, every backward step seeks.
+            completion(.success(FrameStepMessage(position: player.previousFrame())))
+        } catch {
+            completion(.failure(error))
+        }
+    }
+    
+    func takeScaledSnapshot(playerId: Int64, options: SnapshotOptionsMessage, completion: @escaping (Result<SnapshotMessage?, Error>) -> Void) {
+        let player: VLCViewController
+        do {
+            player = try getPlayer(id: playerId)
+        } catch {
+            completion(.failure(error))
+            return
+        }
+        
+        player.takeScaledSnapshot(
+            maxWidth: options.maxWidth,
+            maxHeight: options.maxHeight,
+            format: options.format,
+            quality: options.quality,
+            path: options.path,
+            completion: completion
+        )
+    }
+    
+    func startFrameTap(playerId: Int64, options: FrameTapMessage) throws {
+        let player = try getPlayer(id: playerId)
+        
+        player.frameTap.start(options: options)
+    }
+    
+    func stopFrameTap(playerId: Int64) throws {
+        let player = try getPlayer(id: playerId)
+        
+        player.frameTap.stop()
+    }
+    
+    private func executeCommand(playerId: Int64, command: PlayerCommandMessage) throws {
+        guard let type = PlayerCommandType(rawValue: command.type.int) else {
+            throw PigeonError(code: "unknown_command", message: "Unknown command type \(command.type)", details: nil)
+        }
+        switch type {
+        case .SET_MEDIA:
+            guard var media = command.media else { throw missingArgument("media") }
+            media.playerId = playerId
+            try setStreamUrl(msg: media)
+        case .PLAY:
+            try play(playerId: playerId)
+        case .PAUSE:
+            try pause(playerId: playerId)
+        case .STOP:
+            try stop(playerId: playerId)
+        case .SEEK_TO:
+            try seekTo(playerId: playerId, position: try requireValue(command.intValue, "intValue"))
+        case .SET_VOLUME:
+            try setVolume(playerId: playerId, volume: try requireValue(command.intValue, "intValue"))
+        case .SET_PLAYBACK_SPEED:
+            try setPlaybackSpeed(playerId: playerId, speed: try requireValue(command.doubleValue, "doubleValue"))
+        case .SET_LOOPING:
+            try setLooping(playerId: playerId, isLooping: try requireValue(command.boolValue, "boolValue"))
+        case .SET_AUDIO_TRACK:
+            try setAudioTrack(playerId: playerId, audioTrackNumber: try requireValue(command.intValue, "intValue"))
+        case .SET_AUDIO_DELAY:
+            try setAudioDelay(playerId: playerId, delay: try requireValue(command.intValue, "intValue"))
+        case .SET_SPU_TRACK:
+            try setSpuTrack(playerId: playerId, spuTrackNumber: try requireValue(command.intValue, "intValue"))
+        case .SET_SPU_DELAY:
+            try setSpuDelay(playerId: playerId, delay: try requireValue(command.intValue, "intValue"))
+        case .SET_VIDEO_TRACK:
+            try setVideoTrack(playerId: playerId, videoTrackNumber: try requireValue(command.intValue, "intValue"))
+        case .SET_VIDEO_SCALE:
+            try setVideoScale(playerId: playerId, scale: try requireValue(command.doubleValue, "doubleValue"))
+        case .SET_VIDEO_ASPECT_RATIO:
+            try setVideoAspectRatio(playerId: playerId, aspectRatio: try requireValue(command.stringValue, "stringValue"))
+        }
+    }
+
+    private func requireValue<T>(_ value: T?, _ name: String) throws -> T {
+        guard let value = value else { throw missingArgument(name) }
+        return value
+    }
+
+    private func missingArgument(_ name: String) -> PigeonError {
+        return PigeonError(code: "missing_argument", message: "Command needs \(name)", details: nil)
+    }
 }
 
 extension Int {
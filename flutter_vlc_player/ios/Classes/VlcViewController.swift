@@ -4,6 +4,9 @@ import MobileVLCKit
 import UIKit
 
 public class VLCViewController: NSObject, FlutterPlatformView {
+    // encodes the scaled snapshots, shared by all players
+    private static let snapshotEncoder = DispatchQueue(label: "VlcSnapshotEncoder", qos: .userInitiated)
+    
     var hostedView: UIView
     var vlcMediaPlayer: VLCMediaPlayer
     var mediaEventChannel: FlutterEventChannel
@@ -11,6 +14,25 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     var rendererEventChannel: FlutterEventChannel
     let rendererEventChannelHandler: VLCRendererEventStreamHandler
     var rendererdiscoverers: [VLCRendererDiscoverer] = .init()
+    // low-rate previews, binary so on a channel of their own
+    var previewEventChannel: FlutterEventChannel
+    let previewEventChannelHandler: VLCPreviewStreamHandler
+    // decoded frames for on-device analytics, started from Dart
+    let frameTap: VLCFrameTap
+    // the input is repeated by VLC without reopening it
+    private var isLooping = false
+    // played one after the other, looped as a whole instead of the media
+    private var playlist = [(uri: String, isAssetUrl: Bool)]()
+    private var playlistIndex = -1
+    private var playlistOptions = [String]()
+    // the hardware acceleration of the current media, kept for the playlist items
+    private var mediaHwAcc = HWAccellerationType.HW_ACCELERATION_AUTOMATIC.rawValue
+    // steps through the media while paused and muted, nil when off
+    private var trickPlayTimer: Timer?
+    private var trickPlayRate = 0.0
+    private var trickPlayTime = 0.0
+    private var trickPlayVolume: Int32 = 100
+    private var trickPlayWasPlaying = false
     
     public func view() -> UIView {
         return self.hostedView
@@ -25,6 +47,10 @@ public class VLCViewController: NSObject, FlutterPlatformView {
             name: "flutter_video_plugin/getRendererEvents_\(viewId)",
             binaryMessenger: messenger
         )
+        let previewEventChannel = FlutterEventChannel(
+            name: "flutter_video_plugin/getPreviewFrames_\(viewId)",
+            binaryMessenger: messenger
+        )
         
         self.hostedView = UIView(frame: frame)
         self.vlcMediaPlayer = VLCMediaPlayer()
@@ -34,18 +60,36 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         self.mediaEventChannelHandler = VLCPlayerEventStreamHandler()
         self.rendererEventChannel = rendererEventChannel
         self.rendererEventChannelHandler = VLCRendererEventStreamHandler()
+        self.previewEventChannel = previewEventChannel
+        self.previewEventChannelHandler = VLCPreviewStreamHandler(
+            view: self.hostedView,
+            player: self.vlcMediaPlayer
+        )
+        self.frameTap = VLCFrameTap(
+            view: self.hostedView,
+            player: self.vlcMediaPlayer,
+            viewId: viewId,
+            messenger: messenger
+        )
         //
         self.mediaEventChannel.setStreamHandler(self.mediaEventChannelHandler)
         self.rendererEventChannel.setStreamHandler(self.rendererEventChannelHandler)
+        self.previewEventChannel.setStreamHandler(self.previewEventChannelHandler)
         self.vlcMediaPlayer.drawable = self.hostedView
         self.vlcMediaPlayer.delegate = self.mediaEventChannelHandler
+        super.init()
+        self.mediaEventChannelHandler.onEnded = { [weak self] in
+            self?.playNextPlaylistItem() ?? false
+        }
     }
     
     public func play() {
+        stopTrickPlay(resume: false)
         self.vlcMediaPlayer.play()
     }
     
     public func pause() {
+        stopTrickPlay(resume: false)
         self.vlcMediaPlayer.pause()
     }
     
@@ -62,13 +106,32 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     }
     
     public func setLooping(isLooping: Bool) {
-        self.vlcMediaPlayer.media?.addOption(isLooping ? "--loop" : "--no-loop")
+        self.isLooping = isLooping
+        // applies when the media is opened
+        self.vlcMediaPlayer.media?.addOption(isLooping ? ":input-repeat=65535" : ":input-repeat=0")
     }
     
     public func seek(position: Int64) {
         self.vlcMediaPlayer.time = VLCTime(number: position as NSNumber)
     }
     
+    public func nextFrame() -> Int64 {
+        stopTrickPlay(resume: false)
+        self.vlcMediaPlayer.gotoNextFrame()
+        return Int64(self.vlcMediaPlayer.time.intValue)
+    }
+    
+    public func previousFrame() -> Int64 {
+        stopTrickPlay(resume: false)
+        self.vlcMediaPlayer.pause()
+        // VLCKit can't step backward, the previous frame is sought from its keyframe
+        let fps = self.vlcMediaPlayer.framesPerSecond
+        let frameMillis = fps > 0 ? Int64((1000 / fps).rounded()) : 40
+        let position = max(0, Int64(self.vlcMediaPlayer.time.intValue) - frameMillis)
+        seek(position: position)
+        return position
+    }
+    
     public var position: Int32 {
         self.vlcMediaPlayer.time.intValue
     }
@@ -85,6 +148,50 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         self.vlcMediaPlayer.audio?.volume ?? 100
     }
     
+    public func setTrickPlay(rate: Double) {
+        guard rate != 0 else {
+            stopTrickPlay(resume: true)
+            return
+        }
+        
+        if trickPlayTimer == nil {
+            self.trickPlayTime = Double(max(0, self.vlcMediaPlayer.time.intValue))
+            self.trickPlayVolume = self.volume
+            self.trickPlayWasPlaying = self.vlcMediaPlayer.isPlaying
+            self.vlcMediaPlayer.audio?.volume = 0
+            self.vlcMediaPlayer.pause()
+            // a bounded cadence of seeks, VLCKit has no keyframe-only seeks
+            let interval = 0.1
+            self.trickPlayTimer = Timer.scheduledTimer(withTimeInterval: interval, repeats: true) { [weak self] _ in
+                guard let self = self else { return }
+                
+                self.trickPlayTime += self.trickPlayRate * interval * 1000
+                let length = Double(self.duration)
+                if self.trickPlayTime <= 0 {
+                    self.seek(position: 0)
+                    self.stopTrickPlay(resume: true)
+                } else if length > 0, self.trickPlayTime >= length {
+                    self.seek(position: Int64(length))
+                    self.stopTrickPlay(resume: false)
+                } else {
+                    self.seek(position: Int64(self.trickPlayTime))
+                }
+            }
+        }
+        self.trickPlayRate = rate
+    }
+    
+    private func stopTrickPlay(resume: Bool) {
+        guard let timer = trickPlayTimer else { return }
+        
+        timer.invalidate()
+        self.trickPlayTimer = nil
+        self.vlcMediaPlayer.audio?.volume = trickPlayVolume
+        if resume && trickPlayWasPlaying {
+            self.vlcMediaPlayer.play()
+        }
+    }
+    
     public func setPlaybackSpeed(speed: Float) {
         self.vlcMediaPlayer.rate = speed
     }
@@ -106,6 +213,49 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         return byteArray?.base64EncodedString()
     }
     
+    /// Takes a snapshot fitting in `maxWidth` x `maxHeight`, encoded as PNG
+    /// for format 1 and as JPEG otherwise, UIKit having no WEBP encoder. It is
+    /// written to `path`, or returned as bytes if nil. The view is drawn on the
+    /// main thread, then encoded and handed to `completion` on a background
+    /// queue.
+    func takeScaledSnapshot(
+        maxWidth: Int64?,
+        maxHeight: Int64?,
+        format: Int64,
+        quality: Int64,
+        path: String?,
+        completion: @escaping (Result<SnapshotMessage?, Error>) -> Void
+    ) {
+        guard let drawable = self.vlcMediaPlayer.drawable as? UIView,
+              let image = drawScaledSnapshot(of: drawable, maxWidth: maxWidth, maxHeight: maxHeight)
+        else {
+            completion(.success(nil))
+            return
+        }
+        
+        let compression = CGFloat(max(0, min(quality, 100))) / 100
+        VLCViewController.snapshotEncoder.async {
+            guard let data = format == 1 ? image.pngData() : image.jpegData(compressionQuality: compression) else {
+                completion(.success(nil))
+                return
+            }
+            
+            var snapshot = SnapshotMessage(width: Int64(image.size.width), height: Int64(image.size.height))
+            if let path = path {
+                do {
+                    try data.write(to: URL(fileURLWithPath: path))
+                } catch {
+                    completion(.failure(PigeonError(code: "snapshot_failed", message: "Writing the snapshot to \(path) failed", details: error.localizedDescription)))
+                    return
+                }
+                snapshot.path = path
+            } else {
+                snapshot.bytes = FlutterStandardTypedData(bytes: data)
+            }
+            completion(.success(snapshot))
+        }
+    }
+    
     public var spuTracksCount: Int32 {
         return self.vlcMediaPlayer.numberOfSubtitlesTracks
     }
@@ -285,15 +435,82 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     }
     
     public func dispose() {
+        self.trickPlayTimer?.invalidate()
+        self.trickPlayTimer = nil
         self.mediaEventChannel.setStreamHandler(nil)
         self.rendererEventChannel.setStreamHandler(nil)
+        self.previewEventChannelHandler.stop()
+        self.previewEventChannel.setStreamHandler(nil)
+        self.frameTap.stop()
         self.rendererdiscoverers.removeAll()
         self.rendererEventChannelHandler.renderItems.removeAll()
         self.vlcMediaPlayer.stop()
     }
     
+    public var playlistCount: Int {
+        self.playlist.count
+    }
+    
+    public func addToPlaylist(items: [(uri: String, isAssetUrl: Bool)], index: Int?, options: [String]) {
+        let at = min(max(index ?? playlist.count, 0), playlist.count)
+        self.playlist.insert(contentsOf: items, at: at)
+        self.playlistOptions = options
+        if playlistIndex >= at {
+            self.playlistIndex += items.count
+        }
+    }
+    
+    public func removeFromPlaylist(index: Int) {
+        self.playlist.remove(at: index)
+        if index < playlistIndex {
+            self.playlistIndex -= 1
+        } else if index == playlistIndex {
+            if index < playlist.count {
+                playPlaylistItem(index: index)
+            } else {
+                self.playlistIndex = -1
+                self.vlcMediaPlayer.stop()
+            }
+        }
+    }
+    
+    public func playPlaylistItem(index: Int) {
+        self.playlistIndex = index
+        // the next item is opened when the current one ends, VLCKit does not pre-open it
+        setMediaPlayerUrl(
+            uri: playlist[index].uri,
+            isAssetUrl: playlist[index].isAssetUrl,
+            autoPlay: true,
+            hwAcc: mediaHwAcc,
+            options: playlistOptions
+        )
+        self.mediaEventChannelHandler.sendPlaylistItemChanged(index: index)
+    }
+    
+    public func clearPlaylist() {
+        self.playlist.removeAll()
+        self.playlistIndex = -1
+    }
+    
+    private func playNextPlaylistItem() -> Bool {
+        guard !playlist.isEmpty else { return false }
+        
+        var next = playlistIndex + 1
+        if next >= playlist.count {
+            guard isLooping else { return false }
+            
+            next = 0
+        }
+        // the player can't open a media from its own state change
+        DispatchQueue.main.async { [weak self] in
+            self?.playPlaylistItem(index: next)
+        }
+        return true
+    }
+    
     func setMediaPlayerUrl(uri: String, isAssetUrl: Bool, autoPlay: Bool, hwAcc: Int, options: [String]) {
         self.vlcMediaPlayer.stop()
+        self.mediaHwAcc = hwAcc
         
         var media: VLCMedia
         if isAssetUrl {
@@ -317,6 +534,10 @@ public class VLCViewController: NSObject, FlutterPlatformView {
             }
         }
         
+        if isLooping && playlist.isEmpty {
+            media.addOption(":input-repeat=65535")
+        }
+        
         switch HWAccellerationType(rawValue: hwAcc) {
         case .HW_ACCELERATION_DISABLED:
             media.addOption("--codec=avcodec")
@@ -345,6 +566,285 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     }
 }
 
+/// Returns the size of `view` scaled to fit in `maxWidth` x `maxHeight`, each
+/// unbounded if nil, or nil if it has no size yet.
+private func scaledSnapshotSize(of view: UIView, maxWidth: Int64?, maxHeight: Int64?) -> CGSize? {
+    let bounds = view.bounds.size
+    if bounds.width <= 0 || bounds.height <= 0 { return nil }
+    
+    var scale: CGFloat = 1
+    if let maxWidth = maxWidth, maxWidth > 0 {
+        scale = min(scale, CGFloat(maxWidth) / bounds.width)
+    }
+    if let maxHeight = maxHeight, maxHeight > 0 {
+        scale = min(scale, CGFloat(maxHeight) / bounds.height)
+    }
+    return CGSize(
+        width: max(1, (bounds.width * scale).rounded()),
+        height: max(1, (bounds.height * scale).rounded())
+    )
+}
+
+/// Draws `view` scaled to fit in `maxWidth` x `maxHeight`, each unbounded if
+/// nil, or returns nil if it has no size yet.
+private func drawScaledSnapshot(of view: UIView, maxWidth: Int64?, maxHeight: Int64?) -> UIImage? {
+    guard let size = scaledSnapshotSize(of: view, maxWidth: maxWidth, maxHeight: maxHeight) else {
+        return nil
+    }
+    
+    // draws straight at the snapshot size, in points, not at the screen scale
+    let rendererFormat = UIGraphicsImageRendererFormat()
+    rendererFormat.scale = 1
+    return UIGraphicsImageRenderer(size: size, format: rendererFormat).image { _ in
+        view.drawHierarchy(in: CGRect(origin: .zero, size: size), afterScreenUpdates: false)
+    }
+}
+
+/// Streams low-rate JPEG previews of a player while Dart listens, with the
+/// interval, maximum size and quality as the listen arguments. The view is
+/// drawn on the main thread and encoded on a background queue; only one frame
+/// is in flight, later ones are dropped until it is sent. Frames are skipped
+/// while the position does not move, e.g. while paused.
+class VLCPreviewStreamHandler: NSObject, FlutterStreamHandler {
+    private static let encoder = DispatchQueue(label: "VlcPreviewEncoder", qos: .utility)
+    
+    private weak var view: UIView?
+    private weak var player: VLCMediaPlayer?
+    private var previewEventSink: FlutterEventSink?
+    private var timer: Timer?
+    private var maxWidth: Int64? = 320
+    private var maxHeight: Int64?
+    private var quality: Int64 = 70
+    private var inFlight = false
+    // the position of the last frame sent, nil if none
+    private var lastPosition: Int32?
+    
+    init(view: UIView, player: VLCMediaPlayer) {
+        self.view = view
+        self.player = player
+    }
+    
+    func onListen(withArguments arguments: Any?, eventSink events: @escaping FlutterEventSink) -> FlutterError? {
+        let args = arguments as? [String: Any] ?? [:]
+        let intervalMillis = max(100, (args["intervalMillis"] as? NSNumber)?.int64Value ?? 1000)
+        self.maxWidth = (args["maxWidth"] as? NSNumber)?.int64Value
+        self.maxHeight = (args["maxHeight"] as? NSNumber)?.int64Value
+        self.quality = (args["quality"] as? NSNumber)?.int64Value ?? 70
+        self.previewEventSink = events
+        self.lastPosition = nil
+        
+        self.timer?.invalidate()
+        let interval = Double(intervalMillis) / 1000
+        self.timer = Timer.scheduledTimer(withTimeInterval: interval, repeats: true) { [weak self] _ in
+            self?.capture()
+        }
+        self.capture()
+        return nil
+    }
+    
+    func onCancel(withArguments _: Any?) -> FlutterError? {
+        self.stop()
+        return nil
+    }
+    
+    func stop() {
+        self.timer?.invalidate()
+        self.timer = nil
+        self.previewEventSink = nil
+    }
+    
+    private func capture() {
+        guard self.previewEventSink != nil, !self.inFlight,
+              let view = self.view, let player = self.player
+        else { return }
+        
+        let position = player.time.intValue
+        if position == self.lastPosition { return }
+        guard let image = drawScaledSnapshot(of: view, maxWidth: self.maxWidth, maxHeight: self.maxHeight) else {
+            return
+        }
+        
+        self.inFlight = true
+        let compression = CGFloat(max(0, min(self.quality, 100))) / 100
+        VLCPreviewStreamHandler.encoder.async { [weak self] in
+            let data = image.jpegData(compressionQuality: compression)
+            DispatchQueue.main.async {
+                guard let self = self else { return }
+                self.inFlight = false
+                // the stream may have been cancelled meanwhile
+                guard let sink = self.previewEventSink, let data = data else { return }
+                
+                self.lastPosition = position
+                sink(FlutterStandardTypedData(bytes: data))
+            }
+        }
+    }
+}
+
+/// Taps decoded frames of a player for on-device analytics, and sends them to
+/// Dart on a binary channel. MobileVLCKit exposes no video callbacks, so every
+/// interval the view is drawn scaled into RGBA pixels on the main thread, and
+/// converted to I420 if asked on a background queue. A frame starts with the
+/// header of the Android tap: little-endian width, height and chroma as int32,
+/// 4 reserved bytes and the position in milliseconds as int64.
+///
+/// One frame is in flight until Dart replies. Meanwhile no frame is captured,
+/// or, with the keep latest policy, the newest one waits in place of the
+/// previous waiting one.
+class VLCFrameTap {
+    static let headerSize = 24
+    private static let converter = DispatchQueue(label: "VlcFrameTap", qos: .utility)
+    
+    private let channel: FlutterBasicMessageChannel
+    private weak var view: UIView?
+    private weak var player: VLCMediaPlayer?
+    private var timer: Timer?
+    private var options: FrameTapMessage?
+    private var converting = false
+    private var inFlight = false
+    private var waiting: Data?
+    
+    init(view: UIView, player: VLCMediaPlayer, viewId: Int64, messenger: FlutterBinaryMessenger) {
+        self.view = view
+        self.player = player
+        self.channel = FlutterBasicMessageChannel(
+            name: "flutter_video_plugin/getFrames_\(viewId)",
+            binaryMessenger: messenger,
+            codec: FlutterBinaryCodec.sharedInstance()
+        )
+    }
+    
+    func start(options: FrameTapMessage) {
+        self.options = options
+        self.timer?.invalidate()
+        let interval = Double(max(33, options.intervalMillis)) / 1000
+        self.timer = Timer.scheduledTimer(withTimeInterval: interval, repeats: true) { [weak self] _ in
+            self?.capture()
+        }
+        self.capture()
+    }
+    
+    func stop() {
+        self.timer?.invalidate()
+        self.timer = nil
+        self.options = nil
+        self.waiting = nil
+    }
+    
+    private func capture() {
+        guard let options = self.options, !self.converting,
+              let view = self.view, let player = self.player
+        else { return }
+        // drop newest
+        if self.inFlight && options.backpressure == 0 { return }
+        guard let size = scaledSnapshotSize(of: view, maxWidth: options.maxWidth, maxHeight: options.maxHeight) else {
+            return
+        }
+        
+        let width = Int(size.width)
+        let height = Int(size.height)
+        var rgba = [UInt8](repeating: 0, count: width * height * 4)
+        let drawn = rgba.withUnsafeMutableBytes { pixels -> Bool in
+            guard let context = CGContext(
+                data: pixels.baseAddress,
+                width: width,
+                height: height,
+                bitsPerComponent: 8,
+                bytesPerRow: width * 4,
+                space: CGColorSpaceCreateDeviceRGB(),
+                bitmapInfo: CGImageAlphaInfo.premultipliedLast.rawValue
+            ) else { return false }
+            
+            // UIKit draws top-down
+            context.translateBy(x: 0, y: CGFloat(height))
+            context.scaleBy(x: 1, y: -1)
+            UIGraphicsPushContext(context)
+            view.drawHierarchy(in: CGRect(origin: .zero, size: size), afterScreenUpdates: false)
+            UIGraphicsPopContext()
+            return true
+        }
+        if !drawn { return }
+        
+        self.converting = true
+        let chroma = options.chroma
+        let position = Int64(player.time.intValue)
+        VLCFrameTap.converter.async { [weak self] in
+            let frame = VLCFrameTap.makeFrame(rgba: rgba, width: width, height: height, chroma: chroma, position: position)
+            DispatchQueue.main.async {
+                guard let self = self else { return }
+                self.converting = false
+                self.send(frame)
+            }
+        }
+    }
+    
+    private func send(_ frame: Data) {
+        // the tap may have been stopped meanwhile
+        if self.options == nil { return }
+        if self.inFlight {
+            self.waiting = frame
+            return
+        }
+        
+        self.inFlight = true
+        self.channel.sendMessage(frame) { [weak self] _ in
+            guard let self = self else { return }
+            self.inFlight = false
+            if let next = self.waiting {
+                self.waiting = nil
+                self.send(next)
+            }
+        }
+    }
+    
+    private static func makeFrame(rgba: [UInt8], width: Int, height: Int, chroma: Int64, position: Int64) -> Data {
+        let chromaWidth = (width + 1) / 2
+        let chromaHeight = (height + 1) / 2
+        let pixelsSize = chroma == 1 ? width * height + 2 * chromaWidth * chromaHeight : rgba.count
+        var frame = Data(capacity: headerSize + pixelsSize)
+        for value in [Int32(width), Int32(height), Int32(chroma), 0] {
+            withUnsafeBytes(of: value.littleEndian) { frame.append(contentsOf: $0) }
+        }
+        withUnsafeBytes(of: position.littleEndian) { frame.append(contentsOf: $0) }
+        if chroma != 1 {
+            frame.append(contentsOf: rgba)
+            return frame
+        }
+        
+        // I420, BT.601 limited range, each chroma sample averaging its 2x2 block
+        var planes = [UInt8](repeating: 0, count: pixelsSize)
+        for index in 0 ..< width * height {
+            let r = Int(rgba[index * 4])
+            let g = Int(rgba[index * 4 + 1])
+            let b = Int(rgba[index * 4 + 2])
+            planes[index] = UInt8(((66 * r + 129 * g + 25 * b + 128) >> 8) + 16)
+        }
+        let uOffset = width * height
+        let vOffset = uOffset + chromaWidth * chromaHeight
+        for cy in 0 ..< chromaHeight {
+            for cx in 0 ..< chromaWidth {
+                var r = 0, g = 0, b = 0, count = 0
+                for y in cy * 2 ..< min(cy * 2 + 2, height) {
+                    for x in cx * 2 ..< min(cx * 2 + 2, width) {
+                        let index = (y * width + x) * 4
+                        r += Int(rgba[index])
+                        g += Int(rgba[index + 1])
+                        b += Int(rgba[index + 2])
+                        count += 1
+                    }
+                }
+                r /= count
+                g /= count
+                b /= count
+                planes[uOffset + cy * chromaWidth + cx] = UInt8(((-38 * r - 74 * g + 112 * b + 128) >> 8) + 128)
+                planes[vOffset + cy * chromaWidth + cx] = UInt8(((112 * r - 94 * g - 18 * b + 128) >> 8) + 128)
+            }
+        }
+        frame.append(contentsOf: planes)
+        return frame
+    }
+}
+
 class VLCRendererEventStreamHandler: NSObject, FlutterStreamHandler, VLCRendererDiscovererDelegate {
     private var rendererEventSink: FlutterEventSink?
     var renderItems: [VLCRendererItem] = .init()
@@ -386,6 +886,8 @@ class VLCRendererEventStreamHandler: NSObject, FlutterStreamHandler, VLCRenderer
 
 class VLCPlayerEventStreamHandler: NSObject, FlutterStreamHandler, VLCMediaPlayerDelegate, VLCMediaDelegate {
     private var mediaEventSink: FlutterEventSink?
+    // returns whether the end is handled, e.g. by playing the next playlist item
+    var onEnded: (() -> Bool)?
     
     func onListen(withArguments _: Any?, eventSink events: @escaping FlutterEventSink) -> FlutterError? {
         self.mediaEventSink = events
@@ -444,6 +946,9 @@ class VLCPlayerEventStreamHandler: NSObject, FlutterStreamHandler, VLCMediaPlaye
             ])
             
         case .ended:
+            if onEnded?() == true {
+                break
+            }
             mediaEventSink([
                 "event": "ended",
                 "position": position,
@@ -484,6 +989,15 @@ class VLCPlayerEventStreamHandler: NSObject, FlutterStreamHandler, VLCMediaPlaye
         }
     }
     
+    func sendPlaylistItemChanged(index: Int) {
+        guard let mediaEventSink = self.mediaEventSink else { return }
+        
+        mediaEventSink([
+            "event": "playlistItemChanged",
+            "playlistIndex": index,
+        ])
+    }
+    
     func mediaPlayerStartedRecording(_ player: VLCMediaPlayer) {
         guard let mediaEventSink = self.mediaEventSink else { return }
                 
@@ -545,6 +1059,24 @@ enum DataSourceType: Int {
     case FILE = 2
 }
 
+enum PlayerCommandType: Int {
+    case SET_MEDIA = 0
+    case PLAY = 1
+    case PAUSE = 2
+    case STOP = 3
+    case SEEK_TO = 4
+    case SET_VOLUME = 5
+    case SET_PLAYBACK_SPEED = 6
+    case SET_LOOPING = 7
+    case SET_AUDIO_TRACK = 8
+    case SET_AUDIO_DELAY = 9
+    case SET_SPU_TRACK = 10
+    case SET_SPU_DELAY = 11
+    case SET_VIDEO_TRACK = 12
+    case SET_VIDEO_SCALE = 13
+    case SET_VIDEO_ASPECT_RATIO = 14
+}
+
 enum HWAccellerationType: Int {
     case HW_ACCELERATION_AUTOMATIC = 0
     case HW_ACCELERATION_DISABLED = 1
@@ -4,10 +4,19 @@
 export 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platform_interface.dart'
     show
         HwAcc,
+        VlcDisposalMetrics,
+        VlcEventSinkMetrics,
+        VlcFrameBackpressure,
+        VlcFrameChroma,
+        VlcLibVLCPoolMetrics,
         VlcMediaEvent,
         VlcMediaEventType,
+        VlcPlayerCommand,
+        VlcPlaylistItem,
         VlcRendererEvent,
         VlcRendererEventType,
+        VlcSnapshot,
+        VlcSnapshotFormat,
         VlcSubtitleColor,
         VlcSubtitleThickness,
         VlcSubtitleTextDirection,
@@ -19,7 +28,9 @@ export 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platfor
         VlcRtpOptions,
         VlcStreamOutputOptions,
         VlcVideoOptions,
-        VlcSubtitleOptions;
+        VlcSubtitleOptions,
+        VlcVideoFrame,
+        VlcZapMetrics;
 
 export 'src/enums/playing_state.dart' show PlayingState;
 export 'src/flutter_vlc_player.dart' show VlcPlayer;
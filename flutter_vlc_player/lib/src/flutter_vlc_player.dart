@@ -35,6 +35,7 @@ class VlcPlayer extends StatefulWidget {
 
 class _VlcPlayerState extends State<VlcPlayer> {
   bool _isInitialized = false;
+  Uint8List? _steppedFrame;
 
   //ignore: avoid_late_keyword
   late VoidCallback _listener;
@@ -44,9 +45,11 @@ class _VlcPlayerState extends State<VlcPlayer> {
       if (!mounted) return;
       //
       final isInitialized = widget.controller.value.isInitialized;
-      if (isInitialized != _isInitialized) {
+      final steppedFrame = widget.controller.steppedFrame;
+      if (isInitialized != _isInitialized || steppedFrame != _steppedFrame) {
         setState(() {
           _isInitialized = isInitialized;
+          _steppedFrame = steppedFrame;
         });
       }
     };
@@ -78,6 +81,14 @@ class _VlcPlayerState extends State<VlcPlayer> {
               virtualDisplay: widget.virtualDisplay,
             ),
           ),
+          if (_steppedFrame case final steppedFrame?)
+            Positioned.fill(
+              child: Image.memory(
+                steppedFrame,
+                fit: BoxFit.fill,
+                gaplessPlayback: true,
+              ),
+            ),
         ],
       ),
     );
@@ -1,4 +1,5 @@
 import 'dart:async';
+import 'dart:developer';
 import 'dart:io';
 
 import 'package:flutter/services.dart';
@@ -21,6 +22,8 @@ import 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platfor
 /// After [dispose] all further calls are ignored.
 class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   static const _maxVolume = 100;
+  static const _positionUpdateInterval = Duration(milliseconds: 50);
+  static const _maxClockAnchorLatency = Duration(seconds: 1);
 
   /// The URI to the video file. This will be in different formats depending on
   /// the [DataSourceType] of the original video.
@@ -43,6 +46,12 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// The default value is false.
   final bool allowBackgroundPlayback;
 
+  /// Extrapolate the playback position locally from clock anchors sent by the
+  /// platform on seek, rate change, pause/resume and drift, instead of
+  /// receiving periodic position updates. [getPosition] then answers without
+  /// a platform call. The default value is false.
+  final bool extrapolatePosition;
+
   /// This is a callback that will be executed once the platform view has been initialized.
   /// If you want the media to play as soon as the platform view has initialized, you could just call
   /// [VlcPlayerController.play] in this callback. (see the example).
@@ -76,10 +85,22 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
   VlcAppLifeCycleObserver? _lifeCycleObserver;
 
+  /// The last clock anchor and its monotonic time, in microseconds.
+  VlcMediaEvent? _clockAnchor;
+  int _clockAnchorMicros = 0;
+  Timer? _positionTimer;
+
+  Uint8List? _steppedFrame;
+
   /// Describes the type of data source this [VlcPlayerController]
   /// is constructed with.
   DataSourceType get dataSourceType => _dataSourceType;
 
+  /// The image of the frame a [previousFrame] or [nextFrame] step moved to,
+  /// while the player stays on another frame. [VlcPlayer] shows it over the
+  /// video. Null when the player displays the frame itself.
+  Uint8List? get steppedFrame => _steppedFrame;
+
   /// Determine if platform is ready to call initialize method
   bool? get isReadyToInitialize => _isReadyToInitialize;
 
@@ -88,6 +109,130 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   @visibleForTesting
   int? get viewId => _viewId;
 
+  /// Makes the players created afterwards publish their events into a single
+  /// channel, batched once per frame, instead of two channels per player.
+  /// Useful for layouts showing many players at once.
+  ///
+  /// Call it before the [VlcPlayer] widgets are built. Returns whether
+  /// multiplexing is active, it is only supported on Android.
+  static Future<bool> setEventMultiplexing(bool enabled) {
+    return vlcPlayerPlatform.setEventMultiplexing(enabled);
+  }
+
+  /// Runs the commands of all players off the platform's main thread,
+  /// serialized per player, so that blocking native calls (e.g. stopping
+  /// several slow streams at once) don't freeze the UI.
+  ///
+  /// Returns whether background execution is active, it is only supported on
+  /// Android.
+  static Future<bool> setBackgroundExecution(bool enabled) {
+    return vlcPlayerPlatform.setBackgroundExecution(enabled);
+  }
+
+  /// Returns the counters of the native player teardowns. [dispose] returns
+  /// once the player is detached, its native resources are released in the
+  /// background; only Android reports pending teardowns.
+  static Future<VlcDisposalMetrics> getDisposalMetrics() {
+    return vlcPlayerPlatform.getDisposalMetrics();
+  }
+
+  /// Returns the counters of the LibVLC instances shared among the players
+  /// created with the same options, with the startup time and native memory
+  /// sharing them saved. Only Android shares LibVLC instances.
+  static Future<VlcLibVLCPoolMetrics> getLibVLCPoolMetrics() {
+    return vlcPlayerPlatform.getLibVLCPoolMetrics();
+  }
+
+  /// Reuses the native players of disposed controllers for the next
+  /// controllers created with the same options, e.g. in a scrolling feed
+  /// where players are created and disposed constantly. Up to [maxSize]
+  /// players are kept, those not reused within [idleTimeout] are released.
+  ///
+  /// A [maxSize] of 0 (the default) disables recycling. It is only supported
+  /// on Android.
+  static Future<void> setPlayerRecycling({
+    required int maxSize,
+    Duration idleTimeout = const Duration(seconds: 30),
+  }) {
+    return vlcPlayerPlatform.setPlayerRecycling(
+      maxSize: maxSize,
+      idleTimeout: idleTimeout,
+    );
+  }
+
+  /// Opens [dataSource] in a hidden player ahead of playback and buffers
+  /// [buffer] of it, e.g. the next items of a feed. A controller created
+  /// later with the same data source, [hwAcc] and [options] (or set up with
+  /// [setMediaFromNetwork] and the like) takes the hidden player over and
+  /// starts without opening the media again.
+  ///
+  /// Returns false if the preload does not fit in the budget set with
+  /// [setPreloadBudget]. It is only supported on Android.
+  static Future<bool> preload(
+    String dataSource, {
+    DataSourceType type = DataSourceType.network,
+    String? package,
+    HwAcc hwAcc = HwAcc.auto,
+    VlcPlayerOptions? options,
+    Duration buffer = const Duration(seconds: 5),
+  }) {
+    return vlcPlayerPlatform.preload(
+      uri: dataSource,
+      type: type,
+      package: package,
+      hwAcc: hwAcc,
+      options: options,
+      buffer: buffer,
+    );
+  }
+
+  /// Releases the hidden player of a [preload] that is no longer needed.
+  static Future<bool> cancelPreload(
+    String dataSource, {
+    DataSourceType type = DataSourceType.network,
+    String? package,
+  }) {
+    return vlcPlayerPlatform.cancelPreload(
+      uri: dataSource,
+      type: type,
+      package: package,
+    );
+  }
+
+  /// Limits all preloads together to [maxPreloads] open streams and
+  /// [maxBuffer] of buffered media. Defaults to 3 streams and 30 seconds.
+  static Future<void> setPreloadBudget({
+    required int maxPreloads,
+    required Duration maxBuffer,
+  }) {
+    return vlcPlayerPlatform.setPreloadBudget(
+      maxPreloads: maxPreloads,
+      maxBuffer: maxBuffer,
+    );
+  }
+
+  /// Applies [commands] to all [controllers] in a single platform call, e.g.
+  /// to pause or mute all players of a grid at once.
+  ///
+  /// Returns one result per controller: null if all commands were applied,
+  /// the error messages otherwise.
+  static Future<List<String?>> executeBulk(
+    List<VlcPlayerCommand> commands,
+    List<VlcPlayerController> controllers,
+  ) async {
+    for (final controller in controllers) {
+      controller._throwIfNotInitialized('executeBulk');
+    }
+    final results = await vlcPlayerPlatform.executeBulk(
+      commands,
+      viewIds: [for (final controller in controllers) controller._viewId],
+    );
+
+    return [
+      for (final controller in controllers) results[controller._viewId],
+    ];
+  }
+
   ///
   /// The name of the asset is given by the [dataSource] argument and must not be
   /// null. The [package] argument must be non-null when the asset comes from a
@@ -96,6 +241,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.dataSource, {
     this.autoInitialize = true,
     this.allowBackgroundPlayback = false,
+    this.extrapolatePosition = false,
     this.package,
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
@@ -118,6 +264,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.dataSource, {
     this.autoInitialize = true,
     this.allowBackgroundPlayback = false,
+    this.extrapolatePosition = false,
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
@@ -139,6 +286,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     File file, {
     this.autoInitialize = true,
     this.allowBackgroundPlayback = true,
+    this.extrapolatePosition = false,
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
@@ -197,7 +345,6 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       autoPlay: autoPlay,
       options: options,
     );
-
     final initializingCompleter = Completer<void>();
 
     // listen for media events
@@ -208,6 +355,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
       switch (event.mediaEventType) {
         case VlcMediaEventType.opening:
+          _steppedFrame = null;
           value = value.copyWith(
             isPlaying: false,
             isBuffering: true,
@@ -222,6 +370,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
             playingState: PlayingState.paused,
           );
         case VlcMediaEventType.stopped:
+          _steppedFrame = null;
           value = value.copyWith(
             isPlaying: false,
             isBuffering: false,
@@ -230,6 +379,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
             position: Duration.zero,
           );
         case VlcMediaEventType.playing:
+          _steppedFrame = null;
           value = value.copyWith(
             isEnded: false,
             isPlaying: true,
@@ -291,6 +441,10 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
             playingState: PlayingState.error,
             errorDescription: VlcPlayerValue.unknownError,
           );
+        case VlcMediaEventType.clockAnchor:
+          _setClockAnchor(event);
+        case VlcMediaEventType.playlistItemChanged:
+          value = value.copyWith(playlistIndex: event.playlistIndex);
         case VlcMediaEventType.unknown:
           break;
       }
@@ -307,6 +461,12 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
         .mediaEventsFor(_viewId)
         .listen(mediaEventListener, onError: errorListener);
 
+    // The first anchor is sent as soon as anchors are enabled, so the media
+    // events have to be listened to before.
+    if (extrapolatePosition) {
+      await vlcPlayerPlatform.setClockAnchors(_viewId, true);
+    }
+
     // listen for renderer devices events
     void rendererEventListener(VlcRendererEvent event) {
       if (_isDisposed) {
@@ -350,12 +510,54 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     _onInitListeners.clear();
     _onRendererEventListeners.clear();
     _lifeCycleObserver?.dispose();
+    _positionTimer?.cancel();
     _isDisposed = true;
     //
     await vlcPlayerPlatform.dispose(_viewId);
     super.dispose();
   }
 
+  /// Takes a new clock anchor, and extrapolates the position from it while
+  /// playing.
+  void _setClockAnchor(VlcMediaEvent event) {
+    final now = Timeline.now;
+    final timestamp = event.timestamp?.inMicroseconds ?? now;
+    final latency = now - timestamp;
+    // Both sides read the monotonic clock, fall back to the receipt time when
+    // they don't agree.
+    _clockAnchorMicros =
+        latency >= 0 && latency <= _maxClockAnchorLatency.inMicroseconds
+        ? timestamp
+        : now;
+    _clockAnchor = event;
+    _positionTimer?.cancel();
+    _positionTimer = (event.isPlaying ?? false)
+        ? Timer.periodic(
+            _positionUpdateInterval,
+            (_) => value = value.copyWith(position: _extrapolatedPosition()),
+          )
+        : null;
+    value = value.copyWith(
+      position: _extrapolatedPosition(),
+      playbackSpeed: event.playbackSpeed,
+    );
+  }
+
+  /// Returns the position extrapolated from the last clock anchor.
+  Duration _extrapolatedPosition() {
+    final anchor = _clockAnchor;
+    if (anchor == null) return value.position;
+    final position = anchor.position ?? Duration.zero;
+    if (!(anchor.isPlaying ?? false)) return position;
+    final elapsed = (Timeline.now - _clockAnchorMicros) *
+        (anchor.playbackSpeed ?? 1.0);
+    final extrapolated = position + Duration(microseconds: elapsed.round());
+
+    return value.duration > Duration.zero && extrapolated > value.duration
+        ? value.duration
+        : extrapolated;
+  }
+
   /// Notify onInit callback & all registered listeners
   void _notifyOnInitListeners() {
     _onInit?.call();
@@ -463,6 +665,24 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return;
   }
 
+  /// Applies [commands] in order, in a single platform call. Media changed by
+  /// the batch is opened once, with the following seek, track and delay
+  /// commands applied to it before or as soon as it plays.
+  ///
+  /// Returns one result per command: null if it was applied, the error
+  /// message otherwise.
+  Future<List<String?>> executeBatch(List<VlcPlayerCommand> commands) async {
+    _throwIfNotInitialized('executeBatch');
+    for (final command in commands) {
+      if (command.commandType == VlcPlayerCommandType.setMedia) {
+        _dataSourceType = command.dataSourceType ?? DataSourceType.network;
+        package = command.package;
+      }
+    }
+
+    return vlcPlayerPlatform.executeBatch(_viewId, commands);
+  }
+
   /// Starts playing the video.
   ///
   /// This method returns a future that completes as soon as the "play" command
@@ -490,6 +710,11 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   }
 
   /// Sets whether or not the video should loop after playing once.
+  ///
+  /// The media loops without being opened again, so the loop point has no
+  /// re-buffering and no opening or ended events. Turning looping on while
+  /// the media is playing takes effect when it ends, turning it off opens the
+  /// media again at the current position.
   Future<void> setLooping(bool looping) async {
     _throwIfNotInitialized('setLooping');
     value = value.copyWith(isLooping: looping);
@@ -530,9 +755,26 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     } else {
       newPosition = position;
     }
+    // the platform sends a new clock anchor once the seek is done
+    _positionTimer?.cancel();
+    _clockAnchor = null;
+    _steppedFrame = null;
     await vlcPlayerPlatform.seekTo(_viewId, newPosition);
   }
 
+  /// Turns scrubbing on while a seek bar is dragged, and off when it is
+  /// released.
+  ///
+  /// Seeks never queue up: while one is running, only the latest of the
+  /// following ones is kept and done next. While scrubbing, seeks go to the
+  /// nearest keyframe, which is fast even on long high resolution media, and
+  /// turning scrubbing off seeks precisely to the last position. Keyframe
+  /// seeks are only supported on Android.
+  Future<void> setScrubbing(bool scrubbing) async {
+    _throwIfNotInitialized('setScrubbing');
+    await vlcPlayerPlatform.setScrubbing(_viewId, scrubbing);
+  }
+
   /// Get the video timestamp in millisecond
   Future<int> getTime() async {
     final position = await getPosition();
@@ -543,12 +785,130 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// Returns the position in the current video.
   Future<Duration> getPosition() async {
     _throwIfNotInitialized('getPosition');
+    if (_clockAnchor != null) {
+      return _extrapolatedPosition();
+    }
     final position = await vlcPlayerPlatform.getPosition(_viewId);
     value = value.copyWith(position: position);
 
     return position;
   }
 
+  /// Reads position, duration, playing state, volume, speed, tracks, delays
+  /// and video scale in a single platform call, updates [value] with them and
+  /// returns it. Cheaper than calling the separate getters one by one.
+  Future<VlcPlayerValue> getPlaybackState() async {
+    _throwIfNotInitialized('getPlaybackState');
+    final state = await vlcPlayerPlatform.getPlaybackState(_viewId);
+    value = value.copyWith(
+      position: state.position,
+      duration: state.duration,
+      isPlaying: state.isPlaying,
+      volume: state.volume,
+      playbackSpeed: state.playbackSpeed,
+      audioTracksCount: state.audioTracksCount,
+      activeAudioTrack: state.activeAudioTrack,
+      audioDelay: state.audioDelay,
+      spuTracksCount: state.spuTracksCount,
+      activeSpuTrack: state.activeSpuTrack,
+      spuDelay: state.spuDelay,
+      videoTracksCount: state.videoTracksCount,
+      activeVideoTrack: state.activeVideoTrack,
+      videoScale: state.videoScale,
+    );
+
+    return value;
+  }
+
+  /// Returns the counters of the events the player sent: how many were
+  /// delivered, queued while nobody listened, compacted or dropped. Only
+  /// Android queues events.
+  Future<VlcEventSinkMetrics> getEventSinkMetrics() {
+    _throwIfNotInitialized('getEventSinkMetrics');
+
+    return vlcPlayerPlatform.getEventSinkMetrics(_viewId);
+  }
+
+  /// Sets the minimum [interval] between two position updates of the player,
+  /// to save platform calls and rebuilds when a coarser position is enough.
+  /// [Duration.zero] (default) updates at most once per display frame. It is
+  /// only supported on Android.
+  Future<void> setStateUpdateInterval(Duration interval) async {
+    _throwIfNotInitialized('setStateUpdateInterval');
+
+    await vlcPlayerPlatform.setStateUpdateInterval(_viewId, interval);
+  }
+
+  /// Sets the network streams (e.g. IPTV channels) the player switches
+  /// between with [zapTo]. The [neighbours] channels before and after the
+  /// current one are kept open and buffering in the background, muted and
+  /// without decoding video, so switching to them only swaps the player.
+  ///
+  /// Neighbours count against the budget of [setPreloadBudget]. An empty
+  /// list turns zapping off. Channels are only pre-buffered on Android.
+  Future<void> setZapChannels(
+    List<String> channels, {
+    int neighbours = 1,
+  }) async {
+    _throwIfNotInitialized('setZapChannels');
+    await vlcPlayerPlatform.setZapChannels(
+      _viewId,
+      channels,
+      neighbours: neighbours,
+      hwAcc: hwAcc,
+    );
+  }
+
+  /// Switches to the channel at [index] of the list set with
+  /// [setZapChannels].
+  Future<void> zapTo(int index) async {
+    _throwIfNotInitialized('zapTo');
+    await vlcPlayerPlatform.zapTo(_viewId, index);
+  }
+
+  /// Returns the channel switches done with [zapTo] and their latency to the
+  /// first frame.
+  Future<VlcZapMetrics> getZapMetrics() {
+    _throwIfNotInitialized('getZapMetrics');
+
+    return vlcPlayerPlatform.getZapMetrics(_viewId);
+  }
+
+  /// Inserts [items] into the playlist of the player at [index], or appends
+  /// them if [index] is null. Use [playPlaylistItem] to start playing it.
+  ///
+  /// Items play one after the other; with [setLooping] the whole playlist
+  /// starts over after its last item. On Android the next item is opened in
+  /// the background shortly before the current one ends, so the switch only
+  /// swaps the player. [VlcPlayerValue.playlistIndex] tells which item plays.
+  Future<void> addToPlaylist(
+    List<VlcPlaylistItem> items, {
+    int? index,
+  }) async {
+    _throwIfNotInitialized('addToPlaylist');
+    await vlcPlayerPlatform.playlistAdd(_viewId, items, index: index);
+  }
+
+  /// Removes the playlist item at [index]. Removing the item that is playing
+  /// plays the next one.
+  Future<void> removeFromPlaylist(int index) async {
+    _throwIfNotInitialized('removeFromPlaylist');
+    await vlcPlayerPlatform.playlistRemove(_viewId, index);
+  }
+
+  /// Plays the playlist item at [index].
+  Future<void> playPlaylistItem(int index) async {
+    _throwIfNotInitialized('playPlaylistItem');
+    await vlcPlayerPlatform.playlistPlay(_viewId, index);
+  }
+
+  /// Removes the playlist, the current media keeps playing.
+  Future<void> clearPlaylist() async {
+    _throwIfNotInitialized('clearPlaylist');
+    await vlcPlayerPlatform.playlistClear(_viewId);
+    value = value.copyWith(playlistIndex: -1);
+  }
+
   /// Sets the audio volume of
   ///
   /// [volume] indicates a value between 0 (silent) and 100 (full volume) on a
@@ -605,6 +965,62 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     await vlcPlayerPlatform.setPlaybackSpeed(_viewId, value.playbackSpeed);
   }
 
+  /// Fast-forwards or rewinds through the media at [rate], e.g. 8 to 64 times
+  /// the normal speed, or -8 to -64 to rewind.
+  ///
+  /// High rates with [setPlaybackSpeed] make the decoder fall behind and the
+  /// audio glitch. Trick play pauses and mutes the player instead, and steps
+  /// through the media with seeks ten times per second, which only decode
+  /// keyframes on Android. It ends at either end of the media, or with
+  /// [stopTrickPlay], [play] or [pause].
+  Future<void> startTrickPlay(double rate) async {
+    if (rate == 0) {
+      throw ArgumentError.value(
+        rate,
+        'Zero trick play rate is not supported. Use [stopTrickPlay].',
+      );
+    }
+    _throwIfNotInitialized('startTrickPlay');
+    await vlcPlayerPlatform.setTrickPlay(_viewId, rate);
+  }
+
+  /// Ends trick play where it is, resuming playback if the media was playing
+  /// when it started.
+  Future<void> stopTrickPlay() async {
+    _throwIfNotInitialized('stopTrickPlay');
+    await vlcPlayerPlatform.setTrickPlay(_viewId, 0);
+  }
+
+  /// Pauses the player and steps one frame forward.
+  Future<void> nextFrame() async {
+    _throwIfNotInitialized('nextFrame');
+    _setFrameStep(await vlcPlayerPlatform.nextFrame(_viewId));
+  }
+
+  /// Pauses the player and steps one frame backward.
+  ///
+  /// Stepping backward needs a seek to the previous keyframe and decoding up
+  /// to the frame. On Android, the last 60 frames the steps moved to are kept,
+  /// and steps within them are instant: the frame is shown over the video, as
+  /// [steppedFrame], while the player stays where it is.
+  Future<void> previousFrame() async {
+    _throwIfNotInitialized('previousFrame');
+    _setFrameStep(await vlcPlayerPlatform.previousFrame(_viewId));
+  }
+
+  void _setFrameStep(VlcFrameStep step) {
+    _positionTimer?.cancel();
+    _clockAnchor = null;
+    _steppedFrame = step.frame;
+    value = value.copyWith(
+      isPlaying: false,
+      playingState: PlayingState.paused,
+      position: step.position,
+    );
+    // the frame may change without the value
+    notifyListeners();
+  }
+
   /// Returns the vlc playback speed.
   Future<double?> getPlaybackSpeed() async {
     _throwIfNotInitialized('getPlaybackSpeed');
@@ -888,6 +1304,79 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return vlcPlayerPlatform.takeSnapshot(_viewId);
   }
 
+  /// Takes a snapshot of the media at the current frame, downscaled to fit in
+  /// [maxWidth] x [maxHeight] and encoded in [format] at [quality] (0 to 100)
+  /// off the UI thread. Pass [path] to have it written to that file instead of
+  /// returned as bytes.
+  ///
+  /// Prefer it to [takeSnapshot] when taking snapshots of many players at
+  /// once: only the scaled frame is copied and sent.
+  Future<VlcSnapshot?> takeScaledSnapshot({
+    int? maxWidth,
+    int? maxHeight,
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    String? path,
+  }) async {
+    _throwIfNotInitialized('takeScaledSnapshot');
+
+    return vlcPlayerPlatform.takeScaledSnapshot(
+      _viewId,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      format: format,
+      quality: quality,
+      path: path,
+    );
+  }
+
+  /// Returns a stream of low-resolution JPEG previews of the media, captured
+  /// every [interval] off the UI thread while it is listened to, e.g. for a
+  /// monitoring dashboard. Frames are dropped rather than queued when the
+  /// previous one is not delivered yet.
+  Stream<Uint8List> previewFrames({
+    Duration interval = const Duration(seconds: 1),
+    int? maxWidth = 320,
+    int? maxHeight,
+    int quality = 70,
+  }) {
+    _throwIfNotInitialized('previewFrames');
+
+    return vlcPlayerPlatform.previewFramesFor(
+      _viewId,
+      interval: interval,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      quality: quality,
+    );
+  }
+
+  /// Returns a stream of decoded frames of the media for on-device analytics,
+  /// e.g. motion detection, tapped every [interval] in [chroma] and
+  /// downscaled to fit in [maxWidth] x [maxHeight] while it is listened to.
+  ///
+  /// A frame waits for the previous one to be delivered, [backpressure]
+  /// choosing which is dropped; frames are also dropped while the
+  /// subscription is paused, e.g. while an `await for` body runs.
+  Stream<VlcVideoFrame> videoFrames({
+    VlcFrameChroma chroma = VlcFrameChroma.rgba,
+    int? maxWidth = 320,
+    int? maxHeight,
+    Duration interval = const Duration(milliseconds: 200),
+    VlcFrameBackpressure backpressure = VlcFrameBackpressure.dropNewest,
+  }) {
+    _throwIfNotInitialized('videoFrames');
+
+    return vlcPlayerPlatform.videoFramesFor(
+      _viewId,
+      chroma: chroma,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      interval: interval,
+      backpressure: backpressure,
+    );
+  }
+
   /// Get list of available renderer services which is supported by vlc library
   Future<List<String>> getAvailableRendererServices() async {
     _throwIfNotInitialized('getAvailableRendererServices');
@@ -76,6 +76,9 @@ class VlcPlayerValue {
   /// The path of recorded file
   final String recordPath;
 
+  /// The index of the playlist item playing, or -1 without playlist.
+  final int playlistIndex;
+
   /// A description of the error if present.
   ///
   /// If [hasError] is false this is [VlcPlayerValue.noError].
@@ -133,6 +136,7 @@ class VlcPlayerValue {
     this.videoTracksCount = 1,
     this.activeVideoTrack = 0,
     this.recordPath = '',
+    this.playlistIndex = -1,
     this.errorDescription = VlcPlayerValue.noError,
   });
 
@@ -178,6 +182,7 @@ class VlcPlayerValue {
     int? videoTracksCount,
     int? activeVideoTrack,
     String? recordPath,
+    int? playlistIndex,
     String? errorDescription,
   }) {
     return VlcPlayerValue(
@@ -204,6 +209,7 @@ class VlcPlayerValue {
       videoTracksCount: videoTracksCount ?? this.videoTracksCount,
       activeVideoTrack: activeVideoTrack ?? this.activeVideoTrack,
       recordPath: recordPath ?? this.recordPath,
+      playlistIndex: playlistIndex ?? this.playlistIndex,
       errorDescription: errorDescription ?? this.errorDescription,
     );
   }
@@ -229,6 +235,7 @@ class VlcPlayerValue {
         'spuTracksCount: $spuTracksCount, '
         'activeSpuTrack: $activeSpuTrack, '
         'recordPath: $recordPath, '
+        'playlistIndex: $playlistIndex, '
         'errorDescription: $errorDescription)';
   }
 }
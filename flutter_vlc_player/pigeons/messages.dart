@@ -1,3 +1,5 @@
+import 'dart:typed_data';
+
 import 'package:pigeon/pigeon.dart';
 
 // to make changes effect, must run "dart run pigeon --input pigeons/messages.dart"
@@ -85,6 +87,302 @@ class AddAudioMessage {
   });
 }
 
+/// A media event sent over a player's media event channel.
+///
+/// [type] is one of: 0 opening, 1 paused, 2 stopped, 3 playing, 4 ended,
+/// 5 timeChanged, 6 error, 7 recording, 8 clockAnchor, 9 playlistItemChanged.
+/// Fields that are not part of the event type are left null.
+/// [timestamp] is the monotonic clock time of a clockAnchor, in microseconds.
+/// [playlistIndex] is the playlist item a playlistItemChanged switched to.
+class MediaEventMessage {
+  final int type;
+  final int? width;
+  final int? height;
+  final double? speed;
+  final int? position;
+  final int? duration;
+  final double? buffer;
+  final int? audioTracksCount;
+  final int? activeAudioTrack;
+  final int? spuTracksCount;
+  final int? activeSpuTrack;
+  final bool? isPlaying;
+  final bool? isRecording;
+  final String? recordPath;
+  final int? timestamp;
+  final int? playlistIndex;
+
+  const MediaEventMessage({
+    required this.type,
+    required this.width,
+    required this.height,
+    required this.speed,
+    required this.position,
+    required this.duration,
+    required this.buffer,
+    required this.audioTracksCount,
+    required this.activeAudioTrack,
+    required this.spuTracksCount,
+    required this.activeSpuTrack,
+    required this.isPlaying,
+    required this.isRecording,
+    required this.recordPath,
+    required this.timestamp,
+    required this.playlistIndex,
+  });
+}
+
+/// A renderer event sent over a player's renderer event channel.
+///
+/// [type] is one of: 0 attached, 1 detached.
+class RendererEventMessage {
+  final int type;
+  final String id;
+  final String name;
+
+  const RendererEventMessage({
+    required this.type,
+    required this.id,
+    required this.name,
+  });
+}
+
+/// A snapshot of the player state, read in a single call.
+///
+/// Times and delays are in milliseconds.
+class PlaybackStateMessage {
+  final int position;
+  final int duration;
+  final bool isPlaying;
+  final bool isSeekable;
+  final int volume;
+  final double playbackSpeed;
+  final int audioTrack;
+  final int audioTracksCount;
+  final int audioDelay;
+  final int spuTrack;
+  final int spuTracksCount;
+  final int spuDelay;
+  final int videoTrack;
+  final int videoTracksCount;
+  final double videoScale;
+  final String? aspectRatio;
+
+  const PlaybackStateMessage({
+    required this.position,
+    required this.duration,
+    required this.isPlaying,
+    required this.isSeekable,
+    required this.volume,
+    required this.playbackSpeed,
+    required this.audioTrack,
+    required this.audioTracksCount,
+    required this.audioDelay,
+    required this.spuTrack,
+    required this.spuTracksCount,
+    required this.spuDelay,
+    required this.videoTrack,
+    required this.videoTracksCount,
+    required this.videoScale,
+    required this.aspectRatio,
+  });
+}
+
+/// A command of a batch, see executeBatch.
+///
+/// [type] is the index of a VlcPlayerCommandType. Only the value fields the
+/// command takes are set, [media] for setMedia.
+class PlayerCommandMessage {
+  final int type;
+  final int? intValue;
+  final double? doubleValue;
+  final bool? boolValue;
+  final String? stringValue;
+  final SetMediaMessage? media;
+
+  const PlayerCommandMessage({
+    required this.type,
+    required this.intValue,
+    required this.doubleValue,
+    required this.boolValue,
+    required this.stringValue,
+    required this.media,
+  });
+}
+
+/// Counters of the events a player sent to Dart.
+class EventSinkMetricsMessage {
+  final int enqueued;
+  final int delivered;
+  final int compacted;
+  final int dropped;
+  final int queued;
+
+  const EventSinkMetricsMessage({
+    required this.enqueued,
+    required this.delivered,
+    required this.compacted,
+    required this.dropped,
+    required this.queued,
+  });
+}
+
+/// Counters of the native player teardowns run after dispose.
+class DisposalMetricsMessage {
+  final int pending;
+  final int completed;
+  final int failed;
+  final int averageTeardownMillis;
+  final int maxTeardownMillis;
+
+  const DisposalMetricsMessage({
+    required this.pending,
+    required this.completed,
+    required this.failed,
+    required this.averageTeardownMillis,
+    required this.maxTeardownMillis,
+  });
+}
+
+/// Counters of the LibVLC instances shared among players.
+class LibVLCPoolMetricsMessage {
+  final int instances;
+  final int createMillis;
+  final int nativeBytes;
+  final int sharedAcquisitions;
+  final int startupMillisSaved;
+  final int nativeBytesSaved;
+
+  const LibVLCPoolMetricsMessage({
+    required this.instances,
+    required this.createMillis,
+    required this.nativeBytes,
+    required this.sharedAcquisitions,
+    required this.startupMillisSaved,
+    required this.nativeBytesSaved,
+  });
+}
+
+/// A media to open in a hidden player ahead of playback.
+class PreloadMessage {
+  final String uri;
+  final int type;
+  final String? packageName;
+  final int? hwAcc;
+  final List<String> options;
+  final int bufferMillis;
+
+  const PreloadMessage({
+    required this.uri,
+    required this.type,
+    required this.packageName,
+    required this.hwAcc,
+    required this.options,
+    required this.bufferMillis,
+  });
+}
+
+/// Channel switches of a player and their latency to the first frame.
+class ZapMetricsMessage {
+  final int zapCount;
+  final int completedZapCount;
+  final int abandonedZapCount;
+  final int prebufferedZapCount;
+  final int lastLatencyMillis;
+  final int averageLatencyMillis;
+  final int maxLatencyMillis;
+
+  const ZapMetricsMessage({
+    required this.zapCount,
+    required this.completedZapCount,
+    required this.abandonedZapCount,
+    required this.prebufferedZapCount,
+    required this.lastLatencyMillis,
+    required this.averageLatencyMillis,
+    required this.maxLatencyMillis,
+  });
+}
+
+/// An item of a player's playlist.
+class PlaylistItemMessage {
+  final String uri;
+  final int type;
+  final String? packageName;
+
+  const PlaylistItemMessage({
+    required this.uri,
+    required this.type,
+    required this.packageName,
+  });
+}
+
+/// The frame a step moved to. [frame] is the image to show over the video
+/// when the step was served from the ring of recent frames, and null when
+/// the player displays the frame itself.
+class FrameStepMessage {
+  final int position;
+  final Uint8List? frame;
+
+  const FrameStepMessage({
+    required this.position,
+    this.frame,
+  });
+}
+
+/// How a snapshot is scaled and encoded. The snapshot keeps the aspect ratio
+/// of the video and fits in [maxWidth] x [maxHeight], each unbounded if null.
+/// [format] is the index of the format (JPEG, PNG, WEBP). The snapshot is
+/// written to [path], or returned as bytes if null.
+class SnapshotOptionsMessage {
+  final int? maxWidth;
+  final int? maxHeight;
+  final int format;
+  final int quality;
+  final String? path;
+
+  const SnapshotOptionsMessage({
+    this.maxWidth,
+    this.maxHeight,
+    required this.format,
+    required this.quality,
+    this.path,
+  });
+}
+
+/// A snapshot, as [bytes] or written to the file at [path].
+class SnapshotMessage {
+  final int width;
+  final int height;
+  final Uint8List? bytes;
+  final String? path;
+
+  const SnapshotMessage({
+    required this.width,
+    required this.height,
+    this.bytes,
+    this.path,
+  });
+}
+
+/// How frames are tapped: [chroma] is the index of the chroma (RGBA, I420),
+/// frames fit in [maxWidth] x [maxHeight], each unbounded if null, and
+/// [backpressure] is the index of the policy (drop newest, keep latest).
+class FrameTapMessage {
+  final int chroma;
+  final int? maxWidth;
+  final int? maxHeight;
+  final int intervalMillis;
+  final int backpressure;
+
+  const FrameTapMessage({
+    required this.chroma,
+    this.maxWidth,
+    this.maxHeight,
+    required this.intervalMillis,
+    required this.backpressure,
+  });
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVlcPlayerApi')
 abstract class VlcPlayerApi {
   void initialize();
@@ -187,4 +485,109 @@ abstract class VlcPlayerApi {
   bool startRecording(int playerId, String saveDirectory);
 
   bool stopRecording(int playerId);
+
+  // events methods
+  bool setEventMultiplexing(bool enabled);
+
+  void setClockAnchors(int playerId, bool enabled);
+
+  // state methods
+  PlaybackStateMessage getPlaybackState(int playerId);
+
+  // batch methods
+  List<String?> executeBatch(
+    int playerId,
+    List<PlayerCommandMessage> commands,
+  );
+
+  Map<int, String?> executeBulk(
+    List<int>? playerIds,
+    List<PlayerCommandMessage> commands,
+  );
+
+  // execution methods
+  bool setBackgroundExecution(bool enabled);
+
+  DisposalMetricsMessage getDisposalMetrics();
+
+  // recycling methods
+  void setPlayerRecycling(int maxSize, int idleTimeoutMillis);
+
+  // preload methods
+  bool preload(PreloadMessage msg);
+
+  bool cancelPreload(String uri, int type, String? packageName);
+
+  void setPreloadBudget(int maxPreloads, int maxBufferMillis);
+
+  // zapping methods
+  void setZapChannels(
+    int playerId,
+    List<String> uris,
+    int neighbours,
+    int? hwAcc,
+  );
+
+  void zapTo(int playerId, int index);
+
+  ZapMetricsMessage getZapMetrics(int playerId);
+
+  // playlist methods
+  void playlistAdd(
+    int playerId,
+    List<PlaylistItemMessage> items,
+    int? index,
+  );
+
+  void playlistRemove(int playerId, int index);
+
+  void playlistPlay(int playerId, int index);
+
+  void playlistClear(int playerId);
+
+  // scrubbing methods
+  void setScrubbing(int playerId, bool scrubbing);
+
+  void setTrickPlay(int playerId, double rate);
+
+  // frame stepping methods
+  @async
+  FrameStepMessage nextFrame(int playerId);
+
+  @async
+  FrameStepMessage previousFrame(int playerId);
+
+  // snapshot methods
+  @async
+  SnapshotMessage? takeScaledSnapshot(
+    int playerId,
+    SnapshotOptionsMessage options,
+  );
+
+  // frame tap methods
+  void startFrameTap(int playerId, FrameTapMessage options);
+
+  void stopFrameTap(int playerId);
+
+  // multiplexed events methods
+  void setEventsSubscribed(int playerId, int kind, bool subscribed);
+
+  // LibVLC pool methods
+  LibVLCPoolMetricsMessage getLibVLCPoolMetrics();
+
+  // event sink methods
+  EventSinkMetricsMessage getEventSinkMetrics(int playerId);
+
+  // state update methods
+  void setStateUpdateInterval(int playerId, int intervalMillis);
+}
+
+// Events are delivered through per-player EventChannels using the codec of
+// this file, not through this api. It is declared so that the event classes
+// are generated and registered in the codec.
+@FlutterApi()
+abstract class VlcPlayerEventApi {
+  void mediaEvent(MediaEventMessage event);
+
+  void rendererEvent(RendererEventMessage event);
 }
@@ -1,11 +1,25 @@
+export 'src/commands/player_command.dart';
 export 'src/enums/data_source_type.dart';
+export 'src/enums/frame_backpressure.dart';
+export 'src/enums/frame_chroma.dart';
 export 'src/enums/hardware_acceleration.dart';
 export 'src/enums/media_event_type.dart';
+export 'src/enums/player_command_type.dart';
 export 'src/enums/renderer_event_type.dart';
+export 'src/enums/snapshot_format.dart';
 export 'src/enums/subtitles/vlc_subtitle_text_direction.dart';
 export 'src/events/media_event.dart';
 export 'src/events/renderer_event.dart';
 export 'src/platform_interface/vlc_player_platform_interface.dart';
+export 'src/state/disposal_metrics.dart';
+export 'src/state/event_sink_metrics.dart';
+export 'src/state/frame_step.dart';
+export 'src/state/libvlc_pool_metrics.dart';
+export 'src/state/playback_state.dart';
+export 'src/state/playlist_item.dart';
+export 'src/state/snapshot.dart';
+export 'src/state/video_frame.dart';
+export 'src/state/zap_metrics.dart';
 export 'src/utils/helpers/subtitles/vlc_subtitle_color.dart';
 export 'src/utils/helpers/subtitles/vlc_subtitle_thickness.dart';
 export 'src/utils/options/vlc_advanced_options.dart';
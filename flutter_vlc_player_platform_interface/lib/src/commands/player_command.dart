@@ -0,0 +1,124 @@
+import 'package:flutter_vlc_player_platform_interface/src/enums/data_source_type.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/hardware_acceleration.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/player_command_type.dart';
+
+/// A command applied as part of a batch, see `executeBatch`.
+// ignore: prefer_match_file_name
+class VlcPlayerCommand {
+  /// The type of the command.
+  final VlcPlayerCommandType commandType;
+
+  /// The integer argument of the command, if it takes one.
+  final int? intValue;
+
+  /// The double argument of the command, if it takes one.
+  final double? doubleValue;
+
+  /// The boolean argument of the command, if it takes one.
+  final bool? boolValue;
+
+  /// The string argument of the command, if it takes one.
+  ///
+  /// For [VlcPlayerCommandType.setMedia] it is the uri of the media.
+  final String? stringValue;
+
+  /// The data source type of a [VlcPlayerCommandType.setMedia] command.
+  final DataSourceType? dataSourceType;
+
+  /// The package of a [VlcPlayerCommandType.setMedia] asset.
+  final String? package;
+
+  /// The hardware acceleration of a [VlcPlayerCommandType.setMedia] command.
+  final HwAcc? hwAcc;
+
+  const VlcPlayerCommand._(
+    this.commandType, {
+    this.intValue,
+    this.doubleValue,
+    this.boolValue,
+    this.stringValue,
+    this.dataSourceType,
+    this.package,
+    this.hwAcc,
+  });
+
+  /// Changes the media. Within a batch, the media is started only after all
+  /// commands were applied, once, if [autoPlay] is true or a later
+  /// [VlcPlayerCommand.play] command asks for it.
+  const VlcPlayerCommand.setMedia(
+    String uri, {
+    DataSourceType type = DataSourceType.network,
+    String? package,
+    bool autoPlay = true,
+    HwAcc? hwAcc,
+  }) : this._(
+         VlcPlayerCommandType.setMedia,
+         stringValue: uri,
+         dataSourceType: type,
+         package: package,
+         boolValue: autoPlay,
+         hwAcc: hwAcc,
+       );
+
+  /// Starts playing.
+  const VlcPlayerCommand.play() : this._(VlcPlayerCommandType.play);
+
+  /// Pauses.
+  const VlcPlayerCommand.pause() : this._(VlcPlayerCommandType.pause);
+
+  /// Stops.
+  const VlcPlayerCommand.stop() : this._(VlcPlayerCommandType.stop);
+
+  /// Seeks to [position]. Right after [VlcPlayerCommand.setMedia], it becomes
+  /// the start time of the media instead.
+  VlcPlayerCommand.seekTo(Duration position)
+    : this._(VlcPlayerCommandType.seekTo, intValue: position.inMilliseconds);
+
+  /// Sets the audio volume, between 0 and 100.
+  const VlcPlayerCommand.setVolume(int volume)
+    : this._(VlcPlayerCommandType.setVolume, intValue: volume);
+
+  /// Sets the playback speed.
+  const VlcPlayerCommand.setPlaybackSpeed(double speed)
+    : this._(VlcPlayerCommandType.setPlaybackSpeed, doubleValue: speed);
+
+  /// Sets looping.
+  const VlcPlayerCommand.setLooping(bool looping)
+    : this._(VlcPlayerCommandType.setLooping, boolValue: looping);
+
+  /// Selects the audio track. Right after [VlcPlayerCommand.setMedia], it is
+  /// applied once the media plays.
+  const VlcPlayerCommand.setAudioTrack(int audioTrackNumber)
+    : this._(VlcPlayerCommandType.setAudioTrack, intValue: audioTrackNumber);
+
+  /// Sets the audio delay in milliseconds. Right after
+  /// [VlcPlayerCommand.setMedia], it is applied once the media plays.
+  const VlcPlayerCommand.setAudioDelay(int delay)
+    : this._(VlcPlayerCommandType.setAudioDelay, intValue: delay);
+
+  /// Selects the subtitle track. Right after [VlcPlayerCommand.setMedia], it is
+  /// applied once the media plays.
+  const VlcPlayerCommand.setSpuTrack(int spuTrackNumber)
+    : this._(VlcPlayerCommandType.setSpuTrack, intValue: spuTrackNumber);
+
+  /// Sets the subtitle delay in milliseconds. Right after
+  /// [VlcPlayerCommand.setMedia], it is applied once the media plays.
+  const VlcPlayerCommand.setSpuDelay(int delay)
+    : this._(VlcPlayerCommandType.setSpuDelay, intValue: delay);
+
+  /// Selects the video track. Right after [VlcPlayerCommand.setMedia], it is
+  /// applied once the media plays.
+  const VlcPlayerCommand.setVideoTrack(int videoTrackNumber)
+    : this._(VlcPlayerCommandType.setVideoTrack, intValue: videoTrackNumber);
+
+  /// Sets the video scale.
+  const VlcPlayerCommand.setVideoScale(double scale)
+    : this._(VlcPlayerCommandType.setVideoScale, doubleValue: scale);
+
+  /// Sets the video aspect ratio, e.g. "16:9".
+  const VlcPlayerCommand.setVideoAspectRatio(String aspectRatio)
+    : this._(
+        VlcPlayerCommandType.setVideoAspectRatio,
+        stringValue: aspectRatio,
+      );
+}
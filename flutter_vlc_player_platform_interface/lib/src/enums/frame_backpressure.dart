@@ -0,0 +1,8 @@
+// ignore: prefer_match_file_name
+enum VlcFrameBackpressure {
+  /// No frame is captured while one waits to be delivered.
+  dropNewest,
+
+  /// A new frame replaces the one waiting to be delivered.
+  keepLatest,
+}
@@ -0,0 +1,8 @@
+// ignore: prefer_match_file_name
+enum VlcFrameChroma {
+  /// 4 bytes per pixel, in rows.
+  rgba,
+
+  /// A full size Y plane followed by half size U and V planes, rounded up.
+  i420,
+}
@@ -11,4 +11,6 @@ enum VlcMediaEventType {
   ended,
   unknown,
   error,
+  clockAnchor,
+  playlistItemChanged,
 }
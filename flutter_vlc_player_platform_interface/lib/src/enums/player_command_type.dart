@@ -0,0 +1,18 @@
+// ignore: prefer_match_file_name
+enum VlcPlayerCommandType {
+  setMedia,
+  play,
+  pause,
+  stop,
+  seekTo,
+  setVolume,
+  setPlaybackSpeed,
+  setLooping,
+  setAudioTrack,
+  setAudioDelay,
+  setSpuTrack,
+  setSpuDelay,
+  setVideoTrack,
+  setVideoScale,
+  setVideoAspectRatio,
+}
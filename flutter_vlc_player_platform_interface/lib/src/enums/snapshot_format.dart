@@ -0,0 +1,11 @@
+// ignore: prefer_match_file_name
+enum VlcSnapshotFormat {
+  /// Lossy, the smallest and fastest to encode.
+  jpeg,
+
+  /// Lossless, the quality is ignored.
+  png,
+
+  /// Lossy WebP on Android, JPEG on iOS.
+  webp,
+}
@@ -67,6 +67,17 @@ class VlcMediaEvent {
   /// Only used if [eventType] is [VlcMediaEventType.recording].
   final String? recordPath;
 
+  /// Returns the monotonic time, as measured by `Timeline.now`, at which
+  /// [position] was the media time.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.clockAnchor].
+  final Duration? timestamp;
+
+  /// Returns the index of the playlist item the player switched to.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.playlistItemChanged].
+  final int? playlistIndex;
+
   /// Creates an instance of [VlcMediaEvent].
   ///
   /// The [mediaEventType] argument is required.
@@ -87,5 +98,7 @@ class VlcMediaEvent {
     this.isPlaying,
     this.isRecording,
     this.recordPath,
+    this.timestamp,
+    this.playlistIndex,
   });
 }
@@ -15,6 +15,20 @@ PlatformException _createConnectionError(String channelName) {
   );
 }
 
+List<Object?> wrapResponse({
+  Object? result,
+  PlatformException? error,
+  bool empty = false,
+}) {
+  if (empty) {
+    return <Object?>[];
+  }
+  if (error == null) {
+    return <Object?>[result];
+  }
+  return <Object?>[error.code, error.message, error.details];
+}
+
 bool _deepEquals(Object? a, Object? b) {
   if (a is List && b is List) {
     return a.length == b.length &&
@@ -324,78 +338,1917 @@ class AddAudioMessage {
   int get hashCode => Object.hashAll(_toList());
 }
 
-class _PigeonCodec extends StandardMessageCodec {
-  const _PigeonCodec();
+/// A media event sent over a player's media event channel.
+///
+/// [type] is one of: 0 opening, 1 paused, 2 stopped, 3 playing, 4 ended,
+/// 5 timeChanged, 6 error, 7 recording, 8 clockAnchor, 9 playlistItemChanged.
+/// Fields that are not part of the event type are left null.
+/// [timestamp] is the monotonic clock time of a clockAnchor, in microseconds.
+/// [playlistIndex] is the playlist item a playlistItemChanged switched to.
+class MediaEventMessage {
+  MediaEventMessage({
+    required this.type,
+    this.width,
+    this.height,
+    this.speed,
+    this.position,
+    this.duration,
+    this.buffer,
+    this.audioTracksCount,
+    this.activeAudioTrack,
+    this.spuTracksCount,
+    this.activeSpuTrack,
+    this.isPlaying,
+    this.isRecording,
+    this.recordPath,
+    this.timestamp,
+    this.playlistIndex,
+  });
+
+  int type;
+
+  int? width;
+
+  int? height;
+
+  double? speed;
+
+  int? position;
+
+  int? duration;
+
+  double? buffer;
+
+  int? audioTracksCount;
+
+  int? activeAudioTrack;
+
+  int? spuTracksCount;
+
+  int? activeSpuTrack;
+
+  bool? isPlaying;
+
+  bool? isRecording;
+
+  String? recordPath;
+
+  int? timestamp;
+
+  int? playlistIndex;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      type,
+      width,
+      height,
+      speed,
+      position,
+      duration,
+      buffer,
+      audioTracksCount,
+      activeAudioTrack,
+      spuTracksCount,
+      activeSpuTrack,
+      isPlaying,
+      isRecording,
+      recordPath,
+      timestamp,
+      playlistIndex,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static MediaEventMessage decode(Object result) {
+    result as List<Object?>;
+    return MediaEventMessage(
+      type: result[0]! as int,
+      width: result[1] as int?,
+      height: result[2] as int?,
+      speed: result[3] as double?,
+      position: result[4] as int?,
+      duration: result[5] as int?,
+      buffer: result[6] as double?,
+      audioTracksCount: result[7] as int?,
+      activeAudioTrack: result[8] as int?,
+      spuTracksCount: result[9] as int?,
+      activeSpuTrack: result[10] as int?,
+      isPlaying: result[11] as bool?,
+      isRecording: result[12] as bool?,
+      recordPath: result[13] as String?,
+      timestamp: result[14] as int?,
+      playlistIndex: result[15] as int?,
+    );
+  }
+
   @override
-  void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is int) {
-      buffer.putUint8(4);
-      buffer.putInt64(value);
-    } else if (value is CreateMessage) {
-      buffer.putUint8(129);
-      writeValue(buffer, value.encode());
-    } else if (value is SetMediaMessage) {
-      buffer.putUint8(130);
-      writeValue(buffer, value.encode());
-    } else if (value is SpuTracksMessage) {
-      buffer.putUint8(131);
-      writeValue(buffer, value.encode());
-    } else if (value is AddSubtitleMessage) {
-      buffer.putUint8(132);
-      writeValue(buffer, value.encode());
-    } else if (value is AddAudioMessage) {
-      buffer.putUint8(133);
-      writeValue(buffer, value.encode());
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! MediaEventMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return type == other.type &&
+        width == other.width &&
+        height == other.height &&
+        speed == other.speed &&
+        position == other.position &&
+        duration == other.duration &&
+        buffer == other.buffer &&
+        audioTracksCount == other.audioTracksCount &&
+        activeAudioTrack == other.activeAudioTrack &&
+        spuTracksCount == other.spuTracksCount &&
+        activeSpuTrack == other.activeSpuTrack &&
+        isPlaying == other.isPlaying &&
+        isRecording == other.isRecording &&
+        recordPath == other.recordPath &&
+        timestamp == other.timestamp &&
+        playlistIndex == other.playlistIndex;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// A renderer event sent over a player's renderer event channel.
+///
+/// [type] is one of: 0 attached, 1 detached.
+class RendererEventMessage {
+  RendererEventMessage({
+    required this.type,
+    required this.id,
+    required this.name,
+  });
+
+  int type;
+
+  String id;
+
+  String name;
+
+  List<Object?> _toList() {
+    return <Object?>[type, id, name];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static RendererEventMessage decode(Object result) {
+    result as List<Object?>;
+    return RendererEventMessage(
+      type: result[0]! as int,
+      id: result[1]! as String,
+      name: result[2]! as String,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! RendererEventMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return type == other.type && id == other.id && name == other.name;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// A snapshot of the player state, read in a single call.
+///
+/// Times and delays are in milliseconds.
+class PlaybackStateMessage {
+  PlaybackStateMessage({
+    required this.position,
+    required this.duration,
+    required this.isPlaying,
+    required this.isSeekable,
+    required this.volume,
+    required this.playbackSpeed,
+    required this.audioTrack,
+    required this.audioTracksCount,
+    required this.audioDelay,
+    required this.spuTrack,
+    required this.spuTracksCount,
+    required this.spuDelay,
+    required this.videoTrack,
+    required this.videoTracksCount,
+    required this.videoScale,
+    this.aspectRatio,
+  });
+
+  int position;
+
+  int duration;
+
+  bool isPlaying;
+
+  bool isSeekable;
+
+  int volume;
+
+  double playbackSpeed;
+
+  int audioTrack;
+
+  int audioTracksCount;
+
+  int audioDelay;
+
+  int spuTrack;
+
+  int spuTracksCount;
+
+  int spuDelay;
+
+  int videoTrack;
+
+  int videoTracksCount;
+
+  double videoScale;
+
+  String? aspectRatio;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      position,
+      duration,
+      isPlaying,
+      isSeekable,
+      volume,
+      playbackSpeed,
+      audioTrack,
+      audioTracksCount,
+      audioDelay,
+      spuTrack,
+      spuTracksCount,
+      spuDelay,
+      videoTrack,
+      videoTracksCount,
+      videoScale,
+      aspectRatio,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static PlaybackStateMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaybackStateMessage(
+      position: result[0]! as int,
+      duration: result[1]! as int,
+      isPlaying: result[2]! as bool,
+      isSeekable: result[3]! as bool,
+      volume: result[4]! as int,
+      playbackSpeed: result[5]! as double,
+      audioTrack: result[6]! as int,
+      audioTracksCount: result[7]! as int,
+      audioDelay: result[8]! as int,
+      spuTrack: result[9]! as int,
+      spuTracksCount: result[10]! as int,
+      spuDelay: result[11]! as int,
+      videoTrack: result[12]! as int,
+      videoTracksCount: result[13]! as int,
+      videoScale: result[14]! as double,
+      aspectRatio: result[15] as String?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! PlaybackStateMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return position == other.position &&
+        duration == other.duration &&
+        isPlaying == other.isPlaying &&
+        isSeekable == other.isSeekable &&
+        volume == other.volume &&
+        playbackSpeed == other.playbackSpeed &&
+        audioTrack == other.audioTrack &&
+        audioTracksCount == other.audioTracksCount &&
+        audioDelay == other.audioDelay &&
+        spuTrack == other.spuTrack &&
+        spuTracksCount == other.spuTracksCount &&
+        spuDelay == other.spuDelay &&
+        videoTrack == other.videoTrack &&
+        videoTracksCount == other.videoTracksCount &&
+        videoScale == other.videoScale &&
+        aspectRatio == other.aspectRatio;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// A command of a batch, see executeBatch.
+///
+/// [type] is the index of a VlcPlayerCommandType. Only the value fields the
+/// command takes are set, [media] for setMedia.
+class PlayerCommandMessage {
+  PlayerCommandMessage({
+    required this.type,
+    this.intValue,
+    this.doubleValue,
+    this.boolValue,
+    this.stringValue,
+    this.media,
+  });
+
+  int type;
+
+  int? intValue;
+
+  double? doubleValue;
+
+  bool? boolValue;
+
+  String? stringValue;
+
+  SetMediaMessage? media;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      type,
+      intValue,
+      doubleValue,
+      boolValue,
+      stringValue,
+      media,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static PlayerCommandMessage decode(Object result) {
+    result as List<Object?>;
+    return PlayerCommandMessage(
+      type: result[0]! as int,
+      intValue: result[1] as int?,
+      doubleValue: result[2] as double?,
+      boolValue: result[3] as bool?,
+      stringValue: result[4] as String?,
+      media: result[5] as SetMediaMessage?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! PlayerCommandMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return type == other.type &&
+        intValue == other.intValue &&
+        doubleValue == other.doubleValue &&
+        boolValue == other.boolValue &&
+        stringValue == other.stringValue &&
+        media == other.media;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// Counters of the native player teardowns run after dispose.
+class DisposalMetricsMessage {
+  DisposalMetricsMessage({
+    required this.pending,
+    required this.completed,
+    required this.failed,
+    required this.averageTeardownMillis,
+    required this.maxTeardownMillis,
+  });
+
+  int pending;
+
+  int completed;
+
+  int failed;
+
+  int averageTeardownMillis;
+
+  int maxTeardownMillis;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      pending,
+      completed,
+      failed,
+      averageTeardownMillis,
+      maxTeardownMillis,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static DisposalMetricsMessage decode(Object result) {
+    result as List<Object?>;
+    return DisposalMetricsMessage(
+      pending: result[0]! as int,
+      completed: result[1]! as int,
+      failed: result[2]! as int,
+      averageTeardownMillis: result[3]! as int,
+      maxTeardownMillis: result[4]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! DisposalMetricsMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return pending == other.pending &&
+        completed == other.completed &&
+        failed == other.failed &&
+        averageTeardownMillis == other.averageTeardownMillis &&
+        maxTeardownMillis == other.maxTeardownMillis;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// A media to open in a hidden player ahead of playback.
+class PreloadMessage {
+  PreloadMessage({
+    required this.uri,
+    required this.type,
+    this.packageName,
+    this.hwAcc,
+    required this.options,
+    required this.bufferMillis,
+  });
+
+  String uri;
+
+  int type;
+
+  String? packageName;
+
+  int? hwAcc;
+
+  List<String> options;
+
+  int bufferMillis;
+
+  List<Object?> _toList() {
+    return <Object?>[uri, type, packageName, hwAcc, options, bufferMillis];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static PreloadMessage decode(Object result) {
+    result as List<Object?>;
+    return PreloadMessage(
+      uri: result[0]! as String,
+      type: result[1]! as int,
+      packageName: result[2] as String?,
+      hwAcc: result[3] as int?,
+      options: (result[4] as List<Object?>?)!.cast<String>(),
+      bufferMillis: result[5]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! PreloadMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return uri == other.uri &&
+        type == other.type &&
+        packageName == other.packageName &&
+        hwAcc == other.hwAcc &&
+        _deepEquals(options, other.options) &&
+        bufferMillis == other.bufferMillis;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// Channel switches of a player and their latency to the first frame.
+class ZapMetricsMessage {
+  ZapMetricsMessage({
+    required this.zapCount,
+    required this.completedZapCount,
+    required this.abandonedZapCount,
+    required this.prebufferedZapCount,
+    required this.lastLatencyMillis,
+    required this.averageLatencyMillis,
+    required this.maxLatencyMillis,
+  });
+
+  int zapCount;
+
+  int completedZapCount;
+
+  int abandonedZapCount;
+
+  int prebufferedZapCount;
+
+  int lastLatencyMillis;
+
+  int averageLatencyMillis;
+
+  int maxLatencyMillis;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      zapCount,
+      completedZapCount,
+      abandonedZapCount,
+      prebufferedZapCount,
+      lastLatencyMillis,
+      averageLatencyMillis,
+      maxLatencyMillis,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static ZapMetricsMessage decode(Object result) {
+    result as List<Object?>;
+    return ZapMetricsMessage(
+      zapCount: result[0]! as int,
+      completedZapCount: result[1]! as int,
+      abandonedZapCount: result[2]! as int,
+      prebufferedZapCount: result[3]! as int,
+      lastLatencyMillis: result[4]! as int,
+      averageLatencyMillis: result[5]! as int,
+      maxLatencyMillis: result[6]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! ZapMetricsMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return zapCount == other.zapCount &&
+        completedZapCount == other.completedZapCount &&
+        abandonedZapCount == other.abandonedZapCount &&
+        prebufferedZapCount == other.prebufferedZapCount &&
+        lastLatencyMillis == other.lastLatencyMillis &&
+        averageLatencyMillis == other.averageLatencyMillis &&
+        maxLatencyMillis == other.maxLatencyMillis;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// An item of a player's playlist.
+class PlaylistItemMessage {
+  PlaylistItemMessage({
+    required this.uri,
+    required this.type,
+    this.packageName,
+  });
+
+  String uri;
+
+  int type;
+
+  String? packageName;
+
+  List<Object?> _toList() {
+    return <Object?>[uri, type, packageName];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static PlaylistItemMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaylistItemMessage(
+      uri: result[0]! as String,
+      type: result[1]! as int,
+      packageName: result[2] as String?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! PlaylistItemMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return uri == other.uri &&
+        type == other.type &&
+        packageName == other.packageName;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// The frame a step moved to. [frame] is the image to show over the video
+/// when the step was served from the ring of recent frames, and null when
+/// the player displays the frame itself.
+class FrameStepMessage {
+  FrameStepMessage({required this.position, this.frame});
+
+  int position;
+
+  Uint8List? frame;
+
+  List<Object?> _toList() {
+    return <Object?>[position, frame];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static FrameStepMessage decode(Object result) {
+    result as List<Object?>;
+    return FrameStepMessage(
+      position: result[0]! as int,
+      frame: result[1] as Uint8List?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! FrameStepMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return position == other.position && frame == other.frame;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// How a snapshot is scaled and encoded. The snapshot keeps the aspect ratio
+/// of the video and fits in [maxWidth] x [maxHeight], each unbounded if null.
+/// [format] is the index of the format (JPEG, PNG, WEBP). The snapshot is
+/// written to [path], or returned as bytes if null.
+class SnapshotOptionsMessage {
+  SnapshotOptionsMessage({
+    this.maxWidth,
+    this.maxHeight,
+    required this.format,
+    required this.quality,
+    this.path,
+  });
+
+  int? maxWidth;
+
+  int? maxHeight;
+
+  int format;
+
+  int quality;
+
+  String? path;
+
+  List<Object?> _toList() {
+    return <Object?>[maxWidth, maxHeight, format, quality, path];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static SnapshotOptionsMessage decode(Object result) {
+    result as List<Object?>;
+    return SnapshotOptionsMessage(
+      maxWidth: result[0] as int?,
+      maxHeight: result[1] as int?,
+      format: result[2]! as int,
+      quality: result[3]! as int,
+      path: result[4] as String?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! SnapshotOptionsMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return maxWidth == other.maxWidth &&
+        maxHeight == other.maxHeight &&
+        format == other.format &&
+        quality == other.quality &&
+        path == other.path;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// A snapshot, as [bytes] or written to the file at [path].
+class SnapshotMessage {
+  SnapshotMessage({
+    required this.width,
+    required this.height,
+    this.bytes,
+    this.path,
+  });
+
+  int width;
+
+  int height;
+
+  Uint8List? bytes;
+
+  String? path;
+
+  List<Object?> _toList() {
+    return <Object?>[width, height, bytes, path];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static SnapshotMessage decode(Object result) {
+    result as List<Object?>;
+    return SnapshotMessage(
+      width: result[0]! as int,
+      height: result[1]! as int,
+      bytes: result[2] as Uint8List?,
+      path: result[3] as String?,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! SnapshotMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return width == other.width &&
+        height == other.height &&
+        bytes == other.bytes &&
+        path == other.path;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// How frames are tapped: [chroma] is the index of the chroma (RGBA, I420),
+/// frames fit in [maxWidth] x [maxHeight], each unbounded if null, and
+/// [backpressure] is the index of the policy (drop newest, keep latest).
+class FrameTapMessage {
+  FrameTapMessage({
+    required this.chroma,
+    this.maxWidth,
+    this.maxHeight,
+    required this.intervalMillis,
+    required this.backpressure,
+  });
+
+  int chroma;
+
+  int? maxWidth;
+
+  int? maxHeight;
+
+  int intervalMillis;
+
+  int backpressure;
+
+  List<Object?> _toList() {
+    return <Object?>[chroma, maxWidth, maxHeight, intervalMillis, backpressure];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static FrameTapMessage decode(Object result) {
+    result as List<Object?>;
+    return FrameTapMessage(
+      chroma: result[0]! as int,
+      maxWidth: result[1] as int?,
+      maxHeight: result[2] as int?,
+      intervalMillis: result[3]! as int,
+      backpressure: result[4]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! FrameTapMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return chroma == other.chroma &&
+        maxWidth == other.maxWidth &&
+        maxHeight == other.maxHeight &&
+        intervalMillis == other.intervalMillis &&
+        backpressure == other.backpressure;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// Counters of the LibVLC instances shared among players.
+class LibVLCPoolMetricsMessage {
+  LibVLCPoolMetricsMessage({
+    required this.instances,
+    required this.createMillis,
+    required this.nativeBytes,
+    required this.sharedAcquisitions,
+    required this.startupMillisSaved,
+    required this.nativeBytesSaved,
+  });
+
+  int instances;
+
+  int createMillis;
+
+  int nativeBytes;
+
+  int sharedAcquisitions;
+
+  int startupMillisSaved;
+
+  int nativeBytesSaved;
+
+  List<Object?> _toList() {
+    return <Object?>[
+      instances,
+      createMillis,
+      nativeBytes,
+      sharedAcquisitions,
+      startupMillisSaved,
+      nativeBytesSaved,
+    ];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static LibVLCPoolMetricsMessage decode(Object result) {
+    result as List<Object?>;
+    return LibVLCPoolMetricsMessage(
+      instances: result[0]! as int,
+      createMillis: result[1]! as int,
+      nativeBytes: result[2]! as int,
+      sharedAcquisitions: result[3]! as int,
+      startupMillisSaved: result[4]! as int,
+      nativeBytesSaved: result[5]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! LibVLCPoolMetricsMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return instances == other.instances &&
+        createMillis == other.createMillis &&
+        nativeBytes == other.nativeBytes &&
+        sharedAcquisitions == other.sharedAcquisitions &&
+        startupMillisSaved == other.startupMillisSaved &&
+        nativeBytesSaved == other.nativeBytesSaved;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+/// Counters of the events a player sent to Dart.
+class EventSinkMetricsMessage {
+  EventSinkMetricsMessage({
+    required this.enqueued,
+    required this.delivered,
+    required this.compacted,
+    required this.dropped,
+    required this.queued,
+  });
+
+  int enqueued;
+
+  int delivered;
+
+  int compacted;
+
+  int dropped;
+
+  int queued;
+
+  List<Object?> _toList() {
+    return <Object?>[enqueued, delivered, compacted, dropped, queued];
+  }
+
+  Object encode() {
+    return _toList();
+  }
+
+  static EventSinkMetricsMessage decode(Object result) {
+    result as List<Object?>;
+    return EventSinkMetricsMessage(
+      enqueued: result[0]! as int,
+      delivered: result[1]! as int,
+      compacted: result[2]! as int,
+      dropped: result[3]! as int,
+      queued: result[4]! as int,
+    );
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  bool operator ==(Object other) {
+    if (other is! EventSinkMetricsMessage || other.runtimeType != runtimeType) {
+      return false;
+    }
+    if (identical(this, other)) {
+      return true;
+    }
+    return enqueued == other.enqueued &&
+        delivered == other.delivered &&
+        compacted == other.compacted &&
+        dropped == other.dropped &&
+        queued == other.queued;
+  }
+
+  @override
+  // ignore: avoid_equals_and_hash_code_on_mutable_classes
+  int get hashCode => Object.hashAll(_toList());
+}
+
+class _PigeonCodec extends StandardMessageCodec {
+  const _PigeonCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is int) {
+      buffer.putUint8(4);
+      buffer.putInt64(value);
+    } else if (value is CreateMessage) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is SetMediaMessage) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else if (value is SpuTracksMessage) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
+    } else if (value is AddSubtitleMessage) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    } else if (value is AddAudioMessage) {
+      buffer.putUint8(133);
+      writeValue(buffer, value.encode());
+    } else if (value is MediaEventMessage) {
+      buffer.putUint8(134);
+      writeValue(buffer, value.encode());
+    } else if (value is RendererEventMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackStateMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerCommandMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is DisposalMetricsMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is PreloadMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is ZapMetricsMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistItemMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is FrameStepMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is SnapshotOptionsMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is SnapshotMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is FrameTapMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is LibVLCPoolMetricsMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is EventSinkMetricsMessage) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 129:
+        return CreateMessage.decode(readValue(buffer)!);
+      case 130:
+        return SetMediaMessage.decode(readValue(buffer)!);
+      case 131:
+        return SpuTracksMessage.decode(readValue(buffer)!);
+      case 132:
+        return AddSubtitleMessage.decode(readValue(buffer)!);
+      case 133:
+        return AddAudioMessage.decode(readValue(buffer)!);
+      case 134:
+        return MediaEventMessage.decode(readValue(buffer)!);
+      case 135:
+        return RendererEventMessage.decode(readValue(buffer)!);
+      case 136:
+        return PlaybackStateMessage.decode(readValue(buffer)!);
+      case 137:
+        return PlayerCommandMessage.decode(readValue(buffer)!);
+      case 138:
+        return DisposalMetricsMessage.decode(readValue(buffer)!);
+      case 139:
+        return PreloadMessage.decode(readValue(buffer)!);
+      case 140:
+        return ZapMetricsMessage.decode(readValue(buffer)!);
+      case 141:
+        return PlaylistItemMessage.decode(readValue(buffer)!);
+      case 142:
+        return FrameStepMessage.decode(readValue(buffer)!);
+      case 143:
+        return SnapshotOptionsMessage.decode(readValue(buffer)!);
+      case 144:
+        return SnapshotMessage.decode(readValue(buffer)!);
+      case 145:
+        return FrameTapMessage.decode(readValue(buffer)!);
+      case 146:
+        return LibVLCPoolMetricsMessage.decode(readValue(buffer)!);
+      case 147:
+        return EventSinkMetricsMessage.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class VlcPlayerApi {
+  /// Constructor for [VlcPlayerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  VlcPlayerApi({
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) : pigeonVar_binaryMessenger = binaryMessenger,
+       pigeonVar_messageChannelSuffix =
+           messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  Future<void> initialize() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> create(CreateMessage msg) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[msg],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> dispose(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setStreamUrl(SetMediaMessage msg) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[msg],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> play(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> pause(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> stop(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<bool> isPlaying(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  Future<bool> isSeekable(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  Future<void> setLooping(int playerId, bool isLooping) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, isLooping],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> seekTo(int playerId, int position) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, position],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> position(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<int> duration(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<void> setVolume(int playerId, int volume) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, volume],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> getVolume(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<void> setPlaybackSpeed(int playerId, double speed) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, speed],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<double> getPlaybackSpeed(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as double?)!;
+    }
+  }
+
+  Future<String?> takeSnapshot(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<int> getSpuTracksCount(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<Map<int, String>> getSpuTracks(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<int, String>();
+    }
+  }
+
+  Future<void> setSpuTrack(int playerId, int spuTrackNumber) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, spuTrackNumber],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> getSpuTrack(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<void> setSpuDelay(int playerId, int delay) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, delay],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> getSpuDelay(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  Future<void> addSubtitleTrack(AddSubtitleMessage msg) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[msg],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
     } else {
-      super.writeValue(buffer, value);
+      return;
     }
   }
 
-  @override
-  Object? readValueOfType(int type, ReadBuffer buffer) {
-    switch (type) {
-      case 129:
-        return CreateMessage.decode(readValue(buffer)!);
-      case 130:
-        return SetMediaMessage.decode(readValue(buffer)!);
-      case 131:
-        return SpuTracksMessage.decode(readValue(buffer)!);
-      case 132:
-        return AddSubtitleMessage.decode(readValue(buffer)!);
-      case 133:
-        return AddAudioMessage.decode(readValue(buffer)!);
-      default:
-        return super.readValueOfType(type, buffer);
+  Future<int> getAudioTracksCount(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
-}
-
-class VlcPlayerApi {
-  /// Constructor for [VlcPlayerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  VlcPlayerApi({
-    BinaryMessenger? binaryMessenger,
-    String messageChannelSuffix = '',
-  }) : pigeonVar_binaryMessenger = binaryMessenger,
-       pigeonVar_messageChannelSuffix =
-           messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
-
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
-
-  final String pigeonVar_messageChannelSuffix;
 
-  Future<void> initialize() async {
+  Future<Map<int, String>> getAudioTracks(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
           pigeonChannelCodec,
           binaryMessenger: pigeonVar_binaryMessenger,
         );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId],
+    );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -406,14 +2259,20 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<int, String>();
     }
   }
 
-  Future<void> create(CreateMessage msg) async {
+  Future<void> setAudioTrack(int playerId, int audioTrackNumber) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -421,7 +2280,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[msg],
+      <Object?>[playerId, audioTrackNumber],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -438,9 +2297,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<void> dispose(int playerId) async {
+  Future<int> getAudioTrack(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -460,14 +2319,19 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  Future<void> setStreamUrl(SetMediaMessage msg) async {
+  Future<void> setAudioDelay(int playerId, int delay) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -475,7 +2339,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[msg],
+      <Object?>[playerId, delay],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -492,9 +2356,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<void> play(int playerId) async {
+  Future<int> getAudioDelay(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -514,14 +2378,19 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  Future<void> pause(int playerId) async {
+  Future<void> addAudioTrack(AddAudioMessage msg) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -529,7 +2398,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[msg],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -546,9 +2415,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<void> stop(int playerId) async {
+  Future<int> getVideoTracksCount(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -568,14 +2437,19 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  Future<bool> isPlaying(int playerId) async {
+  Future<Map<int, String>> getVideoTracks(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -601,13 +2475,41 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<int, String>();
     }
   }
 
-  Future<bool> isSeekable(int playerId) async {
+  Future<void> setVideoTrack(int playerId, int videoTrackNumber) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, videoTrackNumber],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> getVideoTrack(int playerId) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -633,13 +2535,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  Future<void> setLooping(int playerId, bool isLooping) async {
+  Future<void> setVideoScale(int playerId, double scale) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -647,7 +2549,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, isLooping],
+      <Object?>[playerId, scale],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -664,9 +2566,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<void> seekTo(int playerId, int position) async {
+  Future<double> getVideoScale(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -674,7 +2576,39 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, position],
+      <Object?>[playerId],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as double?)!;
+    }
+  }
+
+  Future<void> setVideoAspectRatio(int playerId, String aspectRatio) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, aspectRatio],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -691,9 +2625,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> position(int playerId) async {
+  Future<String> getVideoAspectRatio(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -719,13 +2653,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  Future<int> duration(int playerId) async {
+  Future<List<String>> getAvailableRendererServices(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -751,13 +2685,16 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String>();
     }
   }
 
-  Future<void> setVolume(int playerId, int volume) async {
+  Future<void> startRendererScanning(
+    int playerId,
+    String rendererService,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -765,7 +2702,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, volume],
+      <Object?>[playerId, rendererService],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -782,9 +2719,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> getVolume(int playerId) async {
+  Future<void> stopRendererScanning(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -804,19 +2741,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return;
     }
   }
 
-  Future<void> setPlaybackSpeed(int playerId, double speed) async {
+  Future<Map<String, String>> getRendererDevices(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -824,7 +2756,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, speed],
+      <Object?>[playerId],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -836,14 +2768,20 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, String>();
     }
   }
 
-  Future<double> getPlaybackSpeed(int playerId) async {
+  Future<void> castToRenderer(int playerId, String rendererId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -851,7 +2789,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, rendererId],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -863,19 +2801,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as double?)!;
+      return;
     }
   }
 
-  Future<String?> takeSnapshot(int playerId) async {
+  Future<bool> startRecording(int playerId, String saveDirectory) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -883,7 +2816,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, saveDirectory],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -895,14 +2828,19 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as String?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<int> getSpuTracksCount(int playerId) async {
+  Future<bool> stopRecording(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -928,13 +2866,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<Map<int, String>> getSpuTracks(int playerId) async {
+  Future<bool> setEventMultiplexing(bool enabled) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventMultiplexing$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -942,7 +2880,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[enabled],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -960,14 +2898,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
-          .cast<int, String>();
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<void> setSpuTrack(int playerId, int spuTrackNumber) async {
+  Future<void> setClockAnchors(int playerId, bool enabled) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setClockAnchors$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -975,7 +2912,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, spuTrackNumber],
+      <Object?>[playerId, enabled],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -992,9 +2929,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> getSpuTrack(int playerId) async {
+  Future<PlaybackStateMessage> getPlaybackState(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackState$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1020,13 +2957,16 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as PlaybackStateMessage?)!;
     }
   }
 
-  Future<void> setSpuDelay(int playerId, int delay) async {
+  Future<List<String?>> executeBatch(
+    int playerId,
+    List<PlayerCommandMessage> commands,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1034,7 +2974,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, delay],
+      <Object?>[playerId, commands],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1046,14 +2986,22 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String?>();
     }
   }
 
-  Future<int> getSpuDelay(int playerId) async {
+  Future<Map<int, String?>> executeBulk(
+    List<int>? playerIds,
+    List<PlayerCommandMessage> commands,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBulk$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1061,7 +3009,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerIds, commands],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1079,13 +3027,14 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<int, String?>();
     }
   }
 
-  Future<void> addSubtitleTrack(AddSubtitleMessage msg) async {
+  Future<bool> setBackgroundExecution(bool enabled) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setBackgroundExecution$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1093,7 +3042,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[msg],
+      <Object?>[enabled],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1105,23 +3054,26 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<int> getAudioTracksCount(int playerId) async {
+  Future<DisposalMetricsMessage> getDisposalMetrics() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getDisposalMetrics$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
           pigeonChannelCodec,
           binaryMessenger: pigeonVar_binaryMessenger,
         );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
-    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -1138,13 +3090,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as DisposalMetricsMessage?)!;
     }
   }
 
-  Future<Map<int, String>> getAudioTracks(int playerId) async {
+  Future<void> setPlayerRecycling(int maxSize, int idleTimeoutMillis) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlayerRecycling$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1152,7 +3104,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[maxSize, idleTimeoutMillis],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1164,20 +3116,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
-          .cast<int, String>();
+      return;
     }
   }
 
-  Future<void> setAudioTrack(int playerId, int audioTrackNumber) async {
+  Future<bool> preload(PreloadMessage msg) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.preload$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1185,7 +3131,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, audioTrackNumber],
+      <Object?>[msg],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1197,14 +3143,19 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<int> getAudioTrack(int playerId) async {
+  Future<bool> cancelPreload(String uri, int type, String? packageName) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelPreload$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1212,7 +3163,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[uri, type, packageName],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1230,13 +3181,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<void> setAudioDelay(int playerId, int delay) async {
+  Future<void> setPreloadBudget(int maxPreloads, int maxBufferMillis) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPreloadBudget$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1244,7 +3195,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, delay],
+      <Object?>[maxPreloads, maxBufferMillis],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1261,9 +3212,14 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> getAudioDelay(int playerId) async {
+  Future<void> setZapChannels(
+    int playerId,
+    List<String> uris,
+    int neighbours,
+    int? hwAcc,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setZapChannels$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1271,7 +3227,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, uris, neighbours, hwAcc],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1283,19 +3239,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return;
     }
   }
 
-  Future<void> addAudioTrack(AddAudioMessage msg) async {
+  Future<void> zapTo(int playerId, int index) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.zapTo$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1303,7 +3254,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[msg],
+      <Object?>[playerId, index],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1320,9 +3271,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> getVideoTracksCount(int playerId) async {
+  Future<ZapMetricsMessage> getZapMetrics(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getZapMetrics$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1348,13 +3299,17 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as ZapMetricsMessage?)!;
     }
   }
 
-  Future<Map<int, String>> getVideoTracks(int playerId) async {
+  Future<void> playlistAdd(
+    int playerId,
+    List<PlaylistItemMessage> items,
+    int? index,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistAdd$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1362,7 +3317,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, items, index],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1374,20 +3329,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
-          .cast<int, String>();
+      return;
     }
   }
 
-  Future<void> setVideoTrack(int playerId, int videoTrackNumber) async {
+  Future<void> playlistRemove(int playerId, int index) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistRemove$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1395,7 +3344,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, videoTrackNumber],
+      <Object?>[playerId, index],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1412,9 +3361,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<int> getVideoTrack(int playerId) async {
+  Future<void> playlistPlay(int playerId, int index) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistPlay$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1422,7 +3371,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, index],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1434,19 +3383,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return;
     }
   }
 
-  Future<void> setVideoScale(int playerId, double scale) async {
+  Future<void> playlistClear(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.playlistClear$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1454,7 +3398,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, scale],
+      <Object?>[playerId],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1471,9 +3415,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<double> getVideoScale(int playerId) async {
+  Future<void> setScrubbing(int playerId, bool scrubbing) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setScrubbing$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1481,7 +3425,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, scrubbing],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1493,19 +3437,14 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as double?)!;
+      return;
     }
   }
 
-  Future<void> setVideoAspectRatio(int playerId, String aspectRatio) async {
+  Future<void> setTrickPlay(int playerId, double rate) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setTrickPlay$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1513,7 +3452,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, aspectRatio],
+      <Object?>[playerId, rate],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1530,9 +3469,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<String> getVideoAspectRatio(int playerId) async {
+  Future<FrameStepMessage> nextFrame(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.nextFrame$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1558,13 +3497,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as FrameStepMessage?)!;
     }
   }
 
-  Future<List<String>> getAvailableRendererServices(int playerId) async {
+  Future<FrameStepMessage> previousFrame(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.previousFrame$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1590,16 +3529,16 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String>();
+      return (pigeonVar_replyList[0] as FrameStepMessage?)!;
     }
   }
 
-  Future<void> startRendererScanning(
+  Future<SnapshotMessage?> takeScaledSnapshot(
     int playerId,
-    String rendererService,
+    SnapshotOptionsMessage options,
   ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeScaledSnapshot$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1607,7 +3546,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, rendererService],
+      <Object?>[playerId, options],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1620,13 +3559,13 @@ class VlcPlayerApi {
         details: pigeonVar_replyList[2],
       );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as SnapshotMessage?);
     }
   }
 
-  Future<void> stopRendererScanning(int playerId) async {
+  Future<void> startFrameTap(int playerId, FrameTapMessage options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startFrameTap$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1634,7 +3573,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId],
+      <Object?>[playerId, options],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1651,9 +3590,9 @@ class VlcPlayerApi {
     }
   }
 
-  Future<Map<String, String>> getRendererDevices(int playerId) async {
+  Future<void> stopFrameTap(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopFrameTap$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1673,20 +3612,18 @@ class VlcPlayerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
-          .cast<String, String>();
+      return;
     }
   }
 
-  Future<void> castToRenderer(int playerId, String rendererId) async {
+  Future<void> setEventsSubscribed(
+    int playerId,
+    int kind,
+    bool subscribed,
+  ) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setEventsSubscribed$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1694,7 +3631,7 @@ class VlcPlayerApi {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, rendererId],
+      <Object?>[playerId, kind, subscribed],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -1711,18 +3648,16 @@ class VlcPlayerApi {
     }
   }
 
-  Future<bool> startRecording(int playerId, String saveDirectory) async {
+  Future<LibVLCPoolMetricsMessage> getLibVLCPoolMetrics() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getLibVLCPoolMetrics$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
           pigeonChannelCodec,
           binaryMessenger: pigeonVar_binaryMessenger,
         );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[playerId, saveDirectory],
-    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -1739,13 +3674,13 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as LibVLCPoolMetricsMessage?)!;
     }
   }
 
-  Future<bool> stopRecording(int playerId) async {
+  Future<EventSinkMetricsMessage> getEventSinkMetrics(int playerId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getEventSinkMetrics$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -1771,7 +3706,121 @@ class VlcPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as EventSinkMetricsMessage?)!;
+    }
+  }
+
+  Future<void> setStateUpdateInterval(int playerId, int intervalMillis) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStateUpdateInterval$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[playerId, intervalMillis],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+abstract class VlcPlayerEventApi {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  void mediaEvent(MediaEventMessage event);
+
+  void rendererEvent(RendererEventMessage event);
+
+  static void setUp(
+    VlcPlayerEventApi? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+        Object?
+      > pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.mediaEvent$messageChannelSuffix',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.mediaEvent was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final MediaEventMessage? arg_event = (args[0] as MediaEventMessage?);
+          assert(
+            arg_event != null,
+            'Argument for dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.mediaEvent was null, expected non-null MediaEventMessage.',
+          );
+          try {
+            api.mediaEvent(arg_event!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+        Object?
+      > pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.rendererEvent$messageChannelSuffix',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.rendererEvent was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final RendererEventMessage? arg_event = (args[0] as RendererEventMessage?);
+          assert(
+            arg_event != null,
+            'Argument for dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerEventApi.rendererEvent was null, expected non-null RendererEventMessage.',
+          );
+          try {
+            api.rendererEvent(arg_event!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
     }
   }
 }
@@ -10,14 +10,102 @@ import 'package:flutter_vlc_player_platform_interface/src/messages/messages.dart
 
 /// An implementation of [VlcPlayerPlatform] that uses method channels.
 class MethodChannelVlcPlayer extends VlcPlayerPlatform {
+  /// Events are encoded with the pigeon codec, so that they arrive as
+  /// [MediaEventMessage] and [RendererEventMessage] instead of maps.
+  static final _eventCodec = StandardMethodCodec(
+    VlcPlayerApi.pigeonChannelCodec as StandardMessageCodec,
+  );
+
+  /// Size of the header of a tapped frame, must match the platform side.
+  static const _frameHeaderSize = 24;
+
+  /// Kinds of the events in a multiplexed batch, must match the platform side.
+  static const _mediaEventKind = 0;
+  static const _rendererEventKind = 1;
+  static const _errorEventKind = 2;
+
   final _api = VlcPlayerApi();
 
+  bool _multiplexedEvents = false;
+
+  /// Shared by all players, since an event channel can only have one stream
+  /// listening at a time.
+  late final Stream<dynamic> _multiplexedEventStream = EventChannel(
+    'flutter_video_plugin/getEvents',
+    _eventCodec,
+  ).receiveBroadcastStream();
+
   EventChannel _mediaEventChannelFor(int viewId) {
-    return EventChannel('flutter_video_plugin/getVideoEvents_$viewId');
+    return EventChannel(
+      'flutter_video_plugin/getVideoEvents_$viewId',
+      _eventCodec,
+    );
   }
 
   EventChannel _rendererEventChannelFor(int viewId) {
-    return EventChannel('flutter_video_plugin/getRendererEvents_$viewId');
+    return EventChannel(
+      'flutter_video_plugin/getRendererEvents_$viewId',
+      _eventCodec,
+    );
+  }
+
+  /// Previews are plain binary payloads, sent on a channel of their own even
+  /// when the events are multiplexed.
+  EventChannel _previewEventChannelFor(int viewId) {
+    return EventChannel('flutter_video_plugin/getPreviewFrames_$viewId');
+  }
+
+  /// Picks the events of one player and kind out of the multiplexed batches,
+  /// which are flat lists of `playerId, kind, event` triples.
+  ///
+  /// The platform holds the events of the player back until it is told that
+  /// they are listened to, so that none are sent before they can be picked.
+  Stream<dynamic> _multiplexedEventsFor(int viewId, int kind) {
+    StreamSubscription<dynamic>? subscription;
+    late final StreamController<dynamic> controller;
+    controller = StreamController<dynamic>.broadcast(
+      onListen: () {
+        subscription = _multiplexedEventStream.listen(
+          (dynamic batch) =>
+              _pickEvents(batch as List<Object?>, viewId, kind, controller),
+          onError: controller.addError,
+        );
+        unawaited(_api.setEventsSubscribed(viewId, kind, true));
+      },
+      onCancel: () {
+        unawaited(_api.setEventsSubscribed(viewId, kind, false));
+        unawaited(subscription?.cancel());
+        subscription = null;
+      },
+    );
+
+    return controller.stream;
+  }
+
+  static void _pickEvents(
+    List<Object?> events,
+    int viewId,
+    int kind,
+    StreamController<dynamic> controller,
+  ) {
+    for (var i = 0; i + 2 < events.length; i += 3) {
+      if (events[i] != viewId) {
+        continue;
+      }
+      final eventKind = events[i + 1];
+      if (eventKind == kind) {
+        controller.add(events[i + 2]);
+      } else if (eventKind == _errorEventKind && kind == _mediaEventKind) {
+        final error = events[i + 2]! as List<Object?>;
+        controller.addError(
+          PlatformException(
+            code: error[0]! as String,
+            message: error[1] as String?,
+            details: error[2],
+          ),
+        );
+      }
+    }
   }
 
   @override
@@ -114,9 +202,15 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   @override
   // ignore: cyclomatic_complexity
   Stream<VlcMediaEvent> mediaEventsFor(int viewId) {
-    return _mediaEventChannelFor(viewId).receiveBroadcastStream().map((
-      dynamic event,
-    ) {
+    final events =
+        _multiplexedEvents
+            ? _multiplexedEventsFor(viewId, _mediaEventKind)
+            : _mediaEventChannelFor(viewId).receiveBroadcastStream();
+
+    return events.map((dynamic event) {
+      if (event is MediaEventMessage) {
+        return _mediaEventFromMessage(event);
+      }
       final Map<Object?, Object?> map = event as Map<Object?, Object?>;
       //
       switch (map['event']) {
@@ -184,12 +278,101 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
         case 'error':
           return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
 
+        case 'playlistItemChanged':
+          return VlcMediaEvent(
+            mediaEventType: VlcMediaEventType.playlistItemChanged,
+            playlistIndex: map['playlistIndex'] as int? ?? 0,
+          );
+
         default:
           return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
       }
     });
   }
 
+  // ignore: cyclomatic_complexity
+  VlcMediaEvent _mediaEventFromMessage(MediaEventMessage message) {
+    const defaultBufferPercent = 100.0;
+
+    switch (message.type) {
+      case 0:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.opening);
+
+      case 1:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.paused);
+
+      case 2:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.stopped);
+
+      case 3:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.playing,
+          size: Size(
+            message.width?.toDouble() ?? 0.0,
+            message.height?.toDouble() ?? 0.0,
+          ),
+          playbackSpeed: message.speed ?? 1.0,
+          duration: Duration(milliseconds: message.duration ?? 0),
+          audioTracksCount: message.audioTracksCount ?? 1,
+          activeAudioTrack: message.activeAudioTrack ?? 0,
+          spuTracksCount: message.spuTracksCount ?? 0,
+          activeSpuTrack: message.activeSpuTrack ?? -1,
+        );
+
+      case 4:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.ended,
+          position: Duration(milliseconds: message.position ?? 0),
+        );
+
+      case 5:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.timeChanged,
+          size: Size(
+            message.width?.toDouble() ?? 0.0,
+            message.height?.toDouble() ?? 0.0,
+          ),
+          playbackSpeed: message.speed ?? 1.0,
+          position: Duration(milliseconds: message.position ?? 0),
+          duration: Duration(milliseconds: message.duration ?? 0),
+          audioTracksCount: message.audioTracksCount ?? 1,
+          activeAudioTrack: message.activeAudioTrack ?? 0,
+          spuTracksCount: message.spuTracksCount ?? 0,
+          activeSpuTrack: message.activeSpuTrack ?? -1,
+          bufferPercent: message.buffer ?? defaultBufferPercent,
+          isPlaying: message.isPlaying ?? false,
+        );
+
+      case 6:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
+
+      case 7:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.recording,
+          isRecording: message.isRecording ?? false,
+          recordPath: message.recordPath ?? '',
+        );
+
+      case 8:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.clockAnchor,
+          playbackSpeed: message.speed ?? 1.0,
+          position: Duration(milliseconds: message.position ?? 0),
+          isPlaying: message.isPlaying ?? false,
+          timestamp: Duration(microseconds: message.timestamp ?? 0),
+        );
+
+      case 9:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.playlistItemChanged,
+          playlistIndex: message.playlistIndex ?? 0,
+        );
+
+      default:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+  }
+
   @override
   Future<void> setStreamUrl(
     int viewId, {
@@ -246,6 +429,11 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return _api.seekTo(viewId, position.inMilliseconds);
   }
 
+  @override
+  Future<void> setScrubbing(int viewId, bool scrubbing) {
+    return _api.setScrubbing(viewId, scrubbing);
+  }
+
   @override
   Future<Duration> getPosition(int viewId) async {
     final response = await _api.position(viewId);
@@ -277,6 +465,120 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return _api.setPlaybackSpeed(viewId, speed);
   }
 
+  @override
+  Future<void> setTrickPlay(int viewId, double rate) {
+    return _api.setTrickPlay(viewId, rate);
+  }
+
+  @override
+  Future<VlcFrameStep> nextFrame(int viewId) async {
+    return _frameStepFromMessage(await _api.nextFrame(viewId));
+  }
+
+  @override
+  Future<VlcFrameStep> previousFrame(int viewId) async {
+    return _frameStepFromMessage(await _api.previousFrame(viewId));
+  }
+
+  VlcFrameStep _frameStepFromMessage(FrameStepMessage message) {
+    return VlcFrameStep(
+      position: Duration(milliseconds: message.position),
+      frame: message.frame,
+    );
+  }
+
+  @override
+  Future<void> setClockAnchors(int viewId, bool enabled) {
+    return _api.setClockAnchors(viewId, enabled);
+  }
+
+  @override
+  Future<void> setStateUpdateInterval(int viewId, Duration interval) {
+    return _api.setStateUpdateInterval(viewId, interval.inMilliseconds);
+  }
+
+  @override
+  Future<VlcPlaybackState> getPlaybackState(int viewId) async {
+    final message = await _api.getPlaybackState(viewId);
+
+    return VlcPlaybackState(
+      position: Duration(milliseconds: message.position),
+      duration: Duration(milliseconds: message.duration),
+      isPlaying: message.isPlaying,
+      isSeekable: message.isSeekable,
+      volume: message.volume,
+      playbackSpeed: message.playbackSpeed,
+      activeAudioTrack: message.audioTrack,
+      audioTracksCount: message.audioTracksCount,
+      audioDelay: message.audioDelay,
+      activeSpuTrack: message.spuTrack,
+      spuTracksCount: message.spuTracksCount,
+      spuDelay: message.spuDelay,
+      activeVideoTrack: message.videoTrack,
+      videoTracksCount: message.videoTracksCount,
+      videoScale: message.videoScale,
+      aspectRatio: message.aspectRatio,
+    );
+  }
+
+  @override
+  Future<VlcEventSinkMetrics> getEventSinkMetrics(int viewId) async {
+    final message = await _api.getEventSinkMetrics(viewId);
+
+    return VlcEventSinkMetrics(
+      enqueued: message.enqueued,
+      delivered: message.delivered,
+      compacted: message.compacted,
+      dropped: message.dropped,
+      queued: message.queued,
+    );
+  }
+
+  @override
+  Future<List<String?>> executeBatch(
+    int viewId,
+    List<VlcPlayerCommand> commands,
+  ) {
+    return _api.executeBatch(viewId, _commandMessages(viewId, commands));
+  }
+
+  @override
+  Future<Map<int, String?>> executeBulk(
+    List<VlcPlayerCommand> commands, {
+    List<int>? viewIds,
+  }) {
+    // the player id of the media messages is set per player by the platform
+    return _api.executeBulk(viewIds, _commandMessages(-1, commands));
+  }
+
+  List<PlayerCommandMessage> _commandMessages(
+    int viewId,
+    List<VlcPlayerCommand> commands,
+  ) {
+    return commands
+        .map(
+          (command) => PlayerCommandMessage(
+            type: command.commandType.index,
+            intValue: command.intValue,
+            doubleValue: command.doubleValue,
+            boolValue: command.boolValue,
+            stringValue: command.stringValue,
+            media: command.commandType == VlcPlayerCommandType.setMedia
+                ? SetMediaMessage(
+                    playerId: viewId,
+                    uri: command.stringValue ?? '',
+                    type: (command.dataSourceType ?? DataSourceType.network)
+                        .index,
+                    packageName: command.package,
+                    hwAcc: command.hwAcc?.index,
+                    autoPlay: command.boolValue ?? true,
+                  )
+                : null,
+          ),
+        )
+        .toList();
+  }
+
   @override
   Future<double> getPlaybackSpeed(int viewId) {
     return _api.getPlaybackSpeed(viewId);
@@ -431,6 +733,37 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return imageBytes;
   }
 
+  @override
+  Future<VlcSnapshot?> takeScaledSnapshot(
+    int viewId, {
+    int? maxWidth,
+    int? maxHeight,
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    String? path,
+  }) async {
+    final message = await _api.takeScaledSnapshot(
+      viewId,
+      SnapshotOptionsMessage(
+        maxWidth: maxWidth,
+        maxHeight: maxHeight,
+        format: format.index,
+        quality: quality,
+        path: path,
+      ),
+    );
+    if (message == null) {
+      return null;
+    }
+
+    return VlcSnapshot(
+      width: message.width,
+      height: message.height,
+      bytes: message.bytes,
+      path: message.path,
+    );
+  }
+
   @override
   Future<List<String>> getAvailableRendererServices(int viewId) {
     return _api.getAvailableRendererServices(viewId);
@@ -456,11 +789,94 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return _api.castToRenderer(viewId, rendererDevice);
   }
 
+  @override
+  Stream<Uint8List> previewFramesFor(
+    int viewId, {
+    Duration interval = const Duration(seconds: 1),
+    int? maxWidth = 320,
+    int? maxHeight,
+    int quality = 70,
+  }) {
+    return _previewEventChannelFor(viewId)
+        .receiveBroadcastStream(<String, Object?>{
+          'intervalMillis': interval.inMilliseconds,
+          'maxWidth': maxWidth,
+          'maxHeight': maxHeight,
+          'quality': quality,
+        })
+        .map((dynamic frame) => frame as Uint8List);
+  }
+
+  @override
+  Stream<VlcVideoFrame> videoFramesFor(
+    int viewId, {
+    VlcFrameChroma chroma = VlcFrameChroma.rgba,
+    int? maxWidth,
+    int? maxHeight,
+    Duration interval = const Duration(milliseconds: 200),
+    VlcFrameBackpressure backpressure = VlcFrameBackpressure.dropNewest,
+  }) {
+    // Frames are plain binary messages, each replied to so that the platform
+    // sends the next one.
+    final channel = BasicMessageChannel<ByteData>(
+      'flutter_video_plugin/getFrames_$viewId',
+      const BinaryCodec(),
+    );
+    late final StreamController<VlcVideoFrame> controller;
+    controller = StreamController<VlcVideoFrame>(
+      onListen: () {
+        channel.setMessageHandler((message) async {
+          // dropped while the listener is busy, e.g. in an `await for` body
+          if (message != null && !controller.isPaused) {
+            controller.add(_videoFrameFromMessage(message));
+          }
+
+          return ByteData(0);
+        });
+        final options = FrameTapMessage(
+          chroma: chroma.index,
+          maxWidth: maxWidth,
+          maxHeight: maxHeight,
+          intervalMillis: interval.inMilliseconds,
+          backpressure: backpressure.index,
+        );
+        unawaited(
+          _api.startFrameTap(viewId, options).catchError(controller.addError),
+        );
+      },
+      onCancel: () async {
+        channel.setMessageHandler(null);
+        await _api.stopFrameTap(viewId);
+      },
+    );
+
+    return controller.stream;
+  }
+
+  VlcVideoFrame _videoFrameFromMessage(ByteData message) {
+    return VlcVideoFrame(
+      width: message.getInt32(0, Endian.little),
+      height: message.getInt32(4, Endian.little),
+      chroma: VlcFrameChroma.values[message.getInt32(8, Endian.little)],
+      position: Duration(milliseconds: message.getInt64(16, Endian.little)),
+      pixels: message.buffer.asUint8List(
+        message.offsetInBytes + _frameHeaderSize,
+        message.lengthInBytes - _frameHeaderSize,
+      ),
+    );
+  }
+
   @override
   Stream<VlcRendererEvent> rendererEventsFor(int viewId) {
-    return _rendererEventChannelFor(viewId).receiveBroadcastStream().map((
-      dynamic event,
-    ) {
+    final events =
+        _multiplexedEvents
+            ? _multiplexedEventsFor(viewId, _rendererEventKind)
+            : _rendererEventChannelFor(viewId).receiveBroadcastStream();
+
+    return events.map((dynamic event) {
+      if (event is RendererEventMessage) {
+        return _rendererEventFromMessage(event);
+      }
       final Map<Object?, Object?> map = event as Map<Object?, Object?>;
       //
       switch (map['event']) {
@@ -484,6 +900,27 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     });
   }
 
+  VlcRendererEvent _rendererEventFromMessage(RendererEventMessage message) {
+    switch (message.type) {
+      case 0:
+        return VlcRendererEvent(
+          eventType: VlcRendererEventType.attached,
+          rendererId: message.id,
+          rendererName: message.name,
+        );
+      //
+      case 1:
+        return VlcRendererEvent(
+          eventType: VlcRendererEventType.detached,
+          rendererId: message.id,
+          rendererName: message.name,
+        );
+      //
+      default:
+        return VlcRendererEvent(eventType: VlcRendererEventType.unknown);
+    }
+  }
+
   @override
   Future<bool> startRecording(int viewId, String saveDirectory) {
     return _api.startRecording(viewId, saveDirectory);
@@ -493,4 +930,153 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   Future<bool> stopRecording(int viewId) {
     return _api.stopRecording(viewId);
   }
+
+  @override
+  Future<bool> setBackgroundExecution(bool enabled) {
+    return _api.setBackgroundExecution(enabled);
+  }
+
+  @override
+  Future<VlcDisposalMetrics> getDisposalMetrics() async {
+    final message = await _api.getDisposalMetrics();
+
+    return VlcDisposalMetrics(
+      pending: message.pending,
+      completed: message.completed,
+      failed: message.failed,
+      averageTeardownTime:
+          Duration(milliseconds: message.averageTeardownMillis),
+      maxTeardownTime: Duration(milliseconds: message.maxTeardownMillis),
+    );
+  }
+
+  @override
+  Future<VlcLibVLCPoolMetrics> getLibVLCPoolMetrics() async {
+    final message = await _api.getLibVLCPoolMetrics();
+
+    return VlcLibVLCPoolMetrics(
+      instances: message.instances,
+      createTime: Duration(milliseconds: message.createMillis),
+      nativeBytes: message.nativeBytes,
+      sharedAcquisitions: message.sharedAcquisitions,
+      startupTimeSaved: Duration(milliseconds: message.startupMillisSaved),
+      nativeBytesSaved: message.nativeBytesSaved,
+    );
+  }
+
+  @override
+  Future<void> setPlayerRecycling({
+    required int maxSize,
+    required Duration idleTimeout,
+  }) {
+    return _api.setPlayerRecycling(maxSize, idleTimeout.inMilliseconds);
+  }
+
+  @override
+  Future<bool> preload({
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+    VlcPlayerOptions? options,
+    required Duration buffer,
+  }) {
+    final message = PreloadMessage(
+      uri: uri,
+      type: type.index,
+      packageName: package,
+      hwAcc: hwAcc?.index,
+      options: options?.get() ?? [],
+      bufferMillis: buffer.inMilliseconds,
+    );
+
+    return _api.preload(message);
+  }
+
+  @override
+  Future<bool> cancelPreload({
+    required String uri,
+    required DataSourceType type,
+    String? package,
+  }) {
+    return _api.cancelPreload(uri, type.index, package);
+  }
+
+  @override
+  Future<void> setPreloadBudget({
+    required int maxPreloads,
+    required Duration maxBuffer,
+  }) {
+    return _api.setPreloadBudget(maxPreloads, maxBuffer.inMilliseconds);
+  }
+
+  @override
+  Future<void> setZapChannels(
+    int viewId,
+    List<String> uris, {
+    required int neighbours,
+    HwAcc? hwAcc,
+  }) {
+    return _api.setZapChannels(viewId, uris, neighbours, hwAcc?.index);
+  }
+
+  @override
+  Future<void> zapTo(int viewId, int index) {
+    return _api.zapTo(viewId, index);
+  }
+
+  @override
+  Future<VlcZapMetrics> getZapMetrics(int viewId) async {
+    final message = await _api.getZapMetrics(viewId);
+
+    return VlcZapMetrics(
+      zapCount: message.zapCount,
+      completedZapCount: message.completedZapCount,
+      abandonedZapCount: message.abandonedZapCount,
+      prebufferedZapCount: message.prebufferedZapCount,
+      lastLatency: Duration(milliseconds: message.lastLatencyMillis),
+      averageLatency: Duration(milliseconds: message.averageLatencyMillis),
+      maxLatency: Duration(milliseconds: message.maxLatencyMillis),
+    );
+  }
+
+  @override
+  Future<void> playlistAdd(
+    int viewId,
+    List<VlcPlaylistItem> items, {
+    int? index,
+  }) {
+    final messages = [
+      for (final item in items)
+        PlaylistItemMessage(
+          uri: item.uri,
+          type: item.type.index,
+          packageName: item.package,
+        ),
+    ];
+
+    return _api.playlistAdd(viewId, messages, index);
+  }
+
+  @override
+  Future<void> playlistRemove(int viewId, int index) {
+    return _api.playlistRemove(viewId, index);
+  }
+
+  @override
+  Future<void> playlistPlay(int viewId, int index) {
+    return _api.playlistPlay(viewId, index);
+  }
+
+  @override
+  Future<void> playlistClear(int viewId) {
+    return _api.playlistClear(viewId);
+  }
+
+  @override
+  Future<bool> setEventMultiplexing(bool enabled) async {
+    _multiplexedEvents = await _api.setEventMultiplexing(enabled);
+
+    return _multiplexedEvents;
+  }
 }
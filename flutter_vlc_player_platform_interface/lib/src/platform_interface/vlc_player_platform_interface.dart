@@ -125,6 +125,12 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('seekTo');
   }
 
+  /// Turns scrubbing on or off. While scrubbing, seeks go to the nearest
+  /// keyframe, and turning it off seeks precisely to the last position.
+  Future<void> setScrubbing(int viewId, bool scrubbing) {
+    throw _unimplemented('setScrubbing');
+  }
+
   /// Same as getPosition
   /// Gets the video position as [Duration] from the start.
   Future<Duration> getTime(int viewId) {
@@ -156,6 +162,23 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('setPlaybackSpeed');
   }
 
+  /// Scans the media at [rate], e.g. 8 to 64 or negative to rewind, by
+  /// stepping from keyframe to keyframe while paused and muted. A [rate] of 0
+  /// ends it.
+  Future<void> setTrickPlay(int viewId, double rate) {
+    throw _unimplemented('setTrickPlay');
+  }
+
+  /// Pauses the player and steps one frame forward.
+  Future<VlcFrameStep> nextFrame(int viewId) {
+    throw _unimplemented('nextFrame');
+  }
+
+  /// Pauses the player and steps one frame backward.
+  Future<VlcFrameStep> previousFrame(int viewId) {
+    throw _unimplemented('previousFrame');
+  }
+
   /// Returns the vlc playback speed.
   Future<double?> getPlaybackSpeed(int viewId) {
     throw _unimplemented('getPlaybackSpeed');
@@ -302,6 +325,52 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('takeSnapshot');
   }
 
+  /// Takes a snapshot of the media at the current frame, fitting in
+  /// [maxWidth] x [maxHeight] while keeping its aspect ratio, and encoded in
+  /// [format] at [quality] (0 to 100). The snapshot is written to [path], or
+  /// returned as bytes if null. Returns null if no frame is shown yet.
+  Future<VlcSnapshot?> takeScaledSnapshot(
+    int viewId, {
+    int? maxWidth,
+    int? maxHeight,
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    String? path,
+  }) {
+    throw _unimplemented('takeScaledSnapshot');
+  }
+
+  /// Returns a stream of JPEG previews of the media, captured every [interval]
+  /// while it is listened to, and fitting in [maxWidth] x [maxHeight]. Frames
+  /// are dropped when the previous one is not sent yet, and skipped while the
+  /// position does not move. A player has a single preview stream: listening
+  /// again replaces the previous listener's settings.
+  Stream<Uint8List> previewFramesFor(
+    int viewId, {
+    Duration interval = const Duration(seconds: 1),
+    int? maxWidth = 320,
+    int? maxHeight,
+    int quality = 70,
+  }) {
+    throw _unimplemented('previewFramesFor');
+  }
+
+  /// Returns a stream of decoded frames of the media in [chroma], tapped every
+  /// [interval] while it is listened to, and fitting in [maxWidth] x
+  /// [maxHeight]. [backpressure] chooses which frame is dropped when a frame
+  /// is still waiting to be delivered; frames are also dropped while the
+  /// subscription is paused.
+  Stream<VlcVideoFrame> videoFramesFor(
+    int viewId, {
+    VlcFrameChroma chroma = VlcFrameChroma.rgba,
+    int? maxWidth,
+    int? maxHeight,
+    Duration interval = const Duration(milliseconds: 200),
+    VlcFrameBackpressure backpressure = VlcFrameBackpressure.dropNewest,
+  }) {
+    throw _unimplemented('videoFramesFor');
+  }
+
   /// Returns list of all available vlc renderer services
   Future<List<String>> getAvailableRendererServices(int viewId) {
     throw _unimplemented('getAvailableRendererServices');
@@ -345,6 +414,180 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('stopRecording');
   }
 
+  /// Publishes the events of all players created afterwards into a single
+  /// channel, batched once per frame, instead of two channels per player.
+  ///
+  /// Returns whether multiplexing is active; platforms that don't support it
+  /// return false and keep per player channels.
+  Future<bool> setEventMultiplexing(bool enabled) {
+    throw _unimplemented('setEventMultiplexing');
+  }
+
+  /// Replaces the periodic [VlcMediaEventType.timeChanged] events of the
+  /// player by [VlcMediaEventType.clockAnchor] events, sent only when the
+  /// playback clock is discontinuous (seek, rate change, pause/resume, drift).
+  Future<void> setClockAnchors(int viewId, bool enabled) {
+    throw _unimplemented('setClockAnchors');
+  }
+
+  /// Sets the minimum [interval] between two [VlcMediaEventType.timeChanged]
+  /// events of the player. [Duration.zero] (default) sends at most one per
+  /// display frame.
+  Future<void> setStateUpdateInterval(int viewId, Duration interval) {
+    throw _unimplemented('setStateUpdateInterval');
+  }
+
+  /// Returns a snapshot of the player state, read in a single platform call.
+  Future<VlcPlaybackState> getPlaybackState(int viewId) {
+    throw _unimplemented('getPlaybackState');
+  }
+
+  /// Returns the counters of the events the player sent to Dart: how many
+  /// were queued while nobody listened, compacted or dropped.
+  Future<VlcEventSinkMetrics> getEventSinkMetrics(int viewId) {
+    throw _unimplemented('getEventSinkMetrics');
+  }
+
+  /// Applies [commands] in order, in a single platform call.
+  ///
+  /// Returns one result per command: null if it was applied, the error
+  /// message otherwise. A failing command doesn't stop the following ones.
+  Future<List<String?>> executeBatch(
+    int viewId,
+    List<VlcPlayerCommand> commands,
+  ) {
+    throw _unimplemented('executeBatch');
+  }
+
+  /// Applies [commands] to several players in a single platform call, to
+  /// the players of [viewIds], or to all players if null.
+  ///
+  /// Returns one result per player id: null if all commands were applied,
+  /// the error messages otherwise.
+  Future<Map<int, String?>> executeBulk(
+    List<VlcPlayerCommand> commands, {
+    List<int>? viewIds,
+  }) {
+    throw _unimplemented('executeBulk');
+  }
+
+  /// Runs the player commands off the platform's main thread, serialized per
+  /// player, so that blocking native calls (stopping a stream, changing the
+  /// media, recording) don't block the UI.
+  ///
+  /// Returns whether background execution is active; platforms that don't
+  /// support it return false.
+  Future<bool> setBackgroundExecution(bool enabled) {
+    throw _unimplemented('setBackgroundExecution');
+  }
+
+  /// Returns the counters of the native player teardowns. Disposing a player
+  /// detaches it right away, while its native resources are released in the
+  /// background.
+  Future<VlcDisposalMetrics> getDisposalMetrics() {
+    throw _unimplemented('getDisposalMetrics');
+  }
+
+  /// Returns the counters of the LibVLC instances shared among the players
+  /// created with the same options, and what sharing them saved.
+  Future<VlcLibVLCPoolMetrics> getLibVLCPoolMetrics() {
+    throw _unimplemented('getLibVLCPoolMetrics');
+  }
+
+  /// Keeps up to [maxSize] native players of disposed players for reuse by
+  /// the next players created with the same options, and releases those not
+  /// reused within [idleTimeout]. A [maxSize] of 0 disables recycling.
+  Future<void> setPlayerRecycling({
+    required int maxSize,
+    required Duration idleTimeout,
+  }) {
+    throw _unimplemented('setPlayerRecycling');
+  }
+
+  /// Opens [uri] in a hidden player and buffers [buffer] of it, so that a
+  /// player created or set up later with the same media, [hwAcc] and
+  /// [options] starts right away.
+  ///
+  /// Returns false if the preload does not fit in the preload budget or the
+  /// platform does not support preloading.
+  Future<bool> preload({
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+    VlcPlayerOptions? options,
+    required Duration buffer,
+  }) {
+    throw _unimplemented('preload');
+  }
+
+  /// Releases the hidden player of [uri]. Returns whether it was preloaded.
+  Future<bool> cancelPreload({
+    required String uri,
+    required DataSourceType type,
+    String? package,
+  }) {
+    throw _unimplemented('cancelPreload');
+  }
+
+  /// Sets the budget shared by all preloads: at most [maxPreloads] open
+  /// streams, buffering at most [maxBuffer] in total.
+  Future<void> setPreloadBudget({
+    required int maxPreloads,
+    required Duration maxBuffer,
+  }) {
+    throw _unimplemented('setPreloadBudget');
+  }
+
+  /// Sets the channels the player zaps through with [zapTo], keeping the
+  /// [neighbours] channels before and after the current one open and
+  /// buffering. An empty list of [uris] turns zapping off.
+  Future<void> setZapChannels(
+    int viewId,
+    List<String> uris, {
+    required int neighbours,
+    HwAcc? hwAcc,
+  }) {
+    throw _unimplemented('setZapChannels');
+  }
+
+  /// Switches the player to the channel at [index].
+  Future<void> zapTo(int viewId, int index) {
+    throw _unimplemented('zapTo');
+  }
+
+  /// Returns the channel switches of the player and their latency.
+  Future<VlcZapMetrics> getZapMetrics(int viewId) {
+    throw _unimplemented('getZapMetrics');
+  }
+
+  /// Inserts [items] into the playlist of the player at [index], or appends
+  /// them if [index] is null. The items play one after the other, the next
+  /// one opened before the current one ends.
+  Future<void> playlistAdd(
+    int viewId,
+    List<VlcPlaylistItem> items, {
+    int? index,
+  }) {
+    throw _unimplemented('playlistAdd');
+  }
+
+  /// Removes the playlist item at [index]. Removing the item that is playing
+  /// plays the next one.
+  Future<void> playlistRemove(int viewId, int index) {
+    throw _unimplemented('playlistRemove');
+  }
+
+  /// Plays the playlist item at [index].
+  Future<void> playlistPlay(int viewId, int index) {
+    throw _unimplemented('playlistPlay');
+  }
+
+  /// Removes the playlist of the player, the current media keeps playing.
+  Future<void> playlistClear(int viewId) {
+    throw _unimplemented('playlistClear');
+  }
+
   Object _unimplemented(String methodName) {
     return UnimplementedError('$methodName has not been implemented.');
   }
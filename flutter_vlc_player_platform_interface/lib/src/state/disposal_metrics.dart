@@ -0,0 +1,27 @@
+// ignore: prefer_match_file_name
+class VlcDisposalMetrics {
+  /// The number of disposed players whose native teardown has not finished.
+  final int pending;
+
+  /// The number of native teardowns that finished.
+  final int completed;
+
+  /// The number of native teardowns that failed.
+  final int failed;
+
+  /// The average duration of a native teardown.
+  final Duration averageTeardownTime;
+
+  /// The longest duration of a native teardown.
+  final Duration maxTeardownTime;
+
+  /// Creates an instance of [VlcDisposalMetrics], the counters of the native
+  /// player teardowns run after dispose.
+  VlcDisposalMetrics({
+    required this.pending,
+    required this.completed,
+    required this.failed,
+    required this.averageTeardownTime,
+    required this.maxTeardownTime,
+  });
+}
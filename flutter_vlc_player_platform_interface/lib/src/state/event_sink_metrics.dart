@@ -0,0 +1,27 @@
+// ignore: prefer_match_file_name
+class VlcEventSinkMetrics {
+  /// The number of events the player sent.
+  final int enqueued;
+
+  /// The number of events delivered to Dart.
+  final int delivered;
+
+  /// The number of queued position updates replaced by a newer one.
+  final int compacted;
+
+  /// The number of events dropped because the queue was full.
+  final int dropped;
+
+  /// The number of events waiting for Dart to listen.
+  final int queued;
+
+  /// Creates an instance of [VlcEventSinkMetrics], the counters of the events
+  /// a player sent to Dart.
+  VlcEventSinkMetrics({
+    required this.enqueued,
+    required this.delivered,
+    required this.compacted,
+    required this.dropped,
+    required this.queued,
+  });
+}
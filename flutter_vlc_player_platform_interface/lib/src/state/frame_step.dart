@@ -0,0 +1,18 @@
+import 'dart:typed_data';
+
+// ignore: prefer_match_file_name
+class VlcFrameStep {
+  /// The position of the frame the player stepped to.
+  final Duration position;
+
+  /// The image of the frame, to show over the video, when it was served from
+  /// the recently shown frames while the player stays where it is. Null when
+  /// the player displays the frame itself.
+  final Uint8List? frame;
+
+  /// Creates an instance of [VlcFrameStep], the frame a player stepped to.
+  VlcFrameStep({
+    required this.position,
+    this.frame,
+  });
+}
@@ -0,0 +1,34 @@
+// ignore: prefer_match_file_name
+class VlcLibVLCPoolMetrics {
+  /// The number of LibVLC instances alive, each shared by the players created
+  /// with the same options.
+  final int instances;
+
+  /// The total time it took to create the instances alive.
+  final Duration createTime;
+
+  /// The total native heap the instances alive took when created, in bytes.
+  final int nativeBytes;
+
+  /// The number of players that got an existing instance instead of creating
+  /// one.
+  final int sharedAcquisitions;
+
+  /// The total startup time saved by the players that shared an instance.
+  final Duration startupTimeSaved;
+
+  /// The total native heap saved by the players that shared an instance, in
+  /// bytes.
+  final int nativeBytesSaved;
+
+  /// Creates an instance of [VlcLibVLCPoolMetrics], the counters of the LibVLC
+  /// instances shared among players.
+  VlcLibVLCPoolMetrics({
+    required this.instances,
+    required this.createTime,
+    required this.nativeBytes,
+    required this.sharedAcquisitions,
+    required this.startupTimeSaved,
+    required this.nativeBytesSaved,
+  });
+}
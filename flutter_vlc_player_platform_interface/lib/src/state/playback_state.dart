@@ -0,0 +1,71 @@
+// ignore: prefer_match_file_name
+class VlcPlaybackState {
+  /// Position of the video.
+  final Duration position;
+
+  /// Duration of the video.
+  final Duration duration;
+
+  /// Returns the playing state of media.
+  final bool isPlaying;
+
+  /// Returns true if the media can be seeked.
+  final bool isSeekable;
+
+  /// The audio volume, between 0 (silent) and 100 (full volume).
+  final int volume;
+
+  /// Playback speed of the video.
+  final double playbackSpeed;
+
+  /// The active audio track index. "-1" means audio is disabled.
+  final int activeAudioTrack;
+
+  /// The number of available audio tracks embedded in media except the original audio.
+  final int audioTracksCount;
+
+  /// The audio delay in milliseconds.
+  final int audioDelay;
+
+  /// Returns the active subtitle track index. "-1" means subtitle is disabled.
+  final int activeSpuTrack;
+
+  /// Returns the number of available subtitle tracks embedded in media.
+  final int spuTracksCount;
+
+  /// The subtitle delay in milliseconds.
+  final int spuDelay;
+
+  /// The active video track index.
+  final int activeVideoTrack;
+
+  /// The number of available video tracks embedded in media.
+  final int videoTracksCount;
+
+  /// The video scale.
+  final double videoScale;
+
+  /// The video aspect ratio, e.g. "16:9".
+  final String? aspectRatio;
+
+  /// Creates an instance of [VlcPlaybackState], a snapshot of the player state
+  /// read in a single platform call.
+  VlcPlaybackState({
+    required this.position,
+    required this.duration,
+    required this.isPlaying,
+    required this.isSeekable,
+    required this.volume,
+    required this.playbackSpeed,
+    required this.activeAudioTrack,
+    required this.audioTracksCount,
+    required this.audioDelay,
+    required this.activeSpuTrack,
+    required this.spuTracksCount,
+    required this.spuDelay,
+    required this.activeVideoTrack,
+    required this.videoTracksCount,
+    required this.videoScale,
+    this.aspectRatio,
+  });
+}
@@ -0,0 +1,35 @@
+import 'dart:io';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/data_source_type.dart';
+
+// ignore: prefer_match_file_name
+class VlcPlaylistItem {
+  /// The URI of the media, or the asset name for [DataSourceType.asset].
+  final String uri;
+
+  /// The type of the media.
+  final DataSourceType type;
+
+  /// The package of the asset, for [DataSourceType.asset].
+  final String? package;
+
+  /// Creates an instance of [VlcPlaylistItem], a media of a player's
+  /// playlist.
+  const VlcPlaylistItem({
+    required this.uri,
+    required this.type,
+    this.package,
+  });
+
+  /// Creates a playlist item for a network stream.
+  const VlcPlaylistItem.network(String url)
+      : this(uri: url, type: DataSourceType.network);
+
+  /// Creates a playlist item for an asset of the application.
+  const VlcPlaylistItem.asset(String name, {String? package})
+      : this(uri: name, type: DataSourceType.asset, package: package);
+
+  /// Creates a playlist item for a local file.
+  VlcPlaylistItem.file(File file)
+      : this(uri: 'file://${file.path}', type: DataSourceType.file);
+}
@@ -0,0 +1,24 @@
+import 'dart:typed_data';
+
+// ignore: prefer_match_file_name
+class VlcSnapshot {
+  /// The width of the snapshot, in pixels.
+  final int width;
+
+  /// The height of the snapshot, in pixels.
+  final int height;
+
+  /// The encoded image, null when it was written to [path].
+  final Uint8List? bytes;
+
+  /// The file the image was written to, null when it is returned as [bytes].
+  final String? path;
+
+  /// Creates an instance of [VlcSnapshot], a scaled snapshot of a player.
+  VlcSnapshot({
+    required this.width,
+    required this.height,
+    this.bytes,
+    this.path,
+  });
+}
@@ -0,0 +1,30 @@
+import 'dart:typed_data';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/frame_chroma.dart';
+
+// ignore: prefer_match_file_name
+class VlcVideoFrame {
+  /// The width of the frame, in pixels.
+  final int width;
+
+  /// The height of the frame, in pixels.
+  final int height;
+
+  /// The layout of [pixels].
+  final VlcFrameChroma chroma;
+
+  /// The position of the media when the frame was tapped.
+  final Duration position;
+
+  /// The pixels, a view of the received message without copy.
+  final Uint8List pixels;
+
+  /// Creates an instance of [VlcVideoFrame], a decoded frame of a player.
+  VlcVideoFrame({
+    required this.width,
+    required this.height,
+    required this.chroma,
+    required this.position,
+    required this.pixels,
+  });
+}
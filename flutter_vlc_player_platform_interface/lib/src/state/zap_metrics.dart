@@ -0,0 +1,36 @@
+// ignore: prefer_match_file_name
+class VlcZapMetrics {
+  /// The number of channel switches.
+  final int zapCount;
+
+  /// The number of channel switches that reached their first frame.
+  final int completedZapCount;
+
+  /// The number of channel switches replaced by the next one, or by the end of
+  /// zapping, before their first frame.
+  final int abandonedZapCount;
+
+  /// The number of channel switches to a pre-buffered neighbour channel.
+  final int prebufferedZapCount;
+
+  /// The time from the last channel switch to its first frame.
+  final Duration lastLatency;
+
+  /// The average time from a completed channel switch to its first frame.
+  final Duration averageLatency;
+
+  /// The longest time from a channel switch to its first frame.
+  final Duration maxLatency;
+
+  /// Creates an instance of [VlcZapMetrics], the channel switches of a player
+  /// and their latency.
+  VlcZapMetrics({
+    required this.zapCount,
+    required this.completedZapCount,
+    required this.abandonedZapCount,
+    required this.prebufferedZapCount,
+    required this.lastLatency,
+    required this.averageLatency,
+    required this.maxLatency,
+  });
+}